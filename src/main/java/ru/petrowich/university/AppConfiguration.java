@@ -4,12 +4,14 @@ import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import javax.validation.Validator;
 
 import static javax.validation.Validation.buildDefaultValidatorFactory;
 import static org.modelmapper.config.Configuration.AccessLevel.PRIVATE;
 
 @Configuration
+@EnableScheduling
 public class AppConfiguration {
     @Bean(name = "validator")
     public Validator validator() {
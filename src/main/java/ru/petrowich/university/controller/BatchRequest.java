@@ -0,0 +1,30 @@
+package ru.petrowich.university.controller;
+
+import ru.petrowich.university.dto.batch.BatchItemResultDTO;
+import ru.petrowich.university.service.batch.BatchItemResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class BatchRequest {
+    public static final int MAX_BATCH_SIZE = 10000;
+
+    private BatchRequest() {
+    }
+
+    public static boolean isValidSize(List<?> items) {
+        return items != null && !items.isEmpty() && items.size() <= MAX_BATCH_SIZE;
+    }
+
+    public static <T, I extends Number> List<BatchItemResultDTO<I>> toDtos(List<BatchItemResult<T>> results, Function<T, I> idGetter) {
+        return results.stream()
+                .map(result -> new BatchItemResultDTO<I>()
+                        .setIndex(result.getIndex())
+                        .setAccepted(result.isAccepted())
+                        .setId(result.isAccepted() ? idGetter.apply(result.getItem()) : null)
+                        .setErrors(new ArrayList<>(result.getErrors())))
+                .collect(Collectors.toList());
+    }
+}
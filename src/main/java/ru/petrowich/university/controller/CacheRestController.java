@@ -0,0 +1,89 @@
+package ru.petrowich.university.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.petrowich.university.dto.cache.CacheRegionStatisticsDTO;
+import ru.petrowich.university.dto.cache.CacheStatisticsDTO;
+import ru.petrowich.university.service.cache.SecondLevelCache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RestController
+@Tag(name = "Cache", description = "second level cache statistics")
+@RequestMapping("/api/cache/")
+public class CacheRestController {
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final SecondLevelCache secondLevelCache;
+
+    @Autowired
+    public CacheRestController(SecondLevelCache secondLevelCache) {
+        this.secondLevelCache = secondLevelCache;
+    }
+
+    @GetMapping(value = "statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "get cache statistics",
+            description = "returns hit, miss and put counts of the second level cache, the query cache and their regions")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Found the statistics",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CacheStatisticsDTO.class))
+            )
+    })
+    public ResponseEntity<CacheStatisticsDTO> getStatistics() {
+        LOGGER.info("processing request of getting cache statistics");
+
+        Statistics statistics = secondLevelCache.getStatistics();
+
+        List<CacheRegionStatisticsDTO> regions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(regionName -> toRegionStatisticsDTO(regionName, statistics.getCacheRegionStatistics(regionName)))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        CacheStatisticsDTO cacheStatisticsDTO = new CacheStatisticsDTO()
+                .setStatisticsEnabled(statistics.isStatisticsEnabled())
+                .setSecondLevelCacheHitCount(statistics.getSecondLevelCacheHitCount())
+                .setSecondLevelCacheMissCount(statistics.getSecondLevelCacheMissCount())
+                .setSecondLevelCachePutCount(statistics.getSecondLevelCachePutCount())
+                .setQueryCacheHitCount(statistics.getQueryCacheHitCount())
+                .setQueryCacheMissCount(statistics.getQueryCacheMissCount())
+                .setQueryCachePutCount(statistics.getQueryCachePutCount())
+                .setQueryExecutionCount(statistics.getQueryExecutionCount())
+                .setPrepareStatementCount(statistics.getPrepareStatementCount())
+                .setRegions(regions);
+
+        return new ResponseEntity<>(cacheStatisticsDTO, HttpStatus.OK);
+    }
+
+    private CacheRegionStatisticsDTO toRegionStatisticsDTO(String regionName, CacheRegionStatistics regionStatistics) {
+        if (regionStatistics == null) {
+            return null;
+        }
+
+        return new CacheRegionStatisticsDTO()
+                .setRegionName(regionName)
+                .setHitCount(regionStatistics.getHitCount())
+                .setMissCount(regionStatistics.getMissCount())
+                .setPutCount(regionStatistics.getPutCount())
+                .setElementCountInMemory(regionStatistics.getElementCountInMemory());
+    }
+}
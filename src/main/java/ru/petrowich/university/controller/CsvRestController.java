@@ -0,0 +1,189 @@
+package ru.petrowich.university.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.petrowich.university.dto.csv.CsvImportResultDTO;
+import ru.petrowich.university.service.CsvTransferService;
+import ru.petrowich.university.service.csv.CsvImportResult;
+
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RestController
+@Tag(name = "CSV", description = "bulk import and export of registrar data in csv")
+@RequestMapping("/api/csv/")
+public class CsvRestController {
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final CsvTransferService csvTransferService;
+
+    @Autowired
+    public CsvRestController(CsvTransferService csvTransferService) {
+        this.csvTransferService = csvTransferService;
+    }
+
+    @PostMapping(value = "students", consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "import students from csv",
+            description = "reads the columns first_name, last_name, email, comment, group_name and active of the csv with a header, " +
+                    "validates every record and adds the accepted students resolving their groups by name")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Imported the students",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResultDTO.class))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Malformed csv or header supplied",
+                    content = @Content)
+    })
+    public ResponseEntity<CsvImportResultDTO> importStudents(InputStream inputStream) {
+        LOGGER.info("processing request of importing students");
+        return importCsv(inputStream, csvTransferService::importStudents);
+    }
+
+    @PostMapping(value = "groups", consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "import groups from csv",
+            description = "reads the columns name, capacity and active of the csv with a header, " +
+                    "validates every record and adds the accepted groups")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Imported the groups",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResultDTO.class))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Malformed csv or header supplied",
+                    content = @Content)
+    })
+    public ResponseEntity<CsvImportResultDTO> importGroups(InputStream inputStream) {
+        LOGGER.info("processing request of importing groups");
+        return importCsv(inputStream, csvTransferService::importGroups);
+    }
+
+    @PostMapping(value = "lessons", consumes = TEXT_CSV_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "import lessons from csv",
+            description = "reads the columns lesson_date, start_time, end_time, course_name, lecturer_email and timeslot_name " +
+                    "of the csv with a header, validates every record, rejects the ones conflicting with the schedule " +
+                    "and adds the accepted lessons, the time of a lesson defaults to the time of its timeslot")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Imported the lessons",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResultDTO.class))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Malformed csv or header supplied",
+                    content = @Content)
+    })
+    public ResponseEntity<CsvImportResultDTO> importLessons(InputStream inputStream) {
+        LOGGER.info("processing request of importing lessons");
+        return importCsv(inputStream, csvTransferService::importLessons);
+    }
+
+    @GetMapping(value = "students", produces = TEXT_CSV_VALUE)
+    @Operation(summary = "export students to csv",
+            description = "streams all of the students ordered by id in the format of the import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Exported the students",
+                    content = @Content(mediaType = TEXT_CSV_VALUE)
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportStudents() {
+        LOGGER.info("processing request of exporting students to csv");
+        return exportCsv("students.csv", csvTransferService::exportStudents);
+    }
+
+    @GetMapping(value = "groups", produces = TEXT_CSV_VALUE)
+    @Operation(summary = "export groups to csv",
+            description = "streams all of the groups ordered by id in the format of the import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Exported the groups",
+                    content = @Content(mediaType = TEXT_CSV_VALUE)
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportGroups() {
+        LOGGER.info("processing request of exporting groups to csv");
+        return exportCsv("groups.csv", csvTransferService::exportGroups);
+    }
+
+    @GetMapping(value = "lessons", produces = TEXT_CSV_VALUE)
+    @Operation(summary = "export lessons to csv",
+            description = "streams all of the lessons ordered by date, start time and id in the format of the import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Exported the lessons",
+                    content = @Content(mediaType = TEXT_CSV_VALUE)
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportLessons() {
+        LOGGER.info("processing request of exporting lessons to csv");
+        return exportCsv("lessons.csv", csvTransferService::exportLessons);
+    }
+
+    private ResponseEntity<CsvImportResultDTO> importCsv(InputStream inputStream, Function<Reader, CsvImportResult> importer) {
+        CsvImportResult csvImportResult;
+
+        try {
+            csvImportResult = importer.apply(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException exception) {
+            LOGGER.error(exception.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        CsvImportResultDTO csvImportResultDTO = new CsvImportResultDTO()
+                .setNumberOfImported(csvImportResult.getNumberOfImported())
+                .setNumberOfRejected(csvImportResult.getNumberOfRejected())
+                .setErrors(new ArrayList<>(csvImportResult.getErrors()));
+
+        return new ResponseEntity<>(csvImportResultDTO, HttpStatus.OK);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportCsv(String fileName, Consumer<Writer> exporter) {
+        StreamingResponseBody responseBody = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+            try {
+                exporter.accept(writer);
+            } catch (UncheckedIOException exception) {
+                throw exception.getCause();
+            }
+
+            writer.flush();
+        };
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(TEXT_CSV);
+        httpHeaders.setContentDisposition(ContentDisposition.builder("attachment").filename(fileName).build());
+
+        return new ResponseEntity<>(responseBody, httpHeaders, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,69 @@
+package ru.petrowich.university.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+public class JsonStreamExporter {
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public JsonStreamExporter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public StreamingResponseBody toJsonArray(Consumer<Consumer<Object>> source) {
+        return outputStream -> {
+            long numberOfRecords = 0;
+
+            try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(outputStream)) {
+                jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                jsonGenerator.writeStartArray();
+
+                RecordWriter recordWriter = new RecordWriter(jsonGenerator);
+                source.accept(recordWriter);
+                numberOfRecords = recordWriter.getNumberOfRecords();
+
+                jsonGenerator.writeEndArray();
+            } catch (UncheckedIOException exception) {
+                throw exception.getCause();
+            }
+
+            LOGGER.debug("exported {} records", numberOfRecords);
+        };
+    }
+
+    private static final class RecordWriter implements Consumer<Object> {
+        private final JsonGenerator jsonGenerator;
+        private long numberOfRecords;
+
+        private RecordWriter(JsonGenerator jsonGenerator) {
+            this.jsonGenerator = jsonGenerator;
+        }
+
+        @Override
+        public void accept(Object record) {
+            try {
+                jsonGenerator.writeObject(record);
+                numberOfRecords++;
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
+        private long getNumberOfRecords() {
+            return numberOfRecords;
+        }
+    }
+}
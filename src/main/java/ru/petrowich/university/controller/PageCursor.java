@@ -0,0 +1,46 @@
+package ru.petrowich.university.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+public final class PageCursor {
+    public static final String HEADER_NEXT_CURSOR = "X-Next-Cursor";
+    public static final String DEFAULT_PAGE_SIZE = "100";
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String SEPARATOR = "|";
+    private static final String ERROR_MSG_INVALID_CURSOR = "invalid page cursor";
+
+    private PageCursor() {
+    }
+
+    public static String encode(Object... keys) {
+        String joinedKeys = Arrays.stream(keys)
+                .map(String::valueOf)
+                .collect(Collectors.joining(SEPARATOR));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joinedKeys.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int numberOfKeys) {
+        String joinedKeys = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        String[] keys = joinedKeys.split(Pattern.quote(SEPARATOR), -1);
+
+        if (keys.length != numberOfKeys) {
+            throw new IllegalArgumentException(ERROR_MSG_INVALID_CURSOR);
+        }
+
+        return keys;
+    }
+
+    public static Integer decodeIntegerId(String cursor) {
+        return Integer.valueOf(decode(cursor, 1)[0]);
+    }
+
+    public static int limit(int size) {
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,120 @@
+package ru.petrowich.university.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.petrowich.university.dto.sql.SlowQueryDTO;
+import ru.petrowich.university.dto.sql.SlowRequestDTO;
+import ru.petrowich.university.monitoring.SlowOperationLog;
+import ru.petrowich.university.monitoring.SlowQuery;
+import ru.petrowich.university.monitoring.SlowRequest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RestController
+@Tag(name = "Slow log", description = "latest slow sql statements and requests")
+@RequestMapping("/api/slow/")
+public class SlowLogRestController {
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final SlowOperationLog slowOperationLog;
+
+    @Autowired
+    public SlowLogRestController(SlowOperationLog slowOperationLog) {
+        this.slowOperationLog = slowOperationLog;
+    }
+
+    @GetMapping(value = "queries", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "get slow queries",
+            description = "returns the latest sql statements exceeding the threshold with their bind values, " +
+                    "rows, service method and controller handler, the latest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Found the slow queries",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SlowQueryDTO.class)))
+            )
+    })
+    public ResponseEntity<List<SlowQueryDTO>> getSlowQueries() {
+        LOGGER.info("processing request of getting slow queries");
+
+        List<SlowQueryDTO> slowQueryDTOs = slowOperationLog.getSlowQueries().stream()
+                .map(this::toSlowQueryDTO)
+                .collect(Collectors.toList());
+
+        return new ResponseEntity<>(slowQueryDTOs, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "requests", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "get slow requests",
+            description = "returns the latest requests exceeding the threshold with their controller handler " +
+                    "and sql statements, the latest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Found the slow requests",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = SlowRequestDTO.class)))
+            )
+    })
+    public ResponseEntity<List<SlowRequestDTO>> getSlowRequests() {
+        LOGGER.info("processing request of getting slow requests");
+
+        List<SlowRequestDTO> slowRequestDTOs = slowOperationLog.getSlowRequests().stream()
+                .map(this::toSlowRequestDTO)
+                .collect(Collectors.toList());
+
+        return new ResponseEntity<>(slowRequestDTOs, HttpStatus.OK);
+    }
+
+    @DeleteMapping(value = "")
+    @Operation(summary = "clear slow log", description = "forgets the recorded slow queries and requests")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204",
+                    description = "Cleared the slow log",
+                    content = @Content)
+    })
+    public ResponseEntity<Void> clear() {
+        LOGGER.info("processing request of clearing slow log");
+        slowOperationLog.clear();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private SlowQueryDTO toSlowQueryDTO(SlowQuery slowQuery) {
+        return new SlowQueryDTO()
+                .setTimestamp(slowQuery.getTimestamp())
+                .setSql(slowQuery.getSql())
+                .setBindValues(slowQuery.getBindValues())
+                .setBatchSize(slowQuery.getBatchSize())
+                .setRowCount(slowQuery.getRowCount())
+                .setElapsedMillis(slowQuery.getElapsedMillis())
+                .setServiceMethod(slowQuery.getServiceMethod())
+                .setHandler(slowQuery.getHandler());
+    }
+
+    private SlowRequestDTO toSlowRequestDTO(SlowRequest slowRequest) {
+        return new SlowRequestDTO()
+                .setTimestamp(slowRequest.getTimestamp())
+                .setEndpoint(slowRequest.getEndpoint())
+                .setUri(slowRequest.getUri())
+                .setHandler(slowRequest.getHandler())
+                .setStatus(slowRequest.getStatus())
+                .setElapsedMillis(slowRequest.getElapsedMillis())
+                .setStatementCount(slowRequest.getStatementCount())
+                .setSlowQueryCount(slowRequest.getSlowQueryCount())
+                .setRowCount(slowRequest.getRowCount())
+                .setSqlElapsedMillis(slowRequest.getSqlElapsedMillis());
+    }
+}
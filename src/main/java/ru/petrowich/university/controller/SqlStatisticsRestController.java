@@ -0,0 +1,67 @@
+package ru.petrowich.university.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.petrowich.university.dto.sql.EndpointSqlStatisticsDTO;
+import ru.petrowich.university.monitoring.EndpointSqlStatistics;
+import ru.petrowich.university.monitoring.SqlStatisticsRegistry;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RestController
+@Tag(name = "SQL", description = "sql statements issued per endpoint")
+@RequestMapping("/api/sql/")
+public class SqlStatisticsRestController {
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final SqlStatisticsRegistry sqlStatisticsRegistry;
+
+    @Autowired
+    public SqlStatisticsRestController(SqlStatisticsRegistry sqlStatisticsRegistry) {
+        this.sqlStatisticsRegistry = sqlStatisticsRegistry;
+    }
+
+    @GetMapping(value = "statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "get sql statistics",
+            description = "returns the number of requests, sql statements, rows read and time spent in the database per endpoint")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Found the statistics",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EndpointSqlStatisticsDTO.class)))
+            )
+    })
+    public ResponseEntity<List<EndpointSqlStatisticsDTO>> getStatistics() {
+        LOGGER.info("processing request of getting sql statistics");
+
+        List<EndpointSqlStatisticsDTO> endpointSqlStatisticsDTOs = sqlStatisticsRegistry.getEndpoints().stream()
+                .map(this::toEndpointSqlStatisticsDTO)
+                .collect(Collectors.toList());
+
+        return new ResponseEntity<>(endpointSqlStatisticsDTOs, HttpStatus.OK);
+    }
+
+    private EndpointSqlStatisticsDTO toEndpointSqlStatisticsDTO(EndpointSqlStatistics endpointSqlStatistics) {
+        return new EndpointSqlStatisticsDTO()
+                .setEndpoint(endpointSqlStatistics.getEndpoint())
+                .setRequestCount(endpointSqlStatistics.getRequestCount())
+                .setStatementCount(endpointSqlStatistics.getStatementCount())
+                .setMaxStatementCount(endpointSqlStatistics.getMaxStatementCount())
+                .setRowCount(endpointSqlStatistics.getRowCount())
+                .setElapsedMillis(endpointSqlStatistics.getElapsedMillis());
+    }
+}
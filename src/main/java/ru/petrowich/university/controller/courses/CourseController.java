@@ -18,6 +18,7 @@ import ru.petrowich.university.service.LecturerService;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolationException;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -74,8 +75,7 @@ public class CourseController {
         LOGGER.debug("received number of course groups: {}", courseGroups.size());
 
         LOGGER.debug("filling rest groups id={}", courseId);
-        List<Group> restGroups = groupService.getAll().stream()
-                .filter(Group::isActive)
+        List<Group> restGroups = groupService.getActive().stream()
                 .filter(group -> !courseGroups.contains(group))
                 .collect(Collectors.toList());
         model.addAttribute(ATTRIBUTE_REST_GROUPS, restGroups);
@@ -91,10 +91,8 @@ public class CourseController {
         Course course = courseService.getById(courseId);
         model.addAttribute(ATTRIBUTE_COURSE, course);
 
-        List<Lecturer> lecturers = lecturerService.getAll().stream()
-                .filter(Lecturer::isActive)
+        List<Lecturer> lecturers = lecturerService.getActive().stream()
                 .filter(lecturer -> !lecturer.getId().equals(course.getAuthor().getId()))
-                .sorted(Comparator.comparing(Lecturer::getFullName))
                 .collect(Collectors.toList());
 
         if (course.getAuthor().getId() != null) {
@@ -132,10 +130,7 @@ public class CourseController {
     public String create(Model model) {
         LOGGER.info("creating new course");
 
-        List<Lecturer> lecturers = lecturerService.getAll().stream()
-                .filter(Lecturer::isActive)
-                .sorted(Comparator.comparing(Lecturer::getFullName))
-                .collect(Collectors.toList());
+        List<Lecturer> lecturers = lecturerService.getActive();
 
         model.addAttribute(ATTRIBUTE_COURSE, new Course());
         model.addAttribute("lecturers", lecturers);
@@ -161,7 +156,7 @@ public class CourseController {
     }
 
     @PostMapping("/course/assign-group")
-    public String assignGroup(HttpServletRequest httpServletRequest) {
+    public String assignGroup(HttpServletRequest httpServletRequest, Model model) {
         LOGGER.info("assigning group to course");
 
         Integer courseId = Integer.valueOf(httpServletRequest.getParameter("courseId"));
@@ -170,7 +165,12 @@ public class CourseController {
         Integer groupId = Integer.valueOf(httpServletRequest.getParameter("groupId"));
         Group group = new Group().setId(groupId);
 
-        courseService.assignGroupToCourse(group, course);
+        try {
+            courseService.assignGroupToCourse(group, course);
+        } catch (ConstraintViolationException constraintViolationException) {
+            model.addAttribute("error", constraintViolationException.getMessage());
+            return "error";
+        }
 
         return String.format("redirect:/courses/course?id=%d",courseId);
     }
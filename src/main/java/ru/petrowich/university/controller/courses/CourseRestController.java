@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +22,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.petrowich.university.controller.BatchRequest;
+import ru.petrowich.university.controller.JsonStreamExporter;
+import ru.petrowich.university.controller.PageCursor;
+import ru.petrowich.university.dto.batch.BatchItemResultDTO;
 import ru.petrowich.university.dto.courses.CourseDTO;
 import ru.petrowich.university.dto.courses.CourseGroupAssignmentDTO;
 import ru.petrowich.university.dto.courses.CourseGroupDTO;
@@ -28,9 +35,13 @@ import ru.petrowich.university.mapper.courses.CourseGroupMapper;
 import ru.petrowich.university.mapper.courses.CourseMapper;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.repository.projection.CourseListItem;
 import ru.petrowich.university.service.CourseService;
 import ru.petrowich.university.service.GroupService;
+import ru.petrowich.university.service.batch.BatchItemResult;
+import ru.petrowich.university.service.batch.CourseGroupAssignment;
 
+import javax.validation.ConstraintViolationException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -45,13 +56,16 @@ public class CourseRestController {
     private final GroupService groupService;
     private final CourseMapper courseMapper;
     private final CourseGroupMapper courseGroupMapper;
+    private final JsonStreamExporter jsonStreamExporter;
 
     @Autowired
-    public CourseRestController(CourseService courseService, GroupService groupService, CourseMapper courseMapper, CourseGroupMapper courseGroupMapper) {
+    public CourseRestController(CourseService courseService, GroupService groupService, CourseMapper courseMapper, CourseGroupMapper courseGroupMapper,
+                                JsonStreamExporter jsonStreamExporter) {
         this.courseService = courseService;
         this.groupService = groupService;
         this.courseMapper = courseMapper;
         this.courseGroupMapper = courseGroupMapper;
+        this.jsonStreamExporter = jsonStreamExporter;
     }
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -184,26 +198,84 @@ public class CourseRestController {
 
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "get all of the courses",
-            description = "returns the full list of active courses records in system")
+            description = "returns a page of the list of active courses records in system ordered by course id, " +
+                    "the assigned groups are summarized by their number, " +
+                    "the cursor of the next page is returned in the " + PageCursor.HEADER_NEXT_CURSOR + " header")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Found the courses",
                     content = @Content(mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(implementation = CourseDTO.class))
-                    ))
+                            array = @ArraySchema(schema = @Schema(implementation = CourseDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor or page size supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "No courses found",
+                    content = @Content)
     })
-    public ResponseEntity<List<CourseDTO>> getAllCourses() {
+    public ResponseEntity<List<CourseDTO>> getAllCourses(@RequestParam(value = "cursor", required = false)
+                                                         @Parameter(description = "Cursor of the page returned by the previous request") String cursor,
+                                                         @RequestParam(value = "size", defaultValue = PageCursor.DEFAULT_PAGE_SIZE)
+                                                         @Parameter(description = "Maximum number of records in the page") Integer size) {
         LOGGER.info("processing request of listing courses");
 
-        List<CourseDTO> courseDTOs = this.courseService.getAll().stream()
-                .map(courseMapper::toDto)
-                .collect(Collectors.toList());
+        if (size < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
 
-        if (courseDTOs.isEmpty()) {
+        Course after = null;
+
+        if (cursor != null) {
+            try {
+                after = new Course().setId(PageCursor.decodeIntegerId(cursor));
+            } catch (IllegalArgumentException exception) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        int pageSize = PageCursor.limit(size);
+        List<CourseListItem> courses = courseService.getListPage(after, pageSize);
+
+        if (courses.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        return new ResponseEntity<>(courseDTOs, HttpStatus.OK);
+        List<CourseDTO> courseDTOs = courses.stream()
+                .map(courseMapper::toListDto)
+                .collect(Collectors.toList());
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+
+        if (courses.size() == pageSize) {
+            CourseListItem lastCourse = courses.get(courses.size() - 1);
+            httpHeaders.set(PageCursor.HEADER_NEXT_CURSOR, PageCursor.encode(lastCourse.getId()));
+        }
+
+        return new ResponseEntity<>(courseDTOs, httpHeaders, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "export all of the courses",
+            description = "streams all of the courses records in system ordered by course id as a single json array, " +
+                    "the assigned groups are summarized by their number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Exported the courses",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CourseDTO.class)))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportCourses() {
+        LOGGER.info("processing request of exporting courses");
+
+        StreamingResponseBody responseBody = jsonStreamExporter.toJsonArray(writer ->
+                courseService.forEachListItem(courseListItem -> writer.accept(courseMapper.toListDto(courseListItem))));
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+        return new ResponseEntity<>(responseBody, httpHeaders, HttpStatus.OK);
     }
 
     @PutMapping("assign-group")
@@ -220,6 +292,9 @@ public class CourseRestController {
                     content = @Content),
             @ApiResponse(responseCode = "404",
                     description = "The group or course id is not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "409",
+                    description = "The lessons of the course overlap the lessons of the group",
                     content = @Content)
     })
     public ResponseEntity<List<CourseGroupDTO>> assignGroup(@RequestBody @Parameter(
@@ -238,11 +313,96 @@ public class CourseRestController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        courseService.assignGroupToCourse(persistentGroup, persistentCourse);
-        Course actualCourse = courseService.getById(persistentCourse.getId());
-        List<CourseGroupDTO> courseGroupDTOList = actualCourse.getGroups().stream().map(courseGroupMapper::toDto).collect(Collectors.toList());
+        try {
+            List<Group> actualGroups = courseService.assignGroupToCourse(persistentGroup, persistentCourse);
+            List<CourseGroupDTO> courseGroupDTOList = actualGroups.stream().map(courseGroupMapper::toDto).collect(Collectors.toList());
 
-        return new ResponseEntity<>(courseGroupDTOList, HttpStatus.OK);
+            return new ResponseEntity<>(courseGroupDTOList, HttpStatus.OK);
+        } catch (ConstraintViolationException constraintViolationException) {
+            LOGGER.error(constraintViolationException.getMessage());
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+    }
+
+    @PutMapping("{id}/groups")
+    @Operation(summary = "apply groups to the course",
+            description = "replaces the groups assigned to the course with the groups of supplied ids, " +
+                    "only the changed assignments are added or removed, unknown group ids are ignored")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "All of assigned groups to the course",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = CourseGroupDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid group or course id supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "The course id is not found",
+                    content = @Content),
+            @ApiResponse(responseCode = "409",
+                    description = "The lessons of the course overlap the lessons of the group",
+                    content = @Content)
+    })
+    public ResponseEntity<List<CourseGroupDTO>> applyGroups(@RequestBody @Parameter(
+            description = "Ids of all of the groups to be assigned to the course",
+            required = true) List<Integer> groupIds, @PathVariable("id") @Parameter(
+            description = "Course internal numeric identifier",
+            required = true) Integer courseId) {
+        LOGGER.info("processing request of applying {} groups to course id={}", groupIds == null ? null : groupIds.size(), courseId);
+
+        if (courseId == null || groupIds == null || groupIds.contains(null)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Course persistentCourse = courseService.getById(courseId);
+
+        if (persistentCourse == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        List<Group> groups = groupIds.stream().map(groupId -> new Group().setId(groupId)).collect(Collectors.toList());
+        try {
+            List<Group> actualGroups = courseService.applyGroupsToCourse(groups, persistentCourse);
+            List<CourseGroupDTO> courseGroupDTOList = actualGroups.stream().map(courseGroupMapper::toDto).collect(Collectors.toList());
+
+            return new ResponseEntity<>(courseGroupDTOList, HttpStatus.OK);
+        } catch (ConstraintViolationException constraintViolationException) {
+            LOGGER.error(constraintViolationException.getMessage());
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+    }
+
+    @PutMapping("assign-groups/batch")
+    @Operation(summary = "assign a batch of groups to the courses",
+            description = "assigns groups to courses by pairs of their ids in a single transaction, " +
+                    "returns a result of every pair in the order of the request, up to " + BatchRequest.MAX_BATCH_SIZE + " pairs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Processed the assignments, the id of an accepted assignment is the course id",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = BatchItemResultDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Empty or too large batch supplied",
+                    content = @Content)
+    })
+    public ResponseEntity<List<BatchItemResultDTO<Integer>>> assignGroups(@RequestBody @Parameter(
+            description = "Assignments of groups and courses ids",
+            required = true) List<CourseGroupAssignmentDTO> courseGroupAssignmentDTOs) {
+        LOGGER.info("processing request of assigning batch of groups to courses");
+
+        if (!BatchRequest.isValidSize(courseGroupAssignmentDTOs)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<CourseGroupAssignment> courseGroupAssignments = courseGroupAssignmentDTOs.stream()
+                .map(assignmentDTO -> assignmentDTO == null ? null : new CourseGroupAssignment(assignmentDTO.getCourseId(), assignmentDTO.getGroupId()))
+                .collect(Collectors.toList());
+
+        List<BatchItemResult<CourseGroupAssignment>> results = courseService.assignGroupsToCourses(courseGroupAssignments);
+
+        return new ResponseEntity<>(BatchRequest.toDtos(results, CourseGroupAssignment::getCourseId), HttpStatus.OK);
     }
 
     @PutMapping("remove-group")
@@ -277,9 +437,8 @@ public class CourseRestController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        courseService.removeGroupFromCourse(persistentGroup, persistentCourse);
-        Course actualCourse = courseService.getById(persistentCourse.getId());
-        List<CourseGroupDTO> courseGroupDTOList = actualCourse.getGroups().stream().map(courseGroupMapper::toDto).collect(Collectors.toList());
+        List<Group> actualGroups = courseService.removeGroupFromCourse(persistentGroup, persistentCourse);
+        List<CourseGroupDTO> courseGroupDTOList = actualGroups.stream().map(courseGroupMapper::toDto).collect(Collectors.toList());
 
         return new ResponseEntity<>(courseGroupDTOList, HttpStatus.OK);
     }
@@ -1,6 +1,7 @@
 package ru.petrowich.university.controller.lecturers;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +21,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import ru.petrowich.university.controller.PageCursor;
 import ru.petrowich.university.dto.lecturers.LecturerDTO;
 import ru.petrowich.university.mapper.lecturers.LecturerMapper;
 import ru.petrowich.university.model.Lecturer;
@@ -155,25 +159,59 @@ public class LecturerRestController {
 
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "get all of the lecturers",
-            description = "returns the full list of active lecturers records in system")
+            description = "returns a page of the list of active lecturers records in system ordered by lecturer id, " +
+                    "the cursor of the next page is returned in the " + PageCursor.HEADER_NEXT_CURSOR + " header")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Found the lecturers",
                     content = @Content(mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = LecturerDTO.class)))
-            )
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor or page size supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "No lecturers found",
+                    content = @Content)
     })
-    public ResponseEntity<List<LecturerDTO>> getAllLecturers() {
+    public ResponseEntity<List<LecturerDTO>> getAllLecturers(@RequestParam(value = "cursor", required = false)
+                                                             @Parameter(description = "Cursor of the page returned by the previous request") String cursor,
+                                                             @RequestParam(value = "size", defaultValue = PageCursor.DEFAULT_PAGE_SIZE)
+                                                             @Parameter(description = "Maximum number of records in the page") Integer size) {
         LOGGER.info("processing request of listing lecturers");
 
-        List<LecturerDTO> lecturerDTOs = this.lecturerService.getAll().stream()
+        if (size < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Lecturer after = null;
+
+        if (cursor != null) {
+            try {
+                after = new Lecturer().setId(PageCursor.decodeIntegerId(cursor));
+            } catch (IllegalArgumentException exception) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        int pageSize = PageCursor.limit(size);
+        List<Lecturer> lecturers = lecturerService.getPage(after, pageSize);
+
+        if (lecturers.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        List<LecturerDTO> lecturerDTOs = lecturers.stream()
                 .map(lecturerMapper::toDto)
                 .collect(Collectors.toList());
 
-        if (lecturerDTOs.isEmpty()) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        HttpHeaders httpHeaders = new HttpHeaders();
+
+        if (lecturers.size() == pageSize) {
+            Lecturer lastLecturer = lecturers.get(lecturers.size() - 1);
+            httpHeaders.set(PageCursor.HEADER_NEXT_CURSOR, PageCursor.encode(lastLecturer.getId()));
         }
 
-        return new ResponseEntity<>(lecturerDTOs, HttpStatus.OK);
+        return new ResponseEntity<>(lecturerDTOs, httpHeaders, HttpStatus.OK);
     }
 }
@@ -20,7 +20,6 @@ import ru.petrowich.university.service.TimeSlotService;
 
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.ConstraintViolationException;
-import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -54,7 +53,7 @@ public class LessonController {
     public String lessons(Model model) {
         LOGGER.info("listing lessons");
 
-        List<Lesson> lessons = lessonService.getAll().stream()
+        List<Lesson> lessons = lessonService.getAllWithNumberOfAttendees().stream()
                 .sorted()
                 .collect(Collectors.toList());
         model.addAttribute(ATTRIBUTE_ALL_LESSONS, lessons);
@@ -68,16 +67,8 @@ public class LessonController {
     public String create(Model model) {
         LOGGER.info("creating lesson");
 
-        List<Course> courses = courseService.getAll().stream()
-                .filter(Course::isActive)
-                .filter(course -> (course.getAuthor().getId() != null))
-                .filter(course -> (course.getAuthor().isActive()))
-                .sorted(Comparator.comparing(Course::getName))
-                .collect(Collectors.toList());
-
-        List<TimeSlot> timeSlots = timeSlotService.getAll().stream()
-                .sorted(Comparator.comparing(TimeSlot::getStartTime))
-                .collect(Collectors.toList());
+        List<Course> courses = courseService.getActiveWithActiveAuthor();
+        List<TimeSlot> timeSlots = timeSlotService.getAllByStartTime();
 
         model.addAttribute(ATTRIBUTE_LESSON, new Lesson());
         model.addAttribute(ATTRIBUTE_TIMESLOTS, timeSlots);
@@ -120,16 +111,12 @@ public class LessonController {
         Lesson lesson = lessonService.getById(lessonId);
         model.addAttribute(ATTRIBUTE_LESSON, lesson);
 
-        List<Course> courses = courseService.getAll().stream()
-                .filter(Course::isActive)
+        List<Course> courses = courseService.getActive().stream()
                 .filter(course -> !course.getId().equals(lesson.getCourse().getId()))
-                .sorted(Comparator.comparing(Course::getName))
                 .collect(Collectors.toList());
 
-        List<Lecturer> lecturers = lecturerService.getAll().stream()
-                .filter(Lecturer::isActive)
+        List<Lecturer> lecturers = lecturerService.getActive().stream()
                 .filter(lecturer -> !lecturer.getId().equals(lesson.getLecturer().getId()))
-                .sorted(Comparator.comparing(Lecturer::getFirstName))
                 .collect(Collectors.toList());
 
         model.addAttribute(ATTRIBUTE_COURSES, courses);
@@ -1,6 +1,7 @@
 package ru.petrowich.university.controller.lessons;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -8,6 +9,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,13 +22,34 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.petrowich.university.controller.BatchRequest;
+import ru.petrowich.university.controller.JsonStreamExporter;
+import ru.petrowich.university.controller.PageCursor;
+import ru.petrowich.university.dto.batch.BatchItemResultDTO;
 import ru.petrowich.university.dto.lessons.LessonDTO;
 import ru.petrowich.university.mapper.lesson.LessonMapper;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.projection.LessonListItem;
 import ru.petrowich.university.service.LessonService;
+import ru.petrowich.university.service.batch.BatchItemResult;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -36,10 +60,13 @@ public class LessonRestController {
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final LessonService lessonService;
     private final LessonMapper lessonMapper;
+    private final JsonStreamExporter jsonStreamExporter;
 
-    public LessonRestController(LessonService lessonService, LessonMapper lessonMapper) {
+    public LessonRestController(LessonService lessonService, LessonMapper lessonMapper,
+                                JsonStreamExporter jsonStreamExporter) {
         this.lessonService = lessonService;
         this.lessonMapper = lessonMapper;
+        this.jsonStreamExporter = jsonStreamExporter;
     }
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -98,6 +125,36 @@ public class LessonRestController {
         return new ResponseEntity<>(actualLessonDTO, HttpStatus.CREATED);
     }
 
+    @PostMapping("batch")
+    @Operation(summary = "create a batch of new lessons",
+            description = "validates all of the supplied lessons in one pass and adds the accepted ones in a single transaction, " +
+                    "returns a result of every lesson in the order of the request, up to " + BatchRequest.MAX_BATCH_SIZE + " lessons")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Processed the lessons",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = BatchItemResultDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Empty or too large batch supplied",
+                    content = @Content)
+    })
+    public ResponseEntity<List<BatchItemResultDTO<Long>>> addLessons(@RequestBody List<LessonDTO> lessonDTOs) {
+        LOGGER.info("processing request of creating batch of lessons");
+
+        if (!BatchRequest.isValidSize(lessonDTOs)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<Lesson> newLessons = lessonDTOs.stream()
+                .map(lessonDTO -> lessonDTO == null ? null : lessonMapper.toEntity(lessonDTO))
+                .collect(Collectors.toList());
+
+        List<BatchItemResult<Lesson>> results = lessonService.addBatch(newLessons);
+
+        return new ResponseEntity<>(BatchRequest.toDtos(results, Lesson::getId), HttpStatus.OK);
+    }
+
     @PutMapping("update/{id}")
     @Operation(summary = "get lesson by id", description = "overwrites a single lesson of supplied id")
     @ApiResponses(value = {
@@ -168,25 +225,212 @@ public class LessonRestController {
 
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "get all of the lessons",
-            description = "returns the full list of active lessons records in system")
+            description = "returns a page of the list of active lessons records in system ordered by lesson date, start time and id, " +
+                    "the attendees are summarized by their number, " +
+                    "the cursor of the next page is returned in the " + PageCursor.HEADER_NEXT_CURSOR + " header")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Found the lessons",
                     content = @Content(mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = LessonDTO.class)))
-            )
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor or page size supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "No lessons found",
+                    content = @Content)
     })
-    public ResponseEntity<List<LessonDTO>> getAllLessons() {
+    public ResponseEntity<List<LessonDTO>> getAllLessons(@RequestParam(value = "cursor", required = false)
+                                                         @Parameter(description = "Cursor of the page returned by the previous request") String cursor,
+                                                         @RequestParam(value = "size", defaultValue = PageCursor.DEFAULT_PAGE_SIZE)
+                                                         @Parameter(description = "Maximum number of records in the page") Integer size) {
         LOGGER.info("processing request of listing lessons");
 
-        List<LessonDTO> lessonDTOs = this.lessonService.getAll().stream()
+        if (size < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Lesson after = null;
+
+        if (cursor != null) {
+            try {
+                String[] keys = PageCursor.decode(cursor, 3);
+                after = new Lesson().setDate(LocalDate.parse(keys[0]))
+                        .setStartTime(LocalTime.parse(keys[1]))
+                        .setId(Long.valueOf(keys[2]));
+            } catch (IllegalArgumentException | DateTimeParseException exception) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        int pageSize = PageCursor.limit(size);
+        List<LessonListItem> lessons = lessonService.getListPage(after, pageSize);
+
+        if (lessons.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        Set<Integer> courseIds = lessons.stream()
+                .map(LessonListItem::getCourseId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Integer, Integer> numbersOfAttendees = lessonService.getNumbersOfAttendeesOfCourses(courseIds);
+
+        List<LessonDTO> lessonDTOs = lessons.stream()
+                .map(lessonListItem -> lessonMapper.toListDto(lessonListItem, numbersOfAttendees.getOrDefault(lessonListItem.getCourseId(), 0)))
+                .collect(Collectors.toList());
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+
+        if (lessons.size() == pageSize) {
+            LessonListItem lastLesson = lessons.get(lessons.size() - 1);
+            httpHeaders.set(PageCursor.HEADER_NEXT_CURSOR, PageCursor.encode(lastLesson.getDate(), lastLesson.getStartTime(), lastLesson.getId()));
+        }
+
+        return new ResponseEntity<>(lessonDTOs, httpHeaders, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "export all of the lessons",
+            description = "streams all of the lessons records in system ordered by lesson date, start time and id as a single json array, " +
+                    "the attendees are summarized by their number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Exported the lessons",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = LessonDTO.class)))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportLessons() {
+        LOGGER.info("processing request of exporting lessons");
+
+        StreamingResponseBody responseBody = jsonStreamExporter.toJsonArray(writer -> {
+            Map<Integer, Integer> numbersOfAttendees = lessonService.getNumbersOfAttendeesOfCourses();
+            lessonService.forEachListItem(lessonListItem -> writer.accept(lessonMapper.toListDto(lessonListItem, numbersOfAttendees.getOrDefault(lessonListItem.getCourseId(), 0))));
+        });
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+        return new ResponseEntity<>(responseBody, httpHeaders, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "search lessons by date range",
+            description = "returns the lessons between supplied dates inclusively ordered by lesson date, start time and id, " +
+                    "optionally restricted to a single lecturer, course, group or student")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Found the lessons",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = LessonDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid date range supplied or more than one of lecturer, course, group and student supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "No lessons found",
+                    content = @Content)
+    })
+    public ResponseEntity<List<LessonDTO>> searchLessons(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                         @Parameter(description = "First date of the range") LocalDate from,
+                                                         @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                         @Parameter(description = "Last date of the range") LocalDate to,
+                                                         @RequestParam(value = "lecturerId", required = false)
+                                                         @Parameter(description = "Id of the lecturer giving the lessons") Integer lecturerId,
+                                                         @RequestParam(value = "courseId", required = false)
+                                                         @Parameter(description = "Id of the course of the lessons") Integer courseId,
+                                                         @RequestParam(value = "groupId", required = false)
+                                                         @Parameter(description = "Id of the group attending the lessons") Integer groupId,
+                                                         @RequestParam(value = "studentId", required = false)
+                                                         @Parameter(description = "Id of the student attending the lessons") Integer studentId) {
+        LOGGER.info("processing request of searching lessons from {} to {}", from, to);
+
+        long numberOfOwners = Stream.of(lecturerId, courseId, groupId, studentId)
+                .filter(Objects::nonNull)
+                .count();
+
+        if (from.isAfter(to) || numberOfOwners > 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<Lesson> lessons;
+
+        if (lecturerId != null) {
+            lessons = lessonService.getByLecturerAndDateRange(new Lecturer().setId(lecturerId), from, to);
+        } else if (courseId != null) {
+            lessons = lessonService.getByCourseAndDateRange(new Course().setId(courseId), from, to);
+        } else if (groupId != null) {
+            lessons = lessonService.getByGroupAndDateRange(new Group().setId(groupId), from, to);
+        } else if (studentId != null) {
+            lessons = lessonService.getByStudentAndDateRange(new Student().setId(studentId), from, to);
+        } else {
+            lessons = lessonService.getByDateRange(from, to);
+        }
+
+        if (lessons.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        List<LessonDTO> lessonDTOs = lessons.stream()
                 .map(lessonMapper::toDto)
                 .collect(Collectors.toList());
 
-        if (lessonDTOs.isEmpty()) {
+        return new ResponseEntity<>(lessonDTOs, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "free", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "search free time slots",
+            description = "returns the time slots between supplied dates inclusively when all of the supplied lecturers and groups " +
+                    "have no lessons, ordered by date and time slot start time")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Found the free time slots",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = LessonDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid date range or limit supplied or neither lecturer nor group supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "No free time slots found",
+                    content = @Content)
+    })
+    public ResponseEntity<List<LessonDTO>> searchFreeSlots(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                           @Parameter(description = "First date of the range") LocalDate from,
+                                                           @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                           @Parameter(description = "Last date of the range") LocalDate to,
+                                                           @RequestParam(value = "lecturerId", required = false)
+                                                           @Parameter(description = "Ids of the lecturers to be free") List<Integer> lecturerIds,
+                                                           @RequestParam(value = "groupId", required = false)
+                                                           @Parameter(description = "Ids of the groups to be free") List<Integer> groupIds,
+                                                           @RequestParam(value = "limit", defaultValue = "1")
+                                                           @Parameter(description = "Maximum number of free time slots") Integer limit) {
+        LOGGER.info("processing request of searching free time slots from {} to {}", from, to);
+
+        List<Lecturer> lecturers = Optional.ofNullable(lecturerIds).orElse(Collections.emptyList()).stream()
+                .map(lecturerId -> new Lecturer().setId(lecturerId))
+                .collect(Collectors.toList());
+
+        List<Group> groups = Optional.ofNullable(groupIds).orElse(Collections.emptyList()).stream()
+                .map(groupId -> new Group().setId(groupId))
+                .collect(Collectors.toList());
+
+        if (from.isAfter(to) || limit < 1 || (lecturers.isEmpty() && groups.isEmpty())) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<Lesson> freeSlots = lessonService.getFreeSlots(lecturers, groups, from, to, PageCursor.limit(limit));
+
+        if (freeSlots.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
+        List<LessonDTO> lessonDTOs = freeSlots.stream()
+                .map(lessonMapper::toDto)
+                .collect(Collectors.toList());
+
         return new ResponseEntity<>(lessonDTOs, HttpStatus.OK);
     }
 }
@@ -1,6 +1,7 @@
 package ru.petrowich.university.controller.lessons;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -8,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +21,8 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import ru.petrowich.university.controller.PageCursor;
 import ru.petrowich.university.dto.lessons.TimeSlotDTO;
 import ru.petrowich.university.mapper.lesson.TimeSlotMapper;
 import ru.petrowich.university.model.TimeSlot;
@@ -168,25 +172,59 @@ public class TimeSlotRestController {
 
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "get all of the time slots",
-            description = "returns the full list of active time slots records in system")
+            description = "returns a page of the list of active time slots records in system ordered by time slot id, " +
+                    "the cursor of the next page is returned in the " + PageCursor.HEADER_NEXT_CURSOR + " header")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Found the time slots",
                     content = @Content(mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = TimeSlotDTO.class)))
-            )
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor or page size supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "No time slots found",
+                    content = @Content)
     })
-    public ResponseEntity<List<TimeSlotDTO>> getAllTimeSlots() {
+    public ResponseEntity<List<TimeSlotDTO>> getAllTimeSlots(@RequestParam(value = "cursor", required = false)
+                                                             @Parameter(description = "Cursor of the page returned by the previous request") String cursor,
+                                                             @RequestParam(value = "size", defaultValue = PageCursor.DEFAULT_PAGE_SIZE)
+                                                             @Parameter(description = "Maximum number of records in the page") Integer size) {
         LOGGER.info("processing request of listing timeSlots");
 
-        List<TimeSlotDTO> timeSlotDTOs = this.timeSlotService.getAll().stream()
+        if (size < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        TimeSlot after = null;
+
+        if (cursor != null) {
+            try {
+                after = new TimeSlot().setId(PageCursor.decodeIntegerId(cursor));
+            } catch (IllegalArgumentException exception) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
+
+        int pageSize = PageCursor.limit(size);
+        List<TimeSlot> timeSlots = timeSlotService.getPage(after, pageSize);
+
+        if (timeSlots.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        List<TimeSlotDTO> timeSlotDTOs = timeSlots.stream()
                 .map(timeSlotMapper::toDto)
                 .collect(Collectors.toList());
 
-        if (timeSlotDTOs.isEmpty()) {
-            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        HttpHeaders httpHeaders = new HttpHeaders();
+
+        if (timeSlots.size() == pageSize) {
+            TimeSlot lastTimeSlot = timeSlots.get(timeSlots.size() - 1);
+            httpHeaders.set(PageCursor.HEADER_NEXT_CURSOR, PageCursor.encode(lastTimeSlot.getId()));
         }
 
-        return new ResponseEntity<>(timeSlotDTOs, HttpStatus.OK);
+        return new ResponseEntity<>(timeSlotDTOs, httpHeaders, HttpStatus.OK);
     }
 }
@@ -0,0 +1,138 @@
+package ru.petrowich.university.controller.lessons;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import ru.petrowich.university.dto.lessons.LessonDTO;
+import ru.petrowich.university.mapper.lesson.LessonMapper;
+import ru.petrowich.university.schedule.Timetable;
+import ru.petrowich.university.service.TimetableService;
+
+import javax.validation.ConstraintViolationException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RestController
+@Tag(name = "Timetable", description = "generating university timetable")
+@RequestMapping("/api/lessons/generator/")
+public class TimetableRestController {
+    public static final String HEADER_UNSCHEDULED_COURSES = "X-Unscheduled-Courses";
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final TimetableService timetableService;
+    private final LessonMapper lessonMapper;
+
+    @Autowired
+    public TimetableRestController(TimetableService timetableService, LessonMapper lessonMapper) {
+        this.timetableService = timetableService;
+        this.lessonMapper = lessonMapper;
+    }
+
+    @GetMapping(value = "preview", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "preview generated timetable",
+            description = "packs the weekly lessons of active courses into the time slots of working days between supplied dates " +
+                    "without saving them, ids of the courses which did not get enough lessons are returned in the " +
+                    HEADER_UNSCHEDULED_COURSES + " header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Generated the lessons",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = LessonDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid date range or number of lessons per week supplied",
+                    content = @Content)
+    })
+    public ResponseEntity<List<LessonDTO>> previewTimetable(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                            @Parameter(description = "First date of the range") LocalDate from,
+                                                            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                            @Parameter(description = "Last date of the range") LocalDate to,
+                                                            @RequestParam(value = "lessonsPerWeek", defaultValue = "1")
+                                                            @Parameter(description = "Number of lessons per week of the courses without their own number") Integer lessonsPerWeek) {
+        LOGGER.info("processing request of previewing timetable from {} to {}", from, to);
+
+        if (from.isAfter(to) || lessonsPerWeek < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Timetable timetable = timetableService.preview(from, to, lessonsPerWeek);
+
+        return toResponseEntity(timetable, HttpStatus.OK);
+    }
+
+    @PostMapping(value = "commit", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "generate timetable",
+            description = "packs the weekly lessons of active courses into the time slots of working days between supplied dates " +
+                    "and saves them, ids of the courses which did not get enough lessons are returned in the " +
+                    HEADER_UNSCHEDULED_COURSES + " header")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201",
+                    description = "Added the generated lessons",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = LessonDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid date range or number of lessons per week supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "409",
+                    description = "The generated lessons conflict with the lessons added meanwhile",
+                    content = @Content)
+    })
+    public ResponseEntity<List<LessonDTO>> commitTimetable(@RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                           @Parameter(description = "First date of the range") LocalDate from,
+                                                           @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                           @Parameter(description = "Last date of the range") LocalDate to,
+                                                           @RequestParam(value = "lessonsPerWeek", defaultValue = "1")
+                                                           @Parameter(description = "Number of lessons per week of the courses without their own number") Integer lessonsPerWeek) {
+        LOGGER.info("processing request of generating timetable from {} to {}", from, to);
+
+        if (from.isAfter(to) || from.isBefore(LocalDate.now()) || lessonsPerWeek < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            Timetable timetable = timetableService.commit(from, to, lessonsPerWeek);
+            return toResponseEntity(timetable, HttpStatus.CREATED);
+        } catch (ConstraintViolationException constraintViolationException) {
+            LOGGER.error(constraintViolationException.getMessage());
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+    }
+
+    private ResponseEntity<List<LessonDTO>> toResponseEntity(Timetable timetable, HttpStatus httpStatus) {
+        List<LessonDTO> lessonDTOs = timetable.getLessons().stream()
+                .map(lessonMapper::toDto)
+                .collect(Collectors.toList());
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+
+        if (!timetable.getUnscheduledCourses().isEmpty()) {
+            String unscheduledCourseIds = timetable.getUnscheduledCourses().stream()
+                    .map(course -> String.valueOf(course.getId()))
+                    .collect(Collectors.joining(","));
+            httpHeaders.set(HEADER_UNSCHEDULED_COURSES, unscheduledCourseIds);
+        }
+
+        return new ResponseEntity<>(lessonDTOs, httpHeaders, httpStatus);
+    }
+}
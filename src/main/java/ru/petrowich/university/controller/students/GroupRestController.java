@@ -1,6 +1,7 @@
 package ru.petrowich.university.controller.students;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,9 +22,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.petrowich.university.controller.JsonStreamExporter;
+import ru.petrowich.university.controller.PageCursor;
 import ru.petrowich.university.dto.students.GroupDTO;
 import ru.petrowich.university.mapper.students.GroupMapper;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.repository.projection.GroupListItem;
 import ru.petrowich.university.service.GroupService;
 
 import java.util.List;
@@ -37,11 +44,14 @@ public class GroupRestController {
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final GroupService groupService;
     private final GroupMapper groupMapper;
+    private final JsonStreamExporter jsonStreamExporter;
 
     @Autowired
-    public GroupRestController(GroupService groupService, GroupMapper groupMapper) {
+    public GroupRestController(GroupService groupService, GroupMapper groupMapper,
+                               JsonStreamExporter jsonStreamExporter) {
         this.groupService = groupService;
         this.groupMapper = groupMapper;
+        this.jsonStreamExporter = jsonStreamExporter;
     }
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -173,25 +183,83 @@ public class GroupRestController {
 
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "get all of the groups",
-            description = "returns the full list of active groups records in system")
+            description = "returns a page of the list of active groups records in system ordered by group id, " +
+                    "the assigned courses and students are summarized by their number, " +
+                    "the cursor of the next page is returned in the " + PageCursor.HEADER_NEXT_CURSOR + " header")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Found the groups",
                     content = @Content(mediaType = "application/json",
                             array = @ArraySchema(schema = @Schema(implementation = GroupDTO.class)))
-            )
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor or page size supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "No groups found",
+                    content = @Content)
     })
-    public ResponseEntity<List<GroupDTO>> getAllGroups() {
+    public ResponseEntity<List<GroupDTO>> getAllGroups(@RequestParam(value = "cursor", required = false)
+                                                       @Parameter(description = "Cursor of the page returned by the previous request") String cursor,
+                                                       @RequestParam(value = "size", defaultValue = PageCursor.DEFAULT_PAGE_SIZE)
+                                                       @Parameter(description = "Maximum number of records in the page") Integer size) {
         LOGGER.info("processing request of listing groups");
 
-        List<GroupDTO> groupDTOs = this.groupService.getAll().stream()
-                .map(groupMapper::toDto)
-                .collect(Collectors.toList());
+        if (size < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Group after = null;
+
+        if (cursor != null) {
+            try {
+                after = new Group().setId(PageCursor.decodeIntegerId(cursor));
+            } catch (IllegalArgumentException exception) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
 
-        if (groupDTOs.isEmpty()) {
+        int pageSize = PageCursor.limit(size);
+        List<GroupListItem> groups = groupService.getListPage(after, pageSize);
+
+        if (groups.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        return new ResponseEntity<>(groupDTOs, HttpStatus.OK);
+        List<GroupDTO> groupDTOs = groups.stream()
+                .map(groupMapper::toListDto)
+                .collect(Collectors.toList());
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+
+        if (groups.size() == pageSize) {
+            GroupListItem lastGroup = groups.get(groups.size() - 1);
+            httpHeaders.set(PageCursor.HEADER_NEXT_CURSOR, PageCursor.encode(lastGroup.getId()));
+        }
+
+        return new ResponseEntity<>(groupDTOs, httpHeaders, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "export all of the groups",
+            description = "streams all of the groups records in system ordered by group id as a single json array, " +
+                    "the assigned courses and students are summarized by their number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Exported the groups",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = GroupDTO.class)))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportGroups() {
+        LOGGER.info("processing request of exporting groups");
+
+        StreamingResponseBody responseBody = jsonStreamExporter.toJsonArray(writer ->
+                groupService.forEachListItem(groupListItem -> writer.accept(groupMapper.toListDto(groupListItem))));
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+        return new ResponseEntity<>(responseBody, httpHeaders, HttpStatus.OK);
     }
 }
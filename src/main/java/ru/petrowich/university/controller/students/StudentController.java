@@ -2,6 +2,7 @@ package ru.petrowich.university.controller.students;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
@@ -10,13 +11,19 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PostMapping;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lesson;
 import ru.petrowich.university.model.Student;
 import ru.petrowich.university.service.GroupService;
+import ru.petrowich.university.service.LessonService;
 import ru.petrowich.university.service.StudentService;
 
 import javax.servlet.http.HttpServletResponse;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.slf4j.LoggerFactory.getLogger;
@@ -27,16 +34,21 @@ public class StudentController {
     private static final String ATTRIBUTE_STUDENT = "student";
     private static final String ATTRIBUTE_GROUPS = "groups";
     private static final String ATTRIBUTE_ALL_STUDENTS = "allStudents";
+    private static final String ATTRIBUTE_LESSONS = "lessons";
+    private static final String ATTRIBUTE_FROM = "from";
+    private static final String ATTRIBUTE_TO = "to";
     private static final String ERROR_MSG_FORM_CONTAINS_ERRORS = "student form contains {} errors";
 
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final StudentService studentService;
     private final GroupService groupService;
+    private final LessonService lessonService;
 
     @Autowired
-    public StudentController(StudentService studentService, GroupService groupService) {
+    public StudentController(StudentService studentService, GroupService groupService, LessonService lessonService) {
         this.studentService = studentService;
         this.groupService = groupService;
+        this.lessonService = lessonService;
     }
 
     @GetMapping("")
@@ -71,6 +83,36 @@ public class StudentController {
         return "students/student";
     }
 
+    @GetMapping("/student/timetable")
+    public String timetable(@RequestParam("id") Integer studentId,
+                            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                            Model model, HttpServletResponse httpServletResponse) {
+        LOGGER.info("getting timetable of student id={}", studentId);
+
+        LocalDate monday = Optional.ofNullable(from).orElse(LocalDate.now())
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate sunday = monday.plusDays(6);
+
+        Student student = studentService.getById(studentId);
+
+        if (student == null) {
+            LOGGER.info("student id={} is not found", studentId);
+            httpServletResponse.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return students(model);
+        }
+
+        List<Lesson> lessons = lessonService.getTimetableOfStudent(student, monday, sunday);
+
+        model.addAttribute(ATTRIBUTE_STUDENT, student);
+        model.addAttribute(ATTRIBUTE_LESSONS, lessons);
+        model.addAttribute(ATTRIBUTE_FROM, monday);
+        model.addAttribute(ATTRIBUTE_TO, sunday);
+
+        LOGGER.debug("number of lessons of student {} from {} to {}: {}", student.getId(), monday, sunday, lessons.size());
+
+        return "students/student_timetable";
+    }
+
     @GetMapping("/student/edit")
     public String editStudent(@RequestParam("id") Integer studentId, Model model) {
         LOGGER.info("getting student id={}", studentId);
@@ -78,10 +120,8 @@ public class StudentController {
         Student student = studentService.getById(studentId);
         model.addAttribute(ATTRIBUTE_STUDENT, student);
 
-        List<Group> groups = groupService.getAll().stream()
-                .filter(Group::isActive)
+        List<Group> groups = groupService.getActive().stream()
                 .filter(group -> !group.equals(student.getGroup()))
-                .sorted(Comparator.comparing(Group::getName))
                 .collect(Collectors.toList());
 
         if (student.getGroup().getId() != null) {
@@ -119,10 +159,7 @@ public class StudentController {
 
         model.addAttribute(ATTRIBUTE_STUDENT, new Student());
 
-        List<Group> groups = groupService.getAll().stream()
-                .filter(Group::isActive)
-                .sorted(Comparator.comparing(Group::getName))
-                .collect(Collectors.toList());
+        List<Group> groups = groupService.getActive();
 
         model.addAttribute(ATTRIBUTE_GROUPS, groups);
 
@@ -1,6 +1,7 @@
 package ru.petrowich.university.controller.students;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -8,6 +9,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -19,11 +22,23 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.petrowich.university.controller.BatchRequest;
+import ru.petrowich.university.controller.JsonStreamExporter;
+import ru.petrowich.university.controller.PageCursor;
+import ru.petrowich.university.dto.batch.BatchItemResultDTO;
+import ru.petrowich.university.dto.lessons.LessonDTO;
 import ru.petrowich.university.dto.students.StudentDTO;
+import ru.petrowich.university.mapper.lesson.LessonMapper;
 import ru.petrowich.university.mapper.students.StudentMapper;
 import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.projection.StudentListItem;
+import ru.petrowich.university.service.LessonService;
 import ru.petrowich.university.service.StudentService;
+import ru.petrowich.university.service.batch.BatchItemResult;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -36,10 +51,18 @@ public class StudentRestController {
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final StudentService studentService;
     private final StudentMapper studentMapper;
+    private final LessonService lessonService;
+    private final LessonMapper lessonMapper;
+    private final JsonStreamExporter jsonStreamExporter;
 
-    public StudentRestController(StudentService studentService, StudentMapper studentMapper) {
+    public StudentRestController(StudentService studentService, StudentMapper studentMapper,
+                                 LessonService lessonService, LessonMapper lessonMapper,
+                                 JsonStreamExporter jsonStreamExporter) {
         this.studentService = studentService;
         this.studentMapper = studentMapper;
+        this.lessonService = lessonService;
+        this.lessonMapper = lessonMapper;
+        this.jsonStreamExporter = jsonStreamExporter;
     }
 
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
@@ -75,6 +98,47 @@ public class StudentRestController {
         return new ResponseEntity<>(studentDTO, HttpStatus.OK);
     }
 
+    @GetMapping(value = "{id}/timetable", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "get timetable of student",
+            description = "returns the lessons of the student's group between supplied dates inclusively " +
+                    "ordered by lesson date, start time and id")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Found the lessons of the student",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = LessonDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid id or date range supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "The student id is not found",
+                    content = @Content)
+    })
+    public ResponseEntity<List<LessonDTO>> getStudentTimetable(@PathVariable("id") Integer studentId,
+                                                               @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                               @Parameter(description = "First date of the range") LocalDate from,
+                                                               @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+                                                               @Parameter(description = "Last date of the range") LocalDate to) {
+        LOGGER.info("processing request of getting timetable of student id={} from {} to {}", studentId, from, to);
+
+        if (studentId == null || from.isAfter(to)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Student student = studentService.getById(studentId);
+
+        if (student == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        List<LessonDTO> lessonDTOs = lessonService.getTimetableOfStudent(student, from, to).stream()
+                .map(lessonMapper::toDto)
+                .collect(Collectors.toList());
+
+        return new ResponseEntity<>(lessonDTOs, HttpStatus.OK);
+    }
+
     @PostMapping("add")
     @Operation(summary = "create a new student",
             description = "adds a single student in the system, assigns a new internal id")
@@ -98,6 +162,36 @@ public class StudentRestController {
         return new ResponseEntity<>(actualStudentDTO, HttpStatus.CREATED);
     }
 
+    @PostMapping("batch")
+    @Operation(summary = "create a batch of new students",
+            description = "validates all of the supplied students in one pass and adds the accepted ones in a single transaction, " +
+                    "returns a result of every student in the order of the request, up to " + BatchRequest.MAX_BATCH_SIZE + " students")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Processed the students",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = BatchItemResultDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Empty or too large batch supplied",
+                    content = @Content)
+    })
+    public ResponseEntity<List<BatchItemResultDTO<Integer>>> addStudents(@RequestBody List<StudentDTO> studentDTOs) {
+        LOGGER.info("processing request of creating batch of students");
+
+        if (!BatchRequest.isValidSize(studentDTOs)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        List<Student> newStudents = studentDTOs.stream()
+                .map(studentDTO -> studentDTO == null ? null : studentMapper.toEntity(studentDTO))
+                .collect(Collectors.toList());
+
+        List<BatchItemResult<Student>> results = studentService.addBatch(newStudents);
+
+        return new ResponseEntity<>(BatchRequest.toDtos(results, Student::getId), HttpStatus.OK);
+    }
+
     @PutMapping("update/{id}")
     @Operation(summary = "get student by id", description = "overwrites a single student of supplied id")
     @ApiResponses(value = {
@@ -171,24 +265,83 @@ public class StudentRestController {
 
     @GetMapping(value = "", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "get all of the students",
-            description = "returns the full list of active lessons records in system")
+            description = "returns a page of the list of active lessons records in system ordered by student id, " +
+                    "the assigned courses are summarized by their number, " +
+                    "the cursor of the next page is returned in the " + PageCursor.HEADER_NEXT_CURSOR + " header")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200",
                     description = "Found the students",
                     content = @Content(mediaType = "application/json",
-                            array = @ArraySchema(schema = @Schema(implementation = StudentDTO.class))))
+                            array = @ArraySchema(schema = @Schema(implementation = StudentDTO.class)))
+            ),
+            @ApiResponse(responseCode = "400",
+                    description = "Invalid cursor or page size supplied",
+                    content = @Content),
+            @ApiResponse(responseCode = "404",
+                    description = "No students found",
+                    content = @Content)
     })
-    public ResponseEntity<List<StudentDTO>> getAllStudents() {
+    public ResponseEntity<List<StudentDTO>> getAllStudents(@RequestParam(value = "cursor", required = false)
+                                                           @Parameter(description = "Cursor of the page returned by the previous request") String cursor,
+                                                           @RequestParam(value = "size", defaultValue = PageCursor.DEFAULT_PAGE_SIZE)
+                                                           @Parameter(description = "Maximum number of records in the page") Integer size) {
         LOGGER.info("processing request of listing courses");
 
-        List<StudentDTO> studentDTOs = this.studentService.getAll().stream()
-                .map(studentMapper::toDto)
-                .collect(Collectors.toList());
+        if (size < 1) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Student after = null;
+
+        if (cursor != null) {
+            try {
+                after = new Student().setId(PageCursor.decodeIntegerId(cursor));
+            } catch (IllegalArgumentException exception) {
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+        }
 
-        if (studentDTOs.isEmpty()) {
+        int pageSize = PageCursor.limit(size);
+        List<StudentListItem> students = studentService.getListPage(after, pageSize);
+
+        if (students.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
 
-        return new ResponseEntity<>(studentDTOs, HttpStatus.OK);
+        List<StudentDTO> studentDTOs = students.stream()
+                .map(studentMapper::toListDto)
+                .collect(Collectors.toList());
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+
+        if (students.size() == pageSize) {
+            StudentListItem lastStudent = students.get(students.size() - 1);
+            httpHeaders.set(PageCursor.HEADER_NEXT_CURSOR, PageCursor.encode(lastStudent.getId()));
+        }
+
+        return new ResponseEntity<>(studentDTOs, httpHeaders, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "export all of the students",
+            description = "streams all of the students records in system ordered by student id as a single json array, " +
+                    "the assigned courses are summarized by their number")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Exported the students",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = StudentDTO.class)))
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> exportStudents() {
+        LOGGER.info("processing request of exporting students");
+
+        StreamingResponseBody responseBody = jsonStreamExporter.toJsonArray(writer ->
+                studentService.forEachListItem(studentListItem -> writer.accept(studentMapper.toListDto(studentListItem))));
+
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+
+        return new ResponseEntity<>(responseBody, httpHeaders, HttpStatus.OK);
     }
 }
@@ -0,0 +1,51 @@
+package ru.petrowich.university.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    public static final String COOKIE_NAME = "university-primary";
+
+    private final int windowSeconds;
+
+    public ReadYourWritesFilter(int windowSeconds) {
+        if (windowSeconds < 0) {
+            throw new IllegalArgumentException("negative read your writes window " + windowSeconds);
+        }
+
+        this.windowSeconds = windowSeconds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean pinned = WebUtils.getCookie(request, COOKIE_NAME) != null;
+
+        ReadYourWritesGuard.open(pinned, () -> pinFollowingRequests(request, response));
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesGuard.close();
+        }
+    }
+
+    private void pinFollowingRequests(HttpServletRequest request, HttpServletResponse response) {
+        if (windowSeconds == 0 || response.isCommitted()) {
+            return;
+        }
+
+        Cookie cookie = new Cookie(COOKIE_NAME, "1");
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        cookie.setMaxAge(windowSeconds);
+        cookie.setHttpOnly(true);
+        response.addCookie(cookie);
+    }
+}
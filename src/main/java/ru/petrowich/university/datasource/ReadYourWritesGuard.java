@@ -0,0 +1,46 @@
+package ru.petrowich.university.datasource;
+
+public final class ReadYourWritesGuard {
+    private static final ThreadLocal<Scope> SCOPE = new ThreadLocal<>();
+
+    private ReadYourWritesGuard() {
+    }
+
+    public static void open(boolean pinned, Runnable onFirstWrite) {
+        if (onFirstWrite == null) {
+            throw new IllegalArgumentException("null is passed instead callback");
+        }
+
+        SCOPE.set(new Scope(pinned, onFirstWrite));
+    }
+
+    public static void close() {
+        SCOPE.remove();
+    }
+
+    public static boolean isPinned() {
+        Scope scope = SCOPE.get();
+        return scope != null && scope.pinned;
+    }
+
+    public static void markWritten() {
+        Scope scope = SCOPE.get();
+
+        if (scope != null && !scope.written) {
+            scope.written = true;
+            scope.pinned = true;
+            scope.onFirstWrite.run();
+        }
+    }
+
+    private static final class Scope {
+        private final Runnable onFirstWrite;
+        private boolean pinned;
+        private boolean written;
+
+        private Scope(boolean pinned, Runnable onFirstWrite) {
+            this.pinned = pinned;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
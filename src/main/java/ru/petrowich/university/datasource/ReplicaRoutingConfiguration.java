@@ -0,0 +1,45 @@
+package ru.petrowich.university.datasource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.JndiDataSourceLookup;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Configuration
+@ConditionalOnProperty(name = "university.datasource.replica.jndi-names")
+public class ReplicaRoutingConfiguration {
+    private static final String CONNECTION_HANDLING_MODE = "hibernate.connection.handling_mode";
+    private static final String RELEASE_AFTER_TRANSACTION = "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION";
+
+    @Bean(name = "dataSource")
+    public DataSource dataSource(DataSourceProperties dataSourceProperties,
+                                 @Value("${university.datasource.replica.jndi-names}") String[] replicaJndiNames) {
+        JndiDataSourceLookup jndiDataSourceLookup = new JndiDataSourceLookup();
+        DataSource primary = jndiDataSourceLookup.getDataSource(dataSourceProperties.getJndiName());
+        List<DataSource> replicas = Arrays.stream(replicaJndiNames)
+                .map(String::trim)
+                .map(jndiDataSourceLookup::getDataSource)
+                .collect(Collectors.toList());
+
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicas));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(CONNECTION_HANDLING_MODE, RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(@Value("${university.datasource.replica.read-your-writes-seconds:5}") int windowSeconds) {
+        return new ReadYourWritesFilter(windowSeconds);
+    }
+}
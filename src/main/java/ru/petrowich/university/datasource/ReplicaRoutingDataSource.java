@@ -0,0 +1,54 @@
+package ru.petrowich.university.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica-";
+
+    private final int numberOfReplicas;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        if (primary == null || replicas == null || replicas.isEmpty() || replicas.contains(null)) {
+            throw new IllegalArgumentException("null is passed instead primary and replica data sources");
+        }
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+
+        for (int i = 0; i < replicas.size(); i++) {
+            targetDataSources.put(REPLICA + i, replicas.get(i));
+        }
+
+        this.numberOfReplicas = replicas.size();
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWritesGuard.markWritten();
+            }
+
+            return PRIMARY;
+        }
+
+        if (ReadYourWritesGuard.isPinned()) {
+            return PRIMARY;
+        }
+
+        return REPLICA + Math.floorMod(counter.getAndIncrement(), numberOfReplicas);
+    }
+}
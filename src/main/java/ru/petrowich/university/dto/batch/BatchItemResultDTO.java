@@ -0,0 +1,63 @@
+package ru.petrowich.university.dto.batch;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.petrowich.university.dto.AbstractDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "A result of processing a single item of a batch request")
+public class BatchItemResultDTO<I extends Number> extends AbstractDTO {
+
+    @Schema(description = "Zero-based position of the item in the request", example = "0",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private int index;
+
+    @Schema(description = "A status of the item processing, false when the item is rejected",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private boolean accepted;
+
+    @Schema(description = "Internal numeric identifier of the accepted item", example = "1001",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private I id = null;
+
+    @Schema(description = "A list of reasons the item is rejected for",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private List<String> errors = new ArrayList<>();
+
+    public int getIndex() {
+        return index;
+    }
+
+    public BatchItemResultDTO<I> setIndex(int index) {
+        this.index = index;
+        return this;
+    }
+
+    public boolean isAccepted() {
+        return accepted;
+    }
+
+    public BatchItemResultDTO<I> setAccepted(boolean accepted) {
+        this.accepted = accepted;
+        return this;
+    }
+
+    public I getId() {
+        return id;
+    }
+
+    public BatchItemResultDTO<I> setId(I id) {
+        this.id = id;
+        return this;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public BatchItemResultDTO<I> setErrors(List<String> errors) {
+        this.errors = errors;
+        return this;
+    }
+}
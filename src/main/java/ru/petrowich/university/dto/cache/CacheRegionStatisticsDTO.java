@@ -0,0 +1,58 @@
+package ru.petrowich.university.dto.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.petrowich.university.dto.AbstractDTO;
+
+@Schema(description = "Statistics of a second level cache region")
+public class CacheRegionStatisticsDTO extends AbstractDTO {
+    private String regionName;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private long elementCountInMemory;
+
+    public String getRegionName() {
+        return regionName;
+    }
+
+    public CacheRegionStatisticsDTO setRegionName(String regionName) {
+        this.regionName = regionName;
+        return this;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public CacheRegionStatisticsDTO setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+        return this;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public CacheRegionStatisticsDTO setMissCount(long missCount) {
+        this.missCount = missCount;
+        return this;
+    }
+
+    public long getPutCount() {
+        return putCount;
+    }
+
+    public CacheRegionStatisticsDTO setPutCount(long putCount) {
+        this.putCount = putCount;
+        return this;
+    }
+
+    public long getElementCountInMemory() {
+        return elementCountInMemory;
+    }
+
+    public CacheRegionStatisticsDTO setElementCountInMemory(long elementCountInMemory) {
+        this.elementCountInMemory = elementCountInMemory;
+        return this;
+    }
+}
@@ -0,0 +1,111 @@
+package ru.petrowich.university.dto.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.petrowich.university.dto.AbstractDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Statistics of the second level and query caches")
+public class CacheStatisticsDTO extends AbstractDTO {
+    private boolean statisticsEnabled;
+    private long secondLevelCacheHitCount;
+    private long secondLevelCacheMissCount;
+    private long secondLevelCachePutCount;
+    private long queryCacheHitCount;
+    private long queryCacheMissCount;
+    private long queryCachePutCount;
+    private long queryExecutionCount;
+    private long prepareStatementCount;
+    private List<CacheRegionStatisticsDTO> regions = new ArrayList<>();
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public CacheStatisticsDTO setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        return this;
+    }
+
+    public long getSecondLevelCacheHitCount() {
+        return secondLevelCacheHitCount;
+    }
+
+    public CacheStatisticsDTO setSecondLevelCacheHitCount(long secondLevelCacheHitCount) {
+        this.secondLevelCacheHitCount = secondLevelCacheHitCount;
+        return this;
+    }
+
+    public long getSecondLevelCacheMissCount() {
+        return secondLevelCacheMissCount;
+    }
+
+    public CacheStatisticsDTO setSecondLevelCacheMissCount(long secondLevelCacheMissCount) {
+        this.secondLevelCacheMissCount = secondLevelCacheMissCount;
+        return this;
+    }
+
+    public long getSecondLevelCachePutCount() {
+        return secondLevelCachePutCount;
+    }
+
+    public CacheStatisticsDTO setSecondLevelCachePutCount(long secondLevelCachePutCount) {
+        this.secondLevelCachePutCount = secondLevelCachePutCount;
+        return this;
+    }
+
+    public long getQueryCacheHitCount() {
+        return queryCacheHitCount;
+    }
+
+    public CacheStatisticsDTO setQueryCacheHitCount(long queryCacheHitCount) {
+        this.queryCacheHitCount = queryCacheHitCount;
+        return this;
+    }
+
+    public long getQueryCacheMissCount() {
+        return queryCacheMissCount;
+    }
+
+    public CacheStatisticsDTO setQueryCacheMissCount(long queryCacheMissCount) {
+        this.queryCacheMissCount = queryCacheMissCount;
+        return this;
+    }
+
+    public long getQueryCachePutCount() {
+        return queryCachePutCount;
+    }
+
+    public CacheStatisticsDTO setQueryCachePutCount(long queryCachePutCount) {
+        this.queryCachePutCount = queryCachePutCount;
+        return this;
+    }
+
+    public long getQueryExecutionCount() {
+        return queryExecutionCount;
+    }
+
+    public CacheStatisticsDTO setQueryExecutionCount(long queryExecutionCount) {
+        this.queryExecutionCount = queryExecutionCount;
+        return this;
+    }
+
+    public long getPrepareStatementCount() {
+        return prepareStatementCount;
+    }
+
+    public CacheStatisticsDTO setPrepareStatementCount(long prepareStatementCount) {
+        this.prepareStatementCount = prepareStatementCount;
+        return this;
+    }
+
+    public List<CacheRegionStatisticsDTO> getRegions() {
+        return regions;
+    }
+
+    public CacheStatisticsDTO setRegions(List<CacheRegionStatisticsDTO> regions) {
+        this.regions = regions;
+        return this;
+    }
+}
@@ -23,6 +23,10 @@ public class CourseDTO extends AbstractEntityDTO<Integer> {
             accessMode = Schema.AccessMode.READ_ONLY)
     private String authorFullName = null;
 
+    @Schema(description = "A number of lessons of the course per week, the generator default is used when it is empty",
+            example = "2")
+    private Integer lessonsPerWeek = null;
+
     @Schema(description = "A number of groups assigned to the course", example = "1",
             accessMode = Schema.AccessMode.READ_ONLY)
     private Integer numberOfAssignedGroups = null;
@@ -69,6 +73,15 @@ public class CourseDTO extends AbstractEntityDTO<Integer> {
         return this;
     }
 
+    public Integer getLessonsPerWeek() {
+        return lessonsPerWeek;
+    }
+
+    public CourseDTO setLessonsPerWeek(Integer lessonsPerWeek) {
+        this.lessonsPerWeek = lessonsPerWeek;
+        return this;
+    }
+
     public boolean isActive() {
         return active;
     }
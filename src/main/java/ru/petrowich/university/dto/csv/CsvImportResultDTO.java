@@ -0,0 +1,50 @@
+package ru.petrowich.university.dto.csv;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.petrowich.university.dto.AbstractDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "A result of importing a csv file")
+public class CsvImportResultDTO extends AbstractDTO {
+
+    @Schema(description = "A number of the imported records", example = "1000",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private long numberOfImported;
+
+    @Schema(description = "A number of the rejected records", example = "2",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private long numberOfRejected;
+
+    @Schema(description = "Reasons the first rejected records are rejected for, prefixed with their line numbers",
+            accessMode = Schema.AccessMode.READ_ONLY)
+    private List<String> errors = new ArrayList<>();
+
+    public long getNumberOfImported() {
+        return numberOfImported;
+    }
+
+    public CsvImportResultDTO setNumberOfImported(long numberOfImported) {
+        this.numberOfImported = numberOfImported;
+        return this;
+    }
+
+    public long getNumberOfRejected() {
+        return numberOfRejected;
+    }
+
+    public CsvImportResultDTO setNumberOfRejected(long numberOfRejected) {
+        this.numberOfRejected = numberOfRejected;
+        return this;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public CsvImportResultDTO setErrors(List<String> errors) {
+        this.errors = errors;
+        return this;
+    }
+}
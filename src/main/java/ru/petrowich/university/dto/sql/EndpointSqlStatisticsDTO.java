@@ -0,0 +1,68 @@
+package ru.petrowich.university.dto.sql;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.petrowich.university.dto.AbstractDTO;
+
+@Schema(description = "Sql statements issued by the requests of an endpoint")
+public class EndpointSqlStatisticsDTO extends AbstractDTO {
+    private String endpoint;
+    private long requestCount;
+    private long statementCount;
+    private long maxStatementCount;
+    private long rowCount;
+    private long elapsedMillis;
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public EndpointSqlStatisticsDTO setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+        return this;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public EndpointSqlStatisticsDTO setRequestCount(long requestCount) {
+        this.requestCount = requestCount;
+        return this;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public EndpointSqlStatisticsDTO setStatementCount(long statementCount) {
+        this.statementCount = statementCount;
+        return this;
+    }
+
+    public long getMaxStatementCount() {
+        return maxStatementCount;
+    }
+
+    public EndpointSqlStatisticsDTO setMaxStatementCount(long maxStatementCount) {
+        this.maxStatementCount = maxStatementCount;
+        return this;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public EndpointSqlStatisticsDTO setRowCount(long rowCount) {
+        this.rowCount = rowCount;
+        return this;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public EndpointSqlStatisticsDTO setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+        return this;
+    }
+}
@@ -0,0 +1,108 @@
+package ru.petrowich.university.dto.sql;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.petrowich.university.dto.AbstractDTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "A slow sql statement")
+public class SlowQueryDTO extends AbstractDTO {
+    @Schema(description = "Time the statement finished, format yyyy-MM-dd HH:mm:ss.SSS", example = "2021-03-01 10:15:30.250")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss.SSS")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "Sql text of the statement")
+    private String sql;
+
+    @Schema(description = "Values bound to the parameters, one list per execution of a batch")
+    private List<List<String>> bindValues;
+
+    @Schema(description = "Number of batched executions, 0 when the statement is not batched", example = "0")
+    private int batchSize;
+
+    @Schema(description = "Number of rows read or updated", example = "1200")
+    private long rowCount;
+
+    @Schema(description = "Time spent executing the statement in milliseconds", example = "350")
+    private long elapsedMillis;
+
+    @Schema(description = "Service method issuing the statement", example = "LessonServiceImpl.getAllWithNumberOfAttendees")
+    private String serviceMethod;
+
+    @Schema(description = "Controller handler of the request issuing the statement", example = "LessonController.lessons")
+    private String handler;
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public SlowQueryDTO setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public SlowQueryDTO setSql(String sql) {
+        this.sql = sql;
+        return this;
+    }
+
+    public List<List<String>> getBindValues() {
+        return bindValues;
+    }
+
+    public SlowQueryDTO setBindValues(List<List<String>> bindValues) {
+        this.bindValues = bindValues;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public SlowQueryDTO setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public SlowQueryDTO setRowCount(long rowCount) {
+        this.rowCount = rowCount;
+        return this;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public SlowQueryDTO setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+        return this;
+    }
+
+    public String getServiceMethod() {
+        return serviceMethod;
+    }
+
+    public SlowQueryDTO setServiceMethod(String serviceMethod) {
+        this.serviceMethod = serviceMethod;
+        return this;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public SlowQueryDTO setHandler(String handler) {
+        this.handler = handler;
+        return this;
+    }
+}
@@ -0,0 +1,131 @@
+package ru.petrowich.university.dto.sql;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import ru.petrowich.university.dto.AbstractDTO;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "A slow http request")
+public class SlowRequestDTO extends AbstractDTO {
+    @Schema(description = "Time the request finished, format yyyy-MM-dd HH:mm:ss.SSS", example = "2021-03-01 10:15:30.250")
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss.SSS")
+    private LocalDateTime timestamp;
+
+    @Schema(description = "Method and pattern of the endpoint", example = "GET /students/group")
+    private String endpoint;
+
+    @Schema(description = "Requested uri with the query string", example = "/students/group?id=101")
+    private String uri;
+
+    @Schema(description = "Controller handler of the request", example = "GroupController.group")
+    private String handler;
+
+    @Schema(description = "Http status of the response", example = "200")
+    private int status;
+
+    @Schema(description = "Time spent handling the request in milliseconds", example = "1500")
+    private long elapsedMillis;
+
+    @Schema(description = "Number of sql statements issued", example = "12")
+    private long statementCount;
+
+    @Schema(description = "Number of slow sql statements issued", example = "1")
+    private long slowQueryCount;
+
+    @Schema(description = "Number of rows read", example = "3000")
+    private long rowCount;
+
+    @Schema(description = "Time spent executing sql statements in milliseconds", example = "900")
+    private long sqlElapsedMillis;
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public SlowRequestDTO setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public SlowRequestDTO setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+        return this;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public SlowRequestDTO setUri(String uri) {
+        this.uri = uri;
+        return this;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public SlowRequestDTO setHandler(String handler) {
+        this.handler = handler;
+        return this;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public SlowRequestDTO setStatus(int status) {
+        this.status = status;
+        return this;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public SlowRequestDTO setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+        return this;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public SlowRequestDTO setStatementCount(long statementCount) {
+        this.statementCount = statementCount;
+        return this;
+    }
+
+    public long getSlowQueryCount() {
+        return slowQueryCount;
+    }
+
+    public SlowRequestDTO setSlowQueryCount(long slowQueryCount) {
+        this.slowQueryCount = slowQueryCount;
+        return this;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public SlowRequestDTO setRowCount(long rowCount) {
+        this.rowCount = rowCount;
+        return this;
+    }
+
+    public long getSqlElapsedMillis() {
+        return sqlElapsedMillis;
+    }
+
+    public SlowRequestDTO setSqlElapsedMillis(long sqlElapsedMillis) {
+        this.sqlElapsedMillis = sqlElapsedMillis;
+        return this;
+    }
+}
@@ -3,6 +3,7 @@ package ru.petrowich.university.mapper;
 import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import ru.petrowich.university.dto.AbstractDTO;
 import ru.petrowich.university.model.AbstractEntity;
 
@@ -12,6 +13,7 @@ public abstract class AbstractMapper<E extends AbstractEntity, D extends Abstrac
     private final ModelMapper modelMapper;
     private final Class<E> entityClass;
     private final Class<D> dtoClass;
+    private boolean directMapping;
 
     @Autowired
     protected AbstractMapper(ModelMapper modelMapper, Class<E> entityClass, Class<D> dtoClass) {
@@ -20,12 +22,25 @@ public abstract class AbstractMapper<E extends AbstractEntity, D extends Abstrac
         this.dtoClass = dtoClass;
     }
 
+    @Value("${university.mapper.direct:false}")
+    public void setDirectMapping(boolean directMapping) {
+        this.directMapping = directMapping;
+    }
+
+    public boolean isDirectMapping() {
+        return directMapping;
+    }
+
     @Override
     public E toEntity(D dto) {
         if (Objects.isNull(dto)) {
             return null;
         }
 
+        if (directMapping) {
+            return mapToEntity(dto);
+        }
+
         return modelMapper.map(dto, entityClass);
     }
 
@@ -35,9 +50,17 @@ public abstract class AbstractMapper<E extends AbstractEntity, D extends Abstrac
             return null;
         }
 
+        if (directMapping) {
+            return mapToDto(entity);
+        }
+
         return modelMapper.map(entity, dtoClass);
     }
 
+    protected abstract E mapToEntity(D dto);
+
+    protected abstract D mapToDto(E entity);
+
     public Converter<E, D> toDtoConverter() {
         return context -> {
             E source = context.getSource();
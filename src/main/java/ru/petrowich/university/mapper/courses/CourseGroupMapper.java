@@ -13,4 +13,18 @@ public class CourseGroupMapper extends AbstractMapper<Group, CourseGroupDTO> {
     public CourseGroupMapper(ModelMapper modelMapper) {
         super(modelMapper, Group.class, CourseGroupDTO.class);
     }
+
+    @Override
+    protected Group mapToEntity(CourseGroupDTO courseGroupDTO) {
+        return new Group()
+                .setId(courseGroupDTO.getId())
+                .setName(courseGroupDTO.getName());
+    }
+
+    @Override
+    protected CourseGroupDTO mapToDto(Group group) {
+        return new CourseGroupDTO()
+                .setId(group.getId())
+                .setName(group.getName());
+    }
 }
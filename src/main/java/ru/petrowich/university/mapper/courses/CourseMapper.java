@@ -4,10 +4,15 @@ import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import ru.petrowich.university.dto.courses.CourseDTO;
+import ru.petrowich.university.dto.courses.CourseGroupDTO;
 import ru.petrowich.university.mapper.AbstractMapper;
 import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.AbstractPerson;
+import ru.petrowich.university.repository.projection.CourseListItem;
 
 import javax.annotation.PostConstruct;
+import java.util.stream.Collectors;
 
 @Component
 public class CourseMapper extends AbstractMapper<Course, CourseDTO> {
@@ -29,4 +34,55 @@ public class CourseMapper extends AbstractMapper<Course, CourseDTO> {
     public void mapSpecificFields(Course course, CourseDTO courseDTO) {
         courseDTO.setNumberOfAssignedGroups(course.getGroups().size());
     }
+
+    @Override
+    protected Course mapToEntity(CourseDTO courseDTO) {
+        Course course = new Course()
+                .setId(courseDTO.getId())
+                .setName(courseDTO.getName())
+                .setDescription(courseDTO.getDescription())
+                .setLessonsPerWeek(courseDTO.getLessonsPerWeek())
+                .setActive(courseDTO.isActive());
+
+        course.getAuthor().setId(courseDTO.getAuthorId());
+
+        if (courseDTO.getGroups() != null) {
+            course.setGroups(courseDTO.getGroups().stream()
+                    .map(courseGroupDTO -> new Group().setId(courseGroupDTO.getId()).setName(courseGroupDTO.getName()))
+                    .collect(Collectors.toList()));
+        }
+
+        return course;
+    }
+
+    @Override
+    protected CourseDTO mapToDto(Course course) {
+        CourseDTO courseDTO = new CourseDTO()
+                .setName(course.getName())
+                .setDescription(course.getDescription())
+                .setAuthorId(course.getAuthor().getId())
+                .setAuthorFullName(course.getAuthor().getFullName())
+                .setLessonsPerWeek(course.getLessonsPerWeek())
+                .setActive(course.isActive())
+                .setGroups(course.getGroups().stream()
+                        .map(group -> new CourseGroupDTO().setId(group.getId()).setName(group.getName()))
+                        .collect(Collectors.toList()));
+        courseDTO.setId(course.getId());
+        mapSpecificFields(course, courseDTO);
+
+        return courseDTO;
+    }
+
+    public CourseDTO toListDto(CourseListItem courseListItem) {
+        CourseDTO courseDTO = new CourseDTO()
+                .setName(courseListItem.getName())
+                .setDescription(courseListItem.getDescription())
+                .setAuthorId(courseListItem.getAuthorId())
+                .setAuthorFullName(AbstractPerson.formatFullName(courseListItem.getAuthorFirstName(), courseListItem.getAuthorLastName()))
+                .setActive(courseListItem.isActive())
+                .setNumberOfAssignedGroups(courseListItem.getNumberOfAssignedGroups());
+        courseDTO.setId(courseListItem.getId());
+
+        return courseDTO;
+    }
 }
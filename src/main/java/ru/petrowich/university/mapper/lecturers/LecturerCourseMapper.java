@@ -13,4 +13,18 @@ public class LecturerCourseMapper extends AbstractMapper<Course, LecturerCourseD
     public LecturerCourseMapper(ModelMapper modelMapper) {
         super(modelMapper, Course.class, LecturerCourseDTO.class);
     }
+
+    @Override
+    protected Course mapToEntity(LecturerCourseDTO lecturerCourseDTO) {
+        return new Course()
+                .setId(lecturerCourseDTO.getId())
+                .setName(lecturerCourseDTO.getName());
+    }
+
+    @Override
+    protected LecturerCourseDTO mapToDto(Course course) {
+        return new LecturerCourseDTO()
+                .setId(course.getId())
+                .setName(course.getName());
+    }
 }
@@ -3,14 +3,53 @@ package ru.petrowich.university.mapper.lecturers;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import ru.petrowich.university.dto.lecturers.LecturerCourseDTO;
 import ru.petrowich.university.dto.lecturers.LecturerDTO;
 import ru.petrowich.university.mapper.AbstractMapper;
+import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Lecturer;
 
+import java.util.stream.Collectors;
+
 @Component
 public class LecturerMapper extends AbstractMapper<Lecturer, LecturerDTO> {
     @Autowired
     public LecturerMapper(ModelMapper modelMapper) {
         super(modelMapper, Lecturer.class, LecturerDTO.class);
     }
+
+    @Override
+    protected Lecturer mapToEntity(LecturerDTO lecturerDTO) {
+        Lecturer lecturer = new Lecturer()
+                .setId(lecturerDTO.getId())
+                .setFirstName(lecturerDTO.getFirstName())
+                .setLastName(lecturerDTO.getLastName())
+                .setEmail(lecturerDTO.getEmail())
+                .setComment(lecturerDTO.getComment())
+                .setActive(lecturerDTO.isActive());
+
+        if (lecturerDTO.getCourses() != null) {
+            lecturer.setCourses(lecturerDTO.getCourses().stream()
+                    .map(lecturerCourseDTO -> new Course().setId(lecturerCourseDTO.getId()).setName(lecturerCourseDTO.getName()))
+                    .collect(Collectors.toList()));
+        }
+
+        return lecturer;
+    }
+
+    @Override
+    protected LecturerDTO mapToDto(Lecturer lecturer) {
+        LecturerDTO lecturerDTO = new LecturerDTO()
+                .setFirstName(lecturer.getFirstName())
+                .setLastName(lecturer.getLastName())
+                .setEmail(lecturer.getEmail())
+                .setComment(lecturer.getComment())
+                .setActive(lecturer.isActive())
+                .setCourses(lecturer.getCourses().stream()
+                        .map(course -> new LecturerCourseDTO().setId(course.getId()).setName(course.getName()))
+                        .collect(Collectors.toList()));
+        lecturerDTO.setId(lecturer.getId());
+
+        return lecturerDTO;
+    }
 }
@@ -5,11 +5,10 @@ import org.springframework.stereotype.Component;
 import ru.petrowich.university.dto.lessons.LessonDTO;
 import ru.petrowich.university.mapper.AbstractMapper;
 import ru.petrowich.university.model.Lesson;
-import ru.petrowich.university.model.Student;
+import ru.petrowich.university.model.AbstractPerson;
+import ru.petrowich.university.repository.projection.LessonListItem;
 
 import javax.annotation.PostConstruct;
-import java.util.HashSet;
-import java.util.Set;
 
 @Component
 public class LessonMapper extends AbstractMapper<Lesson, LessonDTO> {
@@ -25,12 +24,65 @@ public class LessonMapper extends AbstractMapper<Lesson, LessonDTO> {
     public void setupMapper() {
         modelMapper.createTypeMap(Lesson.class, LessonDTO.class)
                 .addMappings(propertyMap -> propertyMap.skip(LessonDTO::setNumberOfAttendees)).setPostConverter(toDtoConverter());
+        modelMapper.createTypeMap(LessonDTO.class, Lesson.class)
+                .addMappings(propertyMap -> propertyMap.skip(Lesson::setNumberOfAttendees));
     }
 
     @Override
     public void mapSpecificFields(Lesson lesson, LessonDTO lessonDTO) {
-        Set<Student> students = new HashSet<>();
-        lesson.getCourse().getGroups().forEach(group -> students.addAll(group.getStudents()));
-        lessonDTO.setNumberOfAttendees(students.size());
+        lessonDTO.setNumberOfAttendees(lesson.getNumberOfAttendees());
+    }
+
+    @Override
+    protected Lesson mapToEntity(LessonDTO lessonDTO) {
+        Lesson lesson = new Lesson()
+                .setId(lessonDTO.getId())
+                .setDate(lessonDTO.getDate())
+                .setStartTime(lessonDTO.getStartTime())
+                .setEndTime(lessonDTO.getEndTime());
+
+        lesson.getCourse().setId(lessonDTO.getCourseId()).setName(lessonDTO.getCourseName());
+        lesson.getLecturer().setId(lessonDTO.getLecturerId());
+        lesson.getTimeSlot().setId(lessonDTO.getTimeSlotId());
+
+        return lesson;
+    }
+
+    @Override
+    protected LessonDTO mapToDto(Lesson lesson) {
+        LessonDTO lessonDTO = new LessonDTO()
+                .setLecturerId(lesson.getLecturer().getId())
+                .setLecturerFullName(lesson.getLecturer().getFullName())
+                .setDate(lesson.getDate())
+                .setStartTime(lesson.getStartTime())
+                .setEndTime(lesson.getEndTime())
+                .setNumberOfAttendees(lesson.getNumberOfAttendees());
+        lessonDTO.setId(lesson.getId());
+
+        if (lesson.getCourse() != null) {
+            lessonDTO.setCourseId(lesson.getCourse().getId()).setCourseName(lesson.getCourse().getName());
+        }
+
+        if (lesson.getTimeSlot() != null) {
+            lessonDTO.setTimeSlotId(lesson.getTimeSlot().getId());
+        }
+
+        return lessonDTO;
+    }
+
+    public LessonDTO toListDto(LessonListItem lessonListItem, Integer numberOfAttendees) {
+        LessonDTO lessonDTO = new LessonDTO()
+                .setCourseId(lessonListItem.getCourseId())
+                .setCourseName(lessonListItem.getCourseName())
+                .setLecturerId(lessonListItem.getLecturerId())
+                .setLecturerFullName(AbstractPerson.formatFullName(lessonListItem.getLecturerFirstName(), lessonListItem.getLecturerLastName()))
+                .setTimeSlotId(lessonListItem.getTimeSlotId())
+                .setDate(lessonListItem.getDate())
+                .setStartTime(lessonListItem.getStartTime())
+                .setEndTime(lessonListItem.getEndTime())
+                .setNumberOfAttendees(numberOfAttendees);
+        lessonDTO.setId(lessonListItem.getId());
+
+        return lessonDTO;
     }
 }
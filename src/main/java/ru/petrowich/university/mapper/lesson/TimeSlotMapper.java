@@ -13,4 +13,24 @@ public class TimeSlotMapper extends AbstractMapper<TimeSlot, TimeSlotDTO> {
     public TimeSlotMapper(ModelMapper modelMapper) {
         super(modelMapper, TimeSlot.class, TimeSlotDTO.class);
     }
+
+    @Override
+    protected TimeSlot mapToEntity(TimeSlotDTO timeSlotDTO) {
+        return new TimeSlot()
+                .setId(timeSlotDTO.getId())
+                .setName(timeSlotDTO.getName())
+                .setStartTime(timeSlotDTO.getStartTime())
+                .setEndTime(timeSlotDTO.getEndTime());
+    }
+
+    @Override
+    protected TimeSlotDTO mapToDto(TimeSlot timeSlot) {
+        TimeSlotDTO timeSlotDTO = new TimeSlotDTO()
+                .setName(timeSlot.getName())
+                .setStartTime(timeSlot.getStartTime())
+                .setEndTime(timeSlot.getEndTime());
+        timeSlotDTO.setId(timeSlot.getId());
+
+        return timeSlotDTO;
+    }
 }
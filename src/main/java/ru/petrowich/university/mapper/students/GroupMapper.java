@@ -3,11 +3,17 @@ package ru.petrowich.university.mapper.students;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import ru.petrowich.university.dto.students.GroupCourseDTO;
 import ru.petrowich.university.dto.students.GroupDTO;
+import ru.petrowich.university.dto.students.GroupStudentDTO;
 import ru.petrowich.university.mapper.AbstractMapper;
+import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.projection.GroupListItem;
 
 import javax.annotation.PostConstruct;
+import java.util.stream.Collectors;
 
 @Component
 public class GroupMapper extends AbstractMapper<Group, GroupDTO> {
@@ -32,4 +38,76 @@ public class GroupMapper extends AbstractMapper<Group, GroupDTO> {
         groupDTO.setNumberOfAssignedCourses(group.getCourses().size());
         groupDTO.setNumberOfStudents(group.getStudents().size());
     }
+
+    @Override
+    protected Group mapToEntity(GroupDTO groupDTO) {
+        Group group = new Group()
+                .setId(groupDTO.getId())
+                .setName(groupDTO.getName())
+                .setCapacity(groupDTO.getCapacity())
+                .setActive(groupDTO.isActive());
+
+        if (groupDTO.getCourses() != null) {
+            group.setCourses(groupDTO.getCourses().stream()
+                    .map(this::toCourse)
+                    .collect(Collectors.toList()));
+        }
+
+        if (groupDTO.getStudents() != null) {
+            group.setStudents(groupDTO.getStudents().stream()
+                    .map(groupStudentDTO -> new Student().setId(groupStudentDTO.getId()))
+                    .collect(Collectors.toList()));
+        }
+
+        return group;
+    }
+
+    @Override
+    protected GroupDTO mapToDto(Group group) {
+        GroupDTO groupDTO = new GroupDTO()
+                .setName(group.getName())
+                .setCapacity(group.getCapacity())
+                .setActive(group.isActive())
+                .setCourses(group.getCourses().stream()
+                        .map(this::toGroupCourseDTO)
+                        .collect(Collectors.toList()))
+                .setStudents(group.getStudents().stream()
+                        .map(student -> new GroupStudentDTO().setId(student.getId()).setFullName(student.getFullName()))
+                        .collect(Collectors.toList()));
+        groupDTO.setId(group.getId());
+        mapSpecificFields(group, groupDTO);
+
+        return groupDTO;
+    }
+
+    private Course toCourse(GroupCourseDTO groupCourseDTO) {
+        Course course = new Course()
+                .setId(groupCourseDTO.getId())
+                .setName(groupCourseDTO.getName());
+        course.getAuthor().setId(groupCourseDTO.getAuthorId());
+
+        return course;
+    }
+
+    private GroupCourseDTO toGroupCourseDTO(Course course) {
+        GroupCourseDTO groupCourseDTO = new GroupCourseDTO()
+                .setId(course.getId())
+                .setName(course.getName());
+        groupCourseDTO.setAuthorId(course.getAuthor().getId());
+        groupCourseDTO.setAuthorFullName(course.getAuthor().getFullName());
+
+        return groupCourseDTO;
+    }
+
+    public GroupDTO toListDto(GroupListItem groupListItem) {
+        GroupDTO groupDTO = new GroupDTO()
+                .setName(groupListItem.getName())
+                .setCapacity(groupListItem.getCapacity())
+                .setActive(groupListItem.isActive())
+                .setNumberOfAssignedCourses(groupListItem.getNumberOfAssignedCourses())
+                .setNumberOfStudents(groupListItem.getNumberOfStudents());
+        groupDTO.setId(groupListItem.getId());
+
+        return groupDTO;
+    }
 }
@@ -7,6 +7,7 @@ import ru.petrowich.university.dto.students.StudentCourseDTO;
 import ru.petrowich.university.dto.students.StudentDTO;
 import ru.petrowich.university.mapper.AbstractMapper;
 import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.projection.StudentListItem;
 
 import javax.annotation.PostConstruct;
 import java.util.List;
@@ -38,4 +39,55 @@ public class StudentMapper extends AbstractMapper<Student, StudentDTO> {
         studentDTO.setCourses(courseDTOList);
         studentDTO.setNumberOfAssignedCourses(courseDTOList.size());
     }
+
+    @Override
+    protected Student mapToEntity(StudentDTO studentDTO) {
+        Student student = new Student()
+                .setId(studentDTO.getId())
+                .setFirstName(studentDTO.getFirstName())
+                .setLastName(studentDTO.getLastName())
+                .setEmail(studentDTO.getEmail())
+                .setComment(studentDTO.getComment())
+                .setActive(studentDTO.isActive());
+
+        student.getGroup().setId(studentDTO.getGroupId()).setName(studentDTO.getGroupName());
+
+        return student;
+    }
+
+    @Override
+    protected StudentDTO mapToDto(Student student) {
+        List<StudentCourseDTO> courseDTOList = student.getGroup().getCourses().stream()
+                .map(course -> new StudentCourseDTO().setId(course.getId()).setName(course.getName()))
+                .collect(Collectors.toList());
+
+        StudentDTO studentDTO = new StudentDTO()
+                .setFirstName(student.getFirstName())
+                .setLastName(student.getLastName())
+                .setEmail(student.getEmail())
+                .setComment(student.getComment())
+                .setGroupId(student.getGroup().getId())
+                .setGroupName(student.getGroup().getName())
+                .setCourses(courseDTOList)
+                .setActive(student.isActive());
+        studentDTO.setId(student.getId());
+        studentDTO.setNumberOfAssignedCourses(courseDTOList.size());
+
+        return studentDTO;
+    }
+
+    public StudentDTO toListDto(StudentListItem studentListItem) {
+        StudentDTO studentDTO = new StudentDTO()
+                .setFirstName(studentListItem.getFirstName())
+                .setLastName(studentListItem.getLastName())
+                .setEmail(studentListItem.getEmail())
+                .setComment(studentListItem.getComment())
+                .setGroupId(studentListItem.getGroupId())
+                .setGroupName(studentListItem.getGroupName())
+                .setActive(studentListItem.isActive());
+        studentDTO.setId(studentListItem.getId());
+        studentDTO.setNumberOfAssignedCourses(studentListItem.getNumberOfAssignedCourses());
+
+        return studentDTO;
+    }
 }
@@ -1,5 +1,9 @@
 package ru.petrowich.university.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Id;
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -19,11 +23,13 @@ import java.util.StringJoiner;
 
 @Entity
 @Table(name = "t_persons")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "person_role_id", discriminatorType = DiscriminatorType.INTEGER)
 public abstract class AbstractPerson extends AbstractEntity {
     @Id
-    @SequenceGenerator(name = "seq_persons", sequenceName = "seq_persons", allocationSize = 1)
+    @SequenceGenerator(name = "seq_persons", sequenceName = "seq_persons", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_persons")
     @Column(name = "person_id", nullable = false, unique = true)
     private Integer id;
@@ -103,6 +109,10 @@ public abstract class AbstractPerson extends AbstractEntity {
     }
 
     public String getFullName() {
+        return formatFullName(firstName, lastName);
+    }
+
+    public static String formatFullName(String firstName, String lastName) {
         StringJoiner fullName = new StringJoiner(" ");
 
         if (firstName != null) {
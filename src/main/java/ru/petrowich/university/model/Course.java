@@ -1,5 +1,9 @@
 package ru.petrowich.university.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Id;
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -11,6 +15,7 @@ import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.JoinTable;
 import javax.persistence.GenerationType;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Size;
 import java.util.ArrayList;
@@ -19,9 +24,11 @@ import java.util.Objects;
 
 @Entity(name = "Course")
 @Table(name = "t_courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Course extends AbstractEntity {
     @Id
-    @SequenceGenerator(name = "seq_courses", sequenceName = "seq_courses", allocationSize = 1)
+    @SequenceGenerator(name = "seq_courses", sequenceName = "seq_courses", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_courses")
     @Column(name = "course_id")
     private Integer id;
@@ -40,12 +47,17 @@ public class Course extends AbstractEntity {
     private Lecturer author = new Lecturer();
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(name = "t_groups_courses",
             joinColumns = @JoinColumn(name = "course_id"),
             inverseJoinColumns = @JoinColumn(name = "group_id")
     )
     private List<Group> groups = new ArrayList<>();
 
+    @Min(value = 1, message = "number of lessons per week is less than 1")
+    @Column(name = "course_lessons_per_week")
+    private Integer lessonsPerWeek;
+
     @Column(name = "course_active")
     private boolean active;
 
@@ -88,6 +100,15 @@ public class Course extends AbstractEntity {
         return this;
     }
 
+    public Integer getLessonsPerWeek() {
+        return lessonsPerWeek;
+    }
+
+    public Course setLessonsPerWeek(Integer lessonsPerWeek) {
+        this.lessonsPerWeek = lessonsPerWeek;
+        return this;
+    }
+
     public boolean isActive() {
         return active;
     }
@@ -1,5 +1,9 @@
 package ru.petrowich.university.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Id;
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -21,9 +25,11 @@ import java.util.Objects;
 
 @Entity(name = "Group")
 @Table(name = "t_groups")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Group extends AbstractEntity {
     @Id
-    @SequenceGenerator(name = "seq_groups", sequenceName = "seq_groups", allocationSize = 1)
+    @SequenceGenerator(name = "seq_groups", sequenceName = "seq_groups", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_groups")
     @Column(name = "group_id")
     private Integer id;
@@ -39,9 +45,11 @@ public class Group extends AbstractEntity {
     private Integer capacity;
 
     @OneToMany(mappedBy = "group")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     private List<Student> students = new ArrayList<>();
 
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(name = "t_groups_courses",
             joinColumns = @JoinColumn(name = "group_id"),
             inverseJoinColumns = @JoinColumn(name = "course_id")
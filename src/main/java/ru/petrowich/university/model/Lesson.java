@@ -8,6 +8,9 @@ import javax.persistence.GenerationType;
 import javax.persistence.Column;
 import javax.persistence.ManyToOne;
 import javax.persistence.JoinColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.SequenceGenerator;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Transient;
@@ -21,9 +24,17 @@ import java.util.Objects;
 
 @Entity(name = "Lesson")
 @Table(name = "t_lessons")
+@NamedEntityGraph(name = "Lesson.schedule",
+        attributeNodes = {
+                @NamedAttributeNode(value = "course", subgraph = "course.author"),
+                @NamedAttributeNode("lecturer"),
+                @NamedAttributeNode("timeSlot")
+        },
+        subgraphs = @NamedSubgraph(name = "course.author", attributeNodes = @NamedAttributeNode("author"))
+)
 public class Lesson extends AbstractEntity implements Comparable<Lesson> {
     @Id
-    @SequenceGenerator(name = "seq_lessons", sequenceName = "seq_lessons", allocationSize = 1)
+    @SequenceGenerator(name = "seq_lessons", sequenceName = "seq_lessons", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_lessons")
     @Column(name = "lesson_id")
     private Long id;
@@ -59,6 +70,9 @@ public class Lesson extends AbstractEntity implements Comparable<Lesson> {
     @Transient
     private List<Student> students = new ArrayList<>();
 
+    @Transient
+    private Integer numberOfAttendees;
+
     public Long getId() {
         return id;
     }
@@ -74,7 +88,6 @@ public class Lesson extends AbstractEntity implements Comparable<Lesson> {
 
     public Lesson setCourse(Course course) {
         this.course = course;
-        course.getGroups().forEach(group -> students.addAll(group.getStudents()));
         return this;
     }
 
@@ -133,6 +146,25 @@ public class Lesson extends AbstractEntity implements Comparable<Lesson> {
         return students;
     }
 
+    public Integer getNumberOfAttendees() {
+        if (numberOfAttendees == null && course == null) {
+            return 0;
+        }
+
+        if (numberOfAttendees == null) {
+            return course.getGroups().stream()
+                    .mapToInt(group -> group.getStudents().size())
+                    .sum();
+        }
+
+        return numberOfAttendees;
+    }
+
+    public Lesson setNumberOfAttendees(Integer numberOfAttendees) {
+        this.numberOfAttendees = numberOfAttendees;
+        return this;
+    }
+
     @Override
     public boolean equals(Object object) {
         if (this == object) {
@@ -1,5 +1,9 @@
 package ru.petrowich.university.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import javax.persistence.Cacheable;
 import javax.persistence.Id;
 import javax.persistence.Entity;
 import javax.persistence.Table;
@@ -15,9 +19,11 @@ import java.util.Objects;
 
 @Entity(name = "TimeSlot")
 @Table(name = "t_timeslots")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class TimeSlot extends AbstractEntity {
     @Id
-    @SequenceGenerator(name="seq_timeslots", sequenceName="seq_timeslots", allocationSize = 1)
+    @SequenceGenerator(name="seq_timeslots", sequenceName="seq_timeslots", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seq_timeslots")
     @Column(name = "timeslot_id")
     private Integer id;
@@ -0,0 +1,61 @@
+package ru.petrowich.university.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+public class EndpointSqlStatistics {
+    private final String endpoint;
+    private long requestCount;
+    private long statementCount;
+    private long maxStatementCount;
+    private long rowCount;
+    private long elapsedNanos;
+
+    EndpointSqlStatistics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    private EndpointSqlStatistics(EndpointSqlStatistics endpointSqlStatistics) {
+        this.endpoint = endpointSqlStatistics.endpoint;
+        this.requestCount = endpointSqlStatistics.requestCount;
+        this.statementCount = endpointSqlStatistics.statementCount;
+        this.maxStatementCount = endpointSqlStatistics.maxStatementCount;
+        this.rowCount = endpointSqlStatistics.rowCount;
+        this.elapsedNanos = endpointSqlStatistics.elapsedNanos;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getMaxStatementCount() {
+        return maxStatementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    synchronized void add(SqlStatistics sqlStatistics) {
+        requestCount++;
+        statementCount += sqlStatistics.getStatementCount();
+        maxStatementCount = Math.max(maxStatementCount, sqlStatistics.getStatementCount());
+        rowCount += sqlStatistics.getRowCount();
+        elapsedNanos += sqlStatistics.getElapsedNanos();
+    }
+
+    synchronized EndpointSqlStatistics copy() {
+        return new EndpointSqlStatistics(this);
+    }
+}
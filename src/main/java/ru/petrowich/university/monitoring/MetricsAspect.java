@@ -0,0 +1,109 @@
+package ru.petrowich.university.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import ru.petrowich.university.mapper.Mapper;
+import ru.petrowich.university.service.GenericService;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+public class MetricsAspect {
+    public static final String SERVICE_METRIC = "university.service";
+    public static final String REPOSITORY_METRIC = "university.repository";
+    public static final String MAPPER_METRIC = "university.mapper";
+
+    private static final String TAG_CLASS = "class";
+    private static final String TAG_ENTITY = "entity";
+    private static final String TAG_METHOD = "method";
+    private static final String TAG_EXCEPTION = "exception";
+    private static final String NONE = "none";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Tags> classTags = new ConcurrentHashMap<>();
+
+    @Autowired
+    public MetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* ru.petrowich.university.service.GenericService+.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        String serviceMethod = ClassUtils.getUserClass(joinPoint.getTarget().getClass()).getSimpleName() + "." + joinPoint.getSignature().getName();
+        String previousMethod = ServiceInvocation.enter(serviceMethod);
+
+        try {
+            return time(SERVICE_METRIC, GenericService.class, joinPoint);
+        } finally {
+            ServiceInvocation.exit(previousMethod);
+        }
+    }
+
+    @Around("target(org.springframework.data.repository.Repository) && !execution(* java.lang.Object.*(..))")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_METRIC, Repository.class, joinPoint);
+    }
+
+    @Around("execution(* ru.petrowich.university.mapper.Mapper+.toDto(..)) || execution(* ru.petrowich.university.mapper.Mapper+.toEntity(..))")
+    public Object timeMapper(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(MAPPER_METRIC, Mapper.class, joinPoint);
+    }
+
+    private Object time(String metric, Class<?> genericType, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            Tags tags = classTags.computeIfAbsent(joinPoint.getTarget().getClass(), type -> toClassTags(type, genericType));
+
+            sample.stop(Timer.builder(metric)
+                    .tags(tags)
+                    .tag(TAG_METHOD, joinPoint.getSignature().getName())
+                    .tag(TAG_EXCEPTION, exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private Tags toClassTags(Class<?> type, Class<?> genericType) {
+        Class<?> userType = ClassUtils.getUserClass(type);
+        List<Class<?>> candidates = new ArrayList<>();
+
+        if (!Proxy.isProxyClass(userType)) {
+            candidates.add(userType);
+        }
+
+        candidates.addAll(Arrays.asList(userType.getInterfaces()));
+
+        for (Class<?> candidate : candidates) {
+            Class<?> entityClass = ResolvableType.forClass(candidate).as(genericType).resolveGeneric(0);
+
+            if (entityClass != null) {
+                return Tags.of(TAG_CLASS, candidate.getSimpleName(), TAG_ENTITY, entityClass.getSimpleName());
+            }
+        }
+
+        return Tags.of(TAG_CLASS, userType.getSimpleName(), TAG_ENTITY, UNKNOWN);
+    }
+}
@@ -0,0 +1,44 @@
+package ru.petrowich.university.monitoring;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RingBuffer<T> {
+    private final Object[] elements;
+    private int next;
+    private int size;
+
+    public RingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity should be positive but " + capacity + " is passed");
+        }
+
+        this.elements = new Object[capacity];
+    }
+
+    public synchronized void add(T element) {
+        elements[next] = element;
+        next = (next + 1) % elements.length;
+        size = Math.min(size + 1, elements.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized List<T> getLatestFirst() {
+        List<T> latestFirst = new ArrayList<>(size);
+
+        for (int i = 1; i <= size; i++) {
+            latestFirst.add((T) elements[Math.floorMod(next - i, elements.length)]);
+        }
+
+        return latestFirst;
+    }
+
+    public synchronized void clear() {
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = null;
+        }
+
+        next = 0;
+        size = 0;
+    }
+}
@@ -0,0 +1,26 @@
+package ru.petrowich.university.monitoring;
+
+public final class ServiceInvocation {
+    private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+    private ServiceInvocation() {
+    }
+
+    public static String current() {
+        return CURRENT_METHOD.get();
+    }
+
+    static String enter(String method) {
+        String previousMethod = CURRENT_METHOD.get();
+        CURRENT_METHOD.set(method);
+        return previousMethod;
+    }
+
+    static void exit(String previousMethod) {
+        if (previousMethod == null) {
+            CURRENT_METHOD.remove();
+        } else {
+            CURRENT_METHOD.set(previousMethod);
+        }
+    }
+}
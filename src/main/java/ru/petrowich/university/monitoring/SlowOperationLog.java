@@ -0,0 +1,101 @@
+package ru.petrowich.university.monitoring;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+public class SlowOperationLog {
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final long queryThresholdNanos;
+    private final long requestThresholdNanos;
+    private final RingBuffer<SlowQuery> slowQueries;
+    private final RingBuffer<SlowRequest> slowRequests;
+
+    @Autowired
+    public SlowOperationLog(@Value("${university.slow-log.query-threshold-millis:200}") long queryThresholdMillis,
+                            @Value("${university.slow-log.request-threshold-millis:1000}") long requestThresholdMillis,
+                            @Value("${university.slow-log.capacity:200}") int capacity) {
+        this.queryThresholdNanos = queryThresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(queryThresholdMillis);
+        this.requestThresholdNanos = requestThresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(requestThresholdMillis);
+        this.slowQueries = new RingBuffer<>(capacity);
+        this.slowRequests = new RingBuffer<>(capacity);
+    }
+
+    public boolean isQueryLogEnabled() {
+        return queryThresholdNanos >= 0;
+    }
+
+    public boolean isSlowQuery(long elapsedNanos) {
+        return queryThresholdNanos >= 0 && elapsedNanos >= queryThresholdNanos;
+    }
+
+    public boolean isSlowRequest(long elapsedNanos) {
+        return requestThresholdNanos >= 0 && elapsedNanos >= requestThresholdNanos;
+    }
+
+    public void recordQuery(SlowQuery slowQuery) {
+        if (slowQuery == null) {
+            throw new IllegalArgumentException("null is passed instead slow query");
+        }
+
+        slowQueries.add(slowQuery);
+        LOGGER.warn("slow query took {} ms reading {} rows in {} of {}: {} binds={} batch={}", slowQuery.getElapsedMillis(),
+                slowQuery.getRowCount(), slowQuery.getServiceMethod(), slowQuery.getHandler(), slowQuery.getSql(),
+                slowQuery.getBindValues(), slowQuery.getBatchSize());
+    }
+
+    public void recordRequest(SlowRequest slowRequest) {
+        if (slowRequest == null) {
+            throw new IllegalArgumentException("null is passed instead slow request");
+        }
+
+        slowRequests.add(slowRequest);
+        LOGGER.warn("slow request {} {} handled by {} took {} ms with status {}, {} sql statements ({} slow) reading {} rows in {} ms",
+                slowRequest.getEndpoint(), slowRequest.getUri(), slowRequest.getHandler(), slowRequest.getElapsedMillis(),
+                slowRequest.getStatus(), slowRequest.getStatementCount(), slowRequest.getSlowQueryCount(),
+                slowRequest.getRowCount(), slowRequest.getSqlElapsedMillis());
+    }
+
+    public List<SlowQuery> getSlowQueries() {
+        return slowQueries.getLatestFirst();
+    }
+
+    public List<SlowRequest> getSlowRequests() {
+        return slowRequests.getLatestFirst();
+    }
+
+    public void clear() {
+        slowQueries.clear();
+        slowRequests.clear();
+    }
+
+    public static String currentHandler() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        return toHandlerName(requestAttributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST));
+    }
+
+    public static String toHandlerName(Object handler) {
+        if (handler instanceof HandlerMethod) {
+            HandlerMethod handlerMethod = (HandlerMethod) handler;
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+
+        return handler != null ? handler.getClass().getSimpleName() : null;
+    }
+}
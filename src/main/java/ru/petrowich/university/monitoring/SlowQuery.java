@@ -0,0 +1,59 @@
+package ru.petrowich.university.monitoring;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class SlowQuery {
+    private final LocalDateTime timestamp;
+    private final String sql;
+    private final List<List<String>> bindValues;
+    private final int batchSize;
+    private final long rowCount;
+    private final long elapsedMillis;
+    private final String serviceMethod;
+    private final String handler;
+
+    public SlowQuery(LocalDateTime timestamp, String sql, List<List<String>> bindValues, int batchSize, long rowCount,
+                     long elapsedMillis, String serviceMethod, String handler) {
+        this.timestamp = timestamp;
+        this.sql = sql;
+        this.bindValues = bindValues;
+        this.batchSize = batchSize;
+        this.rowCount = rowCount;
+        this.elapsedMillis = elapsedMillis;
+        this.serviceMethod = serviceMethod;
+        this.handler = handler;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<List<String>> getBindValues() {
+        return bindValues;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public String getServiceMethod() {
+        return serviceMethod;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+}
@@ -0,0 +1,145 @@
+package ru.petrowich.university.monitoring;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+class SlowQueryTracker {
+    private static final int MAX_BATCH_BIND_VALUES = 10;
+    private static final int MAX_BIND_VALUE_LENGTH = 200;
+    private static final String SET_NULL = "setNull";
+
+    private final SlowOperationLog slowOperationLog;
+    private final String preparedSql;
+    private final SortedMap<Integer, String> bindValues = new TreeMap<>();
+    private final List<List<String>> batchBindValues = new ArrayList<>();
+    private String batchSql;
+    private int batchSize;
+    private PendingQuery pendingQuery;
+
+    SlowQueryTracker(SlowOperationLog slowOperationLog, String preparedSql) {
+        this.slowOperationLog = slowOperationLog;
+        this.preparedSql = preparedSql;
+    }
+
+    void bind(String setter, int index, Object value) {
+        bindValues.put(index, SET_NULL.equals(setter) ? "null" : format(value));
+    }
+
+    void clearBinds() {
+        bindValues.clear();
+    }
+
+    void addBatch(String sql) {
+        batchSize++;
+
+        if (sql != null) {
+            batchSql = sql;
+        }
+
+        if (batchBindValues.size() < MAX_BATCH_BIND_VALUES && !bindValues.isEmpty()) {
+            batchBindValues.add(new ArrayList<>(bindValues.values()));
+        }
+    }
+
+    void clearBatch() {
+        batchSql = null;
+        batchSize = 0;
+        batchBindValues.clear();
+    }
+
+    void executed(String sql, long elapsedNanos, Object result, boolean batch) {
+        finish();
+
+        if (slowOperationLog.isSlowQuery(elapsedNanos)) {
+            String executedSql = sql != null ? sql : batch && batchSql != null ? batchSql : preparedSql;
+            List<List<String>> executedBindValues = batch ? new ArrayList<>(batchBindValues)
+                    : bindValues.isEmpty() ? Collections.emptyList() : Collections.singletonList(new ArrayList<>(bindValues.values()));
+
+            pendingQuery = new PendingQuery(executedSql, executedBindValues, batch ? batchSize : 0, updateCount(result), elapsedNanos);
+            SqlStatementCounter.onSlowStatement();
+        }
+
+        if (batch) {
+            clearBatch();
+        }
+    }
+
+    void onRow() {
+        if (pendingQuery != null) {
+            pendingQuery.rowCount++;
+        }
+    }
+
+    void finish() {
+        if (pendingQuery == null) {
+            return;
+        }
+
+        slowOperationLog.recordQuery(new SlowQuery(pendingQuery.timestamp, pendingQuery.sql, pendingQuery.bindValues,
+                pendingQuery.batchSize, pendingQuery.rowCount, TimeUnit.NANOSECONDS.toMillis(pendingQuery.elapsedNanos),
+                pendingQuery.serviceMethod, pendingQuery.handler));
+        pendingQuery = null;
+    }
+
+    private static long updateCount(Object result) {
+        long updateCount = 0;
+
+        if (result instanceof Number) {
+            updateCount = ((Number) result).longValue();
+        } else if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                updateCount += Math.max(count, 0);
+            }
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) {
+                updateCount += Math.max(count, 0);
+            }
+        }
+
+        return updateCount;
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return "null";
+        }
+
+        if (value instanceof byte[]) {
+            return "<" + ((byte[]) value).length + " bytes>";
+        }
+
+        if (value instanceof InputStream || value instanceof Reader || value instanceof ResultSet) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+
+        String text = value instanceof CharSequence ? "'" + value + "'" : String.valueOf(value);
+        return text.length() > MAX_BIND_VALUE_LENGTH ? text.substring(0, MAX_BIND_VALUE_LENGTH) + "..." : text;
+    }
+
+    private static class PendingQuery {
+        private final LocalDateTime timestamp = LocalDateTime.now();
+        private final String serviceMethod = ServiceInvocation.current();
+        private final String handler = SlowOperationLog.currentHandler();
+        private final String sql;
+        private final List<List<String>> bindValues;
+        private final int batchSize;
+        private final long elapsedNanos;
+        private long rowCount;
+
+        private PendingQuery(String sql, List<List<String>> bindValues, int batchSize, long rowCount, long elapsedNanos) {
+            this.sql = sql;
+            this.bindValues = bindValues;
+            this.batchSize = batchSize;
+            this.rowCount = rowCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package ru.petrowich.university.monitoring;
+
+import java.time.LocalDateTime;
+
+public class SlowRequest {
+    private final LocalDateTime timestamp;
+    private final String endpoint;
+    private final String uri;
+    private final String handler;
+    private final int status;
+    private final long elapsedMillis;
+    private final long statementCount;
+    private final long rowCount;
+    private final long sqlElapsedMillis;
+    private final long slowQueryCount;
+
+    public SlowRequest(LocalDateTime timestamp, String endpoint, String uri, String handler, int status, long elapsedMillis,
+                       SqlStatistics sqlStatistics) {
+        this.timestamp = timestamp;
+        this.endpoint = endpoint;
+        this.uri = uri;
+        this.handler = handler;
+        this.status = status;
+        this.elapsedMillis = elapsedMillis;
+        this.statementCount = sqlStatistics.getStatementCount();
+        this.rowCount = sqlStatistics.getRowCount();
+        this.sqlElapsedMillis = sqlStatistics.getElapsedMillis();
+        this.slowQueryCount = sqlStatistics.getSlowStatementCount();
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getSqlElapsedMillis() {
+        return sqlElapsedMillis;
+    }
+
+    public long getSlowQueryCount() {
+        return slowQueryCount;
+    }
+}
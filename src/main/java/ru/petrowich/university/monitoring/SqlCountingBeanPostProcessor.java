@@ -0,0 +1,27 @@
+package ru.petrowich.university.monitoring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+public class SqlCountingBeanPostProcessor implements BeanPostProcessor {
+    private final ObjectProvider<SlowOperationLog> slowOperationLogProvider;
+
+    @Autowired
+    public SqlCountingBeanPostProcessor(ObjectProvider<SlowOperationLog> slowOperationLogProvider) {
+        this.slowOperationLogProvider = slowOperationLogProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof SqlCountingDataSource)) {
+            return new SqlCountingDataSource((DataSource) bean, slowOperationLogProvider::getIfAvailable);
+        }
+
+        return bean;
+    }
+}
@@ -0,0 +1,162 @@
+package ru.petrowich.university.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+public class SqlCountingDataSource extends DelegatingDataSource {
+    private static final Set<String> EXECUTE_METHODS = new HashSet<>(Arrays.asList(
+            "execute", "executeQuery", "executeUpdate", "executeBatch", "executeLargeUpdate", "executeLargeBatch"));
+    private static final Set<String> BATCH_METHODS = new HashSet<>(Arrays.asList("executeBatch", "executeLargeBatch"));
+    private static final Set<String> PREPARE_METHODS = new HashSet<>(Arrays.asList("prepareStatement", "prepareCall"));
+    private static final Set<String> RESULT_SET_METHODS = new HashSet<>(Arrays.asList("executeQuery", "getResultSet"));
+    private static final String SETTER_PREFIX = "set";
+
+    private final Supplier<SlowOperationLog> slowOperationLogSupplier;
+    private volatile SlowOperationLog slowOperationLog;
+
+    public SqlCountingDataSource(DataSource targetDataSource) {
+        this(targetDataSource, () -> null);
+    }
+
+    public SqlCountingDataSource(DataSource targetDataSource, Supplier<SlowOperationLog> slowOperationLogSupplier) {
+        super(targetDataSource);
+        this.slowOperationLogSupplier = slowOperationLogSupplier;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return countConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return countConnection(super.getConnection(username, password));
+    }
+
+    private Connection countConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = PREPARE_METHODS.contains(method.getName()) ? (String) args[0] : null;
+                return countStatement(method.getReturnType(), (Statement) result, slowQueryTracker(sql));
+            }
+
+            return result;
+        });
+    }
+
+    private Object countStatement(Class<?> type, Statement statement, SlowQueryTracker slowQueryTracker) {
+        return proxy(type, statement, (proxy, method, args) -> {
+            Object result;
+
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                long start = System.nanoTime();
+                long elapsedNanos;
+
+                try {
+                    result = invoke(statement, method, args);
+                } finally {
+                    elapsedNanos = System.nanoTime() - start;
+                    SqlStatementCounter.onStatement(elapsedNanos);
+                }
+
+                if (slowQueryTracker != null) {
+                    String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                    slowQueryTracker.executed(sql, elapsedNanos, result, BATCH_METHODS.contains(method.getName()));
+                }
+            } else {
+                result = invoke(statement, method, args);
+
+                if (slowQueryTracker != null) {
+                    track(slowQueryTracker, method, args);
+                }
+            }
+
+            if (result instanceof ResultSet && RESULT_SET_METHODS.contains(method.getName())) {
+                return countResultSet((ResultSet) result, slowQueryTracker);
+            }
+
+            return result;
+        });
+    }
+
+    private ResultSet countResultSet(ResultSet resultSet, SlowQueryTracker slowQueryTracker) {
+        return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+
+            if ("next".equals(method.getName()) && Boolean.TRUE.equals(result)) {
+                SqlStatementCounter.onRow();
+
+                if (slowQueryTracker != null) {
+                    slowQueryTracker.onRow();
+                }
+            } else if ("close".equals(method.getName()) && slowQueryTracker != null) {
+                slowQueryTracker.finish();
+            }
+
+            return result;
+        });
+    }
+
+    private void track(SlowQueryTracker slowQueryTracker, Method method, Object[] args) {
+        String name = method.getName();
+
+        if (name.startsWith(SETTER_PREFIX) && args != null && args.length >= 2 && args[0] instanceof Integer) {
+            slowQueryTracker.bind(name, (Integer) args[0], args[1]);
+        } else if ("clearParameters".equals(name)) {
+            slowQueryTracker.clearBinds();
+        } else if ("addBatch".equals(name)) {
+            slowQueryTracker.addBatch(args != null && args.length > 0 ? (String) args[0] : null);
+        } else if ("clearBatch".equals(name)) {
+            slowQueryTracker.clearBatch();
+        } else if ("close".equals(name)) {
+            slowQueryTracker.finish();
+        }
+    }
+
+    private SlowQueryTracker slowQueryTracker(String sql) {
+        if (slowOperationLog == null) {
+            slowOperationLog = slowOperationLogSupplier.get();
+        }
+
+        return slowOperationLog != null && slowOperationLog.isQueryLogEnabled() ? new SlowQueryTracker(slowOperationLog, sql) : null;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Object target, InvocationHandler invocationHandler) {
+        return (T) Proxy.newProxyInstance(SqlCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return target.toString();
+                default:
+                    return invocationHandler.invoke(proxy, method, args);
+            }
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package ru.petrowich.university.monitoring;
+
+public final class SqlStatementCounter {
+    private static final ThreadLocal<SqlStatistics> STATISTICS = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static SqlStatistics start() {
+        SqlStatistics sqlStatistics = new SqlStatistics();
+        STATISTICS.set(sqlStatistics);
+        return sqlStatistics;
+    }
+
+    public static void stop() {
+        STATISTICS.remove();
+    }
+
+    static void onStatement(long nanos) {
+        SqlStatistics sqlStatistics = STATISTICS.get();
+
+        if (sqlStatistics != null) {
+            sqlStatistics.addStatement(nanos);
+        }
+    }
+
+    static void onRow() {
+        SqlStatistics sqlStatistics = STATISTICS.get();
+
+        if (sqlStatistics != null) {
+            sqlStatistics.addRow();
+        }
+    }
+
+    static void onSlowStatement() {
+        SqlStatistics sqlStatistics = STATISTICS.get();
+
+        if (sqlStatistics != null) {
+            sqlStatistics.addSlowStatement();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package ru.petrowich.university.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+public class SqlStatistics {
+    private long statementCount;
+    private long rowCount;
+    private long elapsedNanos;
+    private long slowStatementCount;
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    public long getSlowStatementCount() {
+        return slowStatementCount;
+    }
+
+    void addStatement(long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+    }
+
+    void addRow() {
+        rowCount++;
+    }
+
+    void addSlowStatement() {
+        slowStatementCount++;
+    }
+}
@@ -0,0 +1,136 @@
+package ru.petrowich.university.monitoring;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+    public static final String STATISTICS_ATTRIBUTE = SqlStatisticsFilter.class.getName() + ".statistics";
+    public static final String ENDPOINT_ATTRIBUTE = SqlStatisticsFilter.class.getName() + ".endpoint";
+    public static final String HEADER_STATEMENTS = "X-Sql-Statements";
+    public static final String HEADER_ROWS = "X-Sql-Rows";
+    public static final String HEADER_TIME = "X-Sql-Time-Millis";
+
+    private static final String UNMAPPED = "unmapped";
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final SqlStatisticsRegistry sqlStatisticsRegistry;
+    private final SlowOperationLog slowOperationLog;
+
+    @Autowired
+    public SqlStatisticsFilter(SqlStatisticsRegistry sqlStatisticsRegistry, SlowOperationLog slowOperationLog) {
+        this.sqlStatisticsRegistry = sqlStatisticsRegistry;
+        this.slowOperationLog = slowOperationLog;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        SqlStatistics sqlStatistics = SqlStatementCounter.start();
+        StatisticsHeaderResponse statisticsHeaderResponse = new StatisticsHeaderResponse(response, sqlStatistics);
+
+        try {
+            filterChain.doFilter(request, statisticsHeaderResponse);
+            statisticsHeaderResponse.writeHeaders();
+        } finally {
+            SqlStatementCounter.stop();
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String endpoint = request.getMethod() + " " + (pattern != null ? pattern : UNMAPPED);
+
+            request.setAttribute(STATISTICS_ATTRIBUTE, sqlStatistics);
+            request.setAttribute(ENDPOINT_ATTRIBUTE, endpoint);
+            sqlStatisticsRegistry.record(endpoint, sqlStatistics);
+
+            long elapsedNanos = System.nanoTime() - start;
+
+            if (slowOperationLog.isSlowRequest(elapsedNanos)) {
+                slowOperationLog.recordRequest(new SlowRequest(LocalDateTime.now(), endpoint, toUri(request),
+                        SlowOperationLog.toHandlerName(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)),
+                        response.getStatus(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sqlStatistics));
+            }
+
+            LOGGER.debug("{} issued {} sql statements reading {} rows in {} ms", endpoint,
+                    sqlStatistics.getStatementCount(), sqlStatistics.getRowCount(), sqlStatistics.getElapsedMillis());
+        }
+    }
+
+    private static String toUri(HttpServletRequest request) {
+        String queryString = request.getQueryString();
+        return queryString != null ? request.getRequestURI() + "?" + queryString : request.getRequestURI();
+    }
+
+    private static class StatisticsHeaderResponse extends HttpServletResponseWrapper {
+        private final SqlStatistics sqlStatistics;
+        private boolean headersWritten;
+
+        private StatisticsHeaderResponse(HttpServletResponse response, SqlStatistics sqlStatistics) {
+            super(response);
+            this.sqlStatistics = sqlStatistics;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+
+        private void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+
+            headersWritten = true;
+            setHeader(HEADER_STATEMENTS, String.valueOf(sqlStatistics.getStatementCount()));
+            setHeader(HEADER_ROWS, String.valueOf(sqlStatistics.getRowCount()));
+            setHeader(HEADER_TIME, String.valueOf(sqlStatistics.getElapsedMillis()));
+        }
+    }
+}
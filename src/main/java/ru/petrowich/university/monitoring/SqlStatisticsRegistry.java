@@ -0,0 +1,62 @@
+package ru.petrowich.university.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+public class SqlStatisticsRegistry {
+    public static final String STATEMENTS_METRIC = "university.http.sql.statements";
+    public static final String ROWS_METRIC = "university.http.sql.rows";
+    public static final String TIME_METRIC = "university.http.sql.time";
+
+    private static final String TAG_ENDPOINT = "endpoint";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, EndpointSqlStatistics> endpoints = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SqlStatisticsRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void record(String endpoint, SqlStatistics sqlStatistics) {
+        if (endpoint == null || sqlStatistics == null) {
+            throw new IllegalArgumentException("null is passed instead endpoint statistics");
+        }
+
+        endpoints.computeIfAbsent(endpoint, EndpointSqlStatistics::new).add(sqlStatistics);
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .tag(TAG_ENDPOINT, endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(sqlStatistics.getStatementCount());
+        DistributionSummary.builder(ROWS_METRIC)
+                .tag(TAG_ENDPOINT, endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(sqlStatistics.getRowCount());
+        Timer.builder(TIME_METRIC)
+                .tag(TAG_ENDPOINT, endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(sqlStatistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    public List<EndpointSqlStatistics> getEndpoints() {
+        return endpoints.values().stream()
+                .map(EndpointSqlStatistics::copy)
+                .sorted(Comparator.comparing(EndpointSqlStatistics::getEndpoint))
+                .collect(Collectors.toList());
+    }
+}
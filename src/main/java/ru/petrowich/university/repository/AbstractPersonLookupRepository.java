@@ -0,0 +1,28 @@
+package ru.petrowich.university.repository;
+
+import ru.petrowich.university.model.AbstractPerson;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.Optional;
+
+public abstract class AbstractPersonLookupRepository<T extends AbstractPerson> {
+    private final Class<T> personClass;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    protected AbstractPersonLookupRepository(Class<T> personClass) {
+        this.personClass = personClass;
+    }
+
+    public Optional<T> findById(Integer id) {
+        if (id == null) {
+            throw new IllegalArgumentException("null is passed instead id");
+        }
+
+        AbstractPerson person = entityManager.find(AbstractPerson.class, id);
+
+        return personClass.isInstance(person) ? Optional.of(personClass.cast(person)) : Optional.empty();
+    }
+}
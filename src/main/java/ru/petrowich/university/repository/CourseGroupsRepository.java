@@ -0,0 +1,9 @@
+package ru.petrowich.university.repository;
+
+import java.util.Collection;
+
+public interface CourseGroupsRepository {
+    int insertCourseGroups(Integer courseId, Collection<Integer> groupIds);
+
+    int deleteCourseGroups(Integer courseId, Collection<Integer> groupIds);
+}
@@ -0,0 +1,96 @@
+package ru.petrowich.university.repository;
+
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.service.cache.SecondLevelCache;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class CourseGroupsRepositoryImpl implements CourseGroupsRepository {
+    private static final String GROUPS_COURSES_TABLE = "t_groups_courses";
+    private static final String INSERT_COURSE_GROUPS = "INSERT INTO t_groups_courses (group_id, course_id) " +
+            "SELECT g.group_id, c.course_id FROM t_groups g, t_courses c " +
+            "WHERE c.course_id = :courseId AND g.group_id IN (:groupIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM t_groups_courses gc WHERE gc.group_id = g.group_id AND gc.course_id = c.course_id)";
+    private static final String DELETE_COURSE_GROUPS = "DELETE FROM t_groups_courses " +
+            "WHERE course_id = :courseId AND group_id IN (:groupIds)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertCourseGroups(Integer courseId, Collection<Integer> groupIds) {
+        return executeUpdate(INSERT_COURSE_GROUPS, courseId, groupIds);
+    }
+
+    @Override
+    public int deleteCourseGroups(Integer courseId, Collection<Integer> groupIds) {
+        return executeUpdate(DELETE_COURSE_GROUPS, courseId, groupIds);
+    }
+
+    private int executeUpdate(String sql, Integer courseId, Collection<Integer> groupIds) {
+        if (groupIds.isEmpty()) {
+            return 0;
+        }
+
+        int numberOfRows = entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(GROUPS_COURSES_TABLE)
+                .setParameter("courseId", courseId)
+                .setParameterList("groupIds", groupIds)
+                .executeUpdate();
+
+        evictLoadedAssignments(courseId, groupIds);
+
+        return numberOfRows;
+    }
+
+    private void evictLoadedAssignments(Integer courseId, Collection<Integer> groupIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        List<Integer> evictedGroupIds = new ArrayList<>(groupIds);
+        evictCachedAssignments(cache, courseId, evictedGroupIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictCachedAssignments(cache, courseId, evictedGroupIds);
+                }
+            });
+        }
+
+        List<Object> staleEntities = new ArrayList<>();
+        Course course = entityManager.getReference(Course.class, courseId);
+
+        if (Hibernate.isInitialized(course) && Hibernate.isInitialized(course.getGroups())) {
+            staleEntities.add(course);
+        }
+
+        for (Integer groupId : groupIds) {
+            Group group = entityManager.getReference(Group.class, groupId);
+
+            if (Hibernate.isInitialized(group) && Hibernate.isInitialized(group.getCourses())) {
+                staleEntities.add(group);
+            }
+        }
+
+        if (!staleEntities.isEmpty()) {
+            entityManager.flush();
+            staleEntities.forEach(entityManager::detach);
+        }
+    }
+
+    private void evictCachedAssignments(Cache cache, Integer courseId, Collection<Integer> groupIds) {
+        cache.evictCollectionData(SecondLevelCache.COURSE_GROUPS_ROLE, courseId);
+        groupIds.forEach(groupId -> cache.evictCollectionData(SecondLevelCache.GROUP_COURSES_ROLE, groupId));
+    }
+}
@@ -1,7 +1,75 @@
 package ru.petrowich.university.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.repository.projection.CourseAttendees;
+import ru.petrowich.university.repository.projection.CourseGroupIds;
+import ru.petrowich.university.repository.projection.CourseListItem;
 
-public interface CourseRepository extends JpaRepository<Course, Integer> {
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+
+public interface CourseRepository extends JpaRepository<Course, Integer>, CourseGroupsRepository {
+    String SELECT_COURSE_LIST_ITEMS = "SELECT c.id AS id, c.name AS name, c.description AS description, " +
+            "a.id AS authorId, a.firstName AS authorFirstName, a.lastName AS authorLastName, " +
+            "c.active AS active, SIZE(c.groups) AS numberOfAssignedGroups " +
+            "FROM Course c LEFT JOIN c.author a ";
+
+    @Override
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<Course> findAll();
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<Course> findByActiveTrue();
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    @Query("SELECT c FROM Course c JOIN c.author a WHERE c.active = true AND a.active = true")
+    List<Course> findActiveWithActiveAuthor();
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<Course> findAllByOrderByIdAsc(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<Course> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    @Query(SELECT_COURSE_LIST_ITEMS + "ORDER BY c.id")
+    List<CourseListItem> findListItems(Pageable pageable);
+
+    @Query(SELECT_COURSE_LIST_ITEMS + "WHERE c.id > :id ORDER BY c.id")
+    List<CourseListItem> findListItemsAfter(@Param("id") Integer id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "500"))
+    @Query(SELECT_COURSE_LIST_ITEMS + "ORDER BY c.id")
+    Stream<CourseListItem> streamListItems();
+
+    @Query("SELECT c.id FROM Course c WHERE c.id IN :courseIds")
+    Set<Integer> findIdsByIdIn(@Param("courseIds") Collection<Integer> courseIds);
+
+    @Query("SELECT g FROM Course c JOIN c.groups g WHERE c.id = :courseId ORDER BY g.id")
+    List<Group> findGroupsByCourseId(@Param("courseId") Integer courseId);
+
+    @Query("SELECT c.id AS courseId, g.id AS groupId FROM Course c JOIN c.groups g")
+    List<CourseGroupIds> findAllCourseGroupIds();
+
+    @Query("SELECT c.id AS courseId, g.id AS groupId FROM Course c JOIN c.groups g WHERE c.id IN :courseIds")
+    List<CourseGroupIds> findCourseGroupIdsByCourseIdIn(@Param("courseIds") Collection<Integer> courseIds);
+
+    @Query("SELECT c.id AS courseId, COUNT(DISTINCT s.id) AS numberOfAttendees " +
+            "FROM Course c JOIN c.groups g JOIN g.students s GROUP BY c.id")
+    List<CourseAttendees> countAttendeesOfCourses();
+
+    @Query("SELECT c.id AS courseId, COUNT(DISTINCT s.id) AS numberOfAttendees " +
+            "FROM Course c JOIN c.groups g JOIN g.students s WHERE c.id IN :courseIds GROUP BY c.id")
+    List<CourseAttendees> countAttendeesOfCoursesByIdIn(@Param("courseIds") Collection<Integer> courseIds);
 }
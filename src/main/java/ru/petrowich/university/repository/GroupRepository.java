@@ -1,7 +1,50 @@
 package ru.petrowich.university.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.repository.projection.GroupListItem;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
 
 public interface GroupRepository extends JpaRepository<Group, Integer> {
+    String SELECT_GROUP_LIST_ITEMS = "SELECT g.id AS id, g.name AS name, g.capacity AS capacity, g.active AS active, " +
+            "SIZE(g.courses) AS numberOfAssignedCourses, SIZE(g.students) AS numberOfStudents " +
+            "FROM Group g ";
+
+    @Override
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<Group> findAll();
+
+    @Query("SELECT g.id FROM Group g WHERE g.id IN :groupIds")
+    Set<Integer> findIdsByIdIn(@Param("groupIds") Collection<Integer> groupIds);
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<Group> findByActiveTrueOrderByNameAsc();
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<Group> findAllByOrderByIdAsc(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<Group> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    @Query(SELECT_GROUP_LIST_ITEMS + "ORDER BY g.id")
+    List<GroupListItem> findListItems(Pageable pageable);
+
+    @Query(SELECT_GROUP_LIST_ITEMS + "WHERE g.id > :id ORDER BY g.id")
+    List<GroupListItem> findListItemsAfter(@Param("id") Integer id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "500"))
+    @Query(SELECT_GROUP_LIST_ITEMS + "ORDER BY g.id")
+    Stream<GroupListItem> streamListItems();
 }
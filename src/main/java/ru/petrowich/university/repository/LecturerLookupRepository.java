@@ -0,0 +1,9 @@
+package ru.petrowich.university.repository;
+
+import ru.petrowich.university.model.Lecturer;
+
+import java.util.Optional;
+
+public interface LecturerLookupRepository {
+    Optional<Lecturer> findById(Integer id);
+}
@@ -0,0 +1,9 @@
+package ru.petrowich.university.repository;
+
+import ru.petrowich.university.model.Lecturer;
+
+public class LecturerLookupRepositoryImpl extends AbstractPersonLookupRepository<Lecturer> implements LecturerLookupRepository {
+    public LecturerLookupRepositoryImpl() {
+        super(Lecturer.class);
+    }
+}
@@ -1,7 +1,19 @@
 package ru.petrowich.university.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.petrowich.university.model.Lecturer;
 
-public interface LecturerRepository extends JpaRepository<Lecturer, Integer> {
+import java.util.List;
+import java.util.Optional;
+
+public interface LecturerRepository extends JpaRepository<Lecturer, Integer>, LecturerLookupRepository {
+    @Override
+    Optional<Lecturer> findById(Integer id);
+
+    List<Lecturer> findByActiveTrue();
+
+    List<Lecturer> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<Lecturer> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 }
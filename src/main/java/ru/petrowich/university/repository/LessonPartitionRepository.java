@@ -0,0 +1,9 @@
+package ru.petrowich.university.repository;
+
+import ru.petrowich.university.schedule.Semester;
+
+public interface LessonPartitionRepository {
+    void attachPartition(Semester semester);
+
+    int archivePartition(Semester semester);
+}
@@ -0,0 +1,126 @@
+package ru.petrowich.university.repository;
+
+import org.hibernate.query.NativeQuery;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import ru.petrowich.university.schedule.Semester;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.List;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+public class LessonPartitionRepositoryImpl implements LessonPartitionRepository {
+    private static final String LESSONS_TABLE = "t_lessons";
+    private static final String LESSONS_ARCHIVE_TABLE = "t_lessons_archive";
+    private static final String DEFAULT_PARTITION = "t_lessons_default";
+    private static final String FIND_PARENT_TABLE = "SELECT CAST(p.relname AS VARCHAR) FROM pg_catalog.pg_inherits i " +
+            "JOIN pg_catalog.pg_class p ON p.oid = i.inhparent " +
+            "WHERE i.inhrelid = to_regclass(CAST(:partition AS TEXT))";
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final boolean nativePartitioning;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    public LessonPartitionRepositoryImpl(@Value("${university.lessons.native-partitioning:false}") boolean nativePartitioning) {
+        this.nativePartitioning = nativePartitioning;
+    }
+
+    @Override
+    public void attachPartition(Semester semester) {
+        if (nativePartitioning && findParentTable(semester) == null) {
+            createPartition(semester);
+        }
+    }
+
+    @Override
+    public int archivePartition(Semester semester) {
+        if (!nativePartitioning) {
+            return moveRows(semester);
+        }
+
+        String parentTable = findParentTable(semester);
+
+        if (LESSONS_ARCHIVE_TABLE.equals(parentTable)) {
+            return 0;
+        }
+
+        if (parentTable == null) {
+            if (count(DEFAULT_PARTITION, semester) == 0) {
+                return 0;
+            }
+
+            createPartition(semester);
+        }
+
+        String partition = getPartitionName(semester);
+        int numberOfLessons = count(partition, semester);
+
+        execute("ALTER TABLE " + LESSONS_TABLE + " DETACH PARTITION " + partition);
+        execute("ALTER TABLE " + LESSONS_ARCHIVE_TABLE + " ATTACH PARTITION " + partition + " " + getBounds(semester));
+        LOGGER.info("moved partition {} of {} lessons to {}", partition, numberOfLessons, LESSONS_ARCHIVE_TABLE);
+
+        return numberOfLessons;
+    }
+
+    private void createPartition(Semester semester) {
+        String partition = getPartitionName(semester);
+        String range = getRange(semester);
+
+        execute("CREATE TABLE " + partition + " (LIKE " + LESSONS_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        execute("INSERT INTO " + partition + " SELECT * FROM " + DEFAULT_PARTITION + " WHERE " + range);
+        execute("DELETE FROM " + DEFAULT_PARTITION + " WHERE " + range);
+        execute("ALTER TABLE " + LESSONS_TABLE + " ATTACH PARTITION " + partition + " " + getBounds(semester));
+        LOGGER.info("attached partition {} to {}", partition, LESSONS_TABLE);
+    }
+
+    private int moveRows(Semester semester) {
+        String range = getRange(semester);
+
+        execute("INSERT INTO " + LESSONS_ARCHIVE_TABLE + " SELECT * FROM " + LESSONS_TABLE + " WHERE " + range);
+        int numberOfLessons = execute("DELETE FROM " + LESSONS_TABLE + " WHERE " + range);
+        LOGGER.info("moved {} lessons of semester {} to {}", numberOfLessons, semester, LESSONS_ARCHIVE_TABLE);
+
+        return numberOfLessons;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String findParentTable(Semester semester) {
+        List<String> parentTables = entityManager.createNativeQuery(FIND_PARENT_TABLE)
+                .setParameter("partition", getPartitionName(semester))
+                .getResultList();
+
+        return parentTables.isEmpty() ? null : parentTables.get(0);
+    }
+
+    private int count(String table, Semester semester) {
+        Number numberOfLessons = (Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table + " WHERE " + getRange(semester))
+                .getSingleResult();
+
+        return numberOfLessons.intValue();
+    }
+
+    private int execute(String sql) {
+        return entityManager.createNativeQuery(sql)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace(LESSONS_TABLE)
+                .executeUpdate();
+    }
+
+    private String getPartitionName(Semester semester) {
+        return LESSONS_TABLE + "_" + semester;
+    }
+
+    private String getRange(Semester semester) {
+        return "lesson_date >= DATE '" + semester.getStartDate() + "' AND lesson_date < DATE '" + semester.getEndDate() + "'";
+    }
+
+    private String getBounds(Semester semester) {
+        return "FOR VALUES FROM ('" + semester.getStartDate() + "') TO ('" + semester.getEndDate() + "')";
+    }
+}
@@ -1,7 +1,120 @@
 package ru.petrowich.university.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.repository.projection.LessonAttendees;
+import ru.petrowich.university.repository.projection.LessonListItem;
+import ru.petrowich.university.repository.projection.LessonSchedule;
 
-public interface LessonRepository extends JpaRepository<Lesson, Long> {
+import javax.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+
+public interface LessonRepository extends JpaRepository<Lesson, Long>, LessonPartitionRepository {
+    String SELECT_LESSON_LIST_ITEMS = "SELECT l.id AS id, c.id AS courseId, c.name AS courseName, " +
+            "lr.id AS lecturerId, lr.firstName AS lecturerFirstName, lr.lastName AS lecturerLastName, " +
+            "ts.id AS timeSlotId, l.date AS date, l.startTime AS startTime, l.endTime AS endTime " +
+            "FROM Lesson l LEFT JOIN l.course c LEFT JOIN l.lecturer lr LEFT JOIN l.timeSlot ts ";
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l ORDER BY l.id")
+    List<Lesson> findAllWithSchedule();
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l ORDER BY l.date, l.startTime, l.id")
+    List<Lesson> findPage(Pageable pageable);
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l " +
+            "WHERE l.date >= :date AND (l.date > :date OR l.startTime > :startTime OR (l.startTime = :startTime AND l.id > :id)) " +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<Lesson> findPageAfter(@Param("date") LocalDate date,
+                               @Param("startTime") LocalTime startTime,
+                               @Param("id") Long id,
+                               Pageable pageable);
+
+    @Query(SELECT_LESSON_LIST_ITEMS +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<LessonListItem> findListItems(Pageable pageable);
+
+    @Query(SELECT_LESSON_LIST_ITEMS +
+            "WHERE l.date >= :date AND (l.date > :date OR l.startTime > :startTime OR (l.startTime = :startTime AND l.id > :id)) " +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<LessonListItem> findListItemsAfter(@Param("date") LocalDate date,
+                                            @Param("startTime") LocalTime startTime,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "500"))
+    @Query(SELECT_LESSON_LIST_ITEMS + "ORDER BY l.date, l.startTime, l.id")
+    Stream<LessonListItem> streamListItems();
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l " +
+            "WHERE l.date BETWEEN :from AND :to " +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<Lesson> findByDateBetween(@Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l " +
+            "WHERE l.lecturer.id = :lecturerId AND l.date BETWEEN :from AND :to " +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<Lesson> findByLecturerIdAndDateBetween(@Param("lecturerId") Integer lecturerId,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to);
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l " +
+            "WHERE l.course.id = :courseId AND l.date BETWEEN :from AND :to " +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<Lesson> findByCourseIdAndDateBetween(@Param("courseId") Integer courseId,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l JOIN l.course c JOIN c.groups g " +
+            "WHERE g.id = :groupId AND l.date BETWEEN :from AND :to " +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<Lesson> findByGroupIdAndDateBetween(@Param("groupId") Integer groupId,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l JOIN l.course c JOIN c.groups g JOIN g.students s " +
+            "WHERE s.id = :studentId AND l.date BETWEEN :from AND :to " +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<Lesson> findByStudentIdAndDateBetween(@Param("studentId") Integer studentId,
+                                               @Param("from") LocalDate from,
+                                               @Param("to") LocalDate to);
+
+    @EntityGraph("Lesson.schedule")
+    @Query("SELECT l FROM Lesson l " +
+            "WHERE l.id IN :lessonIds " +
+            "ORDER BY l.date, l.startTime, l.id")
+    List<Lesson> findByIdIn(@Param("lessonIds") Collection<Long> lessonIds);
+
+    @Query("SELECT l.id AS lessonId, COUNT(DISTINCT s.id) AS numberOfAttendees " +
+            "FROM Lesson l JOIN l.course c JOIN c.groups g JOIN g.students s " +
+            "WHERE l.id IN :lessonIds GROUP BY l.id")
+    List<LessonAttendees> countAttendeesByLessonIdIn(@Param("lessonIds") Collection<Long> lessonIds);
+
+    @Query("SELECT MIN(l.date) FROM Lesson l")
+    LocalDate findEarliestDate();
+
+    @Query("SELECT l.id AS lessonId, l.lecturer.id AS lecturerId, l.course.id AS courseId, " +
+            "l.date AS date, l.startTime AS startTime, l.endTime AS endTime " +
+            "FROM Lesson l " +
+            "WHERE l.date >= :from AND l.startTime IS NOT NULL AND l.endTime IS NOT NULL")
+    List<LessonSchedule> findScheduleFrom(@Param("from") LocalDate from);
 }
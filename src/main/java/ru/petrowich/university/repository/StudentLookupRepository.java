@@ -0,0 +1,9 @@
+package ru.petrowich.university.repository;
+
+import ru.petrowich.university.model.Student;
+
+import java.util.Optional;
+
+public interface StudentLookupRepository {
+    Optional<Student> findById(Integer id);
+}
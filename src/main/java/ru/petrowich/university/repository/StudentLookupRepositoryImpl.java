@@ -0,0 +1,9 @@
+package ru.petrowich.university.repository;
+
+import ru.petrowich.university.model.Student;
+
+public class StudentLookupRepositoryImpl extends AbstractPersonLookupRepository<Student> implements StudentLookupRepository {
+    public StudentLookupRepositoryImpl() {
+        super(Student.class);
+    }
+}
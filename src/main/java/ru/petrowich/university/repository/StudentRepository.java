@@ -1,7 +1,40 @@
 package ru.petrowich.university.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.projection.StudentListItem;
 
-public interface StudentRepository extends JpaRepository<Student, Integer> {
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.annotations.QueryHints.FETCH_SIZE;
+
+public interface StudentRepository extends JpaRepository<Student, Integer>, StudentLookupRepository {
+    @Override
+    Optional<Student> findById(Integer id);
+
+    String SELECT_STUDENT_LIST_ITEMS = "SELECT s.id AS id, s.firstName AS firstName, s.lastName AS lastName, " +
+            "s.email AS email, s.comment AS comment, s.active AS active, " +
+            "g.id AS groupId, g.name AS groupName, SIZE(g.courses) AS numberOfAssignedCourses " +
+            "FROM Student s LEFT JOIN s.group g ";
+
+    List<Student> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<Student> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
+
+    @Query(SELECT_STUDENT_LIST_ITEMS + "ORDER BY s.id")
+    List<StudentListItem> findListItems(Pageable pageable);
+
+    @Query(SELECT_STUDENT_LIST_ITEMS + "WHERE s.id > :id ORDER BY s.id")
+    List<StudentListItem> findListItemsAfter(@Param("id") Integer id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = FETCH_SIZE, value = "500"))
+    @Query(SELECT_STUDENT_LIST_ITEMS + "ORDER BY s.id")
+    Stream<StudentListItem> streamListItems();
 }
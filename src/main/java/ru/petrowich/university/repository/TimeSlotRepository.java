@@ -1,7 +1,23 @@
 package ru.petrowich.university.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import ru.petrowich.university.model.TimeSlot;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+
 public interface TimeSlotRepository extends JpaRepository<TimeSlot, Integer> {
+    @Override
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<TimeSlot> findAll();
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<TimeSlot> findAllByOrderByIdAsc(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<TimeSlot> findByIdGreaterThanOrderByIdAsc(Integer id, Pageable pageable);
 }
@@ -0,0 +1,7 @@
+package ru.petrowich.university.repository.projection;
+
+public interface CourseAttendees {
+    Integer getCourseId();
+
+    Long getNumberOfAttendees();
+}
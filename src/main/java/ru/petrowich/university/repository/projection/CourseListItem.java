@@ -0,0 +1,19 @@
+package ru.petrowich.university.repository.projection;
+
+public interface CourseListItem {
+    Integer getId();
+
+    String getName();
+
+    String getDescription();
+
+    Integer getAuthorId();
+
+    String getAuthorFirstName();
+
+    String getAuthorLastName();
+
+    boolean isActive();
+
+    Integer getNumberOfAssignedGroups();
+}
@@ -0,0 +1,15 @@
+package ru.petrowich.university.repository.projection;
+
+public interface GroupListItem {
+    Integer getId();
+
+    String getName();
+
+    Integer getCapacity();
+
+    boolean isActive();
+
+    Integer getNumberOfAssignedCourses();
+
+    Integer getNumberOfStudents();
+}
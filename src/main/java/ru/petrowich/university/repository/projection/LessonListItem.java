@@ -0,0 +1,26 @@
+package ru.petrowich.university.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public interface LessonListItem {
+    Long getId();
+
+    Integer getCourseId();
+
+    String getCourseName();
+
+    Integer getLecturerId();
+
+    String getLecturerFirstName();
+
+    String getLecturerLastName();
+
+    Integer getTimeSlotId();
+
+    LocalDate getDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
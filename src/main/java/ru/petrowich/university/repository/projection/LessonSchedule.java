@@ -0,0 +1,18 @@
+package ru.petrowich.university.repository.projection;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+public interface LessonSchedule {
+    Long getLessonId();
+
+    Integer getLecturerId();
+
+    Integer getCourseId();
+
+    LocalDate getDate();
+
+    LocalTime getStartTime();
+
+    LocalTime getEndTime();
+}
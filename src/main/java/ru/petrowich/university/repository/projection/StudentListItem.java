@@ -0,0 +1,21 @@
+package ru.petrowich.university.repository.projection;
+
+public interface StudentListItem {
+    Integer getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getEmail();
+
+    String getComment();
+
+    boolean isActive();
+
+    Integer getGroupId();
+
+    String getGroupName();
+
+    Integer getNumberOfAssignedCourses();
+}
@@ -0,0 +1,26 @@
+package ru.petrowich.university.schedule;
+
+public final class ConflictBatch {
+    private final IntervalIndex<Integer> lecturerIndex = new IntervalIndex<>();
+    private final IntervalIndex<Integer> groupIndex = new IntervalIndex<>();
+    private boolean reserved;
+
+    ConflictBatch() {
+    }
+
+    IntervalIndex<Integer> getLecturerIndex() {
+        return lecturerIndex;
+    }
+
+    IntervalIndex<Integer> getGroupIndex() {
+        return groupIndex;
+    }
+
+    boolean isReserved() {
+        return reserved;
+    }
+
+    void setReserved(boolean reserved) {
+        this.reserved = reserved;
+    }
+}
@@ -0,0 +1,15 @@
+package ru.petrowich.university.schedule;
+
+import ru.petrowich.university.model.Course;
+
+public class CourseGroupsChangedEvent {
+    private final Course course;
+
+    public CourseGroupsChangedEvent(Course course) {
+        this.course = course;
+    }
+
+    public Course getCourse() {
+        return course;
+    }
+}
@@ -0,0 +1,15 @@
+package ru.petrowich.university.schedule;
+
+import ru.petrowich.university.model.Group;
+
+public class GroupCoursesChangedEvent {
+    private final Group group;
+
+    public GroupCoursesChangedEvent(Group group) {
+        this.group = group;
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+}
@@ -0,0 +1,87 @@
+package ru.petrowich.university.schedule;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+class IntervalIndex<K> {
+    private static final Comparator<LessonSlot> SLOT_ORDER = Comparator.comparing(LessonSlot::getStartTime)
+            .thenComparing(LessonSlot::getEndTime)
+            .thenComparing(LessonSlot::getLessonId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final Map<K, NavigableMap<LocalDate, NavigableSet<LessonSlot>>> slots = new HashMap<>();
+
+    void add(K key, LessonSlot lessonSlot) {
+        slots.computeIfAbsent(key, k -> new TreeMap<>())
+                .computeIfAbsent(lessonSlot.getDate(), date -> new TreeSet<>(SLOT_ORDER))
+                .add(lessonSlot);
+    }
+
+    void remove(K key, LessonSlot lessonSlot) {
+        NavigableMap<LocalDate, NavigableSet<LessonSlot>> days = slots.get(key);
+
+        if (days == null) {
+            return;
+        }
+
+        NavigableSet<LessonSlot> daySlots = days.get(lessonSlot.getDate());
+
+        if (daySlots == null) {
+            return;
+        }
+
+        daySlots.remove(lessonSlot);
+
+        if (daySlots.isEmpty()) {
+            days.remove(lessonSlot.getDate());
+        }
+
+        if (days.isEmpty()) {
+            slots.remove(key);
+        }
+    }
+
+    Optional<LessonSlot> findOverlap(K key, LessonSlot lessonSlot) {
+        NavigableSet<LessonSlot> daySlots = slots.getOrDefault(key, Collections.emptyNavigableMap()).get(lessonSlot.getDate());
+
+        if (daySlots == null) {
+            return Optional.empty();
+        }
+
+        LessonSlot upperBound = new LessonSlot(null, null, null, lessonSlot.getDate(), lessonSlot.getEndTime(), lessonSlot.getEndTime());
+
+        return daySlots.headSet(upperBound, false).descendingSet().stream()
+                .filter(candidate -> lessonSlot.getLessonId() == null || !lessonSlot.getLessonId().equals(candidate.getLessonId()))
+                .filter(candidate -> candidate.overlaps(lessonSlot))
+                .findFirst();
+    }
+
+    Collection<LessonSlot> getSlots(K key, LocalDate date) {
+        return slots.getOrDefault(key, Collections.emptyNavigableMap()).getOrDefault(date, Collections.emptyNavigableSet());
+    }
+
+    List<LessonSlot> getSlots(K key, LocalDate from, LocalDate to) {
+        return slots.getOrDefault(key, Collections.emptyNavigableMap()).subMap(from, true, to, true).values().stream()
+                .flatMap(Collection::stream)
+                .collect(Collectors.toList());
+    }
+
+    void forEach(BiConsumer<K, LessonSlot> consumer) {
+        slots.forEach((key, days) -> days.values().forEach(daySlots -> daySlots.forEach(lessonSlot -> consumer.accept(key, lessonSlot))));
+    }
+
+    void clear() {
+        slots.clear();
+    }
+}
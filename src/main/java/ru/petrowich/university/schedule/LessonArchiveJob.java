@@ -0,0 +1,44 @@
+package ru.petrowich.university.schedule;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.petrowich.university.service.LessonArchiveService;
+
+import java.time.LocalDate;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+@ConditionalOnProperty(name = "university.lessons.archive.enabled", havingValue = "true")
+public class LessonArchiveJob {
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final LessonArchiveService lessonArchiveService;
+    private final int retainedSemesters;
+
+    @Autowired
+    public LessonArchiveJob(LessonArchiveService lessonArchiveService,
+                            @Value("${university.lessons.archive.retained-semesters:1}") int retainedSemesters) {
+        if (retainedSemesters < 0) {
+            throw new IllegalArgumentException("negative number of retained semesters " + retainedSemesters);
+        }
+
+        this.lessonArchiveService = lessonArchiveService;
+        this.retainedSemesters = retainedSemesters;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${university.lessons.archive.cron:0 30 2 * * *}")
+    public void run() {
+        Semester current = Semester.of(LocalDate.now());
+
+        LOGGER.info("preparing lesson partitions and archiving semesters before {}", current.minus(retainedSemesters));
+        lessonArchiveService.preparePartitions(current, current.next());
+        lessonArchiveService.archiveBefore(current.minus(retainedSemesters));
+    }
+}
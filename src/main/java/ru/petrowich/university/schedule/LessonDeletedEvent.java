@@ -0,0 +1,15 @@
+package ru.petrowich.university.schedule;
+
+import ru.petrowich.university.model.Lesson;
+
+public class LessonDeletedEvent {
+    private final Lesson lesson;
+
+    public LessonDeletedEvent(Lesson lesson) {
+        this.lesson = lesson;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+}
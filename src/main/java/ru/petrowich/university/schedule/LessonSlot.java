@@ -0,0 +1,102 @@
+package ru.petrowich.university.schedule;
+
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.repository.projection.LessonSchedule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Objects;
+
+public final class LessonSlot {
+    private final Long lessonId;
+    private final Integer lecturerId;
+    private final Integer courseId;
+    private final LocalDate date;
+    private final LocalTime startTime;
+    private final LocalTime endTime;
+
+    public LessonSlot(Long lessonId, Integer lecturerId, Integer courseId, LocalDate date, LocalTime startTime, LocalTime endTime) {
+        this.lessonId = lessonId;
+        this.lecturerId = lecturerId;
+        this.courseId = courseId;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    public static LessonSlot of(Lesson lesson) {
+        Integer courseId = lesson.getCourse() == null ? null : lesson.getCourse().getId();
+
+        return new LessonSlot(lesson.getId(), lesson.getLecturer().getId(), courseId,
+                lesson.getDate(), lesson.getStartTime(), lesson.getEndTime());
+    }
+
+    public static LessonSlot of(LessonSchedule lessonSchedule) {
+        return new LessonSlot(lessonSchedule.getLessonId(), lessonSchedule.getLecturerId(), lessonSchedule.getCourseId(),
+                lessonSchedule.getDate(), lessonSchedule.getStartTime(), lessonSchedule.getEndTime());
+    }
+
+    public Long getLessonId() {
+        return lessonId;
+    }
+
+    public Integer getLecturerId() {
+        return lecturerId;
+    }
+
+    public Integer getCourseId() {
+        return courseId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalTime getEndTime() {
+        return endTime;
+    }
+
+    public boolean isComplete() {
+        return date != null && startTime != null && endTime != null;
+    }
+
+    public boolean overlaps(LessonSlot lessonSlot) {
+        return date.equals(lessonSlot.date)
+                && startTime.isBefore(lessonSlot.endTime)
+                && lessonSlot.startTime.isBefore(endTime);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        LessonSlot lessonSlot = (LessonSlot) object;
+
+        return Objects.equals(lessonId, lessonSlot.lessonId)
+                && Objects.equals(lecturerId, lessonSlot.lecturerId)
+                && Objects.equals(courseId, lessonSlot.courseId)
+                && Objects.equals(date, lessonSlot.date)
+                && Objects.equals(startTime, lessonSlot.startTime)
+                && Objects.equals(endTime, lessonSlot.endTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lessonId, lecturerId, courseId, date, startTime, endTime);
+    }
+
+    @Override
+    public String toString() {
+        return (lessonId == null ? "new lesson" : "lesson " + lessonId) + " on " + date + " from " + startTime + " to " + endTime;
+    }
+}
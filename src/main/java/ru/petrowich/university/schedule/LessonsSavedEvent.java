@@ -0,0 +1,17 @@
+package ru.petrowich.university.schedule;
+
+import ru.petrowich.university.model.Lesson;
+
+import java.util.List;
+
+public class LessonsSavedEvent {
+    private final List<Lesson> lessons;
+
+    public LessonsSavedEvent(List<Lesson> lessons) {
+        this.lessons = lessons;
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+}
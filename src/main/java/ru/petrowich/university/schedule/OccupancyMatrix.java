@@ -0,0 +1,92 @@
+package ru.petrowich.university.schedule;
+
+import ru.petrowich.university.model.TimeSlot;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+class OccupancyMatrix<K> {
+    private final Map<K, BitSet> cells = new HashMap<>();
+    private List<TimeSlot> timeSlots = Collections.emptyList();
+    private LocalDate firstDate = LocalDate.now();
+
+    void reset(LocalDate firstDate, Collection<TimeSlot> timeSlots) {
+        List<TimeSlot> sortedTimeSlots = new ArrayList<>(timeSlots);
+        sortedTimeSlots.sort(Comparator.comparing(TimeSlot::getStartTime));
+
+        this.cells.clear();
+        this.firstDate = firstDate;
+        this.timeSlots = Collections.unmodifiableList(sortedTimeSlots);
+    }
+
+    List<TimeSlot> getTimeSlots() {
+        return timeSlots;
+    }
+
+    LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    void occupy(K key, LessonSlot lessonSlot) {
+        int firstCell = getFirstCell(lessonSlot.getDate());
+
+        if (firstCell < 0 || timeSlots.isEmpty()) {
+            return;
+        }
+
+        BitSet keyCells = cells.computeIfAbsent(key, k -> new BitSet());
+
+        for (int slotIndex = 0; slotIndex < timeSlots.size(); slotIndex++) {
+            TimeSlot timeSlot = timeSlots.get(slotIndex);
+
+            if (timeSlot.getStartTime().isBefore(lessonSlot.getEndTime()) && lessonSlot.getStartTime().isBefore(timeSlot.getEndTime())) {
+                keyCells.set(firstCell + slotIndex);
+            }
+        }
+    }
+
+    void refresh(K key, LocalDate date, Collection<LessonSlot> daySlots) {
+        int firstCell = getFirstCell(date);
+        BitSet keyCells = cells.get(key);
+
+        if (firstCell < 0 || keyCells == null) {
+            return;
+        }
+
+        keyCells.clear(firstCell, firstCell + timeSlots.size());
+        daySlots.forEach(lessonSlot -> occupy(key, lessonSlot));
+
+        if (keyCells.isEmpty()) {
+            cells.remove(key);
+        }
+    }
+
+    void collect(Collection<K> keys, BitSet occupied) {
+        keys.stream()
+                .map(cells::get)
+                .filter(Objects::nonNull)
+                .forEach(occupied::or);
+    }
+
+    int getFirstCell(LocalDate date) {
+        long dayIndex = date.toEpochDay() - firstDate.toEpochDay();
+
+        if (dayIndex < 0 || dayIndex * timeSlots.size() > Integer.MAX_VALUE - timeSlots.size()) {
+            return -1;
+        }
+
+        return (int) dayIndex * timeSlots.size();
+    }
+
+    void clear() {
+        cells.clear();
+    }
+}
@@ -0,0 +1,535 @@
+package ru.petrowich.university.schedule;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.repository.CourseRepository;
+import ru.petrowich.university.repository.LessonRepository;
+import ru.petrowich.university.repository.TimeSlotRepository;
+import ru.petrowich.university.repository.projection.CourseGroupIds;
+
+import javax.validation.ConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+public class ScheduleConflictDetector {
+    private static final String ERROR_MSG_LECTURER_CONFLICT = "lecturer %d is busy with %s";
+    private static final String ERROR_MSG_GROUP_CONFLICT = "group %d is busy with %s";
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final LessonRepository lessonRepository;
+    private final CourseRepository courseRepository;
+    private final TimeSlotRepository timeSlotRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final IntervalIndex<Integer> lecturerIndex = new IntervalIndex<>();
+    private final IntervalIndex<Integer> groupIndex = new IntervalIndex<>();
+    private final IntervalIndex<Integer> reservedLecturerIndex = new IntervalIndex<>();
+    private final IntervalIndex<Integer> reservedGroupIndex = new IntervalIndex<>();
+    private final OccupancyMatrix<Integer> lecturerOccupancy = new OccupancyMatrix<>();
+    private final OccupancyMatrix<Integer> groupOccupancy = new OccupancyMatrix<>();
+    private final Map<Long, LessonSlot> lessonSlots = new HashMap<>();
+    private final Map<Integer, Set<Long>> courseLessonIds = new HashMap<>();
+    private final Map<Integer, Set<Integer>> courseGroupIds = new HashMap<>();
+    private LocalDate indexedFrom = LocalDate.MAX;
+
+    @Autowired
+    public ScheduleConflictDetector(LessonRepository lessonRepository, CourseRepository courseRepository,
+                                    TimeSlotRepository timeSlotRepository) {
+        this.lessonRepository = lessonRepository;
+        this.courseRepository = courseRepository;
+        this.timeSlotRepository = timeSlotRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        List<TimeSlot> timeSlots = timeSlotRepository.findAll();
+        List<LessonSlot> slots = lessonRepository.findScheduleFrom(today).stream()
+                .map(LessonSlot::of)
+                .collect(Collectors.toList());
+
+        Map<Integer, Set<Integer>> groupIdsByCourse = courseRepository.findAllCourseGroupIds().stream()
+                .collect(Collectors.groupingBy(CourseGroupIds::getCourseId,
+                        Collectors.mapping(CourseGroupIds::getGroupId, Collectors.toSet())));
+
+        lock.writeLock().lock();
+
+        try {
+            lecturerIndex.clear();
+            groupIndex.clear();
+            lecturerOccupancy.reset(today, timeSlots);
+            groupOccupancy.reset(today, timeSlots);
+            lessonSlots.clear();
+            courseLessonIds.clear();
+            courseGroupIds.clear();
+            courseGroupIds.putAll(groupIdsByCourse);
+            slots.forEach(this::index);
+            indexedFrom = today;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("schedule index is built of {} lessons and {} time slots", slots.size(), timeSlots.size());
+    }
+
+    public void check(Lesson lesson) {
+        checkAll(Collections.singletonList(lesson));
+    }
+
+    public void checkAll(Collection<Lesson> lessons) {
+        throwFirstConflict(findConflicts(lessons));
+    }
+
+    public List<String> findConflicts(Collection<Lesson> lessons) {
+        return findConflicts(lessons, startBatch());
+    }
+
+    public void checkCourseGroups(Integer courseId, Collection<Integer> groupIds) {
+        throwFirstConflict(findCourseGroupConflicts(courseId, groupIds, startBatch()));
+    }
+
+    public List<String> findCourseGroupConflicts(Integer courseId, Collection<Integer> groupIds, ConflictBatch conflictBatch) {
+        IntervalIndex<Integer> batchGroupIndex = conflictBatch.getGroupIndex();
+        ConflictBatch acceptedBatch = startBatch();
+        List<String> conflicts = new ArrayList<>(groupIds.size());
+
+        lock.writeLock().lock();
+
+        try {
+            List<LessonSlot> courseSlots = courseLessonIds.getOrDefault(courseId, Collections.emptySet()).stream()
+                    .map(lessonSlots::get)
+                    .collect(Collectors.toList());
+
+            for (Integer groupId : groupIds) {
+                String conflict = null;
+
+                if (!getGroupIds(courseId).contains(groupId)) {
+                    for (LessonSlot lessonSlot : courseSlots) {
+                        if (conflict == null) {
+                            conflict = findOverlap(groupId, lessonSlot, batchGroupIndex, groupIndex, reservedGroupIndex, ERROR_MSG_GROUP_CONFLICT);
+                        }
+                    }
+
+                    if (conflict == null) {
+                        courseSlots.forEach(lessonSlot -> {
+                            batchGroupIndex.add(groupId, lessonSlot);
+                            acceptedBatch.getGroupIndex().add(groupId, lessonSlot);
+                        });
+                    }
+                }
+
+                conflicts.add(conflict);
+            }
+
+            reserve(acceptedBatch, conflictBatch);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return conflicts;
+    }
+
+    public ConflictBatch startBatch() {
+        return new ConflictBatch();
+    }
+
+    public List<String> findConflicts(Collection<Lesson> lessons, ConflictBatch conflictBatch) {
+        IntervalIndex<Integer> batchLecturerIndex = conflictBatch.getLecturerIndex();
+        IntervalIndex<Integer> batchGroupIndex = conflictBatch.getGroupIndex();
+        ConflictBatch acceptedBatch = startBatch();
+        List<String> conflicts = new ArrayList<>(lessons.size());
+
+        lock.writeLock().lock();
+
+        try {
+            for (Lesson lesson : lessons) {
+                LessonSlot lessonSlot = LessonSlot.of(lesson);
+
+                if (!lessonSlot.isComplete()) {
+                    conflicts.add(null);
+                    continue;
+                }
+
+                Integer lecturerId = lessonSlot.getLecturerId();
+                Set<Integer> groupIds = getGroupIds(lessonSlot.getCourseId());
+                String conflict = null;
+
+                if (lecturerId != null) {
+                    conflict = findOverlap(lecturerId, lessonSlot, batchLecturerIndex, lecturerIndex, reservedLecturerIndex,
+                            ERROR_MSG_LECTURER_CONFLICT);
+                }
+
+                for (Integer groupId : groupIds) {
+                    if (conflict == null) {
+                        conflict = findOverlap(groupId, lessonSlot, batchGroupIndex, groupIndex, reservedGroupIndex,
+                                ERROR_MSG_GROUP_CONFLICT);
+                    }
+                }
+
+                if (conflict == null) {
+                    if (lecturerId != null) {
+                        batchLecturerIndex.add(lecturerId, lessonSlot);
+                        acceptedBatch.getLecturerIndex().add(lecturerId, lessonSlot);
+                    }
+
+                    groupIds.forEach(groupId -> {
+                        batchGroupIndex.add(groupId, lessonSlot);
+                        acceptedBatch.getGroupIndex().add(groupId, lessonSlot);
+                    });
+                }
+
+                conflicts.add(conflict);
+            }
+
+            reserve(acceptedBatch, conflictBatch);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return conflicts;
+    }
+
+    public boolean isFree(Lesson lesson) {
+        LessonSlot lessonSlot = LessonSlot.of(lesson);
+
+        if (!lessonSlot.isComplete()) {
+            return true;
+        }
+
+        lock.readLock().lock();
+
+        try {
+            if (lessonSlot.getLecturerId() != null && lecturerIndex.findOverlap(lessonSlot.getLecturerId(), lessonSlot).isPresent()) {
+                return false;
+            }
+
+            return getGroupIds(lessonSlot.getCourseId()).stream()
+                    .noneMatch(groupId -> groupIndex.findOverlap(groupId, lessonSlot).isPresent());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Lesson> findFreeSlots(Collection<Integer> lecturerIds, Collection<Integer> groupIds,
+                                      LocalDate from, LocalDate to, int limit) {
+        List<Lesson> freeSlots = new ArrayList<>();
+
+        lock.readLock().lock();
+
+        try {
+            List<TimeSlot> timeSlots = lecturerOccupancy.getTimeSlots();
+            LocalDate firstDate = from.isBefore(lecturerOccupancy.getFirstDate()) ? lecturerOccupancy.getFirstDate() : from;
+            int firstCell = lecturerOccupancy.getFirstCell(firstDate);
+            int lastCell = lecturerOccupancy.getFirstCell(to.plusDays(1));
+
+            if (timeSlots.isEmpty() || firstCell < 0 || lastCell < 0) {
+                return freeSlots;
+            }
+
+            BitSet occupied = new BitSet(lastCell);
+            lecturerOccupancy.collect(lecturerIds, occupied);
+            groupOccupancy.collect(groupIds, occupied);
+
+            for (int cell = occupied.nextClearBit(firstCell); cell < lastCell && freeSlots.size() < limit; cell = occupied.nextClearBit(cell + 1)) {
+                TimeSlot timeSlot = timeSlots.get(cell % timeSlots.size());
+                LocalDate date = lecturerOccupancy.getFirstDate().plusDays(cell / timeSlots.size());
+
+                freeSlots.add(new Lesson()
+                        .setTimeSlot(timeSlot)
+                        .setDate(date)
+                        .setStartTime(timeSlot.getStartTime())
+                        .setEndTime(timeSlot.getEndTime()));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return freeSlots;
+    }
+
+    public LocalDate getIndexedFrom() {
+        lock.readLock().lock();
+
+        try {
+            return indexedFrom;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Long> findLessonIdsOfGroup(Integer groupId, LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+
+        try {
+            return groupIndex.getSlots(groupId, from, to).stream()
+                    .map(LessonSlot::getLessonId)
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimeSlotsChanged(TimeSlotsChangedEvent timeSlotsChangedEvent) {
+        List<TimeSlot> timeSlots = timeSlotRepository.findAll();
+
+        lock.writeLock().lock();
+
+        try {
+            lecturerOccupancy.reset(lecturerOccupancy.getFirstDate(), timeSlots);
+            groupOccupancy.reset(groupOccupancy.getFirstDate(), timeSlots);
+
+            for (LessonSlot lessonSlot : lessonSlots.values()) {
+                if (lessonSlot.getLecturerId() != null) {
+                    lecturerOccupancy.occupy(lessonSlot.getLecturerId(), lessonSlot);
+                }
+
+                if (lessonSlot.getCourseId() != null) {
+                    getGroupIds(lessonSlot.getCourseId()).forEach(groupId -> groupOccupancy.occupy(groupId, lessonSlot));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        LOGGER.info("occupancy matrix is rebuilt of {} time slots", timeSlots.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLessonsSaved(LessonsSavedEvent lessonsSavedEvent) {
+        lock.writeLock().lock();
+
+        try {
+            lessonsSavedEvent.getLessons().forEach(lesson -> {
+                LessonSlot lessonSlot = LessonSlot.of(lesson);
+                unindex(lessonSlot.getLessonId());
+
+                if (lessonSlot.isComplete()) {
+                    index(lessonSlot);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLessonDeleted(LessonDeletedEvent lessonDeletedEvent) {
+        lock.writeLock().lock();
+
+        try {
+            unindex(lessonDeletedEvent.getLesson().getId());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseGroupsChanged(CourseGroupsChangedEvent courseGroupsChangedEvent) {
+        Course course = courseGroupsChangedEvent.getCourse();
+        Set<Integer> groupIds = Optional.ofNullable(course.getGroups()).orElse(Collections.emptyList()).stream()
+                .filter(Objects::nonNull)
+                .map(Group::getId)
+                .collect(Collectors.toSet());
+
+        lock.writeLock().lock();
+
+        try {
+            setCourseGroups(course.getId(), groupIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupCoursesChanged(GroupCoursesChangedEvent groupCoursesChangedEvent) {
+        Group group = groupCoursesChangedEvent.getGroup();
+        Set<Integer> courseIds = Optional.ofNullable(group.getCourses()).orElse(Collections.emptyList()).stream()
+                .filter(Objects::nonNull)
+                .map(Course::getId)
+                .collect(Collectors.toSet());
+
+        lock.writeLock().lock();
+
+        try {
+            for (Integer courseId : new ArrayList<>(courseGroupIds.keySet())) {
+                Set<Integer> groupIds = courseGroupIds.get(courseId);
+
+                if (groupIds.contains(group.getId()) && !courseIds.contains(courseId)) {
+                    Set<Integer> actualGroupIds = new HashSet<>(groupIds);
+                    actualGroupIds.remove(group.getId());
+                    setCourseGroups(courseId, actualGroupIds);
+                }
+            }
+
+            for (Integer courseId : courseIds) {
+                Set<Integer> actualGroupIds = new HashSet<>(getGroupIds(courseId));
+
+                if (actualGroupIds.add(group.getId())) {
+                    setCourseGroups(courseId, actualGroupIds);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private String findOverlap(Integer key, LessonSlot lessonSlot, IntervalIndex<Integer> batchIndex,
+                               IntervalIndex<Integer> intervalIndex, IntervalIndex<Integer> reservedIndex, String message) {
+        Optional<LessonSlot> overlap = intervalIndex.findOverlap(key, lessonSlot);
+
+        if (!overlap.isPresent()) {
+            overlap = reservedIndex.findOverlap(key, lessonSlot);
+        }
+
+        if (!overlap.isPresent()) {
+            overlap = batchIndex.findOverlap(key, lessonSlot);
+        }
+
+        return overlap.map(overlapSlot -> String.format(message, key, overlapSlot)).orElse(null);
+    }
+
+    private void throwFirstConflict(List<String> conflicts) {
+        conflicts.stream()
+                .filter(Objects::nonNull)
+                .findFirst()
+                .ifPresent(conflict -> {
+                    LOGGER.error(conflict);
+                    throw new ConstraintViolationException(conflict, Collections.emptySet());
+                });
+    }
+
+    private void reserve(ConflictBatch acceptedBatch, ConflictBatch conflictBatch) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        acceptedBatch.getLecturerIndex().forEach(reservedLecturerIndex::add);
+        acceptedBatch.getGroupIndex().forEach(reservedGroupIndex::add);
+
+        if (conflictBatch.isReserved()) {
+            return;
+        }
+
+        conflictBatch.setReserved(true);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(conflictBatch);
+            }
+        });
+    }
+
+    private void release(ConflictBatch conflictBatch) {
+        lock.writeLock().lock();
+
+        try {
+            conflictBatch.getLecturerIndex().forEach(reservedLecturerIndex::remove);
+            conflictBatch.getGroupIndex().forEach(reservedGroupIndex::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Set<Integer> getGroupIds(Integer courseId) {
+        return courseGroupIds.getOrDefault(courseId, Collections.emptySet());
+    }
+
+    private void setCourseGroups(Integer courseId, Set<Integer> groupIds) {
+        Set<Integer> currentGroupIds = getGroupIds(courseId);
+
+        for (Long lessonId : courseLessonIds.getOrDefault(courseId, Collections.emptySet())) {
+            LessonSlot lessonSlot = lessonSlots.get(lessonId);
+
+            currentGroupIds.stream()
+                    .filter(groupId -> !groupIds.contains(groupId))
+                    .forEach(groupId -> removeGroupSlot(groupId, lessonSlot));
+
+            groupIds.stream()
+                    .filter(groupId -> !currentGroupIds.contains(groupId))
+                    .forEach(groupId -> addGroupSlot(groupId, lessonSlot));
+        }
+
+        if (groupIds.isEmpty()) {
+            courseGroupIds.remove(courseId);
+        } else {
+            courseGroupIds.put(courseId, new HashSet<>(groupIds));
+        }
+    }
+
+    private void index(LessonSlot lessonSlot) {
+        lessonSlots.put(lessonSlot.getLessonId(), lessonSlot);
+
+        if (lessonSlot.getLecturerId() != null) {
+            lecturerIndex.add(lessonSlot.getLecturerId(), lessonSlot);
+            lecturerOccupancy.occupy(lessonSlot.getLecturerId(), lessonSlot);
+        }
+
+        if (lessonSlot.getCourseId() != null) {
+            courseLessonIds.computeIfAbsent(lessonSlot.getCourseId(), courseId -> new HashSet<>()).add(lessonSlot.getLessonId());
+            getGroupIds(lessonSlot.getCourseId()).forEach(groupId -> addGroupSlot(groupId, lessonSlot));
+        }
+    }
+
+    private void unindex(Long lessonId) {
+        LessonSlot lessonSlot = lessonSlots.remove(lessonId);
+
+        if (lessonSlot == null) {
+            return;
+        }
+
+        if (lessonSlot.getLecturerId() != null) {
+            lecturerIndex.remove(lessonSlot.getLecturerId(), lessonSlot);
+            lecturerOccupancy.refresh(lessonSlot.getLecturerId(), lessonSlot.getDate(),
+                    lecturerIndex.getSlots(lessonSlot.getLecturerId(), lessonSlot.getDate()));
+        }
+
+        if (lessonSlot.getCourseId() != null) {
+            Set<Long> lessonIds = courseLessonIds.get(lessonSlot.getCourseId());
+            lessonIds.remove(lessonId);
+
+            if (lessonIds.isEmpty()) {
+                courseLessonIds.remove(lessonSlot.getCourseId());
+            }
+
+            getGroupIds(lessonSlot.getCourseId()).forEach(groupId -> removeGroupSlot(groupId, lessonSlot));
+        }
+    }
+
+    private void addGroupSlot(Integer groupId, LessonSlot lessonSlot) {
+        groupIndex.add(groupId, lessonSlot);
+        groupOccupancy.occupy(groupId, lessonSlot);
+    }
+
+    private void removeGroupSlot(Integer groupId, LessonSlot lessonSlot) {
+        groupIndex.remove(groupId, lessonSlot);
+        groupOccupancy.refresh(groupId, lessonSlot.getDate(), groupIndex.getSlots(groupId, lessonSlot.getDate()));
+    }
+}
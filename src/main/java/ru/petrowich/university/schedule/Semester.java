@@ -0,0 +1,84 @@
+package ru.petrowich.university.schedule;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+public final class Semester implements Comparable<Semester> {
+    private static final int MONTHS_PER_SEMESTER = 6;
+    private static final int SEMESTERS_PER_YEAR = 2;
+
+    private final int year;
+    private final int number;
+
+    private Semester(int year, int number) {
+        this.year = year;
+        this.number = number;
+    }
+
+    public static Semester of(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("null is passed instead date");
+        }
+
+        return new Semester(date.getYear(), (date.getMonthValue() - 1) / MONTHS_PER_SEMESTER + 1);
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public LocalDate getStartDate() {
+        return LocalDate.of(year, Month.JANUARY, 1).plusMonths((long) (number - 1) * MONTHS_PER_SEMESTER);
+    }
+
+    public LocalDate getEndDate() {
+        return next().getStartDate();
+    }
+
+    public Semester next() {
+        return plus(1);
+    }
+
+    public Semester minus(int numberOfSemesters) {
+        return plus(-numberOfSemesters);
+    }
+
+    public Semester plus(int numberOfSemesters) {
+        int index = year * SEMESTERS_PER_YEAR + number - 1 + numberOfSemesters;
+        return new Semester(Math.floorDiv(index, SEMESTERS_PER_YEAR), Math.floorMod(index, SEMESTERS_PER_YEAR) + 1);
+    }
+
+    @Override
+    public int compareTo(Semester semester) {
+        return year != semester.year ? Integer.compare(year, semester.year) : Integer.compare(number, semester.number);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        Semester semester = (Semester) object;
+
+        return year == semester.year && number == semester.number;
+    }
+
+    @Override
+    public int hashCode() {
+        return year * SEMESTERS_PER_YEAR + number;
+    }
+
+    @Override
+    public String toString() {
+        return year + "_" + number;
+    }
+}
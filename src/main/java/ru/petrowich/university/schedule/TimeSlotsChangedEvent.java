@@ -0,0 +1,4 @@
+package ru.petrowich.university.schedule;
+
+public class TimeSlotsChangedEvent {
+}
@@ -0,0 +1,24 @@
+package ru.petrowich.university.schedule;
+
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Lesson;
+
+import java.util.List;
+
+public class Timetable {
+    private final List<Lesson> lessons;
+    private final List<Course> unscheduledCourses;
+
+    public Timetable(List<Lesson> lessons, List<Course> unscheduledCourses) {
+        this.lessons = lessons;
+        this.unscheduledCourses = unscheduledCourses;
+    }
+
+    public List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    public List<Course> getUnscheduledCourses() {
+        return unscheduledCourses;
+    }
+}
@@ -0,0 +1,206 @@
+package ru.petrowich.university.schedule;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.TimeSlot;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+public class TimetableGenerator {
+    private static final Set<DayOfWeek> DAYS_OFF = EnumSet.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+    private static final Comparator<Lesson> LESSON_ORDER = Comparator.comparing(Lesson::getDate)
+            .thenComparing(Lesson::getStartTime)
+            .thenComparing(lesson -> lesson.getCourse().getId());
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final ScheduleConflictDetector scheduleConflictDetector;
+
+    @Autowired
+    public TimetableGenerator(ScheduleConflictDetector scheduleConflictDetector) {
+        this.scheduleConflictDetector = scheduleConflictDetector;
+    }
+
+    public Timetable generate(List<Course> courses, Map<Integer, Set<Integer>> courseGroupIds, List<TimeSlot> timeSlots,
+                              LocalDate from, LocalDate to, int lessonsPerWeek) {
+        List<TimeSlot> sortedTimeSlots = timeSlots.stream()
+                .sorted(Comparator.comparing(TimeSlot::getStartTime))
+                .collect(Collectors.toList());
+
+        List<List<LocalDate>> weeks = getWeeks(from, to);
+        List<List<Course>> independentCourses = getIndependentCourses(courses, courseGroupIds);
+
+        List<Timetable> timetables = independentCourses.parallelStream()
+                .map(component -> schedule(component, courseGroupIds, sortedTimeSlots, weeks, lessonsPerWeek))
+                .collect(Collectors.toList());
+
+        List<Lesson> lessons = timetables.stream()
+                .flatMap(timetable -> timetable.getLessons().stream())
+                .sorted(LESSON_ORDER)
+                .collect(Collectors.toList());
+
+        List<Course> unscheduledCourses = timetables.stream()
+                .flatMap(timetable -> timetable.getUnscheduledCourses().stream())
+                .sorted(Comparator.comparing(Course::getId))
+                .collect(Collectors.toList());
+
+        LOGGER.info("generated {} lessons of {} courses in {} independent parts, {} courses are not scheduled completely",
+                lessons.size(), courses.size(), independentCourses.size(), unscheduledCourses.size());
+
+        return new Timetable(lessons, unscheduledCourses);
+    }
+
+    private Timetable schedule(List<Course> courses, Map<Integer, Set<Integer>> courseGroupIds, List<TimeSlot> timeSlots,
+                               List<List<LocalDate>> weeks, int lessonsPerWeek) {
+        IntervalIndex<Integer> lecturerIndex = new IntervalIndex<>();
+        IntervalIndex<Integer> groupIndex = new IntervalIndex<>();
+        List<Lesson> lessons = new ArrayList<>();
+        Set<Course> unscheduledCourses = new LinkedHashSet<>();
+
+        List<Course> orderedCourses = courses.stream()
+                .sorted(Comparator.comparing((Course course) -> getGroupIds(courseGroupIds, course).size()).reversed()
+                        .thenComparing(Course::getId))
+                .collect(Collectors.toList());
+
+        for (List<LocalDate> week : weeks) {
+            for (int courseIndex = 0; courseIndex < orderedCourses.size(); courseIndex++) {
+                Course course = orderedCourses.get(courseIndex);
+                Set<Integer> groupIds = getGroupIds(courseGroupIds, course);
+                int courseLessonsPerWeek = getLessonsPerWeek(course, lessonsPerWeek);
+                int placed = 0;
+                boolean placedInPass = true;
+
+                while (placed < courseLessonsPerWeek && placedInPass) {
+                    placedInPass = false;
+
+                    for (int dayIndex = 0; dayIndex < week.size() && placed < courseLessonsPerWeek; dayIndex++) {
+                        LocalDate day = week.get((dayIndex + courseIndex) % week.size());
+                        Lesson lesson = place(course, groupIds, day, timeSlots, lecturerIndex, groupIndex);
+
+                        if (lesson != null) {
+                            lessons.add(lesson);
+                            placed++;
+                            placedInPass = true;
+                        }
+                    }
+                }
+
+                if (placed < courseLessonsPerWeek) {
+                    unscheduledCourses.add(course);
+                }
+            }
+        }
+
+        return new Timetable(lessons, new ArrayList<>(unscheduledCourses));
+    }
+
+    private Lesson place(Course course, Set<Integer> groupIds, LocalDate day, List<TimeSlot> timeSlots,
+                         IntervalIndex<Integer> lecturerIndex, IntervalIndex<Integer> groupIndex) {
+        Integer lecturerId = course.getAuthor().getId();
+
+        for (TimeSlot timeSlot : timeSlots) {
+            Lesson lesson = new Lesson()
+                    .setCourse(course)
+                    .setLecturer(course.getAuthor())
+                    .setTimeSlot(timeSlot)
+                    .setDate(day)
+                    .setStartTime(timeSlot.getStartTime())
+                    .setEndTime(timeSlot.getEndTime());
+
+            LessonSlot lessonSlot = LessonSlot.of(lesson);
+
+            boolean busy = lecturerIndex.findOverlap(lecturerId, lessonSlot).isPresent()
+                    || groupIds.stream().anyMatch(groupId -> groupIndex.findOverlap(groupId, lessonSlot).isPresent())
+                    || !scheduleConflictDetector.isFree(lesson);
+
+            if (!busy) {
+                lecturerIndex.add(lecturerId, lessonSlot);
+                groupIds.forEach(groupId -> groupIndex.add(groupId, lessonSlot));
+                return lesson;
+            }
+        }
+
+        return null;
+    }
+
+    private List<List<LocalDate>> getWeeks(LocalDate from, LocalDate to) {
+        Map<LocalDate, List<LocalDate>> weeks = new LinkedHashMap<>();
+
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            if (!DAYS_OFF.contains(day.getDayOfWeek())) {
+                LocalDate monday = day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                weeks.computeIfAbsent(monday, week -> new ArrayList<>()).add(day);
+            }
+        }
+
+        return new ArrayList<>(weeks.values());
+    }
+
+    private List<List<Course>> getIndependentCourses(List<Course> courses, Map<Integer, Set<Integer>> courseGroupIds) {
+        Map<String, List<Course>> coursesByParticipant = new HashMap<>();
+        courses.forEach(course -> getParticipants(course, courseGroupIds).forEach(participant ->
+                coursesByParticipant.computeIfAbsent(participant, key -> new ArrayList<>()).add(course)));
+
+        List<List<Course>> independentCourses = new ArrayList<>();
+        Set<Integer> visitedCourseIds = new HashSet<>();
+
+        for (Course course : courses) {
+            if (!visitedCourseIds.add(course.getId())) {
+                continue;
+            }
+
+            List<Course> component = new ArrayList<>();
+            Deque<Course> queue = new ArrayDeque<>(Collections.singletonList(course));
+
+            while (!queue.isEmpty()) {
+                Course current = queue.poll();
+                component.add(current);
+
+                getParticipants(current, courseGroupIds).stream()
+                        .flatMap(participant -> coursesByParticipant.get(participant).stream())
+                        .filter(neighbour -> visitedCourseIds.add(neighbour.getId()))
+                        .forEach(queue::add);
+            }
+
+            independentCourses.add(component);
+        }
+
+        return independentCourses;
+    }
+
+    private List<String> getParticipants(Course course, Map<Integer, Set<Integer>> courseGroupIds) {
+        List<String> participants = new ArrayList<>();
+        participants.add("lecturer:" + course.getAuthor().getId());
+        getGroupIds(courseGroupIds, course).forEach(groupId -> participants.add("group:" + groupId));
+        return participants;
+    }
+
+    private int getLessonsPerWeek(Course course, int defaultLessonsPerWeek) {
+        return course.getLessonsPerWeek() != null ? course.getLessonsPerWeek() : defaultLessonsPerWeek;
+    }
+
+    private Set<Integer> getGroupIds(Map<Integer, Set<Integer>> courseGroupIds, Course course) {
+        return courseGroupIds.getOrDefault(course.getId(), Collections.emptySet());
+    }
+}
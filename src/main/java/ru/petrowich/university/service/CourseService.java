@@ -3,16 +3,35 @@ package ru.petrowich.university.service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.repository.projection.CourseListItem;
+import ru.petrowich.university.service.batch.BatchItemResult;
+import ru.petrowich.university.service.batch.CourseGroupAssignment;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface CourseService extends GenericService<Course, Integer> {
+    @Transactional(readOnly = true)
+    List<CourseListItem> getListPage(Course after, int size);
+
+    @Transactional(readOnly = true)
+    void forEachListItem(Consumer<? super CourseListItem> action);
+
+    @Transactional(readOnly = true)
+    List<Course> getActive();
+
+    @Transactional(readOnly = true)
+    List<Course> getActiveWithActiveAuthor();
+
+    @Transactional
+    List<Group> assignGroupToCourse(Group group, Course course);
+
     @Transactional
-    void assignGroupToCourse(Group group, Course course);
+    List<BatchItemResult<CourseGroupAssignment>> assignGroupsToCourses(List<CourseGroupAssignment> courseGroupAssignments);
 
     @Transactional
-    void removeGroupFromCourse(Group group, Course course);
+    List<Group> removeGroupFromCourse(Group group, Course course);
 
     @Transactional
-    void applyGroupsToCourse(List<Group> groups, Course course);
+    List<Group> applyGroupsToCourse(List<Group> groups, Course course);
 }
@@ -0,0 +1,27 @@
+package ru.petrowich.university.service;
+
+import org.springframework.transaction.annotation.Transactional;
+import ru.petrowich.university.service.csv.CsvImportResult;
+
+import java.io.Reader;
+import java.io.Writer;
+
+public interface CsvTransferService {
+    @Transactional
+    CsvImportResult importStudents(Reader reader);
+
+    @Transactional
+    CsvImportResult importGroups(Reader reader);
+
+    @Transactional
+    CsvImportResult importLessons(Reader reader);
+
+    @Transactional(readOnly = true)
+    void exportStudents(Writer writer);
+
+    @Transactional(readOnly = true)
+    void exportGroups(Writer writer);
+
+    @Transactional(readOnly = true)
+    void exportLessons(Writer writer);
+}
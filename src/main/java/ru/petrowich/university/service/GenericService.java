@@ -7,16 +7,24 @@ import java.util.List;
 
 @Service
 public interface GenericService<T, I> {
+    @Transactional(readOnly = true)
     T getById(I id);
 
     @Transactional
     T add(T object);
 
+    @Transactional
+    List<T> addAll(List<T> objects);
+
     @Transactional
     T update(T object);
 
     @Transactional
     void delete(T object);
 
+    @Transactional(readOnly = true)
     List<T> getAll();
+
+    @Transactional(readOnly = true)
+    List<T> getPage(T after, int size);
 }
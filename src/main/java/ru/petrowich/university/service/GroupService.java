@@ -1,6 +1,19 @@
 package ru.petrowich.university.service;
 
+import org.springframework.transaction.annotation.Transactional;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.repository.projection.GroupListItem;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface GroupService extends GenericService<Group, Integer> {
+    @Transactional(readOnly = true)
+    List<Group> getActive();
+
+    @Transactional(readOnly = true)
+    List<GroupListItem> getListPage(Group after, int size);
+
+    @Transactional(readOnly = true)
+    void forEachListItem(Consumer<? super GroupListItem> action);
 }
@@ -1,6 +1,11 @@
 package ru.petrowich.university.service;
 
+import org.springframework.transaction.annotation.Transactional;
 import ru.petrowich.university.model.Lecturer;
 
+import java.util.List;
+
 public interface LecturerService extends GenericService<Lecturer, Integer> {
+    @Transactional(readOnly = true)
+    List<Lecturer> getActive();
 }
@@ -0,0 +1,12 @@
+package ru.petrowich.university.service;
+
+import org.springframework.transaction.annotation.Transactional;
+import ru.petrowich.university.schedule.Semester;
+
+public interface LessonArchiveService {
+    @Transactional
+    void preparePartitions(Semester from, Semester to);
+
+    @Transactional
+    int archiveBefore(Semester semester);
+}
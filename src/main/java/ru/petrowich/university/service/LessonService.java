@@ -1,6 +1,60 @@
 package ru.petrowich.university.service;
 
+import org.springframework.transaction.annotation.Transactional;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.projection.LessonListItem;
+import ru.petrowich.university.service.batch.BatchItemResult;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.Map;
 
 public interface LessonService extends GenericService<Lesson, Long> {
+    @Transactional
+    List<BatchItemResult<Lesson>> addBatch(List<Lesson> lessons);
+
+    @Transactional(readOnly = true)
+    List<LessonListItem> getListPage(Lesson after, int size);
+
+    @Transactional(readOnly = true)
+    void forEachListItem(Consumer<? super LessonListItem> action);
+
+    @Transactional(readOnly = true)
+    List<Lesson> getAllWithNumberOfAttendees();
+
+    @Transactional(readOnly = true)
+    Map<Long, Integer> getNumbersOfAttendees(Collection<Long> lessonIds);
+
+    @Transactional(readOnly = true)
+    Map<Integer, Integer> getNumbersOfAttendeesOfCourses();
+
+    @Transactional(readOnly = true)
+    Map<Integer, Integer> getNumbersOfAttendeesOfCourses(Collection<Integer> courseIds);
+
+    @Transactional(readOnly = true)
+    List<Lesson> getByDateRange(LocalDate from, LocalDate to);
+
+    @Transactional(readOnly = true)
+    List<Lesson> getByLecturerAndDateRange(Lecturer lecturer, LocalDate from, LocalDate to);
+
+    @Transactional(readOnly = true)
+    List<Lesson> getByCourseAndDateRange(Course course, LocalDate from, LocalDate to);
+
+    @Transactional(readOnly = true)
+    List<Lesson> getByGroupAndDateRange(Group group, LocalDate from, LocalDate to);
+
+    @Transactional(readOnly = true)
+    List<Lesson> getByStudentAndDateRange(Student student, LocalDate from, LocalDate to);
+
+    @Transactional(readOnly = true)
+    List<Lesson> getTimetableOfStudent(Student student, LocalDate from, LocalDate to);
+
+    @Transactional(readOnly = true)
+    List<Lesson> getFreeSlots(List<Lecturer> lecturers, List<Group> groups, LocalDate from, LocalDate to, int limit);
 }
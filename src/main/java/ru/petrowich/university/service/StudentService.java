@@ -1,6 +1,20 @@
 package ru.petrowich.university.service;
 
+import org.springframework.transaction.annotation.Transactional;
 import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.projection.StudentListItem;
+import ru.petrowich.university.service.batch.BatchItemResult;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface StudentService extends GenericService<Student, Integer> {
+    @Transactional
+    List<BatchItemResult<Student>> addBatch(List<Student> students);
+
+    @Transactional(readOnly = true)
+    List<StudentListItem> getListPage(Student after, int size);
+
+    @Transactional(readOnly = true)
+    void forEachListItem(Consumer<? super StudentListItem> action);
 }
@@ -3,6 +3,10 @@ package ru.petrowich.university.service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.petrowich.university.model.TimeSlot;
 
+import java.util.List;
+
 @Transactional
 public interface TimeSlotService extends GenericService<TimeSlot, Integer> {
+    @Transactional(readOnly = true)
+    List<TimeSlot> getAllByStartTime();
 }
@@ -0,0 +1,14 @@
+package ru.petrowich.university.service;
+
+import org.springframework.transaction.annotation.Transactional;
+import ru.petrowich.university.schedule.Timetable;
+
+import java.time.LocalDate;
+
+public interface TimetableService {
+    @Transactional(readOnly = true)
+    Timetable preview(LocalDate from, LocalDate to, int lessonsPerWeek);
+
+    @Transactional
+    Timetable commit(LocalDate from, LocalDate to, int lessonsPerWeek);
+}
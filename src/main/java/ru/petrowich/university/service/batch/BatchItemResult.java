@@ -0,0 +1,37 @@
+package ru.petrowich.university.service.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class BatchItemResult<T> {
+    private final int index;
+    private final T item;
+    private final List<String> errors = new ArrayList<>();
+
+    public BatchItemResult(int index, T item) {
+        this.index = index;
+        this.item = item;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public T getItem() {
+        return item;
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public boolean isAccepted() {
+        return errors.isEmpty();
+    }
+
+    public BatchItemResult<T> reject(String error) {
+        errors.add(error);
+        return this;
+    }
+}
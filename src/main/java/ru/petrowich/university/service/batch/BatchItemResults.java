@@ -0,0 +1,54 @@
+package ru.petrowich.university.service.batch;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class BatchItemResults {
+    private static final String ERROR_MSG_NULL_ITEM = "null is passed instead item";
+    private static final String ERROR_MSG_ID_PASSED = "id is passed for a new item";
+
+    private BatchItemResults() {
+    }
+
+    public static <T> List<BatchItemResult<T>> validateNew(Validator validator, List<T> items, Function<T, ?> idGetter) {
+        List<BatchItemResult<T>> results = new ArrayList<>(items.size());
+
+        for (int index = 0; index < items.size(); index++) {
+            T item = items.get(index);
+            BatchItemResult<T> result = new BatchItemResult<>(index, item);
+
+            if (item == null) {
+                result.reject(ERROR_MSG_NULL_ITEM);
+            } else {
+                if (idGetter.apply(item) != null) {
+                    result.reject(ERROR_MSG_ID_PASSED);
+                }
+
+                validator.validate(item).stream()
+                        .map(ConstraintViolation::getMessage)
+                        .forEach(result::reject);
+            }
+
+            results.add(result);
+        }
+
+        return results;
+    }
+
+    public static <T> List<BatchItemResult<T>> getAccepted(List<BatchItemResult<T>> results) {
+        return results.stream()
+                .filter(BatchItemResult::isAccepted)
+                .collect(Collectors.toList());
+    }
+
+    public static <T> List<T> getAcceptedItems(List<BatchItemResult<T>> results) {
+        return results.stream()
+                .filter(BatchItemResult::isAccepted)
+                .map(BatchItemResult::getItem)
+                .collect(Collectors.toList());
+    }
+}
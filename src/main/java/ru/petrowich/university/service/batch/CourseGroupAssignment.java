@@ -0,0 +1,40 @@
+package ru.petrowich.university.service.batch;
+
+import java.util.Objects;
+
+public class CourseGroupAssignment {
+    private final Integer courseId;
+    private final Integer groupId;
+
+    public CourseGroupAssignment(Integer courseId, Integer groupId) {
+        this.courseId = courseId;
+        this.groupId = groupId;
+    }
+
+    public Integer getCourseId() {
+        return courseId;
+    }
+
+    public Integer getGroupId() {
+        return groupId;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+
+        if (object == null || getClass() != object.getClass()) {
+            return false;
+        }
+
+        CourseGroupAssignment courseGroupAssignment = (CourseGroupAssignment) object;
+        return Objects.equals(courseId, courseGroupAssignment.courseId) && Objects.equals(groupId, courseGroupAssignment.groupId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(courseId, groupId);
+    }
+}
@@ -0,0 +1,13 @@
+package ru.petrowich.university.service.cache;
+
+public class BulkWriteEvent {
+    private final Class<?> entityClass;
+
+    public BulkWriteEvent(Class<?> entityClass) {
+        this.entityClass = entityClass;
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+}
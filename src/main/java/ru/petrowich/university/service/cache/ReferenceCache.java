@@ -0,0 +1,172 @@
+package ru.petrowich.university.service.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public class ReferenceCache<T> {
+    public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 600;
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final Supplier<List<T>> loader;
+    private final LongSupplier clock;
+    private final Map<String, View<T>> views = new LinkedHashMap<>();
+
+    private long timeToLiveNanos = TimeUnit.SECONDS.toNanos(DEFAULT_TIME_TO_LIVE_SECONDS);
+    private int maxSize = DEFAULT_MAX_SIZE;
+    private long generation;
+    private volatile Snapshot<T> snapshot;
+
+    public ReferenceCache(Supplier<List<T>> loader) {
+        this(loader, System::nanoTime);
+    }
+
+    ReferenceCache(Supplier<List<T>> loader, LongSupplier clock) {
+        this.loader = loader;
+        this.clock = clock;
+    }
+
+    public ReferenceCache<T> addView(String name, Predicate<? super T> filter, Comparator<? super T> order) {
+        views.put(name, new View<>(filter, order));
+        return this;
+    }
+
+    public ReferenceCache<T> addView(String name, Comparator<? super T> order) {
+        return addView(name, element -> true, order);
+    }
+
+    public void configure(long timeToLiveSeconds, int maxSize) {
+        if (timeToLiveSeconds < 0) {
+            throw new IllegalArgumentException("time to live is less than 0");
+        }
+
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("max size is less than 0");
+        }
+
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(timeToLiveSeconds);
+        this.maxSize = maxSize;
+        invalidate();
+    }
+
+    public List<T> getAll() {
+        return current().getAll();
+    }
+
+    public List<T> getView(String name) {
+        List<T> view = current().getView(name);
+
+        if (view == null) {
+            throw new IllegalArgumentException("unknown view " + name);
+        }
+
+        return view;
+    }
+
+    public void evict() {
+        invalidate();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    private Snapshot<T> current() {
+        Snapshot<T> currentSnapshot = snapshot;
+
+        if (currentSnapshot != null && clock.getAsLong() - currentSnapshot.getLoadedAt() < timeToLiveNanos) {
+            return currentSnapshot;
+        }
+
+        long loadGeneration = getGeneration();
+        Snapshot<T> loadedSnapshot = load();
+
+        if (loadedSnapshot.getAll().size() <= maxSize) {
+            store(loadedSnapshot, loadGeneration);
+        }
+
+        return loadedSnapshot;
+    }
+
+    private Snapshot<T> load() {
+        long loadedAt = clock.getAsLong();
+        List<T> all = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+        Map<String, List<T>> viewLists = new LinkedHashMap<>();
+
+        views.forEach((name, view) -> viewLists.put(name, view.apply(all)));
+
+        return new Snapshot<>(loadedAt, all, viewLists);
+    }
+
+    private synchronized long getGeneration() {
+        return generation;
+    }
+
+    private synchronized void store(Snapshot<T> loadedSnapshot, long loadGeneration) {
+        if (generation == loadGeneration) {
+            snapshot = loadedSnapshot;
+        }
+    }
+
+    private synchronized void invalidate() {
+        generation++;
+        snapshot = null;
+    }
+
+    private static final class View<T> {
+        private final Predicate<? super T> filter;
+        private final Comparator<? super T> order;
+
+        private View(Predicate<? super T> filter, Comparator<? super T> order) {
+            this.filter = filter;
+            this.order = order;
+        }
+
+        private List<T> apply(List<T> all) {
+            return Collections.unmodifiableList(all.stream()
+                    .filter(filter)
+                    .sorted(order)
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    private static final class Snapshot<T> {
+        private final long loadedAt;
+        private final List<T> all;
+        private final Map<String, List<T>> views;
+
+        private Snapshot(long loadedAt, List<T> all, Map<String, List<T>> views) {
+            this.loadedAt = loadedAt;
+            this.all = all;
+            this.views = views;
+        }
+
+        private long getLoadedAt() {
+            return loadedAt;
+        }
+
+        private List<T> getAll() {
+            return all;
+        }
+
+        private List<T> getView(String name) {
+            return views.get(name);
+        }
+    }
+}
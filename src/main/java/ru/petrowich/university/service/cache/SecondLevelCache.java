@@ -0,0 +1,62 @@
+package ru.petrowich.university.service.cache;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.schedule.CourseGroupsChangedEvent;
+import ru.petrowich.university.schedule.GroupCoursesChangedEvent;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+public class SecondLevelCache {
+    public static final String COURSE_GROUPS_ROLE = Course.class.getName() + ".groups";
+    public static final String GROUP_COURSES_ROLE = Group.class.getName() + ".courses";
+    public static final String GROUP_STUDENTS_ROLE = Group.class.getName() + ".students";
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final SessionFactory sessionFactory;
+
+    @Autowired
+    public SecondLevelCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+    }
+
+    public Statistics getStatistics() {
+        return sessionFactory.getStatistics();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseGroupsChanged(CourseGroupsChangedEvent courseGroupsChangedEvent) {
+        evictCollection(GROUP_COURSES_ROLE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupCoursesChanged(GroupCoursesChangedEvent groupCoursesChangedEvent) {
+        evictCollection(COURSE_GROUPS_ROLE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentsChanged(StudentsChangedEvent studentsChangedEvent) {
+        evictCollection(GROUP_STUDENTS_ROLE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBulkWrite(BulkWriteEvent bulkWriteEvent) {
+        LOGGER.debug("evicting cached {} entities and queries after bulk write", bulkWriteEvent.getEntityClass().getSimpleName());
+        sessionFactory.getCache().evictEntityData(bulkWriteEvent.getEntityClass());
+        sessionFactory.getCache().evictQueryRegions();
+    }
+
+    private void evictCollection(String role) {
+        LOGGER.debug("evicting cached collections {}", role);
+        sessionFactory.getCache().evictCollectionData(role);
+    }
+}
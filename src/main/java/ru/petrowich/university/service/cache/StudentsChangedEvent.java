@@ -0,0 +1,4 @@
+package ru.petrowich.university.service.cache;
+
+public class StudentsChangedEvent {
+}
@@ -0,0 +1,181 @@
+package ru.petrowich.university.service.csv;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Component
+public class BulkCopy {
+    private static final int BATCH_SIZE = 50;
+    private static final int FETCH_SIZE = 500;
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final JdbcTemplate jdbcTemplate;
+    private final Dialect dialect;
+    private final boolean copyEnabled;
+
+    @Autowired
+    public BulkCopy(DataSource dataSource, EntityManagerFactory entityManagerFactory,
+                    @Value("${university.csv.copy-enabled:true}") boolean copyEnabled) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        this.copyEnabled = copyEnabled;
+    }
+
+    public IdAllocator newIdAllocator(String sequenceName, int allocationSize) {
+        String nextValueQuery = dialect.getSequenceNextValString(sequenceName);
+        return new IdAllocator(() -> jdbcTemplate.queryForObject(nextValueQuery, Long.class), allocationSize);
+    }
+
+    public void insert(String table, List<String> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (isCopySupported(connection)) {
+                copyIn(connection.unwrap(PGConnection.class).getCopyAPI(), table, columns, rows);
+            } else {
+                batchInsert(connection, table, columns, rows);
+            }
+
+            return null;
+        });
+    }
+
+    public void export(String query, List<String> header, Writer writer) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (isCopySupported(connection)) {
+                copyOut(connection.unwrap(PGConnection.class).getCopyAPI(), query, writer);
+            } else {
+                selectOut(connection, query, header, writer);
+            }
+
+            return null;
+        });
+    }
+
+    private boolean isCopySupported(Connection connection) throws SQLException {
+        return copyEnabled && connection.isWrapperFor(PGConnection.class);
+    }
+
+    private void copyIn(CopyManager copyManager, String table, List<String> columns, List<Object[]> rows) throws SQLException {
+        String copySql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+
+        try {
+            StringWriter data = new StringWriter();
+            CsvWriter csvWriter = new CsvWriter(data);
+
+            for (Object[] row : rows) {
+                csvWriter.writeRecord(Arrays.asList(row));
+            }
+
+            long numberOfRows = copyManager.copyIn(copySql, new StringReader(data.toString()));
+            LOGGER.debug("copied {} rows into {}", numberOfRows, table);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void batchInsert(Connection connection, String table, List<String> columns, List<Object[]> rows) throws SQLException {
+        String insertSql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
+            int numberOfBatchedRows = 0;
+
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    preparedStatement.setObject(i + 1, toJdbcValue(row[i]));
+                }
+
+                preparedStatement.addBatch();
+
+                if (++numberOfBatchedRows % BATCH_SIZE == 0) {
+                    preparedStatement.executeBatch();
+                }
+            }
+
+            preparedStatement.executeBatch();
+        }
+
+        LOGGER.debug("inserted {} rows into {}", rows.size(), table);
+    }
+
+    private void copyOut(CopyManager copyManager, String query, Writer writer) throws SQLException {
+        try {
+            long numberOfRows = copyManager.copyOut("COPY (" + query + ") TO STDOUT WITH (FORMAT csv, HEADER)", writer);
+            LOGGER.debug("copied out {} rows", numberOfRows);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void selectOut(Connection connection, String query, List<String> header, Writer writer) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatement.setFetchSize(FETCH_SIZE);
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                CsvWriter csvWriter = new CsvWriter(writer).writeRecord(header);
+                List<String> values = new ArrayList<>(header.size());
+                long numberOfRows = 0;
+
+                while (resultSet.next()) {
+                    values.clear();
+
+                    for (int i = 1; i <= header.size(); i++) {
+                        values.add(resultSet.getString(i));
+                    }
+
+                    csvWriter.writeRecord(values);
+                    numberOfRows++;
+                }
+
+                csvWriter.flush();
+                LOGGER.debug("selected out {} rows", numberOfRows);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private Object toJdbcValue(Object value) {
+        if (value instanceof LocalDate) {
+            return java.sql.Date.valueOf((LocalDate) value);
+        }
+
+        if (value instanceof LocalTime) {
+            return java.sql.Time.valueOf((LocalTime) value);
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,40 @@
+package ru.petrowich.university.service.csv;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CsvImportResult {
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private long numberOfImported;
+    private long numberOfRejected;
+    private final List<String> errors = new ArrayList<>();
+
+    public long getNumberOfImported() {
+        return numberOfImported;
+    }
+
+    public long getNumberOfRejected() {
+        return numberOfRejected;
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    public CsvImportResult accept(int numberOfRecords) {
+        numberOfImported += numberOfRecords;
+        return this;
+    }
+
+    public CsvImportResult reject(long lineNumber, String error) {
+        numberOfRejected++;
+
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("line " + lineNumber + ": " + error);
+        }
+
+        return this;
+    }
+}
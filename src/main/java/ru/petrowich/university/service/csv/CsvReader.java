@@ -0,0 +1,129 @@
+package ru.petrowich.university.service.csv;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvReader implements Closeable {
+    private static final int EOF = -1;
+    private static final int BUFFER_SIZE = 8192;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int length;
+    private long lineNumber = 1;
+    private long recordLineNumber;
+
+    public CsvReader(Reader reader) {
+        if (reader == null) {
+            throw new IllegalArgumentException("null is passed instead reader");
+        }
+
+        this.reader = reader;
+    }
+
+    public List<String> readRecord() throws IOException {
+        List<String> fields;
+
+        do {
+            fields = readFields();
+        } while (fields != null && isBlank(fields));
+
+        return fields;
+    }
+
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private List<String> readFields() throws IOException {
+        recordLineNumber = lineNumber;
+        int character = read();
+
+        if (character == EOF) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (character == EOF) {
+                    throw new IllegalArgumentException("quoted field is not closed at line " + recordLineNumber);
+                }
+
+                if (character == QUOTE) {
+                    character = read();
+
+                    if (character != QUOTE) {
+                        quoted = false;
+                        continue;
+                    }
+                } else if (character == '\n') {
+                    lineNumber++;
+                }
+
+                field.append((char) character);
+            } else if (character == QUOTE && !wasQuoted && field.length() == 0) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (character == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (character == '\r' || character == '\n' || character == EOF) {
+                if (character == '\r') {
+                    skipLineFeed();
+                }
+
+                if (character != EOF) {
+                    lineNumber++;
+                }
+
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) character);
+            }
+
+            character = read();
+        }
+    }
+
+    private boolean isBlank(List<String> fields) {
+        return fields.size() == 1 && fields.get(0).isEmpty();
+    }
+
+    private void skipLineFeed() throws IOException {
+        if (read() != '\n' && position > 0) {
+            position--;
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == length) {
+            length = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+
+            if (length <= 0) {
+                length = 0;
+                return EOF;
+            }
+        }
+
+        return buffer[position++];
+    }
+}
@@ -0,0 +1,32 @@
+package ru.petrowich.university.service.csv;
+
+import java.util.List;
+import java.util.Map;
+
+public class CsvRecord {
+    private final Map<String, Integer> columnIndexes;
+    private final List<String> values;
+    private final long lineNumber;
+
+    public CsvRecord(Map<String, Integer> columnIndexes, List<String> values, long lineNumber) {
+        this.columnIndexes = columnIndexes;
+        this.values = values;
+        this.lineNumber = lineNumber;
+    }
+
+    public String get(String column) {
+        Integer index = columnIndexes.get(column);
+
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+
+        String value = values.get(index).trim();
+
+        return value.isEmpty() ? null : value;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+}
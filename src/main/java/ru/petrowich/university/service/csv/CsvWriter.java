@@ -0,0 +1,83 @@
+package ru.petrowich.university.service.csv;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public class CsvWriter implements Flushable {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+
+    private final Writer writer;
+
+    public CsvWriter(Writer writer) {
+        if (writer == null) {
+            throw new IllegalArgumentException("null is passed instead writer");
+        }
+
+        this.writer = writer;
+    }
+
+    public CsvWriter writeRecord(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+
+            writeField(values.get(i));
+        }
+
+        writer.write(LINE_FEED);
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+
+        String field = value.toString();
+
+        if (!isQuotingRequired(field)) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write(QUOTE);
+
+        for (int i = 0; i < field.length(); i++) {
+            char character = field.charAt(i);
+
+            if (character == QUOTE) {
+                writer.write(QUOTE);
+            }
+
+            writer.write(character);
+        }
+
+        writer.write(QUOTE);
+    }
+
+    private boolean isQuotingRequired(String field) {
+        if (field.isEmpty()) {
+            return true;
+        }
+
+        for (int i = 0; i < field.length(); i++) {
+            char character = field.charAt(i);
+
+            if (character == SEPARATOR || character == QUOTE || character == LINE_FEED || character == '\r') {
+                return true;
+            }
+        }
+
+        return Character.isWhitespace(field.charAt(0)) || Character.isWhitespace(field.charAt(field.length() - 1));
+    }
+}
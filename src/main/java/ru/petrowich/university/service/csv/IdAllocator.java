@@ -0,0 +1,28 @@
+package ru.petrowich.university.service.csv;
+
+import java.util.function.LongSupplier;
+
+public class IdAllocator {
+    private final LongSupplier sequence;
+    private final int allocationSize;
+    private long nextId;
+    private long limit;
+
+    IdAllocator(LongSupplier sequence, int allocationSize) {
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("allocation size is less than 1");
+        }
+
+        this.sequence = sequence;
+        this.allocationSize = allocationSize;
+    }
+
+    public long nextId() {
+        if (nextId == limit) {
+            nextId = sequence.getAsLong();
+            limit = nextId + allocationSize;
+        }
+
+        return nextId++;
+    }
+}
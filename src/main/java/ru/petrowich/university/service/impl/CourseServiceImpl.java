@@ -2,17 +2,38 @@ package ru.petrowich.university.service.impl;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.repository.CourseRepository;
+import ru.petrowich.university.repository.projection.CourseListItem;
 import ru.petrowich.university.repository.GroupRepository;
+import ru.petrowich.university.schedule.ConflictBatch;
+import ru.petrowich.university.schedule.CourseGroupsChangedEvent;
+import ru.petrowich.university.schedule.ScheduleConflictDetector;
 import ru.petrowich.university.service.CourseService;
+import ru.petrowich.university.service.batch.BatchItemResult;
+import ru.petrowich.university.service.batch.CourseGroupAssignment;
+import ru.petrowich.university.service.cache.LecturersChangedEvent;
+import ru.petrowich.university.service.cache.ReferenceCache;
 import org.springframework.transaction.annotation.Transactional;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.function.Consumer;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -22,16 +43,45 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 @Service
 public class CourseServiceImpl implements CourseService {
+    private static final String VIEW_ACTIVE = "active";
+    private static final String VIEW_ACTIVE_WITH_ACTIVE_AUTHOR = "activeWithActiveAuthor";
+    private static final Comparator<Course> COURSE_NAME_ORDER = Comparator.comparing(Course::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+    private static final Comparator<Group> GROUP_ID_ORDER = Comparator.comparing(Group::getId);
+
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final Validator validator;
     private final GroupRepository groupRepository;
     private final CourseRepository courseRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ScheduleConflictDetector scheduleConflictDetector;
+    private final ReferenceCache<Course> courseCache;
+    private final ReferenceCache<Course> activeCourseCache;
 
     @Autowired
-    public CourseServiceImpl(Validator validator, CourseRepository courseRepository, GroupRepository groupRepository) {
+    public CourseServiceImpl(Validator validator, CourseRepository courseRepository, GroupRepository groupRepository,
+                             ApplicationEventPublisher applicationEventPublisher, ScheduleConflictDetector scheduleConflictDetector) {
         this.validator = validator;
         this.courseRepository = courseRepository;
         this.groupRepository = groupRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.scheduleConflictDetector = scheduleConflictDetector;
+        this.courseCache = new ReferenceCache<>(courseRepository::findAll);
+        this.activeCourseCache = new ReferenceCache<>(courseRepository::findByActiveTrue)
+                .addView(VIEW_ACTIVE, COURSE_NAME_ORDER)
+                .addView(VIEW_ACTIVE_WITH_ACTIVE_AUTHOR, this::isActiveWithActiveAuthor, COURSE_NAME_ORDER);
+    }
+
+    @Autowired
+    public void configureCache(@Value("${university.cache.reference.time-to-live-seconds:600}") long timeToLiveSeconds,
+                               @Value("${university.cache.reference.max-size:10000}") int maxSize) {
+        courseCache.configure(timeToLiveSeconds, maxSize);
+        activeCourseCache.configure(timeToLiveSeconds, maxSize);
+    }
+
+    @EventListener
+    public void onLecturersChanged(LecturersChangedEvent lecturersChangedEvent) {
+        LOGGER.debug("lecturers changed, evicting cached courses");
+        evictCache();
     }
 
     @Override
@@ -57,7 +107,29 @@ public class CourseServiceImpl implements CourseService {
 
         checkViolations(course);
 
-        return courseRepository.save(course);
+        Course actualCourse = courseRepository.save(course);
+        evictCache();
+        applicationEventPublisher.publishEvent(new CourseGroupsChangedEvent(course));
+
+        return actualCourse;
+    }
+
+    @Override
+    @Transactional
+    public List<Course> addAll(List<Course> courses) {
+        LOGGER.debug("addAll {} courses", courses == null ? null : courses.size());
+
+        if (courses == null) {
+            throw new IllegalArgumentException("null is passed instead courses");
+        }
+
+        courses.forEach(this::checkViolations);
+
+        List<Course> actualCourses = courseRepository.saveAll(courses);
+        evictCache();
+        courses.forEach(course -> applicationEventPublisher.publishEvent(new CourseGroupsChangedEvent(course)));
+
+        return actualCourses;
     }
 
     @Override
@@ -70,7 +142,11 @@ public class CourseServiceImpl implements CourseService {
 
         checkViolations(course);
 
-        return courseRepository.save(course);
+        Course actualCourse = courseRepository.save(course);
+        evictCache();
+        applicationEventPublisher.publishEvent(new CourseGroupsChangedEvent(course));
+
+        return actualCourse;
     }
 
     @Override
@@ -82,60 +158,237 @@ public class CourseServiceImpl implements CourseService {
             Course currentCourse = optionalCourse.get();
             currentCourse.setActive(false);
             courseRepository.save(course);
+            evictCache();
         }
     }
 
     @Override
     public List<Course> getAll() {
         LOGGER.debug("getAll");
-        return courseRepository.findAll();
+        return courseCache.getAll();
+    }
+
+    @Override
+    public List<Course> getActive() {
+        LOGGER.debug("getActive");
+        return activeCourseCache.getView(VIEW_ACTIVE);
+    }
+
+    @Override
+    public List<Course> getActiveWithActiveAuthor() {
+        LOGGER.debug("getActiveWithActiveAuthor");
+        return activeCourseCache.getView(VIEW_ACTIVE_WITH_ACTIVE_AUTHOR);
+    }
+
+    @Override
+    public List<Course> getPage(Course after, int size) {
+        LOGGER.debug("getPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return courseRepository.findAllByOrderByIdAsc(pageRequest);
+        }
+
+        return courseRepository.findByIdGreaterThanOrderByIdAsc(after.getId(), pageRequest);
+    }
+
+    @Override
+    public List<CourseListItem> getListPage(Course after, int size) {
+        LOGGER.debug("getListPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return courseRepository.findListItems(pageRequest);
+        }
+
+        return courseRepository.findListItemsAfter(after.getId(), pageRequest);
+    }
+
+    @Override
+    public void forEachListItem(Consumer<? super CourseListItem> action) {
+        LOGGER.debug("forEachListItem");
+
+        try (Stream<CourseListItem> listItems = courseRepository.streamListItems()) {
+            listItems.forEach(action);
+        }
     }
 
     @Override
-    public void assignGroupToCourse(Group group, Course course) {
+    public List<Group> assignGroupToCourse(Group group, Course course) {
         LOGGER.debug("assign Group {} to Course {}", group, course);
-        Optional<Group> optionalCurrentGroup = groupRepository.findById(group.getId());
-        Optional<Course> optionalCurrentCourse = courseRepository.findById(course.getId());
+        Set<Integer> groupIds = Collections.singleton(group.getId());
 
-        if (optionalCurrentCourse.isPresent() && optionalCurrentGroup.isPresent()) {
-            Group currentGroup = optionalCurrentGroup.get();
-            Course currentCourse = optionalCurrentCourse.get();
-            List<Group> currentGroups = currentCourse.getGroups();
+        scheduleConflictDetector.checkCourseGroups(course.getId(), groupIds);
+        int numberOfAssigned = courseRepository.insertCourseGroups(course.getId(), groupIds);
+        List<Group> currentGroups = courseRepository.findGroupsByCourseId(course.getId());
 
-            if (!currentGroups.contains(group)) {
-                currentGroups.add(currentGroup);
-                courseRepository.save(currentCourse);
+        if (numberOfAssigned > 0) {
+            publishCourseGroupsChanged(course.getId(), currentGroups);
+        }
+
+        return currentGroups;
+    }
+
+    @Override
+    public List<BatchItemResult<CourseGroupAssignment>> assignGroupsToCourses(List<CourseGroupAssignment> courseGroupAssignments) {
+        LOGGER.debug("assignGroupsToCourses {} assignments", courseGroupAssignments == null ? null : courseGroupAssignments.size());
+
+        if (courseGroupAssignments == null) {
+            throw new IllegalArgumentException("null is passed instead courseGroupAssignments");
+        }
+
+        Set<Integer> courseIds = courseGroupAssignments.stream()
+                .filter(Objects::nonNull)
+                .map(CourseGroupAssignment::getCourseId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Set<Integer> groupIds = courseGroupAssignments.stream()
+                .filter(Objects::nonNull)
+                .map(CourseGroupAssignment::getGroupId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Set<Integer> existingCourseIds = courseIds.isEmpty() ? Collections.emptySet() : courseRepository.findIdsByIdIn(courseIds);
+        Set<Integer> existingGroupIds = groupIds.isEmpty() ? Collections.emptySet() : groupRepository.findIdsByIdIn(groupIds);
+
+        List<BatchItemResult<CourseGroupAssignment>> results = new ArrayList<>(courseGroupAssignments.size());
+        Map<Integer, Set<Integer>> acceptedGroupIds = new LinkedHashMap<>();
+        ConflictBatch conflictBatch = scheduleConflictDetector.startBatch();
+
+        for (int index = 0; index < courseGroupAssignments.size(); index++) {
+            CourseGroupAssignment courseGroupAssignment = courseGroupAssignments.get(index);
+            BatchItemResult<CourseGroupAssignment> result = new BatchItemResult<>(index, courseGroupAssignment);
+            results.add(result);
+
+            if (courseGroupAssignment == null || courseGroupAssignment.getCourseId() == null || courseGroupAssignment.getGroupId() == null) {
+                result.reject("null is passed instead course id or group id");
+                continue;
+            }
+
+            Integer courseId = courseGroupAssignment.getCourseId();
+            Integer groupId = courseGroupAssignment.getGroupId();
+
+            if (!existingCourseIds.contains(courseId)) {
+                result.reject("course id=" + courseId + " is not found");
+            }
+
+            if (!existingGroupIds.contains(groupId)) {
+                result.reject("group id=" + groupId + " is not found");
+            }
+
+            Set<Integer> courseGroupIds = acceptedGroupIds.getOrDefault(courseId, Collections.emptySet());
+
+            if (result.isAccepted() && !courseGroupIds.contains(groupId)) {
+                String conflict = scheduleConflictDetector.findCourseGroupConflicts(courseId,
+                        Collections.singletonList(groupId), conflictBatch).get(0);
+
+                if (conflict != null) {
+                    result.reject(conflict);
+                    continue;
+                }
+
+                acceptedGroupIds.computeIfAbsent(courseId, key -> new LinkedHashSet<>()).add(groupId);
             }
         }
+
+        Set<Integer> changedCourseIds = new LinkedHashSet<>();
+        acceptedGroupIds.forEach((courseId, courseGroupIds) -> {
+            if (courseRepository.insertCourseGroups(courseId, courseGroupIds) > 0) {
+                changedCourseIds.add(courseId);
+            }
+        });
+
+        if (!changedCourseIds.isEmpty()) {
+            Map<Integer, List<Group>> currentGroups = new HashMap<>();
+            courseRepository.findCourseGroupIdsByCourseIdIn(changedCourseIds).forEach(courseGroupIds ->
+                    currentGroups.computeIfAbsent(courseGroupIds.getCourseId(), key -> new ArrayList<>())
+                            .add(new Group().setId(courseGroupIds.getGroupId())));
+            changedCourseIds.forEach(courseId -> publishCourseGroupsChanged(courseId, currentGroups.getOrDefault(courseId, new ArrayList<>())));
+        }
+
+        LOGGER.info("assigned groups to {} courses by {} assignments", changedCourseIds.size(), courseGroupAssignments.size());
+
+        return results;
     }
 
     @Override
-    public void removeGroupFromCourse(Group group, Course course) {
+    public List<Group> removeGroupFromCourse(Group group, Course course) {
         LOGGER.debug("remove Group {} from Course {}", group, course);
-        Optional<Course> optionalCurrentCourse = courseRepository.findById(course.getId());
+        List<Group> currentGroups = courseRepository.findGroupsByCourseId(course.getId());
 
-        if (optionalCurrentCourse.isPresent()) {
-            Course currentCourse = optionalCurrentCourse.get();
-            currentCourse.getGroups().remove(group);
-            courseRepository.save(currentCourse);
+        if (currentGroups.removeIf(currentGroup -> Objects.equals(currentGroup.getId(), group.getId()))) {
+            courseRepository.deleteCourseGroups(course.getId(), Collections.singleton(group.getId()));
+            publishCourseGroupsChanged(course.getId(), currentGroups);
         }
+
+        return currentGroups;
     }
 
     @Override
-    public void applyGroupsToCourse(List<Group> groups, Course course) {
+    public List<Group> applyGroupsToCourse(List<Group> groups, Course course) {
         LOGGER.debug("apply {} groups to course {}", groups.size(), course);
-        Optional<Course> optionalCurrentCourse = courseRepository.findById(course.getId());
-
-        if (optionalCurrentCourse.isPresent()) {
-            List<Integer> groupIds = groups.stream()
-                    .filter(Objects::nonNull)
-                    .map(Group::getId)
-                    .collect(Collectors.toList());
-            List<Group> actualGroups = groupRepository.findAllById(groupIds);
-            Course currentCourse = optionalCurrentCourse.get();
-            currentCourse.setGroups(actualGroups);
-            courseRepository.save(currentCourse);
+
+        if (!courseRepository.findById(course.getId()).isPresent()) {
+            return new ArrayList<>();
         }
+
+        Set<Integer> groupIds = groups.stream()
+                .filter(Objects::nonNull)
+                .map(Group::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        List<Group> actualGroups = groupIds.isEmpty() ? new ArrayList<>() : groupRepository.findAllById(groupIds);
+        Set<Integer> actualGroupIds = toGroupIds(actualGroups);
+        Set<Integer> currentGroupIds = toGroupIds(courseRepository.findGroupsByCourseId(course.getId()));
+
+        Set<Integer> removedGroupIds = new LinkedHashSet<>(currentGroupIds);
+        removedGroupIds.removeAll(actualGroupIds);
+
+        Set<Integer> addedGroupIds = new LinkedHashSet<>(actualGroupIds);
+        addedGroupIds.removeAll(currentGroupIds);
+
+        if (!removedGroupIds.isEmpty() || !addedGroupIds.isEmpty()) {
+            scheduleConflictDetector.checkCourseGroups(course.getId(), addedGroupIds);
+            courseRepository.deleteCourseGroups(course.getId(), removedGroupIds);
+            courseRepository.insertCourseGroups(course.getId(), addedGroupIds);
+            publishCourseGroupsChanged(course.getId(), actualGroups);
+        }
+
+        LOGGER.info("applied groups to course id={}: {} added, {} removed", course.getId(), addedGroupIds.size(), removedGroupIds.size());
+
+        actualGroups.sort(GROUP_ID_ORDER);
+        return actualGroups;
+    }
+
+    private Set<Integer> toGroupIds(List<Group> groups) {
+        return groups.stream()
+                .map(Group::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private void publishCourseGroupsChanged(Integer courseId, List<Group> groups) {
+        Course changedCourse = new Course().setId(courseId).setGroups(new ArrayList<>(groups));
+        applicationEventPublisher.publishEvent(new CourseGroupsChangedEvent(changedCourse));
+    }
+
+    private void evictCache() {
+        courseCache.evict();
+        activeCourseCache.evict();
+    }
+
+    private boolean isActiveWithActiveAuthor(Course course) {
+        return course.isActive() && course.getAuthor().getId() != null && course.getAuthor().isActive();
     }
 
     private void checkViolations(Course course) {
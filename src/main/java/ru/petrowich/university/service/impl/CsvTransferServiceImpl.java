@@ -0,0 +1,486 @@
+package ru.petrowich.university.service.impl;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.repository.CourseRepository;
+import ru.petrowich.university.repository.GroupRepository;
+import ru.petrowich.university.repository.LecturerRepository;
+import ru.petrowich.university.repository.TimeSlotRepository;
+import ru.petrowich.university.schedule.ConflictBatch;
+import ru.petrowich.university.schedule.LessonsSavedEvent;
+import ru.petrowich.university.schedule.ScheduleConflictDetector;
+import ru.petrowich.university.service.CsvTransferService;
+import ru.petrowich.university.service.cache.BulkWriteEvent;
+import ru.petrowich.university.service.cache.StudentsChangedEvent;
+import ru.petrowich.university.service.csv.BulkCopy;
+import ru.petrowich.university.service.csv.CsvImportResult;
+import ru.petrowich.university.service.csv.CsvReader;
+import ru.petrowich.university.service.csv.CsvRecord;
+import ru.petrowich.university.service.csv.IdAllocator;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Service
+public class CsvTransferServiceImpl implements CsvTransferService {
+    public static final String COLUMN_FIRST_NAME = "first_name";
+    public static final String COLUMN_LAST_NAME = "last_name";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_COMMENT = "comment";
+    public static final String COLUMN_GROUP_NAME = "group_name";
+    public static final String COLUMN_ACTIVE = "active";
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_CAPACITY = "capacity";
+    public static final String COLUMN_LESSON_DATE = "lesson_date";
+    public static final String COLUMN_START_TIME = "start_time";
+    public static final String COLUMN_END_TIME = "end_time";
+    public static final String COLUMN_COURSE_NAME = "course_name";
+    public static final String COLUMN_LECTURER_EMAIL = "lecturer_email";
+    public static final String COLUMN_TIMESLOT_NAME = "timeslot_name";
+
+    public static final List<String> STUDENT_COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            COLUMN_FIRST_NAME, COLUMN_LAST_NAME, COLUMN_EMAIL, COLUMN_COMMENT, COLUMN_GROUP_NAME, COLUMN_ACTIVE));
+    public static final List<String> GROUP_COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            COLUMN_NAME, COLUMN_CAPACITY, COLUMN_ACTIVE));
+    public static final List<String> LESSON_COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            COLUMN_LESSON_DATE, COLUMN_START_TIME, COLUMN_END_TIME, COLUMN_COURSE_NAME, COLUMN_LECTURER_EMAIL, COLUMN_TIMESLOT_NAME));
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final int STUDENT_ROLE_ID = 1;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private static final String SEQUENCE_PERSONS = "seq_persons";
+    private static final String SEQUENCE_GROUPS = "seq_groups";
+    private static final String SEQUENCE_LESSONS = "seq_lessons";
+
+    private static final String TABLE_PERSONS = "t_persons";
+    private static final String TABLE_GROUPS_STUDENTS = "t_groups_students";
+    private static final String TABLE_GROUPS = "t_groups";
+    private static final String TABLE_LESSONS = "t_lessons";
+
+    private static final List<String> PERSON_TABLE_COLUMNS = Arrays.asList("person_id", "person_first_name",
+            "person_last_name", "person_role_id", "person_email", "person_comment", "person_active");
+    private static final List<String> GROUP_STUDENT_TABLE_COLUMNS = Arrays.asList("group_id", "student_id");
+    private static final List<String> GROUP_TABLE_COLUMNS = Arrays.asList("group_id", "group_name", "group_capacity",
+            "group_active");
+    private static final List<String> LESSON_TABLE_COLUMNS = Arrays.asList("lesson_id", "course_id", "lecturer_id",
+            "timeslot_id", "lesson_date", "lesson_start_time", "lesson_end_time");
+
+    private static final String SELECT_STUDENTS = "SELECT p.person_first_name AS first_name, p.person_last_name AS last_name, " +
+            "p.person_email AS email, p.person_comment AS comment, g.group_name AS group_name, " +
+            "CASE WHEN p.person_active THEN 'true' ELSE 'false' END AS active " +
+            "FROM t_persons p " +
+            "LEFT JOIN t_groups_students gs ON gs.student_id = p.person_id " +
+            "LEFT JOIN t_groups g ON g.group_id = gs.group_id " +
+            "WHERE p.person_role_id = " + STUDENT_ROLE_ID + " " +
+            "ORDER BY p.person_id";
+    private static final String SELECT_GROUPS = "SELECT g.group_name AS name, g.group_capacity AS capacity, " +
+            "CASE WHEN g.group_active THEN 'true' ELSE 'false' END AS active " +
+            "FROM t_groups g " +
+            "ORDER BY g.group_id";
+    private static final String SELECT_LESSONS = "SELECT l.lesson_date AS lesson_date, l.lesson_start_time AS start_time, " +
+            "l.lesson_end_time AS end_time, c.course_name AS course_name, p.person_email AS lecturer_email, " +
+            "ts.timeslot_name AS timeslot_name " +
+            "FROM t_lessons l " +
+            "LEFT JOIN t_courses c ON c.course_id = l.course_id " +
+            "LEFT JOIN t_persons p ON p.person_id = l.lecturer_id " +
+            "LEFT JOIN t_timeslots ts ON ts.timeslot_id = l.timeslot_id " +
+            "ORDER BY l.lesson_date, l.lesson_start_time, l.lesson_id";
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final Validator validator;
+    private final GroupRepository groupRepository;
+    private final CourseRepository courseRepository;
+    private final LecturerRepository lecturerRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final ScheduleConflictDetector scheduleConflictDetector;
+    private final BulkCopy bulkCopy;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    public CsvTransferServiceImpl(Validator validator, GroupRepository groupRepository, CourseRepository courseRepository,
+                                  LecturerRepository lecturerRepository, TimeSlotRepository timeSlotRepository,
+                                  ScheduleConflictDetector scheduleConflictDetector, BulkCopy bulkCopy,
+                                  ApplicationEventPublisher applicationEventPublisher) {
+        this.validator = validator;
+        this.groupRepository = groupRepository;
+        this.courseRepository = courseRepository;
+        this.lecturerRepository = lecturerRepository;
+        this.timeSlotRepository = timeSlotRepository;
+        this.scheduleConflictDetector = scheduleConflictDetector;
+        this.bulkCopy = bulkCopy;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public CsvImportResult importStudents(Reader reader) {
+        LOGGER.debug("importStudents");
+
+        Map<String, Group> groupsByName = toLookup(groupRepository.findAll(), Group::getName);
+        IdAllocator personIds = bulkCopy.newIdAllocator(SEQUENCE_PERSONS, ID_ALLOCATION_SIZE);
+
+        CsvImportResult result = importRecords(reader, Collections.singletonList(COLUMN_EMAIL),
+                record -> toStudent(record, groupsByName),
+                students -> writeStudents(students, personIds));
+
+        if (result.getNumberOfImported() > 0) {
+            applicationEventPublisher.publishEvent(new BulkWriteEvent(Student.class));
+            applicationEventPublisher.publishEvent(new StudentsChangedEvent());
+        }
+
+        LOGGER.info("imported {} students, rejected {}", result.getNumberOfImported(), result.getNumberOfRejected());
+
+        return result;
+    }
+
+    @Override
+    public CsvImportResult importGroups(Reader reader) {
+        LOGGER.debug("importGroups");
+
+        IdAllocator groupIds = bulkCopy.newIdAllocator(SEQUENCE_GROUPS, ID_ALLOCATION_SIZE);
+
+        CsvImportResult result = importRecords(reader, Arrays.asList(COLUMN_NAME, COLUMN_CAPACITY),
+                this::toGroup,
+                groups -> writeGroups(groups, groupIds));
+
+        if (result.getNumberOfImported() > 0) {
+            applicationEventPublisher.publishEvent(new BulkWriteEvent(Group.class));
+        }
+
+        LOGGER.info("imported {} groups, rejected {}", result.getNumberOfImported(), result.getNumberOfRejected());
+
+        return result;
+    }
+
+    @Override
+    public CsvImportResult importLessons(Reader reader) {
+        LOGGER.debug("importLessons");
+
+        Map<String, Course> coursesByName = toLookup(courseRepository.findAll(), Course::getName);
+        Map<String, Lecturer> lecturersByEmail = toLookup(lecturerRepository.findAll(), Lecturer::getEmail);
+        Map<String, TimeSlot> timeSlotsByName = toLookup(timeSlotRepository.findAll(), TimeSlot::getName);
+        IdAllocator lessonIds = bulkCopy.newIdAllocator(SEQUENCE_LESSONS, ID_ALLOCATION_SIZE);
+        ConflictBatch conflictBatch = scheduleConflictDetector.startBatch();
+
+        CsvImportResult result = importRecords(reader, Arrays.asList(COLUMN_LESSON_DATE, COLUMN_COURSE_NAME, COLUMN_LECTURER_EMAIL),
+                record -> toLesson(record, coursesByName, lecturersByEmail, timeSlotsByName, conflictBatch),
+                lessons -> writeLessons(lessons, lessonIds));
+
+        if (result.getNumberOfImported() > 0) {
+            applicationEventPublisher.publishEvent(new BulkWriteEvent(Lesson.class));
+        }
+
+        LOGGER.info("imported {} lessons, rejected {}", result.getNumberOfImported(), result.getNumberOfRejected());
+
+        return result;
+    }
+
+    @Override
+    public void exportStudents(Writer writer) {
+        LOGGER.debug("exportStudents");
+        bulkCopy.export(SELECT_STUDENTS, STUDENT_COLUMNS, writer);
+    }
+
+    @Override
+    public void exportGroups(Writer writer) {
+        LOGGER.debug("exportGroups");
+        bulkCopy.export(SELECT_GROUPS, GROUP_COLUMNS, writer);
+    }
+
+    @Override
+    public void exportLessons(Writer writer) {
+        LOGGER.debug("exportLessons");
+        bulkCopy.export(SELECT_LESSONS, LESSON_COLUMNS, writer);
+    }
+
+    private <T> CsvImportResult importRecords(Reader reader, List<String> requiredColumns,
+                                              Function<CsvRecord, T> parser, Consumer<List<T>> chunkWriter) {
+        if (reader == null) {
+            throw new IllegalArgumentException("null is passed instead reader");
+        }
+
+        CsvImportResult result = new CsvImportResult();
+
+        try (CsvReader csvReader = new CsvReader(reader)) {
+            Map<String, Integer> columnIndexes = readHeader(csvReader, requiredColumns);
+            List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+            List<String> values;
+
+            while ((values = csvReader.readRecord()) != null) {
+                CsvRecord record = new CsvRecord(columnIndexes, values, csvReader.getRecordLineNumber());
+
+                try {
+                    chunk.add(parser.apply(record));
+                } catch (IllegalArgumentException exception) {
+                    result.reject(record.getLineNumber(), exception.getMessage());
+                    continue;
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    chunkWriter.accept(chunk);
+                    result.accept(chunk.size());
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                chunkWriter.accept(chunk);
+                result.accept(chunk.size());
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        return result;
+    }
+
+    private Map<String, Integer> readHeader(CsvReader csvReader, List<String> requiredColumns) throws IOException {
+        List<String> header = csvReader.readRecord();
+
+        if (header == null) {
+            throw new IllegalArgumentException("csv header is missing");
+        }
+
+        Map<String, Integer> columnIndexes = new HashMap<>();
+
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i);
+
+            if (i == 0 && !column.isEmpty() && column.charAt(0) == BYTE_ORDER_MARK) {
+                column = column.substring(1);
+            }
+
+            columnIndexes.putIfAbsent(column.trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        requiredColumns.stream()
+                .filter(column -> !columnIndexes.containsKey(column))
+                .findFirst()
+                .ifPresent(column -> {
+                    throw new IllegalArgumentException("csv header has no column " + column);
+                });
+
+        return columnIndexes;
+    }
+
+    private Student toStudent(CsvRecord record, Map<String, Group> groupsByName) {
+        Student student = new Student()
+                .setFirstName(record.get(COLUMN_FIRST_NAME))
+                .setLastName(record.get(COLUMN_LAST_NAME))
+                .setEmail(record.get(COLUMN_EMAIL))
+                .setComment(record.get(COLUMN_COMMENT))
+                .setActive(parseBoolean(record.get(COLUMN_ACTIVE), COLUMN_ACTIVE))
+                .setGroup(lookup(groupsByName, record.get(COLUMN_GROUP_NAME), "group"));
+
+        checkViolations(student);
+
+        return student;
+    }
+
+    private Group toGroup(CsvRecord record) {
+        Group group = new Group()
+                .setName(record.get(COLUMN_NAME))
+                .setCapacity(parseInteger(record.get(COLUMN_CAPACITY), COLUMN_CAPACITY))
+                .setActive(parseBoolean(record.get(COLUMN_ACTIVE), COLUMN_ACTIVE));
+
+        checkViolations(group);
+
+        return group;
+    }
+
+    private Lesson toLesson(CsvRecord record, Map<String, Course> coursesByName, Map<String, Lecturer> lecturersByEmail,
+                            Map<String, TimeSlot> timeSlotsByName, ConflictBatch conflictBatch) {
+        Course course = lookup(coursesByName, record.get(COLUMN_COURSE_NAME), "course");
+        Lecturer lecturer = lookup(lecturersByEmail, record.get(COLUMN_LECTURER_EMAIL), "lecturer");
+        TimeSlot timeSlot = lookup(timeSlotsByName, record.get(COLUMN_TIMESLOT_NAME), "timeslot");
+
+        if (course == null) {
+            throw new IllegalArgumentException("course name is empty");
+        }
+
+        if (lecturer == null) {
+            throw new IllegalArgumentException("lecturer email is empty");
+        }
+
+        LocalTime startTime = parseTime(record.get(COLUMN_START_TIME), COLUMN_START_TIME);
+        LocalTime endTime = parseTime(record.get(COLUMN_END_TIME), COLUMN_END_TIME);
+
+        Lesson lesson = new Lesson()
+                .setDate(parseDate(record.get(COLUMN_LESSON_DATE), COLUMN_LESSON_DATE))
+                .setCourse(course)
+                .setLecturer(lecturer)
+                .setTimeSlot(timeSlot)
+                .setStartTime(startTime == null && timeSlot != null ? timeSlot.getStartTime() : startTime)
+                .setEndTime(endTime == null && timeSlot != null ? timeSlot.getEndTime() : endTime);
+
+        checkViolations(lesson);
+
+        String conflict = scheduleConflictDetector.findConflicts(Collections.singletonList(lesson), conflictBatch).get(0);
+
+        if (conflict != null) {
+            throw new IllegalArgumentException(conflict);
+        }
+
+        return lesson;
+    }
+
+    private void writeStudents(List<Student> students, IdAllocator personIds) {
+        List<Object[]> personRows = new ArrayList<>(students.size());
+        List<Object[]> groupStudentRows = new ArrayList<>(students.size());
+
+        for (Student student : students) {
+            student.setId(Math.toIntExact(personIds.nextId()));
+            personRows.add(new Object[]{student.getId(), student.getFirstName(), student.getLastName(), STUDENT_ROLE_ID,
+                    student.getEmail(), student.getComment(), student.isActive()});
+
+            if (student.getGroup().getId() != null) {
+                groupStudentRows.add(new Object[]{student.getGroup().getId(), student.getId()});
+            }
+        }
+
+        bulkCopy.insert(TABLE_PERSONS, PERSON_TABLE_COLUMNS, personRows);
+        bulkCopy.insert(TABLE_GROUPS_STUDENTS, GROUP_STUDENT_TABLE_COLUMNS, groupStudentRows);
+    }
+
+    private void writeGroups(List<Group> groups, IdAllocator groupIds) {
+        List<Object[]> groupRows = new ArrayList<>(groups.size());
+
+        for (Group group : groups) {
+            group.setId(Math.toIntExact(groupIds.nextId()));
+            groupRows.add(new Object[]{group.getId(), group.getName(), group.getCapacity(), group.isActive()});
+        }
+
+        bulkCopy.insert(TABLE_GROUPS, GROUP_TABLE_COLUMNS, groupRows);
+    }
+
+    private void writeLessons(List<Lesson> lessons, IdAllocator lessonIds) {
+        List<Object[]> lessonRows = new ArrayList<>(lessons.size());
+
+        for (Lesson lesson : lessons) {
+            lesson.setId(lessonIds.nextId());
+            Integer timeSlotId = lesson.getTimeSlot() == null ? null : lesson.getTimeSlot().getId();
+            lessonRows.add(new Object[]{lesson.getId(), lesson.getCourse().getId(), lesson.getLecturer().getId(),
+                    timeSlotId, lesson.getDate(), lesson.getStartTime(), lesson.getEndTime()});
+        }
+
+        bulkCopy.insert(TABLE_LESSONS, LESSON_TABLE_COLUMNS, lessonRows);
+        applicationEventPublisher.publishEvent(new LessonsSavedEvent(lessons));
+    }
+
+    private <T> Map<String, T> toLookup(List<T> entities, Function<T, String> keyGetter) {
+        Map<String, T> lookup = new HashMap<>();
+
+        entities.forEach(entity -> {
+            String key = keyGetter.apply(entity);
+
+            if (key != null) {
+                lookup.putIfAbsent(key.trim(), entity);
+            }
+        });
+
+        return lookup;
+    }
+
+    private <T> T lookup(Map<String, T> lookup, String key, String name) {
+        if (key == null) {
+            return null;
+        }
+
+        T entity = lookup.get(key);
+
+        if (entity == null) {
+            throw new IllegalArgumentException(name + " " + key + " is not found");
+        }
+
+        return entity;
+    }
+
+    private boolean parseBoolean(String value, String column) {
+        if (value == null) {
+            return true;
+        }
+
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "t":
+            case "yes":
+            case "1":
+                return true;
+            case "false":
+            case "f":
+            case "no":
+            case "0":
+                return false;
+            default:
+                throw new IllegalArgumentException(column + " " + value + " is not a boolean");
+        }
+    }
+
+    private Integer parseInteger(String value, String column) {
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is empty");
+        }
+
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException(column + " " + value + " is not a number");
+        }
+    }
+
+    private LocalDate parseDate(String value, String column) {
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException(column + " " + value + " is not a date");
+        }
+    }
+
+    private LocalTime parseTime(String value, String column) {
+        try {
+            return value == null ? null : LocalTime.parse(value);
+        } catch (DateTimeParseException exception) {
+            throw new IllegalArgumentException(column + " " + value + " is not a time");
+        }
+    }
+
+    private <T> void checkViolations(T entity) {
+        Set<ConstraintViolation<T>> violations = validator.validate(entity);
+
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+}
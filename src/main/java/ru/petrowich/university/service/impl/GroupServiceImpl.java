@@ -2,14 +2,20 @@ package ru.petrowich.university.service.impl;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.repository.GroupRepository;
+import ru.petrowich.university.repository.projection.GroupListItem;
+import ru.petrowich.university.schedule.GroupCoursesChangedEvent;
 import ru.petrowich.university.service.GroupService;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.function.Consumer;
 import java.util.Optional;
 import java.util.Set;
 
@@ -20,11 +26,13 @@ public class GroupServiceImpl implements GroupService {
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final Validator validator;
     private final GroupRepository groupRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public GroupServiceImpl(Validator validator, GroupRepository groupRepository) {
+    public GroupServiceImpl(Validator validator, GroupRepository groupRepository, ApplicationEventPublisher applicationEventPublisher) {
         this.validator = validator;
         this.groupRepository = groupRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -49,7 +57,26 @@ public class GroupServiceImpl implements GroupService {
 
         checkViolations(group);
 
-        return groupRepository.save(group);
+        Group actualGroup = groupRepository.save(group);
+        applicationEventPublisher.publishEvent(new GroupCoursesChangedEvent(group));
+
+        return actualGroup;
+    }
+
+    @Override
+    public List<Group> addAll(List<Group> groups) {
+        LOGGER.debug("addAll {} groups", groups == null ? null : groups.size());
+
+        if (groups == null) {
+            throw new IllegalArgumentException("null is passed instead groups");
+        }
+
+        groups.forEach(this::checkViolations);
+
+        List<Group> actualGroups = groupRepository.saveAll(groups);
+        groups.forEach(group -> applicationEventPublisher.publishEvent(new GroupCoursesChangedEvent(group)));
+
+        return actualGroups;
     }
 
     @Override
@@ -62,7 +89,10 @@ public class GroupServiceImpl implements GroupService {
 
         checkViolations(group);
 
-        return groupRepository.save(group);
+        Group actualGroup = groupRepository.save(group);
+        applicationEventPublisher.publishEvent(new GroupCoursesChangedEvent(group));
+
+        return actualGroup;
     }
 
     @Override
@@ -83,6 +113,55 @@ public class GroupServiceImpl implements GroupService {
         return groupRepository.findAll();
     }
 
+    @Override
+    public List<Group> getActive() {
+        LOGGER.debug("getActive");
+        return groupRepository.findByActiveTrueOrderByNameAsc();
+    }
+
+    @Override
+    public List<Group> getPage(Group after, int size) {
+        LOGGER.debug("getPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return groupRepository.findAllByOrderByIdAsc(pageRequest);
+        }
+
+        return groupRepository.findByIdGreaterThanOrderByIdAsc(after.getId(), pageRequest);
+    }
+
+    @Override
+    public List<GroupListItem> getListPage(Group after, int size) {
+        LOGGER.debug("getListPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return groupRepository.findListItems(pageRequest);
+        }
+
+        return groupRepository.findListItemsAfter(after.getId(), pageRequest);
+    }
+
+    @Override
+    public void forEachListItem(Consumer<? super GroupListItem> action) {
+        LOGGER.debug("forEachListItem");
+
+        try (Stream<GroupListItem> listItems = groupRepository.streamListItems()) {
+            listItems.forEach(action);
+        }
+    }
+
     private void checkViolations(Group group) {
         Set<ConstraintViolation<Group>> violations = validator.validate(group);
 
@@ -2,13 +2,19 @@ package ru.petrowich.university.service.impl;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import ru.petrowich.university.repository.LecturerRepository;
 import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.service.LecturerService;
+import ru.petrowich.university.service.cache.LecturersChangedEvent;
+import ru.petrowich.university.service.cache.ReferenceCache;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,14 +23,31 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 @Service
 public class LecturerServiceImpl implements LecturerService {
+    private static final String VIEW_ACTIVE = "active";
+
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final Validator validator;
     private final LecturerRepository lecturerRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ReferenceCache<Lecturer> lecturerCache;
+    private final ReferenceCache<Lecturer> activeLecturerCache;
 
     @Autowired
-    public LecturerServiceImpl(Validator validator, LecturerRepository lecturerRepository) {
+    public LecturerServiceImpl(Validator validator, LecturerRepository lecturerRepository,
+                               ApplicationEventPublisher applicationEventPublisher) {
         this.validator = validator;
         this.lecturerRepository = lecturerRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.lecturerCache = new ReferenceCache<>(lecturerRepository::findAll);
+        this.activeLecturerCache = new ReferenceCache<>(lecturerRepository::findByActiveTrue)
+                .addView(VIEW_ACTIVE, Comparator.comparing(Lecturer::getFullName));
+    }
+
+    @Autowired
+    public void configureCache(@Value("${university.cache.reference.time-to-live-seconds:600}") long timeToLiveSeconds,
+                               @Value("${university.cache.reference.max-size:10000}") int maxSize) {
+        lecturerCache.configure(timeToLiveSeconds, maxSize);
+        activeLecturerCache.configure(timeToLiveSeconds, maxSize);
     }
 
     @Override
@@ -49,7 +72,26 @@ public class LecturerServiceImpl implements LecturerService {
 
         checkViolations(lecturer);
 
-        return lecturerRepository.save(lecturer);
+        Lecturer actualLecturer = lecturerRepository.save(lecturer);
+        evictCache();
+
+        return actualLecturer;
+    }
+
+    @Override
+    public List<Lecturer> addAll(List<Lecturer> lecturers) {
+        LOGGER.debug("addAll {} lecturers", lecturers == null ? null : lecturers.size());
+
+        if (lecturers == null) {
+            throw new IllegalArgumentException("null is passed instead lecturers");
+        }
+
+        lecturers.forEach(this::checkViolations);
+
+        List<Lecturer> actualLecturers = lecturerRepository.saveAll(lecturers);
+        evictCache();
+
+        return actualLecturers;
     }
 
     @Override
@@ -62,7 +104,10 @@ public class LecturerServiceImpl implements LecturerService {
 
         checkViolations(lecturer);
 
-        return lecturerRepository.save(lecturer);
+        Lecturer actualLecturer = lecturerRepository.save(lecturer);
+        evictCache();
+
+        return actualLecturer;
     }
 
     @Override
@@ -74,13 +119,43 @@ public class LecturerServiceImpl implements LecturerService {
             Lecturer currentLecturer = optionalLecturer.get();
             currentLecturer.setActive(false);
             lecturerRepository.save(currentLecturer);
+            evictCache();
         }
     }
 
     @Override
     public List<Lecturer> getAll() {
         LOGGER.debug("getAll");
-        return lecturerRepository.findAll();
+        return lecturerCache.getAll();
+    }
+
+    @Override
+    public List<Lecturer> getActive() {
+        LOGGER.debug("getActive");
+        return activeLecturerCache.getView(VIEW_ACTIVE);
+    }
+
+    @Override
+    public List<Lecturer> getPage(Lecturer after, int size) {
+        LOGGER.debug("getPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return lecturerRepository.findAllByOrderByIdAsc(pageRequest);
+        }
+
+        return lecturerRepository.findByIdGreaterThanOrderByIdAsc(after.getId(), pageRequest);
+    }
+
+    private void evictCache() {
+        lecturerCache.evict();
+        activeLecturerCache.evict();
+        applicationEventPublisher.publishEvent(new LecturersChangedEvent());
     }
 
     private void checkViolations(Lecturer lecturer) {
@@ -0,0 +1,70 @@
+package ru.petrowich.university.service.impl;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.repository.LessonRepository;
+import ru.petrowich.university.schedule.Semester;
+import ru.petrowich.university.service.LessonArchiveService;
+import ru.petrowich.university.service.cache.BulkWriteEvent;
+
+import java.time.LocalDate;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Service
+public class LessonArchiveServiceImpl implements LessonArchiveService {
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final LessonRepository lessonRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Autowired
+    public LessonArchiveServiceImpl(LessonRepository lessonRepository, ApplicationEventPublisher applicationEventPublisher) {
+        this.lessonRepository = lessonRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void preparePartitions(Semester from, Semester to) {
+        LOGGER.debug("preparePartitions from {} to {}", from, to);
+
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("null is passed instead valid semester range");
+        }
+
+        for (Semester semester = from; semester.compareTo(to) <= 0; semester = semester.next()) {
+            lessonRepository.attachPartition(semester);
+        }
+    }
+
+    @Override
+    public int archiveBefore(Semester semester) {
+        LOGGER.debug("archiveBefore {}", semester);
+
+        if (semester == null) {
+            throw new IllegalArgumentException("null is passed instead semester");
+        }
+
+        LocalDate earliestDate = lessonRepository.findEarliestDate();
+
+        if (earliestDate == null || !earliestDate.isBefore(semester.getStartDate())) {
+            return 0;
+        }
+
+        int numberOfArchived = 0;
+
+        for (Semester closedSemester = Semester.of(earliestDate); closedSemester.compareTo(semester) < 0; closedSemester = closedSemester.next()) {
+            numberOfArchived += lessonRepository.archivePartition(closedSemester);
+        }
+
+        if (numberOfArchived > 0) {
+            applicationEventPublisher.publishEvent(new BulkWriteEvent(Lesson.class));
+        }
+
+        LOGGER.info("archived {} lessons before semester {}", numberOfArchived, semester);
+
+        return numberOfArchived;
+    }
+}
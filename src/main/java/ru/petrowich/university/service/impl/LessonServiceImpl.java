@@ -2,29 +2,62 @@ package ru.petrowich.university.service.impl;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.CourseRepository;
 import ru.petrowich.university.repository.LessonRepository;
+import ru.petrowich.university.repository.projection.CourseAttendees;
+import ru.petrowich.university.repository.projection.LessonListItem;
+import ru.petrowich.university.schedule.LessonDeletedEvent;
+import ru.petrowich.university.schedule.LessonsSavedEvent;
+import ru.petrowich.university.schedule.ScheduleConflictDetector;
 import ru.petrowich.university.service.LessonService;
+import ru.petrowich.university.service.batch.BatchItemResult;
+import ru.petrowich.university.service.batch.BatchItemResults;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.function.Consumer;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
 @Service
 public class LessonServiceImpl implements LessonService {
+    private static final int ATTENDEES_BATCH_SIZE = 1000;
+    private static final int LESSONS_BATCH_SIZE = 1000;
+
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final Validator validator;
     private final LessonRepository lessonRepository;
+    private final CourseRepository courseRepository;
+    private final ScheduleConflictDetector scheduleConflictDetector;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public LessonServiceImpl(Validator validator, LessonRepository lessonRepository) {
+    public LessonServiceImpl(Validator validator, LessonRepository lessonRepository, CourseRepository courseRepository,
+                             ScheduleConflictDetector scheduleConflictDetector, ApplicationEventPublisher applicationEventPublisher) {
         this.validator = validator;
         this.lessonRepository = lessonRepository;
+        this.courseRepository = courseRepository;
+        this.scheduleConflictDetector = scheduleConflictDetector;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -48,8 +81,59 @@ public class LessonServiceImpl implements LessonService {
         }
 
         checkViolations(lesson);
+        scheduleConflictDetector.check(lesson);
+
+        Lesson actualLesson = lessonRepository.save(lesson);
+        applicationEventPublisher.publishEvent(new LessonsSavedEvent(Collections.singletonList(lesson)));
+
+        return actualLesson;
+    }
+
+    @Override
+    public List<Lesson> addAll(List<Lesson> lessons) {
+        LOGGER.debug("addAll {} lessons", lessons == null ? null : lessons.size());
+
+        if (lessons == null) {
+            throw new IllegalArgumentException("null is passed instead lessons");
+        }
+
+        lessons.forEach(this::checkViolations);
+        scheduleConflictDetector.checkAll(lessons);
+
+        List<Lesson> actualLessons = lessonRepository.saveAll(lessons);
+        applicationEventPublisher.publishEvent(new LessonsSavedEvent(lessons));
 
-        return lessonRepository.save(lesson);
+        return actualLessons;
+    }
+
+    @Override
+    public List<BatchItemResult<Lesson>> addBatch(List<Lesson> lessons) {
+        LOGGER.debug("addBatch {} lessons", lessons == null ? null : lessons.size());
+
+        if (lessons == null) {
+            throw new IllegalArgumentException("null is passed instead lessons");
+        }
+
+        List<BatchItemResult<Lesson>> results = BatchItemResults.validateNew(validator, lessons, Lesson::getId);
+        List<BatchItemResult<Lesson>> validResults = BatchItemResults.getAccepted(results);
+        List<String> conflicts = scheduleConflictDetector.findConflicts(BatchItemResults.getAcceptedItems(validResults));
+
+        for (int index = 0; index < validResults.size(); index++) {
+            if (conflicts.get(index) != null) {
+                validResults.get(index).reject(conflicts.get(index));
+            }
+        }
+
+        List<Lesson> acceptedLessons = BatchItemResults.getAcceptedItems(results);
+
+        if (!acceptedLessons.isEmpty()) {
+            lessonRepository.saveAll(acceptedLessons);
+            applicationEventPublisher.publishEvent(new LessonsSavedEvent(acceptedLessons));
+        }
+
+        LOGGER.info("added {} of {} lessons", acceptedLessons.size(), lessons.size());
+
+        return results;
     }
 
     @Override
@@ -61,14 +145,19 @@ public class LessonServiceImpl implements LessonService {
         }
 
         checkViolations(lesson);
+        scheduleConflictDetector.check(lesson);
+
+        Lesson actualLesson = lessonRepository.save(lesson);
+        applicationEventPublisher.publishEvent(new LessonsSavedEvent(Collections.singletonList(lesson)));
 
-        return lessonRepository.save(lesson);
+        return actualLesson;
     }
 
     @Override
     public void delete(Lesson lesson) {
         LOGGER.debug("delete {}", lesson);
         lessonRepository.delete(lesson);
+        applicationEventPublisher.publishEvent(new LessonDeletedEvent(lesson));
     }
 
     @Override
@@ -77,6 +166,262 @@ public class LessonServiceImpl implements LessonService {
         return lessonRepository.findAll();
     }
 
+    @Override
+    public List<Lesson> getPage(Lesson after, int size) {
+        LOGGER.debug("getPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+        List<Lesson> lessons;
+
+        if (after == null) {
+            lessons = lessonRepository.findPage(pageRequest);
+        } else {
+            lessons = lessonRepository.findPageAfter(after.getDate(), after.getStartTime(), after.getId(), pageRequest);
+        }
+
+        setNumbersOfAttendees(lessons);
+
+        return lessons;
+    }
+
+    @Override
+    public List<LessonListItem> getListPage(Lesson after, int size) {
+        LOGGER.debug("getListPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return lessonRepository.findListItems(pageRequest);
+        }
+
+        return lessonRepository.findListItemsAfter(after.getDate(), after.getStartTime(), after.getId(), pageRequest);
+    }
+
+    @Override
+    public void forEachListItem(Consumer<? super LessonListItem> action) {
+        LOGGER.debug("forEachListItem");
+
+        try (Stream<LessonListItem> listItems = lessonRepository.streamListItems()) {
+            listItems.forEach(action);
+        }
+    }
+
+    @Override
+    public List<Lesson> getAllWithNumberOfAttendees() {
+        LOGGER.debug("getAllWithNumberOfAttendees");
+        List<Lesson> lessons = lessonRepository.findAllWithSchedule();
+        setNumbersOfAttendees(lessons);
+
+        return lessons;
+    }
+
+    @Override
+    public List<Lesson> getByDateRange(LocalDate from, LocalDate to) {
+        LOGGER.debug("getByDateRange from {} to {}", from, to);
+        checkDateRange(from, to);
+
+        List<Lesson> lessons = lessonRepository.findByDateBetween(from, to);
+        setNumbersOfAttendees(lessons);
+
+        return lessons;
+    }
+
+    @Override
+    public List<Lesson> getByLecturerAndDateRange(Lecturer lecturer, LocalDate from, LocalDate to) {
+        LOGGER.debug("getByLecturerAndDateRange {} from {} to {}", lecturer, from, to);
+
+        if (lecturer == null) {
+            throw new IllegalArgumentException("null is passed instead lecturer");
+        }
+
+        checkDateRange(from, to);
+
+        List<Lesson> lessons = lessonRepository.findByLecturerIdAndDateBetween(lecturer.getId(), from, to);
+        setNumbersOfAttendees(lessons);
+
+        return lessons;
+    }
+
+    @Override
+    public List<Lesson> getByCourseAndDateRange(Course course, LocalDate from, LocalDate to) {
+        LOGGER.debug("getByCourseAndDateRange {} from {} to {}", course, from, to);
+
+        if (course == null) {
+            throw new IllegalArgumentException("null is passed instead course");
+        }
+
+        checkDateRange(from, to);
+
+        List<Lesson> lessons = lessonRepository.findByCourseIdAndDateBetween(course.getId(), from, to);
+        setNumbersOfAttendees(lessons);
+
+        return lessons;
+    }
+
+    @Override
+    public List<Lesson> getByGroupAndDateRange(Group group, LocalDate from, LocalDate to) {
+        LOGGER.debug("getByGroupAndDateRange {} from {} to {}", group, from, to);
+
+        if (group == null) {
+            throw new IllegalArgumentException("null is passed instead group");
+        }
+
+        checkDateRange(from, to);
+
+        List<Lesson> lessons = lessonRepository.findByGroupIdAndDateBetween(group.getId(), from, to);
+        setNumbersOfAttendees(lessons);
+
+        return lessons;
+    }
+
+    @Override
+    public List<Lesson> getByStudentAndDateRange(Student student, LocalDate from, LocalDate to) {
+        LOGGER.debug("getByStudentAndDateRange {} from {} to {}", student, from, to);
+
+        if (student == null) {
+            throw new IllegalArgumentException("null is passed instead student");
+        }
+
+        checkDateRange(from, to);
+
+        List<Lesson> lessons = lessonRepository.findByStudentIdAndDateBetween(student.getId(), from, to);
+        setNumbersOfAttendees(lessons);
+
+        return lessons;
+    }
+
+    @Override
+    public List<Lesson> getTimetableOfStudent(Student student, LocalDate from, LocalDate to) {
+        LOGGER.debug("getTimetableOfStudent {} from {} to {}", student, from, to);
+
+        if (student == null) {
+            throw new IllegalArgumentException("null is passed instead student");
+        }
+
+        checkDateRange(from, to);
+
+        Group group = student.getGroup();
+
+        if (group.getId() == null) {
+            return new ArrayList<>();
+        }
+
+        if (from.isBefore(scheduleConflictDetector.getIndexedFrom())) {
+            return getByGroupAndDateRange(group, from, to);
+        }
+
+        List<Long> lessonIds = scheduleConflictDetector.findLessonIdsOfGroup(group.getId(), from, to);
+        List<Lesson> lessons = new ArrayList<>();
+
+        for (int index = 0; index < lessonIds.size(); index += LESSONS_BATCH_SIZE) {
+            List<Long> batch = lessonIds.subList(index, Math.min(index + LESSONS_BATCH_SIZE, lessonIds.size()));
+            lessons.addAll(lessonRepository.findByIdIn(batch));
+        }
+
+        setNumbersOfAttendees(lessons);
+
+        return lessons;
+    }
+
+    @Override
+    public List<Lesson> getFreeSlots(List<Lecturer> lecturers, List<Group> groups, LocalDate from, LocalDate to, int limit) {
+        LOGGER.debug("getFreeSlots of {} lecturers and {} groups from {} to {}", lecturers == null ? null : lecturers.size(),
+                groups == null ? null : groups.size(), from, to);
+
+        if (lecturers == null || groups == null) {
+            throw new IllegalArgumentException("null is passed instead lecturers or groups");
+        }
+
+        checkDateRange(from, to);
+
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit is less than 1");
+        }
+
+        List<Integer> lecturerIds = lecturers.stream()
+                .map(Lecturer::getId)
+                .collect(Collectors.toList());
+
+        List<Integer> groupIds = groups.stream()
+                .map(Group::getId)
+                .collect(Collectors.toList());
+
+        return scheduleConflictDetector.findFreeSlots(lecturerIds, groupIds, from, to, limit);
+    }
+
+    @Override
+    public Map<Long, Integer> getNumbersOfAttendees(Collection<Long> lessonIds) {
+        LOGGER.debug("getNumbersOfAttendees of {} lessons", lessonIds == null ? null : lessonIds.size());
+
+        if (lessonIds == null) {
+            throw new IllegalArgumentException("null is passed instead lessonIds");
+        }
+
+        Map<Long, Integer> numbersOfAttendees = new HashMap<>();
+        List<Long> ids = new ArrayList<>(lessonIds);
+
+        for (int from = 0; from < ids.size(); from += ATTENDEES_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + ATTENDEES_BATCH_SIZE, ids.size()));
+            lessonRepository.countAttendeesByLessonIdIn(batch).forEach(lessonAttendees ->
+                    numbersOfAttendees.put(lessonAttendees.getLessonId(), lessonAttendees.getNumberOfAttendees().intValue()));
+        }
+
+        return numbersOfAttendees;
+    }
+
+    @Override
+    public Map<Integer, Integer> getNumbersOfAttendeesOfCourses() {
+        LOGGER.debug("getNumbersOfAttendeesOfCourses");
+        return toNumbersOfAttendees(courseRepository.countAttendeesOfCourses());
+    }
+
+    @Override
+    public Map<Integer, Integer> getNumbersOfAttendeesOfCourses(Collection<Integer> courseIds) {
+        LOGGER.debug("getNumbersOfAttendeesOfCourses of {} courses", courseIds == null ? null : courseIds.size());
+
+        if (courseIds == null) {
+            throw new IllegalArgumentException("null is passed instead courseIds");
+        }
+
+        if (courseIds.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        return toNumbersOfAttendees(courseRepository.countAttendeesOfCoursesByIdIn(courseIds));
+    }
+
+    private Map<Integer, Integer> toNumbersOfAttendees(List<CourseAttendees> courseAttendees) {
+        return courseAttendees.stream()
+                .collect(Collectors.toMap(CourseAttendees::getCourseId, attendees -> attendees.getNumberOfAttendees().intValue()));
+    }
+
+    private void setNumbersOfAttendees(List<Lesson> lessons) {
+        List<Long> lessonIds = lessons.stream()
+                .map(Lesson::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, Integer> numbersOfAttendees = getNumbersOfAttendees(lessonIds);
+        lessons.forEach(lesson -> lesson.setNumberOfAttendees(numbersOfAttendees.getOrDefault(lesson.getId(), 0)));
+    }
+
+    private void checkDateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("null is passed instead valid date range");
+        }
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("date range starts after it ends");
+        }
+    }
+
     private void checkViolations(Lesson lesson) {
         Set<ConstraintViolation<Lesson>> violations = validator.validate(lesson);
 
@@ -2,15 +2,23 @@ package ru.petrowich.university.service.impl;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import ru.petrowich.university.repository.StudentRepository;
+import ru.petrowich.university.repository.projection.StudentListItem;
 import ru.petrowich.university.model.Student;
 import ru.petrowich.university.service.StudentService;
+import ru.petrowich.university.service.batch.BatchItemResult;
+import ru.petrowich.university.service.batch.BatchItemResults;
+import ru.petrowich.university.service.cache.StudentsChangedEvent;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.function.Consumer;
 import java.util.Optional;
 import java.util.Set;
 
@@ -21,11 +29,14 @@ public class StudentServiceImpl implements StudentService {
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final Validator validator;
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Autowired
-    public StudentServiceImpl(Validator validator, StudentRepository studentRepository) {
+    public StudentServiceImpl(Validator validator, StudentRepository studentRepository,
+                              ApplicationEventPublisher applicationEventPublisher) {
         this.validator = validator;
         this.studentRepository = studentRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
     }
 
     @Override
@@ -50,7 +61,47 @@ public class StudentServiceImpl implements StudentService {
 
         checkViolations(student);
 
-        return studentRepository.save(student);
+        Student actualStudent = studentRepository.save(student);
+        applicationEventPublisher.publishEvent(new StudentsChangedEvent());
+
+        return actualStudent;
+    }
+
+    @Override
+    public List<Student> addAll(List<Student> students) {
+        LOGGER.debug("addAll {} students", students == null ? null : students.size());
+
+        if (students == null) {
+            throw new IllegalArgumentException("null is passed instead students");
+        }
+
+        students.forEach(this::checkViolations);
+
+        List<Student> actualStudents = studentRepository.saveAll(students);
+        applicationEventPublisher.publishEvent(new StudentsChangedEvent());
+
+        return actualStudents;
+    }
+
+    @Override
+    public List<BatchItemResult<Student>> addBatch(List<Student> students) {
+        LOGGER.debug("addBatch {} students", students == null ? null : students.size());
+
+        if (students == null) {
+            throw new IllegalArgumentException("null is passed instead students");
+        }
+
+        List<BatchItemResult<Student>> results = BatchItemResults.validateNew(validator, students, Student::getId);
+        List<Student> acceptedStudents = BatchItemResults.getAcceptedItems(results);
+
+        if (!acceptedStudents.isEmpty()) {
+            studentRepository.saveAll(acceptedStudents);
+            applicationEventPublisher.publishEvent(new StudentsChangedEvent());
+        }
+
+        LOGGER.info("added {} of {} students", acceptedStudents.size(), students.size());
+
+        return results;
     }
 
     @Override
@@ -63,7 +114,10 @@ public class StudentServiceImpl implements StudentService {
 
         checkViolations(student);
 
-        return studentRepository.save(student);
+        Student actualStudent = studentRepository.save(student);
+        applicationEventPublisher.publishEvent(new StudentsChangedEvent());
+
+        return actualStudent;
     }
 
     @Override
@@ -75,6 +129,7 @@ public class StudentServiceImpl implements StudentService {
             Student currentStudent = optionalStudent.get();
             currentStudent.setActive(false);
             studentRepository.save(student);
+            applicationEventPublisher.publishEvent(new StudentsChangedEvent());
         }
     }
 
@@ -84,6 +139,49 @@ public class StudentServiceImpl implements StudentService {
         return studentRepository.findAll();
     }
 
+    @Override
+    public List<Student> getPage(Student after, int size) {
+        LOGGER.debug("getPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return studentRepository.findAllByOrderByIdAsc(pageRequest);
+        }
+
+        return studentRepository.findByIdGreaterThanOrderByIdAsc(after.getId(), pageRequest);
+    }
+
+    @Override
+    public List<StudentListItem> getListPage(Student after, int size) {
+        LOGGER.debug("getListPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return studentRepository.findListItems(pageRequest);
+        }
+
+        return studentRepository.findListItemsAfter(after.getId(), pageRequest);
+    }
+
+    @Override
+    public void forEachListItem(Consumer<? super StudentListItem> action) {
+        LOGGER.debug("forEachListItem");
+
+        try (Stream<StudentListItem> listItems = studentRepository.streamListItems()) {
+            listItems.forEach(action);
+        }
+    }
+
     private void checkViolations(Student student) {
         Set<ConstraintViolation<Student>> violations = validator.validate(student);
 
@@ -2,13 +2,19 @@ package ru.petrowich.university.service.impl;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import ru.petrowich.university.repository.TimeSlotRepository;
 import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.schedule.TimeSlotsChangedEvent;
 import ru.petrowich.university.service.TimeSlotService;
+import ru.petrowich.university.service.cache.ReferenceCache;
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,14 +23,28 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 @Service
 public class TimeSlotServiceImpl implements TimeSlotService {
+    private static final String VIEW_BY_START_TIME = "byStartTime";
+
     private final Logger LOGGER = getLogger(getClass().getSimpleName());
     private final Validator validator;
     private final TimeSlotRepository timeSlotRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ReferenceCache<TimeSlot> timeSlotCache;
 
     @Autowired
-    public TimeSlotServiceImpl(Validator validator, TimeSlotRepository timeSlotRepository) {
+    public TimeSlotServiceImpl(Validator validator, TimeSlotRepository timeSlotRepository,
+                               ApplicationEventPublisher applicationEventPublisher) {
         this.validator = validator;
         this.timeSlotRepository = timeSlotRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.timeSlotCache = new ReferenceCache<>(timeSlotRepository::findAll)
+                .addView(VIEW_BY_START_TIME, timeSlot -> true, Comparator.comparing(TimeSlot::getStartTime, Comparator.nullsLast(Comparator.naturalOrder())));
+    }
+
+    @Autowired
+    public void configureCache(@Value("${university.cache.reference.time-to-live-seconds:600}") long timeToLiveSeconds,
+                               @Value("${university.cache.reference.max-size:10000}") int maxSize) {
+        timeSlotCache.configure(timeToLiveSeconds, maxSize);
     }
 
     @Override
@@ -49,7 +69,28 @@ public class TimeSlotServiceImpl implements TimeSlotService {
 
         checkViolations(timeSlot);
 
-        return timeSlotRepository.save(timeSlot);
+        TimeSlot actualTimeSlot = timeSlotRepository.save(timeSlot);
+        timeSlotCache.evict();
+        applicationEventPublisher.publishEvent(new TimeSlotsChangedEvent());
+
+        return actualTimeSlot;
+    }
+
+    @Override
+    public List<TimeSlot> addAll(List<TimeSlot> timeSlots) {
+        LOGGER.debug("addAll {} timeSlots", timeSlots == null ? null : timeSlots.size());
+
+        if (timeSlots == null) {
+            throw new IllegalArgumentException("null is passed instead timeSlots");
+        }
+
+        timeSlots.forEach(this::checkViolations);
+
+        List<TimeSlot> actualTimeSlots = timeSlotRepository.saveAll(timeSlots);
+        timeSlotCache.evict();
+        applicationEventPublisher.publishEvent(new TimeSlotsChangedEvent());
+
+        return actualTimeSlots;
     }
 
     @Override
@@ -62,19 +103,48 @@ public class TimeSlotServiceImpl implements TimeSlotService {
 
         checkViolations(timeSlot);
 
-        return timeSlotRepository.save(timeSlot);
+        TimeSlot actualTimeSlot = timeSlotRepository.save(timeSlot);
+        timeSlotCache.evict();
+        applicationEventPublisher.publishEvent(new TimeSlotsChangedEvent());
+
+        return actualTimeSlot;
     }
 
     @Override
     public void delete(TimeSlot timeSlot) {
         LOGGER.debug("delete {}", timeSlot);
         timeSlotRepository.delete(timeSlot);
+        timeSlotCache.evict();
+        applicationEventPublisher.publishEvent(new TimeSlotsChangedEvent());
     }
 
     @Override
     public List<TimeSlot> getAll() {
         LOGGER.debug("getAll");
-        return timeSlotRepository.findAll();
+        return timeSlotCache.getAll();
+    }
+
+    @Override
+    public List<TimeSlot> getAllByStartTime() {
+        LOGGER.debug("getAllByStartTime");
+        return timeSlotCache.getView(VIEW_BY_START_TIME);
+    }
+
+    @Override
+    public List<TimeSlot> getPage(TimeSlot after, int size) {
+        LOGGER.debug("getPage after {} size {}", after, size);
+
+        if (size < 1) {
+            throw new IllegalArgumentException("page size is less than 1");
+        }
+
+        PageRequest pageRequest = PageRequest.of(0, size);
+
+        if (after == null) {
+            return timeSlotRepository.findAllByOrderByIdAsc(pageRequest);
+        }
+
+        return timeSlotRepository.findByIdGreaterThanOrderByIdAsc(after.getId(), pageRequest);
     }
 
     private void checkViolations(TimeSlot timeSlot) {
@@ -0,0 +1,88 @@
+package ru.petrowich.university.service.impl;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.repository.CourseRepository;
+import ru.petrowich.university.repository.TimeSlotRepository;
+import ru.petrowich.university.repository.projection.CourseAttendees;
+import ru.petrowich.university.repository.projection.CourseGroupIds;
+import ru.petrowich.university.schedule.Timetable;
+import ru.petrowich.university.schedule.TimetableGenerator;
+import ru.petrowich.university.service.LessonService;
+import ru.petrowich.university.service.TimetableService;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+@Service
+public class TimetableServiceImpl implements TimetableService {
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final CourseRepository courseRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final LessonService lessonService;
+    private final TimetableGenerator timetableGenerator;
+
+    @Autowired
+    public TimetableServiceImpl(CourseRepository courseRepository, TimeSlotRepository timeSlotRepository,
+                                LessonService lessonService, TimetableGenerator timetableGenerator) {
+        this.courseRepository = courseRepository;
+        this.timeSlotRepository = timeSlotRepository;
+        this.lessonService = lessonService;
+        this.timetableGenerator = timetableGenerator;
+    }
+
+    @Override
+    public Timetable preview(LocalDate from, LocalDate to, int lessonsPerWeek) {
+        LOGGER.debug("preview from {} to {} with {} lessons per week", from, to, lessonsPerWeek);
+        return generate(from, to, lessonsPerWeek);
+    }
+
+    @Override
+    public Timetable commit(LocalDate from, LocalDate to, int lessonsPerWeek) {
+        LOGGER.debug("commit from {} to {} with {} lessons per week", from, to, lessonsPerWeek);
+        Timetable timetable = generate(from, to, lessonsPerWeek);
+        List<Lesson> lessons = lessonService.addAll(timetable.getLessons());
+
+        return new Timetable(lessons, timetable.getUnscheduledCourses());
+    }
+
+    private Timetable generate(LocalDate from, LocalDate to, int lessonsPerWeek) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("null is passed instead valid date range");
+        }
+
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("date range starts after it ends");
+        }
+
+        if (lessonsPerWeek < 1) {
+            throw new IllegalArgumentException("number of lessons per week is less than 1");
+        }
+
+        List<Course> courses = courseRepository.findActiveWithActiveAuthor();
+
+        Map<Integer, Set<Integer>> courseGroupIds = courseRepository.findAllCourseGroupIds().stream()
+                .collect(Collectors.groupingBy(CourseGroupIds::getCourseId,
+                        Collectors.mapping(CourseGroupIds::getGroupId, Collectors.toSet())));
+
+        Map<Integer, Integer> numbersOfAttendees = courseRepository.countAttendeesOfCourses().stream()
+                .collect(Collectors.toMap(CourseAttendees::getCourseId, courseAttendees -> courseAttendees.getNumberOfAttendees().intValue()));
+
+        List<TimeSlot> timeSlots = timeSlotRepository.findAll();
+
+        Timetable timetable = timetableGenerator.generate(courses, courseGroupIds, timeSlots, from, to, lessonsPerWeek);
+        timetable.getLessons().forEach(lesson ->
+                lesson.setNumberOfAttendees(numbersOfAttendees.getOrDefault(lesson.getCourse().getId(), 0)));
+
+        return timetable;
+    }
+}
@@ -1,6 +1,7 @@
 DROP VIEW IF EXISTS public.v_lessons_students;
 DROP VIEW IF EXISTS public.v_lessons_groups;
 DROP VIEW IF EXISTS public.v_courses_students;
+DROP TABLE IF EXISTS public.t_lessons_archive;
 DROP TABLE IF EXISTS public.t_lessons;
 DROP TABLE IF EXISTS public.t_groups_students;
 DROP TABLE IF EXISTS public.t_groups_courses;
@@ -18,11 +19,11 @@ DROP SEQUENCE IF EXISTS public.seq_groups;
 DROP SEQUENCE IF EXISTS public.seq_lessons;
 
 CREATE SEQUENCE public.seq_roles START WITH 1;
-CREATE SEQUENCE public.seq_timeslots START WITH 1;
-CREATE SEQUENCE public.seq_persons START WITH 10001;
-CREATE SEQUENCE public.seq_courses START WITH 10;
-CREATE SEQUENCE public.seq_groups START WITH 101;
-CREATE SEQUENCE public.seq_lessons START WITH 1000001;
+CREATE SEQUENCE public.seq_timeslots START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE public.seq_persons START WITH 10001 INCREMENT BY 50;
+CREATE SEQUENCE public.seq_courses START WITH 10 INCREMENT BY 50;
+CREATE SEQUENCE public.seq_groups START WITH 101 INCREMENT BY 50;
+CREATE SEQUENCE public.seq_lessons START WITH 1000001 INCREMENT BY 50;
 
 CREATE TABLE public.t_roles
 (
@@ -41,15 +42,16 @@ CREATE TABLE public.t_timeslots
   timeslot_end_time     TIME NOT NULL
 );
 
-INSERT INTO public.t_timeslots (timeslot_name, timeslot_start_time, timeslot_end_time) VALUES
- ('first lesson','08:00:00','09:30:00')
-,('second lesson','09:40:00','11:10:00')
-,('third lesson','11:20:00','12:50:00')
-,('fourth lesson','13:20:00','14:50:00')
-,('fifth lesson','15:00:00','16:30:00')
-,('sixth lesson','16:40:00','18:10:00')
-,('seventh lesson','18:20:00','19:50:00')
-,('eighth lesson','20:00:00','21:30:00');
+INSERT INTO public.t_timeslots (timeslot_id, timeslot_name, timeslot_start_time, timeslot_end_time) VALUES
+ (1, 'first lesson','08:00:00','09:30:00')
+,(2, 'second lesson','09:40:00','11:10:00')
+,(3, 'third lesson','11:20:00','12:50:00')
+,(4, 'fourth lesson','13:20:00','14:50:00')
+,(5, 'fifth lesson','15:00:00','16:30:00')
+,(6, 'sixth lesson','16:40:00','18:10:00')
+,(7, 'seventh lesson','18:20:00','19:50:00')
+,(8, 'eighth lesson','20:00:00','21:30:00');
+ALTER SEQUENCE public.seq_timeslots RESTART WITH 9;
 
 CREATE TABLE public.t_persons
 (
@@ -64,6 +66,7 @@ CREATE TABLE public.t_persons
 );
 CREATE INDEX ix_person_role_id ON public.t_persons (person_role_id);
 CREATE INDEX ix_person_email ON public.t_persons (person_email);
+CREATE INDEX ix_person_active_role_id ON public.t_persons (person_role_id, person_id) WHERE person_active = TRUE;
 
 CREATE TABLE public.t_courses
 (
@@ -71,9 +74,11 @@ CREATE TABLE public.t_courses
   course_name   VARCHAR(255) NULL,
   course_description VARCHAR(2048) NULL,
   course_author_id     INTEGER NULL,
+  course_lessons_per_week     INTEGER NULL,
   course_active     BOOLEAN NOT NULL DEFAULT TRUE,
   FOREIGN KEY (course_author_id) REFERENCES public.t_persons (person_id)
 );
+CREATE INDEX ix_course_active_id ON public.t_courses (course_id) WHERE course_active = TRUE;
 
 CREATE TABLE public.t_groups
 (
@@ -82,6 +87,7 @@ CREATE TABLE public.t_groups
   group_capacity INTEGER NOT NULL DEFAULT 0,
   group_active     BOOLEAN NOT NULL DEFAULT TRUE
 );
+CREATE INDEX ix_group_active_name ON public.t_groups (group_name) WHERE group_active = TRUE;
 
 CREATE TABLE public.t_groups_courses
 (
@@ -107,14 +113,31 @@ CREATE INDEX ix_groups_students_student_id ON public.t_groups_students (student_
 
 CREATE TABLE public.t_lessons
 (
-  lesson_id     INTEGER PRIMARY KEY DEFAULT nextval('public.seq_lessons'),
+  lesson_id     INTEGER NOT NULL DEFAULT nextval('public.seq_lessons'),
   course_id     INTEGER NOT NULL,
   lecturer_id     INTEGER NOT NULL,
   timeslot_id     INTEGER NULL,
   lesson_date   DATE NOT NULL,
   lesson_start_time     TIME NULL,
   lesson_end_time     TIME NULL,
+  PRIMARY KEY (lesson_id, lesson_date),
   FOREIGN KEY (course_id) REFERENCES public.t_courses (course_id),
   FOREIGN KEY (lecturer_id) REFERENCES public.t_persons (person_id),
   FOREIGN KEY (timeslot_id) REFERENCES public.t_timeslots (timeslot_id)
-);
\ No newline at end of file
+) PARTITION BY RANGE (lesson_date);
+CREATE TABLE public.t_lessons_default PARTITION OF public.t_lessons DEFAULT;
+CREATE INDEX ix_lessons_date_start_time_id ON public.t_lessons (lesson_date, lesson_start_time, lesson_id);
+CREATE INDEX ix_lessons_lecturer_id_date ON public.t_lessons (lecturer_id, lesson_date, lesson_start_time);
+CREATE INDEX ix_lessons_course_id_date ON public.t_lessons (course_id, lesson_date, lesson_start_time);
+
+CREATE TABLE public.t_lessons_archive
+(
+  lesson_id     INTEGER NOT NULL,
+  course_id     INTEGER NOT NULL,
+  lecturer_id     INTEGER NOT NULL,
+  timeslot_id     INTEGER NULL,
+  lesson_date   DATE NOT NULL,
+  lesson_start_time     TIME NULL,
+  lesson_end_time     TIME NULL,
+  PRIMARY KEY (lesson_id, lesson_date)
+) PARTITION BY RANGE (lesson_date);
\ No newline at end of file
@@ -10,6 +10,8 @@ import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableTransactionManagement
@@ -30,6 +32,24 @@ public class AppTestConfiguration {
         localContainerEntityManagerFactoryBean.setDataSource(dataSource());
         localContainerEntityManagerFactoryBean.setPackagesToScan("ru.petrowich.university.model");
         localContainerEntityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        localContainerEntityManagerFactoryBean.setJpaPropertyMap(jpaProperties());
         return localContainerEntityManagerFactoryBean;
     }
+
+    private Map<String, Object> jpaProperties() {
+        Map<String, Object> jpaProperties = new HashMap<>();
+        jpaProperties.put("hibernate.id.optimizer.pooled.preferred", "pooled-lo");
+        jpaProperties.put("hibernate.jdbc.batch_size", 50);
+        jpaProperties.put("hibernate.order_inserts", true);
+        jpaProperties.put("hibernate.order_updates", true);
+        jpaProperties.put("javax.persistence.sharedCache.mode", "ENABLE_SELECTIVE");
+        jpaProperties.put("hibernate.cache.use_second_level_cache", true);
+        jpaProperties.put("hibernate.cache.use_query_cache", true);
+        jpaProperties.put("hibernate.cache.region.factory_class", "jcache");
+        jpaProperties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+        jpaProperties.put("hibernate.javax.cache.uri", "ehcache.xml");
+        jpaProperties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+        jpaProperties.put("hibernate.generate_statistics", true);
+        return jpaProperties;
+    }
 }
@@ -0,0 +1,106 @@
+package ru.petrowich.university.benchmark;
+
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.model.TimeSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class BenchmarkData {
+    private static final LocalDate FIRST_DATE = LocalDate.of(2021, 2, 1);
+    private static final int NUMBER_OF_DAYS = 120;
+    private static final int NUMBER_OF_TIME_SLOTS = 8;
+    private static final int GROUPS_PER_COURSE = 3;
+
+    private final Random random;
+
+    public BenchmarkData(long seed) {
+        this.random = new Random(seed);
+    }
+
+    public List<Lecturer> lecturers(int numberOfLecturers) {
+        List<Lecturer> lecturers = new ArrayList<>(numberOfLecturers);
+
+        for (int i = 1; i <= numberOfLecturers; i++) {
+            lecturers.add(new Lecturer().setId(i).setFirstName("Lecturer" + i).setLastName("Surname" + i)
+                    .setEmail("lecturer" + i + "@university.edu").setComment("synthetic lecturer").setActive(true));
+        }
+
+        return lecturers;
+    }
+
+    public List<Group> groups(int numberOfGroups, int studentsPerGroup) {
+        List<Group> groups = new ArrayList<>(numberOfGroups);
+        int studentId = 1;
+
+        for (int i = 1; i <= numberOfGroups; i++) {
+            Group group = new Group().setId(i).setName(String.format("GR-%05d", i)).setCapacity(100).setActive(true);
+            List<Student> students = new ArrayList<>(studentsPerGroup);
+
+            for (int j = 0; j < studentsPerGroup; j++, studentId++) {
+                students.add(new Student().setId(studentId).setFirstName("Student" + studentId).setLastName("Surname" + studentId)
+                        .setEmail("student" + studentId + "@university.edu").setGroup(group).setActive(true));
+            }
+
+            groups.add(group.setStudents(students).setCourses(new ArrayList<>()));
+        }
+
+        return groups;
+    }
+
+    public List<Course> courses(int numberOfCourses, List<Lecturer> lecturers, List<Group> groups) {
+        List<Course> courses = new ArrayList<>(numberOfCourses);
+
+        for (int i = 1; i <= numberOfCourses; i++) {
+            Course course = new Course().setId(i).setName("Course " + i).setDescription("synthetic course " + i)
+                    .setAuthor(lecturers.get(random.nextInt(lecturers.size()))).setActive(true);
+            List<Group> courseGroups = new ArrayList<>(GROUPS_PER_COURSE);
+
+            for (int j = 0; j < GROUPS_PER_COURSE && j < groups.size(); j++) {
+                Group group = groups.get(random.nextInt(groups.size()));
+
+                if (!courseGroups.contains(group)) {
+                    courseGroups.add(group);
+                    group.getCourses().add(course);
+                }
+            }
+
+            courses.add(course.setGroups(courseGroups));
+        }
+
+        return courses;
+    }
+
+    public List<TimeSlot> timeSlots() {
+        List<TimeSlot> timeSlots = new ArrayList<>(NUMBER_OF_TIME_SLOTS);
+        LocalTime startTime = LocalTime.of(8, 0);
+
+        for (int i = 1; i <= NUMBER_OF_TIME_SLOTS; i++, startTime = startTime.plusMinutes(100)) {
+            timeSlots.add(new TimeSlot().setId(i).setName("lesson " + i).setStartTime(startTime).setEndTime(startTime.plusMinutes(90)));
+        }
+
+        return timeSlots;
+    }
+
+    public List<Lesson> lessons(int numberOfLessons, List<Course> courses, List<TimeSlot> timeSlots) {
+        List<Lesson> lessons = new ArrayList<>(numberOfLessons);
+
+        for (int i = 1; i <= numberOfLessons; i++) {
+            Course course = courses.get(random.nextInt(courses.size()));
+            TimeSlot timeSlot = timeSlots.get(random.nextInt(timeSlots.size()));
+
+            lessons.add(new Lesson().setId((long) i).setCourse(course).setLecturer(course.getAuthor()).setTimeSlot(timeSlot)
+                    .setDate(FIRST_DATE.plusDays(random.nextInt(NUMBER_OF_DAYS)))
+                    .setStartTime(timeSlot.getStartTime()).setEndTime(timeSlot.getEndTime()));
+        }
+
+        return lessons;
+    }
+}
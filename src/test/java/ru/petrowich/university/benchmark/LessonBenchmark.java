@@ -0,0 +1,91 @@
+package ru.petrowich.university.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LessonBenchmark {
+    private static final int NUMBER_OF_COURSES = 500;
+    private static final int NUMBER_OF_GROUPS = 200;
+
+    @State(Scope.Benchmark)
+    public static class LessonList {
+        @Param({"1000", "100000"})
+        private int numberOfLessons;
+
+        private List<Lesson> lessons;
+
+        @Setup
+        public void setup() {
+            BenchmarkData benchmarkData = new BenchmarkData(1L);
+            List<Group> groups = benchmarkData.groups(NUMBER_OF_GROUPS, 1);
+            List<Course> courses = benchmarkData.courses(NUMBER_OF_COURSES, benchmarkData.lecturers(100), groups);
+
+            lessons = benchmarkData.lessons(numberOfLessons, courses, benchmarkData.timeSlots());
+            Collections.shuffle(lessons, new Random(1L));
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LargeCourse {
+        @Param({"30", "300"})
+        private int studentsPerGroup;
+
+        private Lesson lesson;
+
+        @Setup
+        public void setup() {
+            BenchmarkData benchmarkData = new BenchmarkData(1L);
+            List<Lecturer> lecturers = benchmarkData.lecturers(1);
+            List<Group> groups = benchmarkData.groups(NUMBER_OF_GROUPS, studentsPerGroup);
+            Course course = new Course().setId(1).setName("Large course").setAuthor(lecturers.get(0))
+                    .setActive(true).setGroups(new ArrayList<>(groups));
+
+            lesson = benchmarkData.lessons(1, Collections.singletonList(course), benchmarkData.timeSlots()).get(0);
+        }
+    }
+
+    @Benchmark
+    public List<Lesson> sortLessons(LessonList lessonList) {
+        return lessonList.lessons.stream()
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Student> getStudentsOfLargeCourse(LargeCourse largeCourse) {
+        return largeCourse.lesson.getStudents();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LessonBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,167 @@
+package ru.petrowich.university.benchmark;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.petrowich.university.AppConfiguration;
+import ru.petrowich.university.dto.courses.CourseDTO;
+import ru.petrowich.university.dto.courses.CourseGroupDTO;
+import ru.petrowich.university.dto.lecturers.LecturerCourseDTO;
+import ru.petrowich.university.dto.lecturers.LecturerDTO;
+import ru.petrowich.university.dto.lessons.LessonDTO;
+import ru.petrowich.university.dto.lessons.TimeSlotDTO;
+import ru.petrowich.university.dto.students.GroupDTO;
+import ru.petrowich.university.dto.students.StudentDTO;
+import ru.petrowich.university.mapper.courses.CourseGroupMapper;
+import ru.petrowich.university.mapper.courses.CourseMapper;
+import ru.petrowich.university.mapper.lecturers.LecturerCourseMapper;
+import ru.petrowich.university.mapper.lecturers.LecturerMapper;
+import ru.petrowich.university.mapper.lesson.LessonMapper;
+import ru.petrowich.university.mapper.lesson.TimeSlotMapper;
+import ru.petrowich.university.mapper.students.GroupMapper;
+import ru.petrowich.university.mapper.students.StudentMapper;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.model.TimeSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"false", "true"})
+    private boolean directMapping;
+
+    private LessonMapper lessonMapper;
+    private CourseMapper courseMapper;
+    private StudentMapper studentMapper;
+    private GroupMapper groupMapper;
+    private LecturerMapper lecturerMapper;
+    private TimeSlotMapper timeSlotMapper;
+    private CourseGroupMapper courseGroupMapper;
+    private LecturerCourseMapper lecturerCourseMapper;
+
+    private Lesson lesson;
+    private LessonDTO lessonDTO;
+    private Course course;
+    private Student student;
+    private Group group;
+    private Lecturer lecturer;
+    private TimeSlot timeSlot;
+
+    @Setup
+    public void setup() {
+        ModelMapper modelMapper = new AppConfiguration().modelMapper();
+
+        lessonMapper = new LessonMapper(modelMapper);
+        lessonMapper.setupMapper();
+        lessonMapper.setDirectMapping(directMapping);
+
+        courseMapper = new CourseMapper(modelMapper);
+        courseMapper.setupMapper();
+        courseMapper.setDirectMapping(directMapping);
+
+        studentMapper = new StudentMapper(modelMapper);
+        studentMapper.setupMapper();
+        studentMapper.setDirectMapping(directMapping);
+
+        groupMapper = new GroupMapper(modelMapper);
+        groupMapper.setupMapper();
+        groupMapper.setDirectMapping(directMapping);
+
+        lecturerMapper = new LecturerMapper(modelMapper);
+        lecturerMapper.setDirectMapping(directMapping);
+
+        timeSlotMapper = new TimeSlotMapper(modelMapper);
+        timeSlotMapper.setDirectMapping(directMapping);
+
+        courseGroupMapper = new CourseGroupMapper(modelMapper);
+        courseGroupMapper.setDirectMapping(directMapping);
+
+        lecturerCourseMapper = new LecturerCourseMapper(modelMapper);
+        lecturerCourseMapper.setDirectMapping(directMapping);
+
+        lecturer = new Lecturer().setId(1).setFirstName("Dick").setLastName("Dastardly").setEmail("dick.dastardly@university.edu").setActive(true);
+        group = new Group().setId(1).setName("AA-01").setCapacity(30).setActive(true);
+        course = new Course().setId(1).setName("Chemistry").setDescription("chemistry course").setAuthor(lecturer).setActive(true)
+                .setGroups(Arrays.asList(group, new Group().setId(2).setName("BB-02").setCapacity(25).setActive(true)));
+        group.setCourses(Arrays.asList(course, new Course().setId(2).setName("Physics").setAuthor(lecturer).setActive(true)));
+        student = new Student().setId(1).setFirstName("Peter").setLastName("Pitstop").setEmail("peter.pitstop@university.edu").setGroup(group).setActive(true);
+
+        timeSlot = new TimeSlot().setId(1).setName("first lesson").setStartTime(LocalTime.of(8, 0)).setEndTime(LocalTime.of(9, 30));
+        lesson = new Lesson().setId(1L).setCourse(course).setLecturer(lecturer).setTimeSlot(timeSlot).setDate(LocalDate.of(2021, 2, 1))
+                .setStartTime(timeSlot.getStartTime()).setEndTime(timeSlot.getEndTime()).setNumberOfAttendees(55);
+        lessonDTO = lessonMapper.toDto(lesson);
+    }
+
+    @Benchmark
+    public LessonDTO lessonToDto() {
+        return lessonMapper.toDto(lesson);
+    }
+
+    @Benchmark
+    public Lesson lessonToEntity() {
+        return lessonMapper.toEntity(lessonDTO);
+    }
+
+    @Benchmark
+    public CourseDTO courseToDto() {
+        return courseMapper.toDto(course);
+    }
+
+    @Benchmark
+    public StudentDTO studentToDto() {
+        return studentMapper.toDto(student);
+    }
+
+    @Benchmark
+    public GroupDTO groupToDto() {
+        return groupMapper.toDto(group);
+    }
+
+    @Benchmark
+    public LecturerDTO lecturerToDto() {
+        return lecturerMapper.toDto(lecturer);
+    }
+
+    @Benchmark
+    public TimeSlotDTO timeSlotToDto() {
+        return timeSlotMapper.toDto(timeSlot);
+    }
+
+    @Benchmark
+    public CourseGroupDTO courseGroupToDto() {
+        return courseGroupMapper.toDto(group);
+    }
+
+    @Benchmark
+    public LecturerCourseDTO lecturerCourseToDto() {
+        return lecturerCourseMapper.toDto(course);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MapperBenchmark.class.getSimpleName()).build()).run();
+    }
+}
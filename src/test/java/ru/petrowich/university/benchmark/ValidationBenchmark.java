@@ -0,0 +1,97 @@
+package ru.petrowich.university.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.petrowich.university.AppConfiguration;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.model.TimeSlot;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+    private Validator validator;
+
+    private Lesson lesson;
+    private Course course;
+    private Group group;
+    private Student student;
+    private Lecturer lecturer;
+    private TimeSlot timeSlot;
+
+    @Setup
+    public void setup() {
+        validator = new AppConfiguration().validator();
+
+        BenchmarkData benchmarkData = new BenchmarkData(1L);
+        List<Lecturer> lecturers = benchmarkData.lecturers(10);
+        List<Group> groups = benchmarkData.groups(10, 30);
+        List<Course> courses = benchmarkData.courses(10, lecturers, groups);
+        List<TimeSlot> timeSlots = benchmarkData.timeSlots();
+
+        lesson = benchmarkData.lessons(1, courses, timeSlots).get(0);
+        course = courses.get(0);
+        group = groups.get(0);
+        student = group.getStudents().get(0);
+        lecturer = lecturers.get(0);
+        timeSlot = timeSlots.get(0);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Lesson>> validateLesson() {
+        return validator.validate(lesson);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Course>> validateCourse() {
+        return validator.validate(course);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Group>> validateGroup() {
+        return validator.validate(group);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Student>> validateStudent() {
+        return validator.validate(student);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<Lecturer>> validateLecturer() {
+        return validator.validate(lecturer);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<TimeSlot>> validateTimeSlot() {
+        return validator.validate(timeSlot);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValidationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
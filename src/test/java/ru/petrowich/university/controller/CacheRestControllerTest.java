@@ -0,0 +1,77 @@
+package ru.petrowich.university.controller;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.petrowich.university.service.cache.SecondLevelCache;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+class CacheRestControllerTest {
+    private static final String COURSE_REGION = "ru.petrowich.university.model.Course";
+    private static final String TIME_SLOT_REGION = "ru.petrowich.university.model.TimeSlot";
+
+    private AutoCloseable autoCloseable;
+    private MockMvc mockMvc;
+
+    @Mock
+    SecondLevelCache mockSecondLevelCache;
+
+    @Mock
+    Statistics mockStatistics;
+
+    @Mock
+    CacheRegionStatistics mockCourseRegionStatistics;
+
+    @InjectMocks
+    CacheRestController cacheRestController;
+
+    @BeforeEach
+    private void beforeEach() {
+        autoCloseable = openMocks(this);
+        mockMvc = standaloneSetup(cacheRestController).build();
+    }
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testGetStatisticsShouldReturnOK() throws Exception {
+        when(mockSecondLevelCache.getStatistics()).thenReturn(mockStatistics);
+        when(mockStatistics.isStatisticsEnabled()).thenReturn(true);
+        when(mockStatistics.getSecondLevelCacheHitCount()).thenReturn(7L);
+        when(mockStatistics.getSecondLevelCacheMissCount()).thenReturn(3L);
+        when(mockStatistics.getQueryCacheHitCount()).thenReturn(2L);
+        when(mockStatistics.getSecondLevelCacheRegionNames()).thenReturn(new String[]{TIME_SLOT_REGION, COURSE_REGION});
+        when(mockStatistics.getCacheRegionStatistics(COURSE_REGION)).thenReturn(mockCourseRegionStatistics);
+        when(mockCourseRegionStatistics.getHitCount()).thenReturn(5L);
+        when(mockCourseRegionStatistics.getElementCountInMemory()).thenReturn(4L);
+
+        mockMvc.perform(get("/api/cache/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.secondLevelCacheHitCount").value(7))
+                .andExpect(jsonPath("$.secondLevelCacheMissCount").value(3))
+                .andExpect(jsonPath("$.queryCacheHitCount").value(2))
+                .andExpect(jsonPath("$.regions.length()").value(1))
+                .andExpect(jsonPath("$.regions[0].regionName").value(COURSE_REGION))
+                .andExpect(jsonPath("$.regions[0].hitCount").value(5))
+                .andExpect(jsonPath("$.regions[0].elementCountInMemory").value(4));
+
+        verify(mockSecondLevelCache, times(1)).getStatistics();
+    }
+}
@@ -0,0 +1,96 @@
+package ru.petrowich.university.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.petrowich.university.monitoring.SlowOperationLog;
+import ru.petrowich.university.monitoring.SlowQuery;
+import ru.petrowich.university.monitoring.SlowRequest;
+import ru.petrowich.university.monitoring.SqlStatistics;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+class SlowLogRestControllerTest {
+    private static final LocalDateTime TIMESTAMP = LocalDateTime.of(2021, 3, 1, 10, 15, 30);
+    private static final String SQL = "SELECT * FROM t_lessons WHERE lesson_date >= ?";
+    private static final String HANDLER = "LessonController.lessons";
+
+    private AutoCloseable autoCloseable;
+    private MockMvc mockMvc;
+
+    @Mock
+    SlowOperationLog mockSlowOperationLog;
+
+    @InjectMocks
+    SlowLogRestController slowLogRestController;
+
+    @BeforeEach
+    private void beforeEach() {
+        autoCloseable = openMocks(this);
+        mockMvc = standaloneSetup(slowLogRestController).build();
+    }
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testGetSlowQueriesShouldReturnOK() throws Exception {
+        SlowQuery slowQuery = new SlowQuery(TIMESTAMP, SQL, Collections.singletonList(Collections.singletonList("'2021-03-01'")),
+                0, 1200, 350, "LessonServiceImpl.getAllWithNumberOfAttendees", HANDLER);
+        when(mockSlowOperationLog.getSlowQueries()).thenReturn(Collections.singletonList(slowQuery));
+
+        mockMvc.perform(get("/api/slow/queries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].timestamp").value("2021-03-01 10:15:30.000"))
+                .andExpect(jsonPath("$[0].sql").value(SQL))
+                .andExpect(jsonPath("$[0].bindValues[0][0]").value("'2021-03-01'"))
+                .andExpect(jsonPath("$[0].rowCount").value(1200))
+                .andExpect(jsonPath("$[0].elapsedMillis").value(350))
+                .andExpect(jsonPath("$[0].serviceMethod").value("LessonServiceImpl.getAllWithNumberOfAttendees"))
+                .andExpect(jsonPath("$[0].handler").value(HANDLER));
+
+        verify(mockSlowOperationLog, times(1)).getSlowQueries();
+    }
+
+    @Test
+    void testGetSlowRequestsShouldReturnOK() throws Exception {
+        SlowRequest slowRequest = new SlowRequest(TIMESTAMP, "GET /lessons", "/lessons", HANDLER, 200, 1500, new SqlStatistics());
+        when(mockSlowOperationLog.getSlowRequests()).thenReturn(Collections.singletonList(slowRequest));
+
+        mockMvc.perform(get("/api/slow/requests"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].endpoint").value("GET /lessons"))
+                .andExpect(jsonPath("$[0].handler").value(HANDLER))
+                .andExpect(jsonPath("$[0].status").value(200))
+                .andExpect(jsonPath("$[0].elapsedMillis").value(1500))
+                .andExpect(jsonPath("$[0].statementCount").value(0));
+
+        verify(mockSlowOperationLog, times(1)).getSlowRequests();
+    }
+
+    @Test
+    void testClearShouldReturnNoContent() throws Exception {
+        mockMvc.perform(delete("/api/slow/"))
+                .andExpect(status().isNoContent());
+
+        verify(mockSlowOperationLog, times(1)).clear();
+    }
+}
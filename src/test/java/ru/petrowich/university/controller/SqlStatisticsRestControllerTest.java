@@ -0,0 +1,69 @@
+package ru.petrowich.university.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.petrowich.university.monitoring.EndpointSqlStatistics;
+import ru.petrowich.university.monitoring.SqlStatisticsRegistry;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+class SqlStatisticsRestControllerTest {
+    private static final String ENDPOINT = "GET /lessons";
+
+    private AutoCloseable autoCloseable;
+    private MockMvc mockMvc;
+
+    @Mock
+    SqlStatisticsRegistry mockSqlStatisticsRegistry;
+
+    @Mock
+    EndpointSqlStatistics mockEndpointSqlStatistics;
+
+    @InjectMocks
+    SqlStatisticsRestController sqlStatisticsRestController;
+
+    @BeforeEach
+    private void beforeEach() {
+        autoCloseable = openMocks(this);
+        mockMvc = standaloneSetup(sqlStatisticsRestController).build();
+    }
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testGetStatisticsShouldReturnOK() throws Exception {
+        when(mockSqlStatisticsRegistry.getEndpoints()).thenReturn(Collections.singletonList(mockEndpointSqlStatistics));
+        when(mockEndpointSqlStatistics.getEndpoint()).thenReturn(ENDPOINT);
+        when(mockEndpointSqlStatistics.getRequestCount()).thenReturn(2L);
+        when(mockEndpointSqlStatistics.getStatementCount()).thenReturn(6L);
+        when(mockEndpointSqlStatistics.getMaxStatementCount()).thenReturn(4L);
+        when(mockEndpointSqlStatistics.getRowCount()).thenReturn(10L);
+
+        mockMvc.perform(get("/api/sql/statistics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].endpoint").value(ENDPOINT))
+                .andExpect(jsonPath("$[0].requestCount").value(2))
+                .andExpect(jsonPath("$[0].statementCount").value(6))
+                .andExpect(jsonPath("$[0].maxStatementCount").value(4))
+                .andExpect(jsonPath("$[0].rowCount").value(10));
+
+        verify(mockSqlStatisticsRegistry, times(1)).getEndpoints();
+    }
+}
@@ -36,9 +36,7 @@ class CourseControllerTest {
     private static final Integer GROUP_ID_501 = 501;
     private static final Integer GROUP_ID_502 = 502;
     private static final Integer GROUP_ID_503 = 503;
-    private static final Integer GROUP_ID_504 = 504;
     private static final Integer PERSON_ID_50001 = 50001;
-    private static final Integer PERSON_ID_50002 = 50002;
     private static final Integer PERSON_ID_50003 = 50003;
     private static final Integer PERSON_ID_50004 = 50004;
 
@@ -84,14 +82,13 @@ class CourseControllerTest {
         Group firstGroup = new Group().setId(GROUP_ID_501).setActive(false).setName("2");
         Group secondGroup = new Group().setId(GROUP_ID_502).setActive(true).setName("1");
         Group thirdGroup = new Group().setId(GROUP_ID_503).setActive(true);
-        Group fourthGroup = new Group().setId(GROUP_ID_504).setActive(false);
 
         List<Group> courseGroups = asList(firstGroup, secondGroup);
         Course expectedCourse = new Course().setId(COURSE_ID_51).setGroups(courseGroups);
         when(mockCourseService.getById(COURSE_ID_51)).thenReturn(expectedCourse);
 
-        List<Group> expectedGroups = asList(firstGroup, secondGroup, thirdGroup, fourthGroup);
-        when(mockGroupService.getAll()).thenReturn(expectedGroups);
+        List<Group> expectedGroups = asList(secondGroup, thirdGroup);
+        when(mockGroupService.getActive()).thenReturn(expectedGroups);
 
         List<Group> expectedCourseGroups = asList(secondGroup, firstGroup);
         List<Group> expectedRestGroups = singletonList(thirdGroup);
@@ -105,18 +102,17 @@ class CourseControllerTest {
                 .andExpect(view().name(expectedViewName));
 
         verify(mockCourseService, times(1)).getById(COURSE_ID_51);
-        verify(mockGroupService, times(1)).getAll();
+        verify(mockGroupService, times(1)).getActive();
     }
 
     @Test
     void testEdit() throws Exception {
         Lecturer fistLecturer = new Lecturer().setId(PERSON_ID_50001).setActive(true);
-        Lecturer secondLecturer = new Lecturer().setId(PERSON_ID_50002).setActive(false);
         Lecturer thirdLecturer = new Lecturer().setId(PERSON_ID_50003).setActive(true).setFirstName("2");
         Lecturer fourthLecturer = new Lecturer().setId(PERSON_ID_50004).setActive(true).setFirstName("1");
 
-        List<Lecturer> lecturers = asList(fistLecturer, secondLecturer, thirdLecturer, fourthLecturer);
-        when(mockLecturerService.getAll()).thenReturn(lecturers);
+        List<Lecturer> lecturers = asList(fistLecturer, fourthLecturer, thirdLecturer);
+        when(mockLecturerService.getActive()).thenReturn(lecturers);
 
         Course expectedCourse = new Course().setId(COURSE_ID_51).setAuthor(fistLecturer);
         when(mockCourseService.getById(COURSE_ID_51)).thenReturn(expectedCourse);
@@ -131,7 +127,7 @@ class CourseControllerTest {
                 .andExpect(view().name(expectedViewName));
 
         verify(mockCourseService, times(1)).getById(COURSE_ID_51);
-        verify(mockLecturerService, times(1)).getAll();
+        verify(mockLecturerService, times(1)).getActive();
     }
 
     @Test
@@ -140,11 +136,10 @@ class CourseControllerTest {
         when(mockCourseService.getById(COURSE_ID_51)).thenReturn(expectedCourse);
 
         Lecturer fistLecturer = new Lecturer().setId(PERSON_ID_50001).setActive(true).setFirstName("2");
-        Lecturer secondLecturer = new Lecturer().setId(PERSON_ID_50002).setActive(false);
         Lecturer thirdLecturer = new Lecturer().setId(PERSON_ID_50003).setActive(true).setFirstName("1");
 
-        List<Lecturer> lecturers = asList(fistLecturer, secondLecturer, thirdLecturer);
-        when(mockLecturerService.getAll()).thenReturn(lecturers);
+        List<Lecturer> lecturers = asList(thirdLecturer, fistLecturer);
+        when(mockLecturerService.getActive()).thenReturn(lecturers);
 
         List<Lecturer> expectedLecturers = asList(thirdLecturer, fistLecturer);
         String expectedViewName = "courses/course_editor";
@@ -156,7 +151,7 @@ class CourseControllerTest {
                 .andExpect(view().name(expectedViewName));
 
         verify(mockCourseService, times(1)).getById(COURSE_ID_51);
-        verify(mockLecturerService, times(1)).getAll();
+        verify(mockLecturerService, times(1)).getActive();
     }
 
     @Test
@@ -191,12 +186,11 @@ class CourseControllerTest {
     @Test
     void testCreate() throws Exception {
         Lecturer firstLecturer = new Lecturer().setId(PERSON_ID_50001).setActive(true).setFirstName("z");
-        Lecturer secondLecturer = new Lecturer().setId(PERSON_ID_50002).setActive(false);
         Lecturer thirdLecturer = new Lecturer().setId(PERSON_ID_50003).setActive(true).setFirstName("a");
 
-        List<Lecturer> lecturers = asList(firstLecturer, secondLecturer, thirdLecturer);
+        List<Lecturer> lecturers = asList(thirdLecturer, firstLecturer);
 
-        when(mockLecturerService.getAll()).thenReturn(lecturers);
+        when(mockLecturerService.getActive()).thenReturn(lecturers);
 
         String expectedViewName = "courses/course_creator";
 
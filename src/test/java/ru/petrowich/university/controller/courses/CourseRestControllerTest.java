@@ -19,16 +19,24 @@ import ru.petrowich.university.mapper.courses.CourseMapper;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.repository.projection.CourseListItem;
 import ru.petrowich.university.service.CourseService;
 import ru.petrowich.university.service.GroupService;
+import ru.petrowich.university.service.batch.BatchItemResult;
+import ru.petrowich.university.service.batch.CourseGroupAssignment;
 
+import javax.validation.ConstraintViolationException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.openMocks;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -201,20 +209,22 @@ class CourseRestControllerTest {
 
     @Test
     void testGetAllCoursesShouldReturnOK() throws Exception {
-        Course course = new Course().setId(EXISTENT_COURSE_ID_51);
-        CourseDTO courseDTO = courseMapper.toDto(course);
-        List<Course> courses = new ArrayList<>(singletonList(course));
+        CourseListItem courseListItem = mock(CourseListItem.class);
+        CourseDTO courseDTO = new CourseDTO().setNumberOfAssignedGroups(2);
+        courseDTO.setId(EXISTENT_COURSE_ID_51);
+        List<CourseListItem> courseListItems = new ArrayList<>(singletonList(courseListItem));
 
-        when(mockCourseService.getAll()).thenReturn(courses);
-        when(mockCourseMapper.toDto(course)).thenReturn(courseDTO);
+        when(mockCourseService.getListPage(null, 100)).thenReturn(courseListItems);
+        when(mockCourseMapper.toListDto(courseListItem)).thenReturn(courseDTO);
 
         mockMvc.perform(get("/api/courses/"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$.[0].id").value(EXISTENT_COURSE_ID_51));
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_COURSE_ID_51))
+                .andExpect(jsonPath("$.[0].numberOfAssignedGroups").value(2));
 
-        verify(mockCourseService, times(1)).getAll();
-        verify(mockCourseMapper, times(1)).toDto(course);
+        verify(mockCourseService, times(1)).getListPage(null, 100);
+        verify(mockCourseMapper, times(1)).toListDto(courseListItem);
     }
 
     @Test
@@ -230,6 +240,7 @@ class CourseRestControllerTest {
 
         Course course = new Course().setId(EXISTENT_COURSE_ID_51).setGroups(groupList);
         when(mockCourseService.getById(EXISTENT_COURSE_ID_51)).thenReturn(course);
+        when(mockCourseService.assignGroupToCourse(group, course)).thenReturn(groupList);
 
         CourseGroupDTO courseGroupDTO = courseGroupMapper.toDto(group);
         when(mockCourseGroupMapper.toDto(group)).thenReturn(courseGroupDTO);
@@ -243,11 +254,106 @@ class CourseRestControllerTest {
                 .andExpect(jsonPath("$.[0].id").value(EXISTENT_GROUP_ID_501));
 
         verify(mockCourseService, times(1)).assignGroupToCourse(group, course);
-        verify(mockCourseService, times(2)).getById(EXISTENT_COURSE_ID_51);
+        verify(mockCourseService, times(1)).getById(EXISTENT_COURSE_ID_51);
         verify(mockGroupService, times(1)).getById(EXISTENT_GROUP_ID_501);
         verify(mockCourseGroupMapper, times(1)).toDto(group);
     }
 
+    @Test
+    void testAssignGroupShouldReturnConflictWhenLessonsOfCourseOverlapLessonsOfGroup() throws Exception {
+        CourseGroupAssignmentDTO courseGroupAssignmentDTO = new CourseGroupAssignmentDTO()
+                .setCourseId(EXISTENT_COURSE_ID_51)
+                .setGroupId(EXISTENT_GROUP_ID_501);
+        String courseGroupAssignmentJSON = objectMapper.writeValueAsString(courseGroupAssignmentDTO);
+
+        Group group = new Group().setId(EXISTENT_GROUP_ID_501);
+        when(mockGroupService.getById(EXISTENT_GROUP_ID_501)).thenReturn(group);
+
+        Course course = new Course().setId(EXISTENT_COURSE_ID_51);
+        when(mockCourseService.getById(EXISTENT_COURSE_ID_51)).thenReturn(course);
+        when(mockCourseService.assignGroupToCourse(group, course))
+                .thenThrow(new ConstraintViolationException("group 501 is busy with lesson 1001", emptySet()));
+
+        mockMvc.perform(put("/api/courses/assign-group")
+                .content(courseGroupAssignmentJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isConflict());
+
+        verify(mockCourseService, times(1)).assignGroupToCourse(group, course);
+        verify(mockCourseGroupMapper, times(0)).toDto(any(Group.class));
+    }
+
+    @Test
+    void testApplyGroupsShouldReturnGroupsAppliedToCourse() throws Exception {
+        String groupIdsJSON = objectMapper.writeValueAsString(singletonList(EXISTENT_GROUP_ID_501));
+
+        Group group = new Group().setId(EXISTENT_GROUP_ID_501);
+        List<Group> groupList = singletonList(group);
+
+        Course course = new Course().setId(EXISTENT_COURSE_ID_51);
+        when(mockCourseService.getById(EXISTENT_COURSE_ID_51)).thenReturn(course);
+        when(mockCourseService.applyGroupsToCourse(groupList, course)).thenReturn(groupList);
+
+        CourseGroupDTO courseGroupDTO = courseGroupMapper.toDto(group);
+        when(mockCourseGroupMapper.toDto(group)).thenReturn(courseGroupDTO);
+
+        mockMvc.perform(put("/api/courses/{id}/groups", EXISTENT_COURSE_ID_51)
+                .content(groupIdsJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_GROUP_ID_501));
+
+        verify(mockCourseService, times(1)).applyGroupsToCourse(groupList, course);
+        verify(mockCourseService, times(1)).getById(EXISTENT_COURSE_ID_51);
+        verify(mockCourseGroupMapper, times(1)).toDto(group);
+    }
+
+    @Test
+    void testApplyGroupsShouldReturnNotFoundWhenNonexistentCourseIdPassed() throws Exception {
+        String groupIdsJSON = objectMapper.writeValueAsString(singletonList(EXISTENT_GROUP_ID_501));
+
+        when(mockCourseService.getById(NONEXISTENT_COURSE_ID)).thenReturn(null);
+
+        mockMvc.perform(put("/api/courses/{id}/groups", NONEXISTENT_COURSE_ID)
+                .content(groupIdsJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotFound());
+
+        verify(mockCourseService, times(0)).applyGroupsToCourse(any(), any());
+    }
+
+    @Test
+    void testAssignGroupsShouldReturnResultOfEveryPassedAssignment() throws Exception {
+        List<CourseGroupAssignmentDTO> courseGroupAssignmentDTOs = Arrays.asList(
+                new CourseGroupAssignmentDTO().setCourseId(EXISTENT_COURSE_ID_51).setGroupId(EXISTENT_GROUP_ID_501),
+                new CourseGroupAssignmentDTO().setCourseId(EXISTENT_COURSE_ID_51).setGroupId(NONEXISTENT_GROUP_ID));
+        String courseGroupAssignmentsJSON = objectMapper.writeValueAsString(courseGroupAssignmentDTOs);
+
+        List<BatchItemResult<CourseGroupAssignment>> results = Arrays.asList(
+                new BatchItemResult<>(0, new CourseGroupAssignment(EXISTENT_COURSE_ID_51, EXISTENT_GROUP_ID_501)),
+                new BatchItemResult<>(1, new CourseGroupAssignment(EXISTENT_COURSE_ID_51, NONEXISTENT_GROUP_ID))
+                        .reject("group id=" + NONEXISTENT_GROUP_ID + " is not found"));
+        when(mockCourseService.assignGroupsToCourses(any())).thenReturn(results);
+
+        mockMvc.perform(put("/api/courses/assign-groups/batch")
+                .content(courseGroupAssignmentsJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.[0].accepted").value(true))
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_COURSE_ID_51))
+                .andExpect(jsonPath("$.[1].accepted").value(false))
+                .andExpect(jsonPath("$.[1].errors[0]").value("group id=" + NONEXISTENT_GROUP_ID + " is not found"));
+
+        verify(mockCourseService, times(1)).assignGroupsToCourses(any());
+    }
+
     @Test
     void testAssignGroupShouldReturnNotFoundWhenNonexistentIdPassed() throws Exception {
         CourseGroupAssignmentDTO courseGroupAssignmentDTO = new CourseGroupAssignmentDTO()
@@ -282,6 +388,7 @@ class CourseRestControllerTest {
 
         Course course = new Course().setId(EXISTENT_COURSE_ID_51).setGroups(groupList);
         when(mockCourseService.getById(EXISTENT_COURSE_ID_51)).thenReturn(course);
+        when(mockCourseService.removeGroupFromCourse(group, course)).thenReturn(groupList);
 
         CourseGroupDTO courseGroupDTO = courseGroupMapper.toDto(group);
         when(mockCourseGroupMapper.toDto(group)).thenReturn(courseGroupDTO);
@@ -295,7 +402,7 @@ class CourseRestControllerTest {
                 .andExpect(jsonPath("$.[0].id").value(EXISTENT_GROUP_ID_501));
 
         verify(mockCourseService, times(1)).removeGroupFromCourse(group, course);
-        verify(mockCourseService, times(2)).getById(EXISTENT_COURSE_ID_51);
+        verify(mockCourseService, times(1)).getById(EXISTENT_COURSE_ID_51);
         verify(mockGroupService, times(1)).getById(EXISTENT_GROUP_ID_501);
         verify(mockCourseGroupMapper, times(1)).toDto(group);
     }
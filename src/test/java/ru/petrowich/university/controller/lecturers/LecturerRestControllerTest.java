@@ -190,7 +190,7 @@ class LecturerRestControllerTest {
         LecturerDTO lecturerDTO = lecturerMapper.toDto(lecturer);
         List<Lecturer> lecturers = new ArrayList<>(singletonList(lecturer));
 
-        when(mockLecturerService.getAll()).thenReturn(lecturers);
+        when(mockLecturerService.getPage(null, 100)).thenReturn(lecturers);
         when(mockLecturerMapper.toDto(lecturer)).thenReturn(lecturerDTO);
 
         mockMvc.perform(get("/api/lecturers/"))
@@ -198,7 +198,7 @@ class LecturerRestControllerTest {
                 .andExpect(content().contentType("application/json"))
                 .andExpect(jsonPath("$.[0].id").value(EXISTENT_PERSON_ID_50005));
 
-        verify(mockLecturerService, times(1)).getAll();
+        verify(mockLecturerService, times(1)).getPage(null, 100);
         verify(mockLecturerMapper, times(1)).toDto(lecturer);
     }
 }
@@ -38,7 +38,6 @@ class LessonControllerTest {
     private static final Integer COURSE_ID_51 = 51;
     private static final Integer COURSE_ID_52 = 52;
     private static final Integer COURSE_ID_53 = 53;
-    private static final Integer COURSE_ID_54 = 54;
     private static final Integer COURSE_ID_55 = 55;
     private static final Integer PERSON_ID_50001 = 50001;
     private static final Integer PERSON_ID_50002 = 50002;
@@ -82,14 +81,14 @@ class LessonControllerTest {
 
         String expectedViewName = "lessons/lessons";
 
-        when(mockLessonService.getAll()).thenReturn(expectedLessons);
+        when(mockLessonService.getAllWithNumberOfAttendees()).thenReturn(expectedLessons);
 
         mockMvc.perform(get("/lessons"))
                 .andExpect(status().isOk())
                 .andExpect(model().attribute("allLessons", expectedLessons))
                 .andExpect(view().name(expectedViewName));
 
-        verify(mockLessonService, times(1)).getAll();
+        verify(mockLessonService, times(1)).getAllWithNumberOfAttendees();
     }
 
     @Test
@@ -97,15 +96,10 @@ class LessonControllerTest {
         Lesson expectedLesson = new Lesson();
 
         Lecturer activeLecturer = new Lecturer().setId(PERSON_ID_50001).setActive(true);
-        Lecturer inactiveLecturer = new Lecturer().setId(PERSON_ID_50002).setActive(false);
 
         Course firstCourse = new Course().setId(COURSE_ID_51).setActive(true).setAuthor(activeLecturer).setName("z");
-        Course secondCourse = new Course().setId(COURSE_ID_52).setActive(false).setAuthor(activeLecturer);
-        Course thirdCourse = new Course().setId(COURSE_ID_53).setActive(true).setAuthor(inactiveLecturer);
-        Course fourthCourse = new Course().setId(COURSE_ID_54).setActive(true).setAuthor(new Lecturer());
         Course fifthCourse = new Course().setId(COURSE_ID_55).setActive(true).setAuthor(activeLecturer).setName("a");
 
-        List<Course> courses = asList(firstCourse, secondCourse, thirdCourse, fourthCourse, fifthCourse);
         List<Course> expectedCourses = asList(fifthCourse, firstCourse);
 
         TimeSlot firstTimeSlot = new TimeSlot().setId(TIME_SLOT_ID_1).setStartTime(TIME_SLOT_START_TIME_9);
@@ -115,8 +109,8 @@ class LessonControllerTest {
 
         String expectedViewName = "lessons/lesson_creator";
 
-        when(mockCourseService.getAll()).thenReturn(courses);
-        when(mockTimeSlotService.getAll()).thenReturn(expectedTimeSlots);
+        when(mockCourseService.getActiveWithActiveAuthor()).thenReturn(expectedCourses);
+        when(mockTimeSlotService.getAllByStartTime()).thenReturn(expectedTimeSlots);
 
         mockMvc.perform(get("/lessons/lesson/new"))
                 .andExpect(status().isOk())
@@ -125,8 +119,8 @@ class LessonControllerTest {
                 .andExpect(model().attribute("courses", expectedCourses))
                 .andExpect(view().name(expectedViewName));
 
-        verify(mockCourseService, times(1)).getAll();
-        verify(mockTimeSlotService, times(1)).getAll();
+        verify(mockCourseService, times(1)).getActiveWithActiveAuthor();
+        verify(mockTimeSlotService, times(1)).getAllByStartTime();
     }
 
     @Test
@@ -158,16 +152,16 @@ class LessonControllerTest {
         Lecturer fourthLecturer = new Lecturer().setId(PERSON_ID_50004).setActive(true).setFirstName("1");
 
         Course firstCourse = new Course().setId(COURSE_ID_51).setActive(true).setAuthor(firstLecturer).setName("2");
-        Course secondCourse = new Course().setId(COURSE_ID_52).setActive(false).setAuthor(secondLecturer);
+        Course secondCourse = new Course().setId(COURSE_ID_52).setActive(true).setAuthor(secondLecturer).setName("3");
         Course thirdCourse = new Course().setId(COURSE_ID_53).setActive(true).setAuthor(firstLecturer).setName("1");
 
-        List<Course> courses = asList(firstCourse, secondCourse, thirdCourse);
-        when(mockCourseService.getAll()).thenReturn(courses);
+        List<Course> courses = asList(thirdCourse, firstCourse, secondCourse);
+        when(mockCourseService.getActive()).thenReturn(courses);
 
-        List<Lecturer> lecturers = asList(firstLecturer, secondLecturer, thirdLecturer, fourthLecturer);
-        when(mockLecturerService.getAll()).thenReturn(lecturers);
+        List<Lecturer> lecturers = asList(fourthLecturer, firstLecturer, thirdLecturer);
+        when(mockLecturerService.getActive()).thenReturn(lecturers);
 
-        Lesson lesson = new Lesson().setId(LESSON_ID_5000001).setLecturer(firstLecturer);
+        Lesson lesson = new Lesson().setId(LESSON_ID_5000001).setCourse(secondCourse).setLecturer(firstLecturer);
         when(mockLessonService.getById(LESSON_ID_5000001)).thenReturn(lesson);
 
         List<Lecturer> expectedLecturers = asList(fourthLecturer, thirdLecturer);
@@ -7,20 +7,37 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.petrowich.university.controller.PageCursor;
+import ru.petrowich.university.controller.JsonStreamExporter;
 import ru.petrowich.university.dto.lessons.LessonDTO;
 import ru.petrowich.university.mapper.lesson.LessonMapper;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.repository.projection.LessonListItem;
 import ru.petrowich.university.service.LessonService;
+import ru.petrowich.university.service.batch.BatchItemResult;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -29,9 +46,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
 class LessonRestControllerTest {
@@ -45,6 +65,14 @@ class LessonRestControllerTest {
     private static final LocalTime ANOTHER_LESSON_START_TIME = LocalTime.of(18, 30, 0);
     private static final String ANOTHER_LESSON_DATE_STRING = "2020-07-31";
     private static final String ANOTHER_LESSON_START_TIME_STRING = "18:30";
+    private static final Integer EXISTENT_COURSE_ID_51 = 51;
+    private static final Integer EXISTENT_LECTURER_ID_50005 = 50005;
+    private static final Integer EXISTENT_GROUP_ID_501 = 501;
+    private static final Integer EXISTENT_GROUP_ID_502 = 502;
+    private static final LocalDate JUNE_FIRST = LocalDate.of(2020, 6, 1);
+    private static final LocalDate JUNE_LAST = LocalDate.of(2020, 6, 30);
+    private static final String JUNE_FIRST_STRING = "2020-06-01";
+    private static final String JUNE_LAST_STRING = "2020-06-30";
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final ModelMapper modelMapper = new ModelMapper();
@@ -60,6 +88,9 @@ class LessonRestControllerTest {
     @Mock
     LessonMapper mockLessonMapper;
 
+    @Spy
+    JsonStreamExporter jsonStreamExporter = new JsonStreamExporter(objectMapper);
+
     @InjectMocks
     LessonRestController lessonRestController;
 
@@ -130,6 +161,48 @@ class LessonRestControllerTest {
         verify(mockLessonMapper, times(1)).toDto(expectedLesson);
     }
 
+    @Test
+    void testAddLessonsShouldReturnResultOfEveryPassedLesson() throws Exception {
+        List<LessonDTO> newLessonDTOs = Arrays.asList(new LessonDTO().setDate(ANOTHER_LESSON_DATE), new LessonDTO().setDate(JUNE_FIRST));
+        String newLessonsJSON = objectMapper.writeValueAsString(newLessonDTOs);
+
+        Lesson acceptedLesson = new Lesson().setId(NEW_LESSON_ID);
+        Lesson rejectedLesson = new Lesson();
+        List<BatchItemResult<Lesson>> results = Arrays.asList(new BatchItemResult<>(0, acceptedLesson),
+                new BatchItemResult<>(1, rejectedLesson).reject("lecturer 50005 is busy"));
+
+        when(mockLessonMapper.toEntity(any())).thenReturn(new Lesson());
+        when(mockLessonService.addBatch(any())).thenReturn(results);
+
+        mockMvc.perform(post("/api/lessons/batch")
+                .content(newLessonsJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.[0].accepted").value(true))
+                .andExpect(jsonPath("$.[0].id").value(NEW_LESSON_ID))
+                .andExpect(jsonPath("$.[1].index").value(1))
+                .andExpect(jsonPath("$.[1].accepted").value(false))
+                .andExpect(jsonPath("$.[1].errors[0]").value("lecturer 50005 is busy"));
+
+        verify(mockLessonMapper, times(2)).toEntity(any());
+        verify(mockLessonService, times(1)).addBatch(any());
+        verify(mockLessonService, never()).add(any());
+    }
+
+    @Test
+    void testAddLessonsShouldReturnBadRequestWhenEmptyBatchPassed() throws Exception {
+        mockMvc.perform(post("/api/lessons/batch")
+                .content("[]")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(mockLessonService, never()).addBatch(any());
+    }
+
     @Test
     void testUpdateLessonShouldReturnOK() throws Exception {
         Lesson lesson = new Lesson().setId(EXISTENT_LESSON_ID_5000001)
@@ -197,20 +270,194 @@ class LessonRestControllerTest {
 
     @Test
     void testGetAllLessonsShouldReturnOK() throws Exception {
-        Lesson lesson = new Lesson().setId(EXISTENT_LESSON_ID_5000001);
-        LessonDTO lessonDTO1 = lessonMapper.toDto(lesson);
+        LessonListItem lessonListItem = mock(LessonListItem.class);
+        when(lessonListItem.getCourseId()).thenReturn(EXISTENT_COURSE_ID_51);
+        LessonDTO lessonDTO = new LessonDTO().setNumberOfAttendees(3);
+        lessonDTO.setId(EXISTENT_LESSON_ID_5000001);
 
-        List<Lesson> lessons = new ArrayList<>(singletonList(lesson));
+        List<LessonListItem> lessonListItems = new ArrayList<>(singletonList(lessonListItem));
 
-        when(mockLessonService.getAll()).thenReturn(lessons);
-        when(mockLessonMapper.toDto(lesson)).thenReturn(lessonDTO1);
+        when(mockLessonService.getListPage(null, 100)).thenReturn(lessonListItems);
+        when(mockLessonService.getNumbersOfAttendeesOfCourses(singleton(EXISTENT_COURSE_ID_51))).thenReturn(singletonMap(EXISTENT_COURSE_ID_51, 3));
+        when(mockLessonMapper.toListDto(lessonListItem, 3)).thenReturn(lessonDTO);
 
         mockMvc.perform(get("/api/lessons/"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_LESSON_ID_5000001))
+                .andExpect(jsonPath("$.[0].numberOfAttendees").value(3));
+
+        verify(mockLessonService, times(1)).getListPage(null, 100);
+        verify(mockLessonService, times(1)).getNumbersOfAttendeesOfCourses(singleton(EXISTENT_COURSE_ID_51));
+        verify(mockLessonMapper, times(1)).toListDto(lessonListItem, 3);
+        verify(mockLessonService, never()).getPage(any(), anyInt());
+    }
+
+    @Test
+    void testGetAllLessonsShouldReturnNextCursorOfLastListItemWhenPageIsFull() throws Exception {
+        LessonListItem lessonListItem = mock(LessonListItem.class);
+        when(lessonListItem.getId()).thenReturn(EXISTENT_LESSON_ID_5000001);
+        when(lessonListItem.getDate()).thenReturn(ANOTHER_LESSON_DATE);
+        when(lessonListItem.getStartTime()).thenReturn(ANOTHER_LESSON_START_TIME);
+        LessonDTO lessonDTO = new LessonDTO();
+        lessonDTO.setId(EXISTENT_LESSON_ID_5000001);
+
+        when(mockLessonService.getListPage(null, 1)).thenReturn(new ArrayList<>(singletonList(lessonListItem)));
+        when(mockLessonMapper.toListDto(lessonListItem, 0)).thenReturn(lessonDTO);
+
+        mockMvc.perform(get("/api/lessons/").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PageCursor.HEADER_NEXT_CURSOR,
+                        PageCursor.encode(ANOTHER_LESSON_DATE, ANOTHER_LESSON_START_TIME, EXISTENT_LESSON_ID_5000001)));
+
+        verify(mockLessonService, times(1)).getListPage(null, 1);
+    }
+
+    @Test
+    void testExportLessonsShouldStreamAllListItemsAsJsonArray() throws Exception {
+        LessonListItem firstLessonListItem = mock(LessonListItem.class);
+        when(firstLessonListItem.getCourseId()).thenReturn(EXISTENT_COURSE_ID_51);
+        LessonListItem secondLessonListItem = mock(LessonListItem.class);
+        LessonDTO firstLessonDTO = new LessonDTO().setDate(ANOTHER_LESSON_DATE).setNumberOfAttendees(3);
+        firstLessonDTO.setId(EXISTENT_LESSON_ID_5000001);
+        LessonDTO secondLessonDTO = new LessonDTO();
+        secondLessonDTO.setId(NEW_LESSON_ID);
+
+        doAnswer(invocation -> {
+            Consumer<LessonListItem> action = invocation.getArgument(0);
+            action.accept(firstLessonListItem);
+            action.accept(secondLessonListItem);
+            return null;
+        }).when(mockLessonService).forEachListItem(any());
+        when(mockLessonService.getNumbersOfAttendeesOfCourses()).thenReturn(singletonMap(EXISTENT_COURSE_ID_51, 3));
+        when(mockLessonMapper.toListDto(firstLessonListItem, 3)).thenReturn(firstLessonDTO);
+        when(mockLessonMapper.toListDto(secondLessonListItem, 0)).thenReturn(secondLessonDTO);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/lessons/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_LESSON_ID_5000001))
+                .andExpect(jsonPath("$.[0].date").value(ANOTHER_LESSON_DATE_STRING))
+                .andExpect(jsonPath("$.[0].numberOfAttendees").value(3))
+                .andExpect(jsonPath("$.[1].id").value(NEW_LESSON_ID));
+
+        verify(mockLessonService, times(1)).getNumbersOfAttendeesOfCourses();
+        verify(mockLessonService, times(1)).forEachListItem(any());
+        verify(mockLessonService, never()).getListPage(any(), anyInt());
+    }
+
+    @Test
+    void testSearchLessonsShouldReturnOKWhenDateRangePassed() throws Exception {
+        Lesson lesson = new Lesson().setId(EXISTENT_LESSON_ID_5000001);
+        LessonDTO lessonDTO = lessonMapper.toDto(lesson);
+
+        when(mockLessonService.getByDateRange(JUNE_FIRST, JUNE_LAST)).thenReturn(new ArrayList<>(singletonList(lesson)));
+        when(mockLessonMapper.toDto(lesson)).thenReturn(lessonDTO);
+
+        mockMvc.perform(get("/api/lessons/search")
+                .param("from", JUNE_FIRST_STRING)
+                .param("to", JUNE_LAST_STRING))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"))
                 .andExpect(jsonPath("$.[0].id").value(EXISTENT_LESSON_ID_5000001));
 
-        verify(mockLessonService, times(1)).getAll();
-        verify(mockLessonMapper, times(1)).toDto(lesson);
+        verify(mockLessonService, times(1)).getByDateRange(JUNE_FIRST, JUNE_LAST);
+    }
+
+    @Test
+    void testSearchLessonsShouldReturnOKWhenLecturerIdPassed() throws Exception {
+        Lesson lesson = new Lesson().setId(EXISTENT_LESSON_ID_5000001);
+        LessonDTO lessonDTO = lessonMapper.toDto(lesson);
+        Lecturer lecturer = new Lecturer().setId(EXISTENT_LECTURER_ID_50005);
+
+        when(mockLessonService.getByLecturerAndDateRange(lecturer, JUNE_FIRST, JUNE_LAST)).thenReturn(new ArrayList<>(singletonList(lesson)));
+        when(mockLessonMapper.toDto(lesson)).thenReturn(lessonDTO);
+
+        mockMvc.perform(get("/api/lessons/search")
+                .param("from", JUNE_FIRST_STRING)
+                .param("to", JUNE_LAST_STRING)
+                .param("lecturerId", String.valueOf(EXISTENT_LECTURER_ID_50005)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_LESSON_ID_5000001));
+
+        verify(mockLessonService, times(1)).getByLecturerAndDateRange(lecturer, JUNE_FIRST, JUNE_LAST);
+        verify(mockLessonService, never()).getByDateRange(any(), any());
+    }
+
+    @Test
+    void testSearchLessonsShouldReturnNotFoundWhenNoLessonsFound() throws Exception {
+        when(mockLessonService.getByDateRange(JUNE_FIRST, JUNE_LAST)).thenReturn(new ArrayList<>());
+
+        mockMvc.perform(get("/api/lessons/search")
+                .param("from", JUNE_FIRST_STRING)
+                .param("to", JUNE_LAST_STRING))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testSearchLessonsShouldReturnBadRequestWhenRangeStartsAfterItEnds() throws Exception {
+        mockMvc.perform(get("/api/lessons/search")
+                .param("from", JUNE_LAST_STRING)
+                .param("to", JUNE_FIRST_STRING))
+                .andExpect(status().isBadRequest());
+
+        verify(mockLessonService, never()).getByDateRange(any(), any());
+    }
+
+    @Test
+    void testSearchLessonsShouldReturnBadRequestWhenSeveralOwnersPassed() throws Exception {
+        mockMvc.perform(get("/api/lessons/search")
+                .param("from", JUNE_FIRST_STRING)
+                .param("to", JUNE_LAST_STRING)
+                .param("lecturerId", "50005")
+                .param("groupId", "501"))
+                .andExpect(status().isBadRequest());
+
+        verify(mockLessonService, never()).getByLecturerAndDateRange(any(), any(), any());
+    }
+
+    @Test
+    void testSearchLessonsShouldReturnBadRequestWhenDateRangeIsMissing() throws Exception {
+        mockMvc.perform(get("/api/lessons/search")
+                .param("from", JUNE_FIRST_STRING))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testSearchFreeSlotsShouldReturnOKWhenLecturerAndGroupsPassed() throws Exception {
+        Lesson freeSlot = new Lesson().setDate(JUNE_FIRST).setStartTime(ANOTHER_LESSON_START_TIME);
+        LessonDTO freeSlotDTO = lessonMapper.toDto(freeSlot);
+        List<Lecturer> lecturers = singletonList(new Lecturer().setId(EXISTENT_LECTURER_ID_50005));
+        List<Group> groups = Arrays.asList(new Group().setId(EXISTENT_GROUP_ID_501), new Group().setId(EXISTENT_GROUP_ID_502));
+
+        when(mockLessonService.getFreeSlots(lecturers, groups, JUNE_FIRST, JUNE_LAST, 1)).thenReturn(new ArrayList<>(singletonList(freeSlot)));
+        when(mockLessonMapper.toDto(freeSlot)).thenReturn(freeSlotDTO);
+
+        mockMvc.perform(get("/api/lessons/free")
+                .param("from", JUNE_FIRST_STRING)
+                .param("to", JUNE_LAST_STRING)
+                .param("lecturerId", String.valueOf(EXISTENT_LECTURER_ID_50005))
+                .param("groupId", String.valueOf(EXISTENT_GROUP_ID_501), String.valueOf(EXISTENT_GROUP_ID_502)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.[0].date").value(JUNE_FIRST_STRING))
+                .andExpect(jsonPath("$.[0].startTime").value(ANOTHER_LESSON_START_TIME_STRING));
+
+        verify(mockLessonService, times(1)).getFreeSlots(lecturers, groups, JUNE_FIRST, JUNE_LAST, 1);
+    }
+
+    @Test
+    void testSearchFreeSlotsShouldReturnBadRequestWhenNeitherLecturerNorGroupPassed() throws Exception {
+        mockMvc.perform(get("/api/lessons/free")
+                .param("from", JUNE_FIRST_STRING)
+                .param("to", JUNE_LAST_STRING))
+                .andExpect(status().isBadRequest());
+
+        verify(mockLessonService, never()).getFreeSlots(any(), any(), any(), any(), anyInt());
     }
 }
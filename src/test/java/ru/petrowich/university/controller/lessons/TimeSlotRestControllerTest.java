@@ -197,7 +197,7 @@ class TimeSlotRestControllerTest {
 
         List<TimeSlot> timeSlots = new ArrayList<>(Collections.singletonList(timeSlot));
 
-        when(mockTimeSlotService.getAll()).thenReturn(timeSlots);
+        when(mockTimeSlotService.getPage(null, 100)).thenReturn(timeSlots);
         when(mockTimeSlotMapper.toDto(timeSlot)).thenReturn(timeSlotDTO1);
 
         mockMvc.perform(get("/api/lessons/timeslots/"))
@@ -205,7 +205,7 @@ class TimeSlotRestControllerTest {
                 .andExpect(content().contentType("application/json"))
                 .andExpect(jsonPath("$.[0].id").value(EXISTENT_TIME_SLOT_ID_1));
 
-        verify(mockTimeSlotService, times(1)).getAll();
+        verify(mockTimeSlotService, times(1)).getPage(null, 100);
         verify(mockTimeSlotMapper, times(1)).toDto(timeSlot);
     }
 }
@@ -0,0 +1,168 @@
+package ru.petrowich.university.controller.lessons;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.modelmapper.ModelMapper;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.petrowich.university.dto.lessons.LessonDTO;
+import ru.petrowich.university.mapper.lesson.LessonMapper;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.schedule.Timetable;
+import ru.petrowich.university.service.TimetableService;
+
+import javax.validation.ConstraintViolationException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+
+class TimetableRestControllerTest {
+    private AutoCloseable autoCloseable;
+    private MockMvc mockMvc;
+
+    private static final Long NEW_LESSON_ID = 9999999L;
+    private static final Integer EXISTENT_COURSE_ID_52 = 52;
+    private static final LocalDate FIRST_DATE = LocalDate.now().plusDays(1);
+    private static final LocalDate LAST_DATE = FIRST_DATE.plusDays(6);
+    private static final LocalDate PAST_DATE = LocalDate.now().minusDays(1);
+    private static final int LESSONS_PER_WEEK = 2;
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final LessonMapper lessonMapper = new LessonMapper(modelMapper);
+
+    @Mock
+    TimetableService mockTimetableService;
+
+    @Mock
+    LessonMapper mockLessonMapper;
+
+    @InjectMocks
+    TimetableRestController timetableRestController;
+
+    @BeforeEach
+    private void beforeEach() {
+        autoCloseable = openMocks(this);
+        mockMvc = standaloneSetup(timetableRestController).build();
+    }
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testPreviewTimetableShouldReturnOK() throws Exception {
+        Lesson lesson = new Lesson().setDate(FIRST_DATE);
+        LessonDTO lessonDTO = lessonMapper.toDto(lesson);
+        Timetable timetable = new Timetable(singletonList(lesson), Collections.emptyList());
+
+        when(mockTimetableService.preview(FIRST_DATE, LAST_DATE, LESSONS_PER_WEEK)).thenReturn(timetable);
+        when(mockLessonMapper.toDto(lesson)).thenReturn(lessonDTO);
+
+        mockMvc.perform(get("/api/lessons/generator/preview")
+                .param("from", FIRST_DATE.toString())
+                .param("to", LAST_DATE.toString())
+                .param("lessonsPerWeek", String.valueOf(LESSONS_PER_WEEK)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().doesNotExist(TimetableRestController.HEADER_UNSCHEDULED_COURSES));
+
+        verify(mockTimetableService, times(1)).preview(FIRST_DATE, LAST_DATE, LESSONS_PER_WEEK);
+        verify(mockTimetableService, never()).commit(any(), any(), anyInt());
+    }
+
+    @Test
+    void testPreviewTimetableShouldReturnUnscheduledCoursesHeader() throws Exception {
+        Course course = new Course().setId(EXISTENT_COURSE_ID_52);
+        Timetable timetable = new Timetable(new ArrayList<>(), singletonList(course));
+
+        when(mockTimetableService.preview(FIRST_DATE, LAST_DATE, 1)).thenReturn(timetable);
+
+        mockMvc.perform(get("/api/lessons/generator/preview")
+                .param("from", FIRST_DATE.toString())
+                .param("to", LAST_DATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TimetableRestController.HEADER_UNSCHEDULED_COURSES, String.valueOf(EXISTENT_COURSE_ID_52)));
+    }
+
+    @Test
+    void testPreviewTimetableShouldReturnBadRequestWhenRangeStartsAfterItEnds() throws Exception {
+        mockMvc.perform(get("/api/lessons/generator/preview")
+                .param("from", LAST_DATE.toString())
+                .param("to", FIRST_DATE.toString()))
+                .andExpect(status().isBadRequest());
+
+        verify(mockTimetableService, never()).preview(any(), any(), anyInt());
+    }
+
+    @Test
+    void testPreviewTimetableShouldReturnBadRequestWhenLessonsPerWeekIsNotPositive() throws Exception {
+        mockMvc.perform(get("/api/lessons/generator/preview")
+                .param("from", FIRST_DATE.toString())
+                .param("to", LAST_DATE.toString())
+                .param("lessonsPerWeek", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(mockTimetableService, never()).preview(any(), any(), anyInt());
+    }
+
+    @Test
+    void testCommitTimetableShouldReturnCreated() throws Exception {
+        Lesson lesson = new Lesson().setId(NEW_LESSON_ID).setDate(FIRST_DATE);
+        LessonDTO lessonDTO = lessonMapper.toDto(lesson);
+        Timetable timetable = new Timetable(singletonList(lesson), Collections.emptyList());
+
+        when(mockTimetableService.commit(FIRST_DATE, LAST_DATE, LESSONS_PER_WEEK)).thenReturn(timetable);
+        when(mockLessonMapper.toDto(lesson)).thenReturn(lessonDTO);
+
+        mockMvc.perform(post("/api/lessons/generator/commit")
+                .param("from", FIRST_DATE.toString())
+                .param("to", LAST_DATE.toString())
+                .param("lessonsPerWeek", String.valueOf(LESSONS_PER_WEEK)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.[0].id").value(NEW_LESSON_ID));
+
+        verify(mockTimetableService, times(1)).commit(FIRST_DATE, LAST_DATE, LESSONS_PER_WEEK);
+    }
+
+    @Test
+    void testCommitTimetableShouldReturnBadRequestWhenRangeStartsInThePast() throws Exception {
+        mockMvc.perform(post("/api/lessons/generator/commit")
+                .param("from", PAST_DATE.toString())
+                .param("to", LAST_DATE.toString()))
+                .andExpect(status().isBadRequest());
+
+        verify(mockTimetableService, never()).commit(any(), any(), anyInt());
+    }
+
+    @Test
+    void testCommitTimetableShouldReturnConflictWhenLessonsConflict() throws Exception {
+        when(mockTimetableService.commit(FIRST_DATE, LAST_DATE, 1))
+                .thenThrow(new ConstraintViolationException("lecturer 50005 is busy", Collections.emptySet()));
+
+        mockMvc.perform(post("/api/lessons/generator/commit")
+                .param("from", FIRST_DATE.toString())
+                .param("to", LAST_DATE.toString()))
+                .andExpect(status().isConflict());
+    }
+}
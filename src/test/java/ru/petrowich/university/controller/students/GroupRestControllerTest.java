@@ -6,19 +6,28 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.MediaType;
 
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.petrowich.university.controller.PageCursor;
+import ru.petrowich.university.controller.JsonStreamExporter;
 import ru.petrowich.university.dto.students.GroupDTO;
 import ru.petrowich.university.mapper.students.GroupMapper;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.repository.projection.GroupListItem;
 import ru.petrowich.university.service.GroupService;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -27,9 +36,12 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
 
 class GroupRestControllerTest {
@@ -51,6 +63,9 @@ class GroupRestControllerTest {
     @Mock
     GroupMapper mockGroupMapper;
 
+    @Spy
+    JsonStreamExporter jsonStreamExporter = new JsonStreamExporter(objectMapper);
+
     @InjectMocks
     GroupRestController groupRestController;
 
@@ -187,20 +202,92 @@ class GroupRestControllerTest {
 
     @Test
     void testGetAllGroupsShouldReturnOK() throws Exception {
-        Group group = new Group().setId(EXISTENT_GROUP_ID_501);
-        GroupDTO groupDTO = groupMapper.toDto(group);
+        GroupListItem groupListItem = mock(GroupListItem.class);
+        GroupDTO groupDTO = new GroupDTO().setNumberOfStudents(2);
+        groupDTO.setId(EXISTENT_GROUP_ID_501);
 
-        List<Group> groups = new ArrayList<>(singletonList(group));
+        List<GroupListItem> groupListItems = new ArrayList<>(singletonList(groupListItem));
 
-        when(mockGroupService.getAll()).thenReturn(groups);
-        when(mockGroupMapper.toDto(group)).thenReturn(groupDTO);
+        when(mockGroupService.getListPage(null, 100)).thenReturn(groupListItems);
+        when(mockGroupMapper.toListDto(groupListItem)).thenReturn(groupDTO);
 
         mockMvc.perform(get("/api/students/groups/"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_GROUP_ID_501))
+                .andExpect(jsonPath("$.[0].numberOfStudents").value(2));
+
+        verify(mockGroupService, times(1)).getListPage(null, 100);
+        verify(mockGroupMapper, times(1)).toListDto(groupListItem);
+        verify(mockGroupService, never()).getPage(any(), anyInt());
+    }
+
+    @Test
+    void testGetAllGroupsShouldReturnNextCursorWhenPageIsFull() throws Exception {
+        GroupListItem groupListItem = mock(GroupListItem.class);
+        when(groupListItem.getId()).thenReturn(EXISTENT_GROUP_ID_501);
+        GroupDTO groupDTO = new GroupDTO();
+        groupDTO.setId(EXISTENT_GROUP_ID_501);
+
+        List<GroupListItem> groupListItems = new ArrayList<>(singletonList(groupListItem));
+
+        when(mockGroupService.getListPage(null, 1)).thenReturn(groupListItems);
+        when(mockGroupMapper.toListDto(groupListItem)).thenReturn(groupDTO);
+
+        mockMvc.perform(get("/api/students/groups/").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(PageCursor.HEADER_NEXT_CURSOR, PageCursor.encode(EXISTENT_GROUP_ID_501)))
                 .andExpect(jsonPath("$.[0].id").value(EXISTENT_GROUP_ID_501));
 
-        verify(mockGroupService, times(1)).getAll();
-        verify(mockGroupMapper, times(1)).toDto(group);
+        verify(mockGroupService, times(1)).getListPage(null, 1);
+    }
+
+    @Test
+    void testGetAllGroupsShouldPassGroupOfCursorToService() throws Exception {
+        Group group = new Group().setId(EXISTENT_GROUP_ID_501);
+        GroupListItem nextGroupListItem = mock(GroupListItem.class);
+        GroupDTO nextGroupDTO = new GroupDTO();
+        nextGroupDTO.setId(NEW_GROUP_ID);
+
+        when(mockGroupService.getListPage(group, 100)).thenReturn(new ArrayList<>(singletonList(nextGroupListItem)));
+        when(mockGroupMapper.toListDto(nextGroupListItem)).thenReturn(nextGroupDTO);
+
+        mockMvc.perform(get("/api/students/groups/").param("cursor", PageCursor.encode(EXISTENT_GROUP_ID_501)))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(PageCursor.HEADER_NEXT_CURSOR))
+                .andExpect(jsonPath("$.[0].id").value(NEW_GROUP_ID));
+
+        verify(mockGroupService, times(1)).getListPage(group, 100);
+    }
+
+    @Test
+    void testGetAllGroupsShouldReturnBadRequestWhenInvalidCursorPassed() throws Exception {
+        mockMvc.perform(get("/api/students/groups/").param("cursor", "not a cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(mockGroupService, never()).getListPage(any(), anyInt());
+    }
+
+    @Test
+    void testGetAllGroupsShouldReturnBadRequestWhenInvalidSizePassed() throws Exception {
+        mockMvc.perform(get("/api/students/groups/").param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(mockGroupService, never()).getListPage(any(), anyInt());
+    }
+
+    @Test
+    void testExportGroupsShouldStreamEmptyJsonArrayWhenNoGroupsFound() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/students/groups/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(content().json("[]"));
+
+        verify(mockGroupService, times(1)).forEachListItem(any());
+        verify(mockGroupMapper, never()).toListDto(any());
     }
 }
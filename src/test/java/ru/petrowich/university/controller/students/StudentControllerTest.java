@@ -9,14 +9,19 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lesson;
 import ru.petrowich.university.model.Student;
 import ru.petrowich.university.service.GroupService;
+import ru.petrowich.university.service.LessonService;
 import ru.petrowich.university.service.StudentService;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -31,9 +36,11 @@ class StudentControllerTest {
     private static final Integer PERSON_ID_50001 = 50001;
     private static final Integer PERSON_ID_50002 = 50002;
     private static final Integer GROUP_ID_501 = 501;
-    private static final Integer GROUP_ID_502 = 502;
     private static final Integer GROUP_ID_503 = 503;
     private static final Integer GROUP_ID_504 = 504;
+    private static final Long LESSON_ID_5000001 = 5000001L;
+    private static final LocalDate MONDAY = LocalDate.of(2020, 6, 1);
+    private static final LocalDate SUNDAY = LocalDate.of(2020, 6, 7);
 
     @Mock
     GroupService mockGroupService;
@@ -41,6 +48,9 @@ class StudentControllerTest {
     @Mock
     StudentService mockStudentService;
 
+    @Mock
+    LessonService mockLessonService;
+
     @InjectMocks
     StudentController studentController;
 
@@ -90,15 +100,53 @@ class StudentControllerTest {
         verify(mockStudentService, times(1)).getById(PERSON_ID_50001);
     }
 
+    @Test
+    void testTimetable() throws Exception {
+        Student expectedStudent = new Student().setId(PERSON_ID_50001).setGroup(new Group().setId(GROUP_ID_501));
+        List<Lesson> expectedLessons = singletonList(new Lesson().setId(LESSON_ID_5000001));
+
+        when(mockStudentService.getById(PERSON_ID_50001)).thenReturn(expectedStudent);
+        when(mockLessonService.getTimetableOfStudent(expectedStudent, MONDAY, SUNDAY)).thenReturn(expectedLessons);
+
+        String expectedViewName = "students/student_timetable";
+
+        mockMvc.perform(get("/students/student/timetable")
+                .param("id", String.valueOf(PERSON_ID_50001))
+                .param("from", "2020-06-03"))
+                .andExpect(status().isOk())
+                .andExpect(model().attribute("student", expectedStudent))
+                .andExpect(model().attribute("lessons", expectedLessons))
+                .andExpect(model().attribute("from", MONDAY))
+                .andExpect(model().attribute("to", SUNDAY))
+                .andExpect(view().name(expectedViewName));
+
+        verify(mockLessonService, times(1)).getTimetableOfStudent(expectedStudent, MONDAY, SUNDAY);
+    }
+
+    @Test
+    void testTimetableShouldReturnNotFoundWhenStudentIsNotFound() throws Exception {
+        when(mockStudentService.getById(PERSON_ID_50001)).thenReturn(null);
+
+        String expectedViewName = "students/students";
+
+        mockMvc.perform(get("/students/student/timetable")
+                .param("id", String.valueOf(PERSON_ID_50001))
+                .param("from", "2020-06-03"))
+                .andExpect(status().isNotFound())
+                .andExpect(view().name(expectedViewName));
+
+        verify(mockStudentService, times(1)).getById(PERSON_ID_50001);
+        verifyNoInteractions(mockLessonService);
+    }
+
     @Test
     void edit() throws Exception {
         Group firstGroup = new Group().setId(GROUP_ID_501).setActive(true);
-        Group secondGroup = new Group().setId(GROUP_ID_502).setActive(false);
         Group thirdGroup = new Group().setId(GROUP_ID_503).setActive(true).setName("2");
         Group fourthGroup = new Group().setId(GROUP_ID_504).setActive(true).setName("1");
-        List<Group> groups = asList(firstGroup, secondGroup, thirdGroup, fourthGroup);
+        List<Group> groups = asList(fourthGroup, thirdGroup, firstGroup);
 
-        when(mockGroupService.getAll()).thenReturn(groups);
+        when(mockGroupService.getActive()).thenReturn(groups);
 
         Student expectedStudent = new Student().setId(PERSON_ID_50001).setGroup(firstGroup);
         when(mockStudentService.getById(PERSON_ID_50001)).thenReturn(expectedStudent);
@@ -118,11 +166,10 @@ class StudentControllerTest {
     @Test
     void testEditWithoutPreAssignments() throws Exception {
         Group firstGroup = new Group().setId(GROUP_ID_501).setActive(true).setName("2");
-        Group secondGroup = new Group().setId(GROUP_ID_502).setActive(false);
         Group thirdGroup = new Group().setId(GROUP_ID_503).setActive(true).setName("1");
-        List<Group> groups = asList(firstGroup, secondGroup, thirdGroup);
+        List<Group> groups = asList(thirdGroup, firstGroup);
 
-        when(mockGroupService.getAll()).thenReturn(groups);
+        when(mockGroupService.getActive()).thenReturn(groups);
 
         String expectedViewName = "students/student_editor";
 
@@ -167,11 +214,10 @@ class StudentControllerTest {
     @Test
     void testCreate() throws Exception {
         Group firstGroup = new Group().setId(GROUP_ID_501).setActive(true).setName("2");
-        Group secondGroup = new Group().setId(GROUP_ID_502).setActive(false);
         Group thirdGroup = new Group().setId(GROUP_ID_503).setActive(true).setName("1");
-        List<Group> groups = asList(firstGroup, secondGroup, thirdGroup);
+        List<Group> groups = asList(thirdGroup, firstGroup);
 
-        when(mockGroupService.getAll()).thenReturn(groups);
+        when(mockGroupService.getActive()).thenReturn(groups);
 
         Student expectedStudent = new Student();
 
@@ -184,7 +230,7 @@ class StudentControllerTest {
                 .andExpect(model().attribute("groups", expectedGroups))
                 .andExpect(view().name(expectedViewName));
 
-        verify(mockGroupService, times(1)).getAll();
+        verify(mockGroupService, times(1)).getActive();
     }
 
     @Test
@@ -9,15 +9,28 @@ import org.mockito.Mock;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.petrowich.university.controller.BatchRequest;
+import ru.petrowich.university.dto.lessons.LessonDTO;
 import ru.petrowich.university.dto.students.StudentDTO;
+import ru.petrowich.university.mapper.lesson.LessonMapper;
 import ru.petrowich.university.mapper.students.StudentMapper;
+import ru.petrowich.university.model.Lesson;
 import ru.petrowich.university.model.Student;
+import ru.petrowich.university.repository.projection.StudentListItem;
+import ru.petrowich.university.service.LessonService;
 import ru.petrowich.university.service.StudentService;
+import ru.petrowich.university.service.batch.BatchItemResult;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static java.util.Collections.singletonList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
@@ -39,10 +52,16 @@ class StudentRestControllerTest {
     private static final Integer NONEXISTENT_PERSON_ID = 99999;
     private static final Integer EXISTENT_PERSON_ID_50001 = 50001;
     private static final String ANOTHER_PERSON_EMAIL = "another@mail.com";
+    private static final Long EXISTENT_LESSON_ID_5000001 = 5000001L;
+    private static final LocalDate JUNE_FIRST = LocalDate.of(2020, 6, 1);
+    private static final LocalDate JUNE_LAST = LocalDate.of(2020, 6, 30);
+    private static final String JUNE_FIRST_STRING = "2020-06-01";
+    private static final String JUNE_LAST_STRING = "2020-06-30";
 
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final ModelMapper modelMapper = new ModelMapper();
     private final StudentMapper studentMapper = new StudentMapper(modelMapper);
+    private final LessonMapper lessonMapper = new LessonMapper(modelMapper);
 
     @Mock
     StudentService mockStudentService;
@@ -50,6 +69,12 @@ class StudentRestControllerTest {
     @Mock
     StudentMapper mockStudentMapper;
 
+    @Mock
+    LessonService mockLessonService;
+
+    @Mock
+    LessonMapper mockLessonMapper;
+
     @InjectMocks
     StudentRestController studentRestController;
 
@@ -120,6 +145,84 @@ class StudentRestControllerTest {
         verify(mockStudentMapper, times(1)).toDto(expectedStudent);
     }
 
+    @Test
+    void testAddStudentsShouldReturnResultOfEveryStudentInOrderOfRequest() throws Exception {
+        Student acceptedStudent = new Student().setId(NEW_PERSON_ID);
+        Student rejectedStudent = new Student().setId(EXISTENT_PERSON_ID_50001);
+        StudentDTO suppliedIdStudentDTO = new StudentDTO();
+        suppliedIdStudentDTO.setId(EXISTENT_PERSON_ID_50001);
+        List<StudentDTO> studentDTOs = Arrays.asList(new StudentDTO(), suppliedIdStudentDTO, null);
+        String newStudentsJSON = objectMapper.writeValueAsString(studentDTOs);
+        List<BatchItemResult<Student>> results = Arrays.asList(new BatchItemResult<>(0, acceptedStudent),
+                new BatchItemResult<>(1, rejectedStudent).reject("id is passed for a new item"),
+                new BatchItemResult<Student>(2, null).reject("null is passed instead item"));
+
+        when(mockStudentMapper.toEntity(any())).thenReturn(new Student(), rejectedStudent);
+        when(mockStudentService.addBatch(any())).thenReturn(results);
+
+        mockMvc.perform(post("/api/students/batch")
+                .content(newStudentsJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$.[0].accepted").value(true))
+                .andExpect(jsonPath("$.[0].id").value(NEW_PERSON_ID))
+                .andExpect(jsonPath("$.[1].index").value(1))
+                .andExpect(jsonPath("$.[1].accepted").value(false))
+                .andExpect(jsonPath("$.[1].id").doesNotExist())
+                .andExpect(jsonPath("$.[1].errors[0]").value("id is passed for a new item"))
+                .andExpect(jsonPath("$.[2].index").value(2))
+                .andExpect(jsonPath("$.[2].accepted").value(false));
+
+        verify(mockStudentMapper, times(2)).toEntity(any());
+        verify(mockStudentService, times(1)).addBatch(Arrays.asList(new Student(), rejectedStudent, null));
+        verify(mockStudentService, never()).add(any());
+    }
+
+    @Test
+    void testAddStudentsShouldReturnBadRequestWhenEmptyBatchPassed() throws Exception {
+        mockMvc.perform(post("/api/students/batch")
+                .content("[]")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(mockStudentService, never()).addBatch(any());
+    }
+
+    @Test
+    void testAddStudentsShouldReturnOKWhenBatchOfMaximalSizePassed() throws Exception {
+        String newStudentsJSON = objectMapper.writeValueAsString(Collections.nCopies(BatchRequest.MAX_BATCH_SIZE, new StudentDTO()));
+
+        when(mockStudentMapper.toEntity(any())).thenReturn(new Student());
+        when(mockStudentService.addBatch(any())).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(post("/api/students/batch")
+                .content(newStudentsJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        verify(mockStudentMapper, times(BatchRequest.MAX_BATCH_SIZE)).toEntity(any());
+        verify(mockStudentService, times(1)).addBatch(any());
+    }
+
+    @Test
+    void testAddStudentsShouldReturnBadRequestWhenBatchExceedsMaximalSize() throws Exception {
+        String newStudentsJSON = objectMapper.writeValueAsString(Collections.nCopies(BatchRequest.MAX_BATCH_SIZE + 1, new StudentDTO()));
+
+        mockMvc.perform(post("/api/students/batch")
+                .content(newStudentsJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+
+        verify(mockStudentMapper, never()).toEntity(any());
+        verify(mockStudentService, never()).addBatch(any());
+    }
+
     @Test
     void testUpdateStudentShouldReturnOK() throws Exception {
         Student student = new Student().setId(EXISTENT_PERSON_ID_50001).setEmail(ANOTHER_PERSON_EMAIL);
@@ -186,20 +289,65 @@ class StudentRestControllerTest {
 
     @Test
     void testGetAllStudentsShouldReturnOK() throws Exception {
-        Student student = new Student().setId(EXISTENT_PERSON_ID_50001);
-        StudentDTO studentDTO = studentMapper.toDto(student);
+        StudentListItem studentListItem = mock(StudentListItem.class);
+        StudentDTO studentDTO = new StudentDTO();
+        studentDTO.setId(EXISTENT_PERSON_ID_50001);
+        studentDTO.setNumberOfAssignedCourses(4);
 
-        List<Student> students = new ArrayList<>(singletonList(student));
+        List<StudentListItem> studentListItems = new ArrayList<>(singletonList(studentListItem));
 
-        when(mockStudentService.getAll()).thenReturn(students);
-        when(mockStudentMapper.toDto(student)).thenReturn(studentDTO);
+        when(mockStudentService.getListPage(null, 100)).thenReturn(studentListItems);
+        when(mockStudentMapper.toListDto(studentListItem)).thenReturn(studentDTO);
 
         mockMvc.perform(get("/api/students/"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$.[0].id").value(EXISTENT_PERSON_ID_50001));
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_PERSON_ID_50001))
+                .andExpect(jsonPath("$.[0].numberOfAssignedCourses").value(4));
 
-        verify(mockStudentService, times(1)).getAll();
-        verify(mockStudentMapper, times(1)).toDto(student);
+        verify(mockStudentService, times(1)).getListPage(null, 100);
+        verify(mockStudentMapper, times(1)).toListDto(studentListItem);
+    }
+
+    @Test
+    void testGetStudentTimetableShouldReturnOK() throws Exception {
+        Student student = new Student().setId(EXISTENT_PERSON_ID_50001);
+        Lesson lesson = new Lesson().setId(EXISTENT_LESSON_ID_5000001);
+        LessonDTO lessonDTO = lessonMapper.toDto(lesson);
+
+        when(mockStudentService.getById(EXISTENT_PERSON_ID_50001)).thenReturn(student);
+        when(mockLessonService.getTimetableOfStudent(student, JUNE_FIRST, JUNE_LAST)).thenReturn(new ArrayList<>(singletonList(lesson)));
+        when(mockLessonMapper.toDto(lesson)).thenReturn(lessonDTO);
+
+        mockMvc.perform(get("/api/students/{id}/timetable", EXISTENT_PERSON_ID_50001)
+                .param("from", JUNE_FIRST_STRING)
+                .param("to", JUNE_LAST_STRING))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.[0].id").value(EXISTENT_LESSON_ID_5000001));
+
+        verify(mockLessonService, times(1)).getTimetableOfStudent(student, JUNE_FIRST, JUNE_LAST);
+    }
+
+    @Test
+    void testGetStudentTimetableShouldReturnNotFoundWhenNonexistentIdPassed() throws Exception {
+        when(mockStudentService.getById(NONEXISTENT_PERSON_ID)).thenReturn(null);
+
+        mockMvc.perform(get("/api/students/{id}/timetable", NONEXISTENT_PERSON_ID)
+                .param("from", JUNE_FIRST_STRING)
+                .param("to", JUNE_LAST_STRING))
+                .andExpect(status().isNotFound());
+
+        verify(mockLessonService, never()).getTimetableOfStudent(any(), any(), any());
+    }
+
+    @Test
+    void testGetStudentTimetableShouldReturnBadRequestWhenRangeStartsAfterItEnds() throws Exception {
+        mockMvc.perform(get("/api/students/{id}/timetable", EXISTENT_PERSON_ID_50001)
+                .param("from", JUNE_LAST_STRING)
+                .param("to", JUNE_FIRST_STRING))
+                .andExpect(status().isBadRequest());
+
+        verify(mockStudentService, never()).getById(any());
     }
 }
@@ -0,0 +1,111 @@
+package ru.petrowich.university.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReplicaRoutingDataSourceTest {
+    private static final String SELECT_NODE = "SELECT node_name FROM t_node";
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase firstReplica;
+    private EmbeddedDatabase secondReplica;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate readWriteTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = createNode("primary");
+        firstReplica = createNode("first-replica");
+        secondReplica = createNode("second-replica");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, Arrays.asList(firstReplica, secondReplica)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesGuard.close();
+        primary.shutdown();
+        firstReplica.shutdown();
+        secondReplica.shutdown();
+    }
+
+    @Test
+    void testReadOnlyTransactionsShouldBeRoutedToReplicasInTurn() {
+        assertEquals("first-replica", readOnlyTransaction.execute(status -> selectNode()), "expected first replica should be used");
+        assertEquals("second-replica", readOnlyTransaction.execute(status -> selectNode()), "expected second replica should be used");
+        assertEquals("first-replica", readOnlyTransaction.execute(status -> selectNode()), "expected first replica should be used again");
+    }
+
+    @Test
+    void testReadWriteTransactionAndNonTransactionalCallShouldBeRoutedToPrimary() {
+        assertEquals("primary", readWriteTransaction.execute(status -> selectNode()), "expected primary should be used");
+        assertEquals("primary", selectNode(), "expected primary should be used");
+    }
+
+    @Test
+    void testReadOnlyTransactionShouldBeRoutedToPrimaryAfterWriteInSameScope() {
+        AtomicInteger numberOfWrites = new AtomicInteger();
+        ReadYourWritesGuard.open(false, numberOfWrites::incrementAndGet);
+
+        readWriteTransaction.execute(status -> jdbcTemplate.update("UPDATE t_node SET node_name = 'written'"));
+
+        assertEquals("written", readOnlyTransaction.execute(status -> selectNode()), "expected primary should be used after write");
+        assertEquals(1, numberOfWrites.get(), "expected first write should be reported once");
+
+        ReadYourWritesGuard.close();
+
+        assertEquals("first-replica", readOnlyTransaction.execute(status -> selectNode()), "expected replica should be used after scope is closed");
+    }
+
+    @Test
+    void testReadOnlyTransactionShouldBeRoutedToPrimaryWhenScopeIsPinned() {
+        ReadYourWritesGuard.open(true, () -> {});
+
+        assertEquals("primary", readOnlyTransaction.execute(status -> selectNode()), "expected primary should be used");
+    }
+
+    @Test
+    void testConstructorShouldThrowIllegalArgumentExceptionWhenNoReplicasPassed() {
+        assertThrows(IllegalArgumentException.class, () -> new ReplicaRoutingDataSource(primary, Collections.emptyList()));
+    }
+
+    private String selectNode() {
+        return jdbcTemplate.queryForObject(SELECT_NODE, String.class);
+    }
+
+    private EmbeddedDatabase createNode(String name) {
+        EmbeddedDatabase embeddedDatabase = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .build();
+
+        JdbcTemplate nodeJdbcTemplate = new JdbcTemplate(embeddedDatabase);
+        nodeJdbcTemplate.execute("CREATE TABLE t_node (node_name VARCHAR(32))");
+        nodeJdbcTemplate.update("INSERT INTO t_node (node_name) VALUES (?)", name);
+
+        return embeddedDatabase;
+    }
+}
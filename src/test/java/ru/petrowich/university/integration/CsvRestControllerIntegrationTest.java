@@ -0,0 +1,117 @@
+package ru.petrowich.university.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.petrowich.university.controller.CsvRestController;
+import ru.petrowich.university.service.CsvTransferService;
+
+import javax.transaction.Transactional;
+import java.io.StringWriter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@Transactional
+class CsvRestControllerIntegrationTest {
+    private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CsvTransferService csvTransferService;
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testImportGroupsShouldAddAcceptedGroupsAndReportRejectedLines() throws Exception {
+        String groupsCSV = "name,capacity,active\n" +
+                "DD-04,25,true\n" +
+                ",10,true\n" +
+                "EE-05,500,false\n";
+
+        mockMvc.perform(post("/api/csv/groups")
+                .content(groupsCSV)
+                .contentType(CsvRestController.TEXT_CSV_VALUE)
+                .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfImported").value(1))
+                .andExpect(jsonPath("$.numberOfRejected").value(2))
+                .andExpect(jsonPath("$.errors[0]").value("line 3: group name is empty"))
+                .andExpect(jsonPath("$.errors[1]").value("line 4: group capacity exceed 100"));
+
+        StringWriter exported = new StringWriter();
+        csvTransferService.exportGroups(exported);
+
+        assertThat(exported.toString()).startsWith("name,capacity,active\nDD-04,25,true\nAA-01,20,true\n");
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testImportStudentsShouldResolveGroupsByName() throws Exception {
+        String studentsCSV = "first_name,last_name,email,group_name\n" +
+                "Albert,Einstein,albert.einstein@university.edu,AA-01\n" +
+                "Max,Planck,max.planck@university.edu,ZZ-99\n";
+
+        mockMvc.perform(post("/api/csv/students")
+                .content(studentsCSV)
+                .contentType(CsvRestController.TEXT_CSV_VALUE)
+                .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfImported").value(1))
+                .andExpect(jsonPath("$.numberOfRejected").value(1))
+                .andExpect(jsonPath("$.errors[0]").value("line 3: group ZZ-99 is not found"));
+
+        StringWriter exported = new StringWriter();
+        csvTransferService.exportStudents(exported);
+
+        assertThat(exported.toString())
+                .startsWith("first_name,last_name,email,comment,group_name,active\nAlbert,Einstein,albert.einstein@university.edu,,AA-01,true\n");
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testImportLessonsShouldTakeTimeOfTimeSlotAndRejectConflictingLessons() throws Exception {
+        String lessonsCSV = "lesson_date,course_name,lecturer_email,timeslot_name\n" +
+                "2099-01-10,math,reinhard.genzel@university.edu,first lesson\n" +
+                "2099-01-10,biology,reinhard.genzel@university.edu,first lesson\n";
+
+        mockMvc.perform(post("/api/csv/lessons")
+                .content(lessonsCSV)
+                .contentType(CsvRestController.TEXT_CSV_VALUE)
+                .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.numberOfImported").value(1))
+                .andExpect(jsonPath("$.numberOfRejected").value(1));
+
+        StringWriter exported = new StringWriter();
+        csvTransferService.exportLessons(exported);
+
+        assertThat(exported.toString()).endsWith("2099-01-10,08:00:00,09:30:00,math,reinhard.genzel@university.edu,first lesson\n");
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testImportGroupsShouldReturnBadRequestWhenRequiredColumnIsMissing() throws Exception {
+        mockMvc.perform(post("/api/csv/groups")
+                .content("capacity\n20\n")
+                .contentType(CsvRestController.TEXT_CSV_VALUE)
+                .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+}
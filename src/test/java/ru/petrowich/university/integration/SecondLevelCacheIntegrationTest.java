@@ -0,0 +1,142 @@
+package ru.petrowich.university.integration;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.schedule.ScheduleConflictDetector;
+import ru.petrowich.university.service.CourseService;
+import ru.petrowich.university.service.GroupService;
+import ru.petrowich.university.service.TimeSlotService;
+import ru.petrowich.university.service.cache.SecondLevelCache;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_METHOD;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Sql("classpath:populateDbTest.sql")
+@Sql(scripts = "classpath:populateDbTest.sql", executionPhase = AFTER_TEST_METHOD)
+class SecondLevelCacheIntegrationTest {
+    private static final Integer COURSE_ID_51 = 51;
+    private static final Integer COURSE_ID_56 = 56;
+    private static final Integer GROUP_ID_501 = 501;
+    private static final Integer GROUP_ID_503 = 503;
+    private static final Integer TIME_SLOT_ID_8 = 8;
+    private static final String CHANGED_COURSE_NAME = "changed course name";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private ScheduleConflictDetector scheduleConflictDetector;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    private TransactionTemplate transactionTemplate;
+    private Cache cache;
+    private Statistics statistics;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        cache = entityManagerFactory.getCache();
+        cache.evictAll();
+        statistics = secondLevelCache.getStatistics();
+    }
+
+    @AfterEach
+    void afterEach() {
+        cache.evictAll();
+        scheduleConflictDetector.rebuild();
+    }
+
+    @Test
+    void testUpdateShouldReplaceCachedCourse() {
+        Course course = transactionTemplate.execute(status -> courseService.getById(COURSE_ID_51));
+        assertTrue(cache.contains(Course.class, COURSE_ID_51));
+
+        transactionTemplate.execute(status -> courseService.update(course.setName(CHANGED_COURSE_NAME)));
+
+        long expectedHitCount = getCacheHitCount(Course.class) + 1;
+        Course actualCourse = transactionTemplate.execute(status -> courseService.getById(COURSE_ID_51));
+
+        assertEquals(CHANGED_COURSE_NAME, actualCourse.getName());
+        assertEquals(expectedHitCount, getCacheHitCount(Course.class));
+    }
+
+    @Test
+    void testDeleteShouldEvictCachedTimeSlot() {
+        TimeSlot timeSlot = transactionTemplate.execute(status -> timeSlotService.getById(TIME_SLOT_ID_8));
+        assertTrue(cache.contains(TimeSlot.class, TIME_SLOT_ID_8));
+
+        transactionTemplate.execute(status -> {
+            timeSlotService.delete(timeSlot);
+            return null;
+        });
+
+        long expectedHitCount = getCacheHitCount(TimeSlot.class);
+
+        assertNull(transactionTemplate.execute(status -> timeSlotService.getById(TIME_SLOT_ID_8)));
+        assertEquals(expectedHitCount, getCacheHitCount(TimeSlot.class));
+    }
+
+    @Test
+    void testAssignGroupToCourseShouldNotReturnStaleCachedAssignments() {
+        List<Integer> cachedGroupIds = transactionTemplate.execute(status -> toGroupIds(courseService.getById(COURSE_ID_56).getGroups()));
+        List<Integer> cachedCourseIds = transactionTemplate.execute(status -> toCourseIds(groupService.getById(GROUP_ID_501).getCourses()));
+
+        assertThat(cachedGroupIds).containsExactly(GROUP_ID_503);
+        assertThat(cachedCourseIds).doesNotContain(COURSE_ID_56);
+
+        transactionTemplate.execute(status -> courseService.assignGroupToCourse(new Group().setId(GROUP_ID_501), new Course().setId(COURSE_ID_56)));
+
+        List<Integer> actualGroupIds = transactionTemplate.execute(status -> toGroupIds(courseService.getById(COURSE_ID_56).getGroups()));
+        List<Integer> actualCourseIds = transactionTemplate.execute(status -> toCourseIds(groupService.getById(GROUP_ID_501).getCourses()));
+
+        assertThat(actualGroupIds).containsExactlyInAnyOrder(GROUP_ID_501, GROUP_ID_503);
+        assertThat(actualCourseIds).contains(COURSE_ID_56);
+    }
+
+    private long getCacheHitCount(Class<?> entityClass) {
+        return statistics.getEntityStatistics(entityClass.getName()).getCacheHitCount();
+    }
+
+    private List<Integer> toGroupIds(List<Group> groups) {
+        return groups.stream().map(Group::getId).collect(Collectors.toList());
+    }
+
+    private List<Integer> toCourseIds(List<Course> courses) {
+        return courses.stream().map(Course::getId).collect(Collectors.toList());
+    }
+}
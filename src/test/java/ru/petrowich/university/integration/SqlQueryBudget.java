@@ -0,0 +1,102 @@
+package ru.petrowich.university.integration;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import ru.petrowich.university.monitoring.SqlStatistics;
+import ru.petrowich.university.monitoring.SqlStatisticsFilter;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Properties;
+
+@Configuration
+public class SqlQueryBudget {
+    private static final String BUDGETS = "sql-budget.properties";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Bean
+    public MockMvcBuilderCustomizer sqlQueryBudgetCustomizer() throws IOException {
+        Properties budgets = PropertiesLoaderUtils.loadProperties(new ClassPathResource(BUDGETS));
+        return mockMvcBuilder -> mockMvcBuilder.alwaysExpect(withinDeclaredBudget(budgets));
+    }
+
+    @Bean
+    public WebMvcConfigurer sqlQueryBudgetFlushConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new TestTransactionFlushInterceptor(entityManager));
+            }
+        };
+    }
+
+    public static ResultMatcher withinDeclaredBudget(Properties budgets) {
+        return mvcResult -> {
+            String endpoint = (String) mvcResult.getRequest().getAttribute(SqlStatisticsFilter.ENDPOINT_ATTRIBUTE);
+            String budget = endpoint != null ? budgets.getProperty(endpoint) : null;
+
+            if (budget != null) {
+                statementsAtMost(Integer.parseInt(budget.trim())).match(mvcResult);
+            }
+        };
+    }
+
+    public static ResultMatcher statementsAtMost(int budget) {
+        return mvcResult -> {
+            SqlStatistics sqlStatistics = (SqlStatistics) mvcResult.getRequest().getAttribute(SqlStatisticsFilter.STATISTICS_ATTRIBUTE);
+
+            if (sqlStatistics == null) {
+                throw new AssertionError("sql statements are not counted for " + mvcResult.getRequest().getRequestURI());
+            }
+
+            if (sqlStatistics.getStatementCount() > budget) {
+                throw new AssertionError(mvcResult.getRequest().getAttribute(SqlStatisticsFilter.ENDPOINT_ATTRIBUTE) +
+                        " issued " + sqlStatistics.getStatementCount() + " sql statements over the budget of " + budget);
+            }
+        };
+    }
+
+    /**
+     * Test transactions roll back after the test, so without this the writes of a request
+     * would never reach the database while the statement counter is running. Every request
+     * starts from an empty persistence context and flushes before the response is rendered.
+     */
+    private static class TestTransactionFlushInterceptor implements HandlerInterceptor {
+        private final EntityManager entityManager;
+
+        private TestTransactionFlushInterceptor(EntityManager entityManager) {
+            this.entityManager = entityManager;
+        }
+
+        @Override
+        public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+
+            return true;
+        }
+
+        @Override
+        public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler, ModelAndView modelAndView) {
+            if (TransactionSynchronizationManager.isActualTransactionActive() && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                entityManager.flush();
+            }
+        }
+    }
+}
@@ -38,7 +38,6 @@ class CourseControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
     private static final Integer COURSE_ID_51 = 51;
-    private static final Integer NEW_COURSE_ID = 10;
     private static final String COURSE_NAME_51 = "math";
     private static final String CHANGED_COURSE_NAME = "new or changed name";
     private static final String COURSE_DESCRIPTION_51 = "exact";
@@ -188,7 +187,10 @@ class CourseControllerIntegrationTest {
                         containsString("<a href=\"/lecturers/lecturer?id=50005\" class=\"card-link\">Reinhard Genzel</a>")))
                 );
 
-        Course actualCourse = courseService.getById(NEW_COURSE_ID);
+        Course actualCourse = courseService.getAll().stream()
+                .filter(course -> CHANGED_COURSE_NAME.equals(course.getName()))
+                .findFirst()
+                .orElse(null);
         Lecturer lecturer = lecturerService.getById(PERSON_ID_50005);
 
         assertNotNull(actualCourse);
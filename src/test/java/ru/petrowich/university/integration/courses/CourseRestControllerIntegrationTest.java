@@ -1,5 +1,6 @@
 package ru.petrowich.university.integration.courses;
 
+import com.jayway.jsonpath.JsonPath;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.model.Lecturer;
@@ -42,7 +44,6 @@ class CourseRestControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
     private static final Integer COURSE_ID_51 = 51;
-    private static final Integer NEW_COURSE_ID = 10;
     private static final Integer NONEXISTENT_COURSE_ID = 99;
     private static final String COURSE_NAME_51 = "math";
     private static final String CHANGED_COURSE_NAME = "new or changed name";
@@ -96,16 +97,19 @@ class CourseRestControllerIntegrationTest {
                 + ",\"authorId\":" + PERSON_ID_50006
                 + "}";
 
-        mockMvc.perform(post("/api/courses/add")
+        MvcResult mvcResult = mockMvc.perform(post("/api/courses/add")
                 .content(newCourseJSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$.id").value(NEW_COURSE_ID));
+                .andExpect(jsonPath("$.id").isNumber())
+                .andReturn();
 
-        Course actualCourse = courseService.getById(NEW_COURSE_ID);
+        Integer newCourseId = JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.id");
+
+        Course actualCourse = courseService.getById(newCourseId);
         Lecturer actualLecturer = lecturerService.getById(PERSON_ID_50006);
 
         assertThat(actualCourse.getName()).isEqualTo(CHANGED_COURSE_NAME);
@@ -246,6 +250,33 @@ class CourseRestControllerIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testApplyGroupsShouldReturnOK() throws Exception {
+        Group removedGroup = groupService.getById(GROUP_ID_501);
+        Group addedGroup = groupService.getById(GROUP_ID_503);
+
+        Course currentCourse = courseService.getById(COURSE_ID_51);
+        MatcherAssert.assertThat(currentCourse.getGroups(), hasItem(removedGroup));
+
+        String groupIdsJSON = "[" + GROUP_ID_502 + "," + GROUP_ID_503 + "," + NONEXISTENT_GROUP_ID + "]";
+
+        mockMvc.perform(put("/api/courses/{id}/groups", COURSE_ID_51)
+                .content(groupIdsJSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.[0].id").value(GROUP_ID_502))
+                .andExpect(jsonPath("$.[1].id").value(GROUP_ID_503))
+                .andExpect(jsonPath("$.*", hasSize(2)));
+
+        Course actualCourse = courseService.getById(COURSE_ID_51);
+        assertThat(actualCourse.getGroups(), hasItem(addedGroup));
+        assertThat(actualCourse.getGroups(), not(hasItem(removedGroup)));
+    }
+
     @Test
     @Sql(POPULATE_DB_SQL)
     void testRemoveGroupShouldReturnOK() throws Exception {
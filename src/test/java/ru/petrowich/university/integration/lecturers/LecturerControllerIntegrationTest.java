@@ -34,7 +34,6 @@ class LecturerControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
     private static final Integer PERSON_ID_50005 = 50005;
-    private static final Integer NEW_COURSE_ID = 10001;
     private static final String PERSON_FIRST_NAME_50005 = "Reinhard";
     private static final String PERSON_LAST_NAME_50005 = "Genzel";
     private static final String PERSON_EMAIL_50005 = "reinhard.genzel@university.edu";
@@ -169,6 +168,13 @@ class LecturerControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/lecturers/"));
 
+        Lecturer actualLecturer = lecturerService.getAll().stream()
+                .filter(lecturer -> CHANGED_PERSON_EMAIL.equals(lecturer.getEmail()))
+                .findFirst()
+                .orElse(null);
+
+        assertNotNull(actualLecturer);
+
         mockMvc.perform(get("/lecturers/")
                         .contentType(MediaType.TEXT_HTML))
                 .andDo(print())
@@ -176,13 +182,10 @@ class LecturerControllerIntegrationTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML_VALUE))
                 .andExpect(content().string(allOf(
                         containsString("<td><a href=\"/lecturers/lecturer?id=50005\">Reinhard Genzel</a></td>"),
-                        containsString("<td><a href=\"/lecturers/lecturer?id=10001\">new or changed first name new or changed last name</a></td>"),
+                        containsString("<td><a href=\"/lecturers/lecturer?id=" + actualLecturer.getId() + "\">new or changed first name new or changed last name</a></td>"),
                         containsString("<td><a href=\"/lecturers/lecturer?id=50006\" class=\"text-danger\">Roger Penrose</a></td>")))
                 );
 
-        Lecturer actualLecturer = lecturerService.getById(NEW_COURSE_ID);
-
-        assertNotNull(actualLecturer);
         assertThat(actualLecturer.getFirstName()).isEqualTo(CHANGED_PERSON_FIRST_NAME);
         assertThat(actualLecturer.getLastName()).isEqualTo(CHANGED_PERSON_LAST_NAME);
         assertThat(actualLecturer.getEmail()).isEqualTo(CHANGED_PERSON_EMAIL);
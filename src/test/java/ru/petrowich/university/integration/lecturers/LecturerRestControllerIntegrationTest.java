@@ -1,5 +1,6 @@
 package ru.petrowich.university.integration.lecturers;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -8,6 +9,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.service.LecturerService;
 
@@ -33,7 +35,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class LecturerRestControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
-    private static final Integer NEW_PERSON_ID = 10001;
     private static final Integer PERSON_ID_50005 = 50005;
     private static final Integer NONEXISTENT_PERSON_ID = 99999;
     private static final String PERSON_FIRST_NAME_50005 = "Reinhard";
@@ -81,16 +82,19 @@ class LecturerRestControllerIntegrationTest {
                 + ",\"comment\":\"" + ANOTHER_COMMENT + "\""
                 + "}";
 
-        mockMvc.perform(post("/api/lecturers/add")
+        MvcResult mvcResult = mockMvc.perform(post("/api/lecturers/add")
                 .content(newLecturerJSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$.id").value(NEW_PERSON_ID));
+                .andExpect(jsonPath("$.id").isNumber())
+                .andReturn();
 
-        Lecturer actualLecturer = lecturerService.getById(NEW_PERSON_ID);
+        Integer newLecturerId = JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.id");
+
+        Lecturer actualLecturer = lecturerService.getById(newLecturerId);
         assertThat(actualLecturer.getFirstName()).isEqualTo(ANOTHER_PERSON_FIRST_NAME);
         assertThat(actualLecturer.getLastName()).isEqualTo(ANOTHER_PERSON_LAST_NAME);
         assertThat(actualLecturer.getEmail()).isEqualTo(ANOTHER_PERSON_EMAIL);
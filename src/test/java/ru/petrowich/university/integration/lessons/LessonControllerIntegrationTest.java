@@ -19,12 +19,12 @@ import javax.transaction.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -38,8 +38,7 @@ class LessonControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
     private static final Long LESSON_ID_5000001 = 5000001L;
-    private static final Long NEW_LESSON_ID = 1000001L;
-    private static final LocalDate NEW_LESSON_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate NEW_LESSON_DATE = LocalDate.now().plusDays(30);
     private static final Integer COURSE_ID_53 = 53;
     private static final Integer TIME_SLOT_ID_2 = 2;
     private static final LocalTime TIME_SLOT_START_TIME_1 = LocalTime.of(9, 40);
@@ -99,7 +98,7 @@ class LessonControllerIntegrationTest {
     void testAdd() throws Exception {
         mockMvc.perform(post("/lessons/lesson/add")
                 .param("course.id", "53")
-                .param("date", "2025-01-01")
+                .param("date", NEW_LESSON_DATE.toString())
                 .param("timeSlot.id", "2")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                 .contentType(MediaType.TEXT_HTML))
@@ -107,6 +106,12 @@ class LessonControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/lessons/"));
 
+        List<Lesson> newLessons = lessonService.getByDateRange(NEW_LESSON_DATE, NEW_LESSON_DATE);
+
+        assertThat(newLessons).hasSize(1);
+
+        Lesson actualLesson = newLessons.get(0);
+
         mockMvc.perform(get("/lessons/")
                         .contentType(MediaType.TEXT_HTML))
                 .andDo(print())
@@ -114,16 +119,14 @@ class LessonControllerIntegrationTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML_VALUE))
                 .andExpect(content().string(allOf(
                         containsString("<h1 class=\"text-center\">Lessons</h1>"),
-                        containsString("<td>2025-01-01</td>"),
-                        containsString("<td><a href=\"/lessons/lesson/edit?id=1000001\" class=\"btn btn-light fas fa-edit\"></a></td>"),
-                        containsString("<td><form action=\"/lessons/lesson/delete?id=1000001\" method=\"post\">")))
+                        containsString("<td>" + NEW_LESSON_DATE + "</td>"),
+                        containsString("<td><a href=\"/lessons/lesson/edit?id=" + actualLesson.getId() + "\" class=\"btn btn-light fas fa-edit\"></a></td>"),
+                        containsString("<td><form action=\"/lessons/lesson/delete?id=" + actualLesson.getId() + "\" method=\"post\">")))
                 );
 
-        Lesson actualLesson = lessonService.getById(NEW_LESSON_ID);
         Course course = courseService.getById(COURSE_ID_53);
         TimeSlot timeSlot = timeSlotService.getById(TIME_SLOT_ID_2);
 
-        assertNotNull(actualLesson);
         assertThat(actualLesson.getCourse()).isEqualTo(course);
         assertThat(actualLesson.getLecturer()).isEqualTo(course.getAuthor());
         assertThat(actualLesson.getDate()).isEqualTo(NEW_LESSON_DATE);
@@ -156,7 +159,7 @@ class LessonControllerIntegrationTest {
         mockMvc.perform(post("/lessons/lesson/update?id=5000001")
                 .param("course.id", COURSE_ID_53.toString())
                 .param("lecturer.id", "50006")
-                .param("date", "2025-01-01")
+                .param("date", NEW_LESSON_DATE.toString())
                 .param("startTime", "09:40")
                 .param("endTime", "11:10")
                 .contentType(MediaType.APPLICATION_FORM_URLENCODED)
@@ -172,7 +175,7 @@ class LessonControllerIntegrationTest {
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML_VALUE))
                 .andExpect(content().string(allOf(
                         containsString("<h1 class=\"text-center\">Lessons</h1>"),
-                        containsString("<td>2025-01-01</td>"),
+                        containsString("<td>" + NEW_LESSON_DATE + "</td>"),
                         containsString("<td><a href=\"/lessons/lesson/edit?id=5000001\" class=\"btn btn-light fas fa-edit\"></a></td>"),
                         containsString("<td><form action=\"/lessons/lesson/delete?id=5000001\" method=\"post\">")))
                 );
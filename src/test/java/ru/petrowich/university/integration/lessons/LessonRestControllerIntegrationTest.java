@@ -1,5 +1,6 @@
 package ru.petrowich.university.integration.lessons;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -8,6 +9,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.model.Lesson;
@@ -42,7 +44,6 @@ class LessonRestControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
     private static final Long LESSON_ID_5000001 = 5000001L;
-    private static final Long NEW_LESSON_ID = 1000001L;
     private static final Long NONEXISTENT_LESSON_ID = 9999999L;
     private static final Integer COURSE_ID_51 = 51;
     private static final Integer COURSE_ID_53 = 53;
@@ -51,7 +52,7 @@ class LessonRestControllerIntegrationTest {
     private static final Integer PERSON_ID_50005 = 50005;
     private static final Integer PERSON_ID_50006 = 50006;
     private static final LocalDate LESSON_DATE_5000001 = LocalDate.of(2020, 6, 1);
-    private static final LocalDate NEW_LESSON_DATE = LocalDate.of(2025, 1, 1);
+    private static final LocalDate NEW_LESSON_DATE = LocalDate.now().plusDays(30);
     private static final LocalTime LESSON_START_TIME_5000001 = LocalTime.of(8, 00);
     private static final LocalTime LESSON_END_TIME_5000001 = LocalTime.of(9, 30);
     private static final LocalTime NEW_LESSON_START_TIME = LocalTime.of(9, 40);
@@ -104,16 +105,19 @@ class LessonRestControllerIntegrationTest {
                 + ",\"endTime\":\"" + NEW_LESSON_END_TIME + "\""
                 + "}";
 
-        mockMvc.perform(post("/api/lessons/add")
+        MvcResult mvcResult = mockMvc.perform(post("/api/lessons/add")
                 .content(newLessonJSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$.id").value(NEW_LESSON_ID));
+                .andExpect(jsonPath("$.id").isNumber())
+                .andReturn();
 
-        Lesson actualLesson = lessonService.getById(NEW_LESSON_ID);
+        Long newLessonId = ((Number) JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.id")).longValue();
+
+        Lesson actualLesson = lessonService.getById(newLessonId);
         Course course = courseService.getById(COURSE_ID_53);
         Lecturer lecturer = lecturerService.getById(PERSON_ID_50005);
         TimeSlot timeSlot = timeSlotService.getById(TIME_SLOT_ID_2);
@@ -220,4 +224,29 @@ class LessonRestControllerIntegrationTest {
                 .andExpect(jsonPath("$.[0].id").value(LESSON_ID_5000001))
                 .andExpect(jsonPath("$.*", hasSize(5)));
     }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testSearchLessonsShouldReturnLessonsOfGroupInDateRange() throws Exception {
+        mockMvc.perform(get("/api/lessons/search")
+                .param("from", "2020-06-01")
+                .param("to", "2020-06-30")
+                .param("groupId", "502"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.[0].id").value(LESSON_ID_5000001))
+                .andExpect(jsonPath("$.[0].numberOfAttendees").value(3))
+                .andExpect(jsonPath("$.*", hasSize(3)));
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testSearchLessonsShouldReturnNotFoundWhenNoLessonsInDateRange() throws Exception {
+        mockMvc.perform(get("/api/lessons/search")
+                .param("from", "2021-01-01")
+                .param("to", "2021-01-31"))
+                .andDo(print())
+                .andExpect(status().isNotFound());
+    }
 }
@@ -1,5 +1,6 @@
 package ru.petrowich.university.integration.lessons;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -8,6 +9,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.petrowich.university.dto.lessons.LessonDTO;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Lecturer;
@@ -36,7 +38,7 @@ class TimeSlotRestControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
     private static final Integer TIME_SLOT_ID_1 = 1;
-    private static final Integer NEW_TIME_SLOT_ID = 9;
+    private static final Integer UNUSED_TIME_SLOT_ID_8 = 8;
     private static final Integer NONEXISTENT_TIME_SLOT_ID = 0;
     private static final String TIME_SLOT_NAME_1 = "first lesson";
     private static final String NEW_TIME_SLOT_NAME = "new time slot";
@@ -81,16 +83,19 @@ class TimeSlotRestControllerIntegrationTest {
                 + ",\"endTime\":\"" + NEW_TIME_SLOT_END_TIME + "\""
                 + "}";
 
-        mockMvc.perform(post("/api/lessons/timeslots/add")
+        MvcResult mvcResult = mockMvc.perform(post("/api/lessons/timeslots/add")
                 .content(newTimeSlotJSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$.id").value(NEW_TIME_SLOT_ID));
+                .andExpect(jsonPath("$.id").isNumber())
+                .andReturn();
 
-        TimeSlot actualTimeSlot = timeSlotService.getById(NEW_TIME_SLOT_ID);
+        Integer newTimeSlotId = JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.id");
+
+        TimeSlot actualTimeSlot = timeSlotService.getById(newTimeSlotId);
         assertNotNull(actualTimeSlot);
         assertThat(actualTimeSlot.getName()).isEqualTo(NEW_TIME_SLOT_NAME);
         assertThat(actualTimeSlot.getStartTime()).isEqualTo(NEW_TIME_SLOT_START_TIME);
@@ -146,11 +151,11 @@ class TimeSlotRestControllerIntegrationTest {
     @Test
     @Sql(POPULATE_DB_SQL)
     void testDeleteTimeSlotShouldReturnOK() throws Exception {
-        mockMvc.perform(delete("/api/lessons/timeslots/delete/{id}", TIME_SLOT_ID_1))
+        mockMvc.perform(delete("/api/lessons/timeslots/delete/{id}", UNUSED_TIME_SLOT_ID_8))
                 .andDo(print())
                 .andExpect(status().isOk());
 
-        TimeSlot actualTimeSlot = timeSlotService.getById(TIME_SLOT_ID_1);
+        TimeSlot actualTimeSlot = timeSlotService.getById(UNUSED_TIME_SLOT_ID_8);
         assertNull(actualTimeSlot);
     }
 
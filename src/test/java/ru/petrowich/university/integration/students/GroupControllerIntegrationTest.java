@@ -17,6 +17,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -31,7 +32,6 @@ class GroupControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
     private static final Integer GROUP_ID_501 = 501;
-    private static final Integer NEw_GROUP_ID = 101;
     private static final String GROUP_NAME_501 = "AA-01";
     private static final Integer GROUP_CAPACITY_501 = 20;
     private static final String CHANGED_GROUP_NAME = "new or changed name";
@@ -151,18 +151,23 @@ class GroupControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/students/groups/"));
 
+        Group actualGroup = groupService.getAll().stream()
+                .filter(group -> CHANGED_GROUP_NAME.equals(group.getName()))
+                .findFirst()
+                .orElse(null);
+
+        assertNotNull(actualGroup);
+
         mockMvc.perform(get("/students/groups/")
                         .contentType(MediaType.TEXT_HTML))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML_VALUE))
                 .andExpect(content().string(allOf(
-                        containsString("<td><a href=\"/students/group?id=101\">new or changed name</a></td>"),
+                        containsString("<td><a href=\"/students/group?id=" + actualGroup.getId() + "\">new or changed name</a></td>"),
                         containsString("<td>30</td>")))
                 );
 
-        Group actualGroup = groupService.getById(NEw_GROUP_ID);
-
         assertThat(actualGroup.getName()).isEqualTo(CHANGED_GROUP_NAME);
         assertThat(actualGroup.getCapacity()).isEqualTo(CHANGED_GROUP_CAPACITY);
         assertTrue(actualGroup.isActive());
@@ -1,5 +1,6 @@
 package ru.petrowich.university.integration.students;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -8,6 +9,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.service.GroupService;
 
@@ -36,10 +38,10 @@ class GroupRestControllerIntegrationTest {
     private static final Integer GROUP_ID_501 = 501;
     private static final Integer GROUP_ID_502 = 502;
     private static final Integer GROUP_ID_503 = 503;
-    private static final Integer NEW_GROUP_ID = 101;
     private static final Integer NONEXISTENT_GROUP_ID = 999;
     private static final String GROUP_NAME_501 = "AA-01";
     private static final String CHANGED_GROUP_NAME = "new or changed name";
+    private static final Integer GROUP_CAPACITY = 20;
 
     @Autowired
     private MockMvc mockMvc;
@@ -70,18 +72,23 @@ class GroupRestControllerIntegrationTest {
     @Test
     @Sql(POPULATE_DB_SQL)
     void testAddGroupShouldReturnCreated() throws Exception {
-        String newGroupJSON = "{\"name\":\"" + CHANGED_GROUP_NAME + "\"}";
+        String newGroupJSON = "{\"name\":\"" + CHANGED_GROUP_NAME + "\""
+                + ",\"capacity\":" + GROUP_CAPACITY
+                + "}";
 
-        mockMvc.perform(post("/api/students/groups/add")
+        MvcResult mvcResult = mockMvc.perform(post("/api/students/groups/add")
                 .content(newGroupJSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$.id").value(NEW_GROUP_ID));
+                .andExpect(jsonPath("$.id").isNumber())
+                .andReturn();
+
+        Integer newGroupId = JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.id");
 
-        Group actualGroup = groupService.getById(NEW_GROUP_ID);
+        Group actualGroup = groupService.getById(newGroupId);
 
         assertThat(actualGroup.getName()).isEqualTo(CHANGED_GROUP_NAME);
         assertTrue(actualGroup.isActive());
@@ -92,6 +99,7 @@ class GroupRestControllerIntegrationTest {
     void testUpdateGroupShouldReturnOK() throws Exception {
         String groupJSON = "{\"id\":" + GROUP_ID_501
                 + ",\"name\":\"" + CHANGED_GROUP_NAME + "\""
+                + ",\"capacity\":" + GROUP_CAPACITY
                 + "}";
 
         Group currentGroup = groupService.getById(GROUP_ID_501);
@@ -35,7 +35,7 @@ class StudentControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
     private static final Integer PERSON_ID_50001 = 50001;
-    private static final Integer NEW_COURSE_ID = 10001;
+    private static final Integer NONEXISTENT_PERSON_ID = 99999;
     private static final String PERSON_FIRST_NAME_50001 = "Giorgio";
     private static final String PERSON_LAST_NAME_50001 = "Parisi";
     private static final String PERSON_EMAIL_50001 = "giorgio.parisi@university.edu";
@@ -86,6 +86,7 @@ class StudentControllerIntegrationTest {
                         containsString("<h1 class=\"display-4\">Giorgio Parisi</h1>"),
                         containsString("<p class=\"lead\">stupid</p>"),
                         containsString("<p><a href=\"/students/student/edit?id=50001\" class=\"btn btn-primary\">Edit</a></p>"),
+                        containsString("<p><a href=\"/students/student/timetable?id=50001\" class=\"btn btn-light\">Timetable</a></p>"),
                         containsString("<p class=\"lead\">stupid</p>"),
                         containsString("<td><a href=\"/courses/course?id=51\">math</a></td>"),
                         containsString("<td><a href=\"/courses/course?id=52\">biology</a></td>"),
@@ -93,6 +94,16 @@ class StudentControllerIntegrationTest {
                 );
     }
 
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testTimetableShouldReturnNotFoundWhenStudentIsNotFound() throws Exception {
+        mockMvc.perform(get("/students/student/timetable?id=" + NONEXISTENT_PERSON_ID)
+                .contentType(MediaType.TEXT_HTML))
+                .andDo(print())
+                .andExpect(status().isNotFound())
+                .andExpect(view().name("students/students"));
+    }
+
     @Test
     @Sql(POPULATE_DB_SQL)
     void testEditStudent() throws Exception {
@@ -187,20 +198,25 @@ class StudentControllerIntegrationTest {
                 .andExpect(status().is3xxRedirection())
                 .andExpect(redirectedUrl("/students/"));
 
+        Student actualStudent = studentService.getAll().stream()
+                .filter(student -> CHANGED_PERSON_EMAIL.equals(student.getEmail()))
+                .findFirst()
+                .orElse(null);
+
+        assertNotNull(actualStudent);
+
         mockMvc.perform(get("/students/")
                         .contentType(MediaType.TEXT_HTML))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_HTML_VALUE))
                 .andExpect(content().string(allOf(
-                        containsString("<td><a href=\"/students/student?id=10001\">new or changed first name new or changed last name</a></td>"),
+                        containsString("<td><a href=\"/students/student?id=" + actualStudent.getId() + "\">new or changed first name new or changed last name</a></td>"),
                         containsString("<td><a href=\"/students/group?id=502\">BB-02</a></td>")))
                 );
 
-        Student actualStudent = studentService.getById(NEW_COURSE_ID);
         Group group = groupService.getById(GROUP_ID_502);
 
-        assertNotNull(actualStudent);
         assertThat(actualStudent.getFirstName()).isEqualTo(CHANGED_PERSON_FIRST_NAME);
         assertThat(actualStudent.getLastName()).isEqualTo(CHANGED_PERSON_LAST_NAME);
         assertThat(actualStudent.getEmail()).isEqualTo(CHANGED_PERSON_EMAIL);
@@ -1,5 +1,6 @@
 package ru.petrowich.university.integration.students;
 
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -8,6 +9,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.petrowich.university.model.Student;
 import ru.petrowich.university.service.StudentService;
 
@@ -33,7 +35,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class StudentRestControllerIntegrationTest {
     private static final String POPULATE_DB_SQL = "classpath:populateDbTest.sql";
 
-    private static final Integer NEW_PERSON_ID = 10001;
     private static final Integer PERSON_ID_50001 = 50001;
     private static final Integer NONEXISTENT_PERSON_ID = 99999;
     private static final String PERSON_FIRST_NAME_50005 = "Giorgio";
@@ -81,18 +82,22 @@ class StudentRestControllerIntegrationTest {
                 + ",\"lastName\":\"" + ANOTHER_PERSON_LAST_NAME + "\""
                 + ",\"email\":\"" + ANOTHER_PERSON_EMAIL + "\""
                 + ",\"comment\":\"" + ANOTHER_COMMENT + "\""
+                + ",\"groupId\":" + GROUP_ID_501
                 + "}";
 
-        mockMvc.perform(post("/api/students/add")
+        MvcResult mvcResult = mockMvc.perform(post("/api/students/add")
                 .content(newLecturerJSON)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(content().contentType("application/json"))
-                .andExpect(jsonPath("$.id").value(NEW_PERSON_ID));
+                .andExpect(jsonPath("$.id").isNumber())
+                .andReturn();
 
-        Student actualStudent = studentService.getById(NEW_PERSON_ID);
+        Integer newStudentId = JsonPath.read(mvcResult.getResponse().getContentAsString(), "$.id");
+
+        Student actualStudent = studentService.getById(newStudentId);
         assertThat(actualStudent.getFirstName()).isEqualTo(ANOTHER_PERSON_FIRST_NAME);
         assertThat(actualStudent.getLastName()).isEqualTo(ANOTHER_PERSON_LAST_NAME);
         assertThat(actualStudent.getEmail()).isEqualTo(ANOTHER_PERSON_EMAIL);
@@ -108,6 +113,7 @@ class StudentRestControllerIntegrationTest {
                 + ",\"lastName\":\"" + ANOTHER_PERSON_LAST_NAME + "\""
                 + ",\"email\":\"" + ANOTHER_PERSON_EMAIL + "\""
                 + ",\"comment\":\"" + ANOTHER_COMMENT + "\""
+                + ",\"groupId\":" + GROUP_ID_501
                 + "}";
 
         Student currentStudent = studentService.getById(PERSON_ID_50001);
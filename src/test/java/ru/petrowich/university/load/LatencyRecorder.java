@@ -0,0 +1,104 @@
+package ru.petrowich.university.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyRecorder {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final String endpoint;
+    private long[] latencies = new long[INITIAL_CAPACITY];
+    private int count;
+    private int errors;
+
+    public LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public synchronized void record(long nanos, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+
+        latencies[count++] = nanos;
+
+        if (error) {
+            errors++;
+        }
+    }
+
+    public synchronized Summary summarize(long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+
+        return new Summary(endpoint, count, errors, count * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 1.0));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public static class Summary {
+        private final String endpoint;
+        private final int count;
+        private final int errors;
+        private final double throughput;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double max;
+
+        public Summary(String endpoint, int count, int errors, double throughput, double p50, double p90, double p99, double max) {
+            this.endpoint = endpoint;
+            this.count = count;
+            this.errors = errors;
+            this.throughput = throughput;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public int getErrors() {
+            return errors;
+        }
+
+        public double getThroughput() {
+            return throughput;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP90() {
+            return p90;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getMax() {
+            return max;
+        }
+    }
+}
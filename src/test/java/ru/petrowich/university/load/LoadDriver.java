@@ -0,0 +1,146 @@
+package ru.petrowich.university.load;
+
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+public class LoadDriver {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int TIMEOUT_MILLIS = 60000;
+    private static final String TOTAL = "TOTAL";
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final String baseUrl;
+    private final List<LoadRequest> loadRequests;
+    private final int totalWeight;
+    private final long seed;
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private final LatencyRecorder totalRecorder = new LatencyRecorder(TOTAL);
+
+    public LoadDriver(String baseUrl, List<LoadRequest> loadRequests, long seed) {
+        if (loadRequests == null || loadRequests.isEmpty()) {
+            throw new IllegalArgumentException("no load requests are passed");
+        }
+
+        this.baseUrl = baseUrl;
+        this.loadRequests = loadRequests;
+        this.totalWeight = loadRequests.stream().mapToInt(LoadRequest::getWeight).sum();
+        this.seed = seed;
+        loadRequests.forEach(loadRequest -> recorders.put(loadRequest.getEndpoint(), new LatencyRecorder(loadRequest.getEndpoint())));
+    }
+
+    public List<LatencyRecorder.Summary> run(int numberOfThreads, int warmupSeconds, int durationSeconds) throws InterruptedException {
+        long measurementStart = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long measurementEnd = measurementStart + TimeUnit.SECONDS.toNanos(durationSeconds);
+        ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+
+        LOGGER.info("running {} threads against {} for {}s after {}s of warmup", numberOfThreads, baseUrl, durationSeconds, warmupSeconds);
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            Random random = new Random(seed + i);
+            executorService.execute(() -> drive(random, measurementStart, measurementEnd));
+        }
+
+        executorService.shutdown();
+
+        if (!executorService.awaitTermination(warmupSeconds + durationSeconds + TimeUnit.MILLISECONDS.toSeconds(TIMEOUT_MILLIS) * 2, TimeUnit.SECONDS)) {
+            executorService.shutdownNow();
+        }
+
+        long elapsedNanos = measurementEnd - measurementStart;
+        List<LatencyRecorder.Summary> summaries = new ArrayList<>();
+        recorders.values().forEach(recorder -> summaries.add(recorder.summarize(elapsedNanos)));
+        summaries.add(totalRecorder.summarize(elapsedNanos));
+
+        return summaries;
+    }
+
+    public static void report(List<LatencyRecorder.Summary> summaries, PrintStream printStream) {
+        String format = "%-40s %10s %8s %10s %10s %10s %10s %10s%n";
+        printStream.printf(format, "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+
+        for (LatencyRecorder.Summary summary : summaries) {
+            printStream.printf("%-40s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", summary.getEndpoint(), summary.getCount(),
+                    summary.getErrors(), summary.getThroughput(), summary.getP50(), summary.getP90(), summary.getP99(), summary.getMax());
+        }
+    }
+
+    private void drive(Random random, long measurementStart, long measurementEnd) {
+        byte[] buffer = new byte[BUFFER_SIZE];
+
+        while (System.nanoTime() < measurementEnd && !Thread.currentThread().isInterrupted()) {
+            LoadRequest loadRequest = pick(random);
+            String path = loadRequest.nextPath(random);
+            long start = System.nanoTime();
+            boolean error = !execute(path, buffer);
+            long end = System.nanoTime();
+
+            if (start >= measurementStart && end <= measurementEnd) {
+                recorders.get(loadRequest.getEndpoint()).record(end - start, error);
+                totalRecorder.record(end - start, error);
+            }
+        }
+    }
+
+    private LoadRequest pick(Random random) {
+        int point = random.nextInt(totalWeight);
+
+        for (LoadRequest loadRequest : loadRequests) {
+            point -= loadRequest.getWeight();
+
+            if (point < 0) {
+                return loadRequest;
+            }
+        }
+
+        return loadRequests.get(loadRequests.size() - 1);
+    }
+
+    private boolean execute(String path, byte[] buffer) {
+        HttpURLConnection connection = null;
+
+        try {
+            connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+            connection.setConnectTimeout(TIMEOUT_MILLIS);
+            connection.setReadTimeout(TIMEOUT_MILLIS);
+            int status = connection.getResponseCode();
+
+            try (InputStream inputStream = status < HttpURLConnection.HTTP_BAD_REQUEST ? connection.getInputStream() : connection.getErrorStream()) {
+                if (inputStream != null) {
+                    while (inputStream.read(buffer) >= 0) {
+                        // the body is drained to keep the connection alive
+                    }
+                }
+            }
+
+            if (status >= HttpURLConnection.HTTP_BAD_REQUEST && status != HttpURLConnection.HTTP_NOT_FOUND) {
+                LOGGER.warn("{} responded with {}", path, status);
+                return false;
+            }
+
+            return true;
+        } catch (IOException exception) {
+            LOGGER.warn("{} failed: {}", path, exception.getMessage());
+
+            if (connection != null) {
+                connection.disconnect();
+            }
+
+            return false;
+        }
+    }
+}
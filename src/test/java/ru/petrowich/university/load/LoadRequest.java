@@ -0,0 +1,32 @@
+package ru.petrowich.university.load;
+
+import java.util.Random;
+import java.util.function.Function;
+
+public class LoadRequest {
+    private final String endpoint;
+    private final int weight;
+    private final Function<Random, String> pathGenerator;
+
+    public LoadRequest(String endpoint, int weight, Function<Random, String> pathGenerator) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight of " + endpoint + " should be positive");
+        }
+
+        this.endpoint = endpoint;
+        this.weight = weight;
+        this.pathGenerator = pathGenerator;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public String nextPath(Random random) {
+        return pathGenerator.apply(random);
+    }
+}
@@ -0,0 +1,95 @@
+package ru.petrowich.university.load;
+
+import org.slf4j.Logger;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.petrowich.university.University;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+public class LoadTestRunner {
+    private static final Logger LOGGER = getLogger(LoadTestRunner.class.getSimpleName());
+    private static final int DAYS_PER_WEEK = 7;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.parse(args);
+        LOGGER.info("starting load test with {}", settings);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(University.class)
+                .profiles("test")
+                .properties("server.port=" + settings.getPort(),
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.LoadTestRunner=INFO",
+                        "logging.level.LoadDriver=INFO",
+                        "logging.level.UniversityDataGenerator=INFO")
+                .run()) {
+            long start = System.nanoTime();
+            UniversityDataset dataset = new UniversityDataGenerator(context.getBean(DataSource.class), settings.getSeed()).generate(settings);
+            LOGGER.info("generated the university in {}s", (System.nanoTime() - start) / 1_000_000_000L);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadDriver loadDriver = new LoadDriver("http://localhost:" + port, requestMix(dataset), settings.getSeed());
+            List<LatencyRecorder.Summary> summaries = loadDriver.run(settings.getNumberOfThreads(),
+                    settings.getWarmupSeconds(), settings.getDurationSeconds());
+
+            LoadDriver.report(summaries, System.out);
+        }
+    }
+
+    static List<LoadRequest> requestMix(UniversityDataset dataset) {
+        return Arrays.asList(
+                new LoadRequest("GET /api/students/{id}", 15,
+                        random -> "/api/students/" + dataset.getStudentIds().random(random)),
+                new LoadRequest("GET /api/students/{id}/timetable", 10,
+                        random -> "/api/students/" + dataset.getStudentIds().random(random) + "/timetable" + week(dataset, random)),
+                new LoadRequest("GET /api/lessons/{id}", 10,
+                        random -> "/api/lessons/" + dataset.getLessonIds().random(random)),
+                new LoadRequest("GET /api/lessons/search?courseId", 5,
+                        random -> "/api/lessons/search" + week(dataset, random) + "&courseId=" + dataset.getCourseIds().random(random)),
+                new LoadRequest("GET /api/lessons/search?groupId", 5,
+                        random -> "/api/lessons/search" + week(dataset, random) + "&groupId=" + dataset.getGroupIds().random(random)),
+                new LoadRequest("GET /api/lessons/free", 3,
+                        random -> "/api/lessons/free" + week(dataset, random) + "&groupId=" + dataset.getGroupIds().random(random) + "&limit=5"),
+                new LoadRequest("GET /api/lessons/", 2,
+                        random -> "/api/lessons/?size=50"),
+                new LoadRequest("GET /api/students/", 2,
+                        random -> "/api/students/?size=50"),
+                new LoadRequest("GET /api/courses/{id}", 5,
+                        random -> "/api/courses/" + dataset.getCourseIds().random(random)),
+                new LoadRequest("GET /api/students/groups/{id}", 5,
+                        random -> "/api/students/groups/" + dataset.getGroupIds().random(random)),
+                new LoadRequest("GET /api/lecturers/{id}", 5,
+                        random -> "/api/lecturers/" + dataset.getLecturerIds().random(random)),
+                new LoadRequest("GET /students/student", 8,
+                        random -> "/students/student?id=" + dataset.getStudentIds().random(random)),
+                new LoadRequest("GET /students/student/timetable", 6,
+                        random -> "/students/student/timetable?id=" + dataset.getStudentIds().random(random)
+                                + "&from=" + dataset.randomDate(random)),
+                new LoadRequest("GET /students/group", 6,
+                        random -> "/students/group?id=" + dataset.getGroupIds().random(random)),
+                new LoadRequest("GET /courses/course", 4,
+                        random -> "/courses/course?id=" + dataset.getCourseIds().random(random)),
+                new LoadRequest("GET /lecturers/lecturer", 4,
+                        random -> "/lecturers/lecturer?id=" + dataset.getLecturerIds().random(random)),
+                new LoadRequest("GET /courses", 2,
+                        random -> "/courses"),
+                new LoadRequest("GET /lecturers", 2,
+                        random -> "/lecturers"),
+                new LoadRequest("GET /students/groups", 1,
+                        random -> "/students/groups")
+        );
+    }
+
+    private static String week(UniversityDataset dataset, Random random) {
+        LocalDate from = dataset.randomDate(random);
+        return "?from=" + from + "&to=" + from.plusDays(DAYS_PER_WEEK - 1L);
+    }
+}
@@ -0,0 +1,134 @@
+package ru.petrowich.university.load;
+
+public class LoadTestSettings {
+    private static final String OPTION_PREFIX = "--";
+    private static final String OPTION_SEPARATOR = "=";
+
+    private int numberOfStudents = 50000;
+    private int numberOfGroups = 2000;
+    private int numberOfCourses = 500;
+    private int numberOfLecturers = 300;
+    private int numberOfLessons = 1000000;
+    private int numberOfThreads = 16;
+    private int warmupSeconds = 30;
+    private int durationSeconds = 120;
+    private int port = 0;
+    private long seed = 42;
+
+    public static LoadTestSettings parse(String... args) {
+        LoadTestSettings settings = new LoadTestSettings();
+
+        for (String arg : args) {
+            for (String option : arg.trim().split("\\s+")) {
+                if (!option.isEmpty()) {
+                    settings.apply(option);
+                }
+            }
+        }
+
+        return settings;
+    }
+
+    private void apply(String option) {
+        int separator = option.indexOf(OPTION_SEPARATOR);
+
+        if (!option.startsWith(OPTION_PREFIX) || separator < 0) {
+            throw new IllegalArgumentException("option " + option + " is not in the form --name=value");
+        }
+
+        String name = option.substring(OPTION_PREFIX.length(), separator);
+        String value = option.substring(separator + 1);
+
+        switch (name) {
+            case "students":
+                numberOfStudents = positive(name, value);
+                break;
+            case "groups":
+                numberOfGroups = positive(name, value);
+                break;
+            case "courses":
+                numberOfCourses = positive(name, value);
+                break;
+            case "lecturers":
+                numberOfLecturers = positive(name, value);
+                break;
+            case "lessons":
+                numberOfLessons = positive(name, value);
+                break;
+            case "threads":
+                numberOfThreads = positive(name, value);
+                break;
+            case "warmup":
+                warmupSeconds = Integer.parseInt(value);
+                break;
+            case "duration":
+                durationSeconds = positive(name, value);
+                break;
+            case "port":
+                port = Integer.parseInt(value);
+                break;
+            case "seed":
+                seed = Long.parseLong(value);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown option " + name);
+        }
+    }
+
+    private static int positive(String name, String value) {
+        int number = Integer.parseInt(value);
+
+        if (number <= 0) {
+            throw new IllegalArgumentException(name + " should be positive but " + value + " is passed");
+        }
+
+        return number;
+    }
+
+    public int getNumberOfStudents() {
+        return numberOfStudents;
+    }
+
+    public int getNumberOfGroups() {
+        return numberOfGroups;
+    }
+
+    public int getNumberOfCourses() {
+        return numberOfCourses;
+    }
+
+    public int getNumberOfLecturers() {
+        return numberOfLecturers;
+    }
+
+    public int getNumberOfLessons() {
+        return numberOfLessons;
+    }
+
+    public int getNumberOfThreads() {
+        return numberOfThreads;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return "students=" + numberOfStudents + ", groups=" + numberOfGroups + ", courses=" + numberOfCourses +
+                ", lecturers=" + numberOfLecturers + ", lessons=" + numberOfLessons + ", threads=" + numberOfThreads +
+                ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s, seed=" + seed;
+    }
+}
@@ -0,0 +1,237 @@
+package ru.petrowich.university.load;
+
+import org.slf4j.Logger;
+import ru.petrowich.university.load.UniversityDataset.IdRange;
+import ru.petrowich.university.schedule.Semester;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+public class UniversityDataGenerator {
+    private static final int BATCH_SIZE = 5000;
+    private static final int FIRST_LECTURER_ID = 10001;
+    private static final int FIRST_GROUP_ID = 101;
+    private static final int FIRST_COURSE_ID = 10;
+    private static final long FIRST_LESSON_ID = 1000001L;
+    private static final int STUDENT_ROLE_ID = 1;
+    private static final int LECTURER_ROLE_ID = 2;
+    private static final int GROUPS_PER_COURSE = 3;
+    private static final int RETAINED_SEMESTERS = 1;
+
+    private final Logger LOGGER = getLogger(getClass().getSimpleName());
+    private final DataSource dataSource;
+    private final Random random;
+
+    public UniversityDataGenerator(DataSource dataSource, long seed) {
+        if (dataSource == null) {
+            throw new IllegalArgumentException("null is passed instead data source");
+        }
+
+        this.dataSource = dataSource;
+        this.random = new Random(seed);
+    }
+
+    public UniversityDataset generate(LoadTestSettings settings) throws SQLException {
+        Semester currentSemester = Semester.of(LocalDate.now());
+        LocalDate firstDate = currentSemester.minus(RETAINED_SEMESTERS).getStartDate();
+        int numberOfDays = (int) ChronoUnit.DAYS.between(firstDate, currentSemester.next().getEndDate());
+
+        IdRange lecturerIds = new IdRange(FIRST_LECTURER_ID, FIRST_LECTURER_ID + settings.getNumberOfLecturers() - 1L);
+        IdRange studentIds = new IdRange(lecturerIds.getLast() + 1, lecturerIds.getLast() + settings.getNumberOfStudents());
+        IdRange groupIds = new IdRange(FIRST_GROUP_ID, FIRST_GROUP_ID + settings.getNumberOfGroups() - 1L);
+        IdRange courseIds = new IdRange(FIRST_COURSE_ID, FIRST_COURSE_ID + settings.getNumberOfCourses() - 1L);
+        IdRange lessonIds = new IdRange(FIRST_LESSON_ID, FIRST_LESSON_ID + settings.getNumberOfLessons() - 1L);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+
+            insertPersons(connection, lecturerIds, LECTURER_ROLE_ID, "lecturer");
+            insertPersons(connection, studentIds, STUDENT_ROLE_ID, "student");
+            insertGroups(connection, groupIds, settings.getNumberOfStudents());
+            insertGroupStudents(connection, groupIds, studentIds);
+            int[] courseAuthorIds = insertCourses(connection, courseIds, lecturerIds);
+            insertGroupCourses(connection, groupIds, courseIds);
+            insertLessons(connection, lessonIds, courseIds, courseAuthorIds, firstDate, numberOfDays);
+
+            restartSequence(connection, "seq_persons", studentIds.getLast() + 1);
+            restartSequence(connection, "seq_groups", groupIds.getLast() + 1);
+            restartSequence(connection, "seq_courses", courseIds.getLast() + 1);
+            restartSequence(connection, "seq_lessons", lessonIds.getLast() + 1);
+            connection.commit();
+        }
+
+        return new UniversityDataset(studentIds, lecturerIds, groupIds, courseIds, lessonIds, firstDate, numberOfDays);
+    }
+
+    private void insertPersons(Connection connection, IdRange personIds, int roleId, String kind) throws SQLException {
+        String sql = "INSERT INTO public.t_persons (person_id, person_first_name, person_last_name, person_role_id, " +
+                "person_email, person_comment, person_active) VALUES (?, ?, ?, ?, ?, ?, TRUE)";
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = personIds.getFirst(); id <= personIds.getLast(); id++) {
+                statement.setLong(1, id);
+                statement.setString(2, "First" + id);
+                statement.setString(3, "Last" + id);
+                statement.setInt(4, roleId);
+                statement.setString(5, kind + id + "@university.edu");
+                statement.setString(6, "synthetic " + kind);
+                addBatch(statement, id - personIds.getFirst());
+            }
+
+            finish(connection, statement, kind + "s", personIds);
+        }
+    }
+
+    private void insertGroups(Connection connection, IdRange groupIds, int numberOfStudents) throws SQLException {
+        String sql = "INSERT INTO public.t_groups (group_id, group_name, group_capacity, group_active) VALUES (?, ?, ?, TRUE)";
+        long numberOfGroups = groupIds.getLast() - groupIds.getFirst() + 1;
+        int capacity = (int) ((numberOfStudents + numberOfGroups - 1) / numberOfGroups) * 2;
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = groupIds.getFirst(); id <= groupIds.getLast(); id++) {
+                statement.setLong(1, id);
+                statement.setString(2, String.format("GR-%05d", id));
+                statement.setInt(3, capacity);
+                addBatch(statement, id - groupIds.getFirst());
+            }
+
+            finish(connection, statement, "groups", groupIds);
+        }
+    }
+
+    private void insertGroupStudents(Connection connection, IdRange groupIds, IdRange studentIds) throws SQLException {
+        String sql = "INSERT INTO public.t_groups_students (group_id, student_id) VALUES (?, ?)";
+        long numberOfGroups = groupIds.getLast() - groupIds.getFirst() + 1;
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = studentIds.getFirst(); id <= studentIds.getLast(); id++) {
+                statement.setLong(1, groupIds.getFirst() + (id - studentIds.getFirst()) % numberOfGroups);
+                statement.setLong(2, id);
+                addBatch(statement, id - studentIds.getFirst());
+            }
+
+            finish(connection, statement, "students of groups", studentIds);
+        }
+    }
+
+    private int[] insertCourses(Connection connection, IdRange courseIds, IdRange lecturerIds) throws SQLException {
+        String sql = "INSERT INTO public.t_courses (course_id, course_name, course_description, course_author_id, course_active) " +
+                "VALUES (?, ?, ?, ?, TRUE)";
+        int[] authorIds = new int[(int) (courseIds.getLast() - courseIds.getFirst() + 1)];
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = courseIds.getFirst(); id <= courseIds.getLast(); id++) {
+                int index = (int) (id - courseIds.getFirst());
+                authorIds[index] = (int) lecturerIds.random(random);
+                statement.setLong(1, id);
+                statement.setString(2, "Course " + id);
+                statement.setString(3, "synthetic course " + id);
+                statement.setInt(4, authorIds[index]);
+                addBatch(statement, index);
+            }
+
+            finish(connection, statement, "courses", courseIds);
+        }
+
+        return authorIds;
+    }
+
+    private void insertGroupCourses(Connection connection, IdRange groupIds, IdRange courseIds) throws SQLException {
+        String sql = "INSERT INTO public.t_groups_courses (group_id, course_id) VALUES (?, ?)";
+        long rows = 0;
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long courseId = courseIds.getFirst(); courseId <= courseIds.getLast(); courseId++) {
+                List<Long> courseGroupIds = new ArrayList<>(GROUPS_PER_COURSE);
+
+                while (courseGroupIds.size() < GROUPS_PER_COURSE && courseGroupIds.size() < groupIds.getLast() - groupIds.getFirst() + 1) {
+                    long groupId = groupIds.random(random);
+
+                    if (!courseGroupIds.contains(groupId)) {
+                        courseGroupIds.add(groupId);
+                        statement.setLong(1, groupId);
+                        statement.setLong(2, courseId);
+                        addBatch(statement, rows++);
+                    }
+                }
+            }
+
+            finish(connection, statement, "groups of courses", courseIds);
+        }
+    }
+
+    private void insertLessons(Connection connection, IdRange lessonIds, IdRange courseIds, int[] courseAuthorIds,
+                               LocalDate firstDate, int numberOfDays) throws SQLException {
+        String sql = "INSERT INTO public.t_lessons (lesson_id, course_id, lecturer_id, timeslot_id, lesson_date, " +
+                "lesson_start_time, lesson_end_time) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        List<Object[]> timeSlots = selectTimeSlots(connection);
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long id = lessonIds.getFirst(); id <= lessonIds.getLast(); id++) {
+                long courseId = courseIds.random(random);
+                Object[] timeSlot = timeSlots.get(random.nextInt(timeSlots.size()));
+                statement.setLong(1, id);
+                statement.setLong(2, courseId);
+                statement.setInt(3, courseAuthorIds[(int) (courseId - courseIds.getFirst())]);
+                statement.setInt(4, (Integer) timeSlot[0]);
+                statement.setDate(5, Date.valueOf(firstDate.plusDays(random.nextInt(numberOfDays))));
+                statement.setTime(6, (Time) timeSlot[1]);
+                statement.setTime(7, (Time) timeSlot[2]);
+                addBatch(statement, id - lessonIds.getFirst());
+            }
+
+            finish(connection, statement, "lessons", lessonIds);
+        }
+    }
+
+    private List<Object[]> selectTimeSlots(Connection connection) throws SQLException {
+        List<Object[]> timeSlots = new ArrayList<>();
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT timeslot_id, timeslot_start_time, timeslot_end_time " +
+                     "FROM public.t_timeslots ORDER BY timeslot_id")) {
+            while (resultSet.next()) {
+                timeSlots.add(new Object[]{resultSet.getInt(1), resultSet.getTime(2), resultSet.getTime(3)});
+            }
+        }
+
+        if (timeSlots.isEmpty()) {
+            throw new IllegalStateException("no timeslots found to schedule the lessons");
+        }
+
+        return timeSlots;
+    }
+
+    private void restartSequence(Connection connection, String sequence, long value) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER SEQUENCE public." + sequence + " RESTART WITH " + value);
+        }
+    }
+
+    private void addBatch(PreparedStatement statement, long row) throws SQLException {
+        statement.addBatch();
+
+        if ((row + 1) % BATCH_SIZE == 0) {
+            statement.executeBatch();
+        }
+    }
+
+    private void finish(Connection connection, PreparedStatement statement, String table, IdRange ids) throws SQLException {
+        statement.executeBatch();
+        connection.commit();
+        LOGGER.info("generated {} for ids {}", table, ids);
+    }
+}
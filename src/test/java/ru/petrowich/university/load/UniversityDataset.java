@@ -0,0 +1,84 @@
+package ru.petrowich.university.load;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+public class UniversityDataset {
+    private final IdRange studentIds;
+    private final IdRange lecturerIds;
+    private final IdRange groupIds;
+    private final IdRange courseIds;
+    private final IdRange lessonIds;
+    private final LocalDate firstDate;
+    private final int numberOfDays;
+
+    public UniversityDataset(IdRange studentIds, IdRange lecturerIds, IdRange groupIds, IdRange courseIds, IdRange lessonIds,
+                             LocalDate firstDate, int numberOfDays) {
+        this.studentIds = studentIds;
+        this.lecturerIds = lecturerIds;
+        this.groupIds = groupIds;
+        this.courseIds = courseIds;
+        this.lessonIds = lessonIds;
+        this.firstDate = firstDate;
+        this.numberOfDays = numberOfDays;
+    }
+
+    public IdRange getStudentIds() {
+        return studentIds;
+    }
+
+    public IdRange getLecturerIds() {
+        return lecturerIds;
+    }
+
+    public IdRange getGroupIds() {
+        return groupIds;
+    }
+
+    public IdRange getCourseIds() {
+        return courseIds;
+    }
+
+    public IdRange getLessonIds() {
+        return lessonIds;
+    }
+
+    public LocalDate getFirstDate() {
+        return firstDate;
+    }
+
+    public int getNumberOfDays() {
+        return numberOfDays;
+    }
+
+    public LocalDate randomDate(Random random) {
+        return firstDate.plusDays(random.nextInt(numberOfDays));
+    }
+
+    public static class IdRange {
+        private final long first;
+        private final long last;
+
+        public IdRange(long first, long last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        public long getFirst() {
+            return first;
+        }
+
+        public long getLast() {
+            return last;
+        }
+
+        public long random(Random random) {
+            return first + (long) (random.nextDouble() * (last - first + 1));
+        }
+
+        @Override
+        public String toString() {
+            return first + ".." + last;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package ru.petrowich.university.mapper;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import ru.petrowich.university.AppConfiguration;
+import ru.petrowich.university.dto.AbstractDTO;
+import ru.petrowich.university.dto.AbstractEntityDTO;
+import ru.petrowich.university.dto.courses.CourseDTO;
+import ru.petrowich.university.dto.courses.CourseGroupDTO;
+import ru.petrowich.university.dto.lecturers.LecturerCourseDTO;
+import ru.petrowich.university.dto.lecturers.LecturerDTO;
+import ru.petrowich.university.dto.lessons.LessonDTO;
+import ru.petrowich.university.dto.lessons.TimeSlotDTO;
+import ru.petrowich.university.dto.students.GroupCourseDTO;
+import ru.petrowich.university.dto.students.GroupDTO;
+import ru.petrowich.university.dto.students.GroupStudentDTO;
+import ru.petrowich.university.dto.students.StudentCourseDTO;
+import ru.petrowich.university.dto.students.StudentDTO;
+import ru.petrowich.university.mapper.courses.CourseGroupMapper;
+import ru.petrowich.university.mapper.courses.CourseMapper;
+import ru.petrowich.university.mapper.lecturers.LecturerCourseMapper;
+import ru.petrowich.university.mapper.lecturers.LecturerMapper;
+import ru.petrowich.university.mapper.lesson.LessonMapper;
+import ru.petrowich.university.mapper.lesson.TimeSlotMapper;
+import ru.petrowich.university.mapper.students.GroupMapper;
+import ru.petrowich.university.mapper.students.StudentMapper;
+import ru.petrowich.university.model.AbstractEntity;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
+import ru.petrowich.university.model.TimeSlot;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DirectMappingTest {
+    private static final Long LESSON_ID_1000001 = 1000001L;
+    private static final Integer COURSE_ID_51 = 51;
+    private static final Integer COURSE_ID_52 = 52;
+    private static final Integer GROUP_ID_501 = 501;
+    private static final Integer GROUP_ID_502 = 502;
+    private static final Integer PERSON_ID_50001 = 50001;
+    private static final Integer PERSON_ID_50002 = 50002;
+    private static final Integer PERSON_ID_50005 = 50005;
+    private static final Integer TIME_SLOT_ID_1 = 1;
+    private static final String COURSE_NAME_51 = "math";
+    private static final String COURSE_NAME_52 = "biology";
+    private static final String GROUP_NAME_501 = "AA-01";
+    private static final String GROUP_NAME_502 = "BB-02";
+    private static final String TIME_SLOT_NAME_1 = "first lesson";
+    private static final String AUTHOR_FULL_NAME = "Reinhard Genzel";
+    private static final LocalDate LESSON_DATE = LocalDate.of(2021, 2, 1);
+    private static final LocalTime START_TIME = LocalTime.of(8, 0);
+    private static final LocalTime END_TIME = LocalTime.of(9, 30);
+    private static final Integer NUMBER_OF_ATTENDEES = 55;
+
+    private static final CourseMapper courseMapper = new CourseMapper(new AppConfiguration().modelMapper());
+    private static final CourseGroupMapper courseGroupMapper = new CourseGroupMapper(new AppConfiguration().modelMapper());
+    private static final LecturerMapper lecturerMapper = new LecturerMapper(new AppConfiguration().modelMapper());
+    private static final LecturerCourseMapper lecturerCourseMapper = new LecturerCourseMapper(new AppConfiguration().modelMapper());
+    private static final LessonMapper lessonMapper = new LessonMapper(new AppConfiguration().modelMapper());
+    private static final TimeSlotMapper timeSlotMapper = new TimeSlotMapper(new AppConfiguration().modelMapper());
+    private static final GroupMapper groupMapper = new GroupMapper(new AppConfiguration().modelMapper());
+    private static final StudentMapper studentMapper = new StudentMapper(new AppConfiguration().modelMapper());
+
+    static {
+        courseMapper.setupMapper();
+        lessonMapper.setupMapper();
+        groupMapper.setupMapper();
+        studentMapper.setupMapper();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("entities")
+    <E extends AbstractEntity, D extends AbstractDTO> void testToDtoShouldReturnSameDtoInDirectModeAsModelMapper(String fixture,
+                                                                                                              AbstractMapper<E, D> mapper,
+                                                                                                              E entity) {
+        mapper.setDirectMapping(false);
+        D expected = mapper.toDto(entity);
+
+        mapper.setDirectMapping(true);
+        D actual = mapper.toDto(entity);
+
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("dtos")
+    <E extends AbstractEntity, D extends AbstractDTO> void testToEntityShouldReturnSameEntityInDirectModeAsModelMapper(String fixture,
+                                                                                                                   AbstractMapper<E, D> mapper,
+                                                                                                                   D dto,
+                                                                                                                   String[] ignoredFields) {
+        mapper.setDirectMapping(false);
+        E expected = mapper.toEntity(dto);
+
+        mapper.setDirectMapping(true);
+        E actual = mapper.toEntity(dto);
+
+        assertThat(actual).usingRecursiveComparison().ignoringFields(ignoredFields).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> entities() {
+        Lecturer author = author();
+        Group group = new Group().setId(GROUP_ID_501).setName(GROUP_NAME_501).setCapacity(30).setActive(true);
+        group.setCourses(Arrays.asList(
+                new Course().setId(COURSE_ID_51).setName(COURSE_NAME_51).setAuthor(author).setGroups(Collections.singletonList(group)).setActive(true),
+                new Course().setId(COURSE_ID_52).setName(COURSE_NAME_52).setAuthor(author).setActive(false)));
+        group.setStudents(Arrays.asList(
+                new Student().setId(PERSON_ID_50001).setFirstName("Peter").setLastName("Pitstop").setGroup(group).setActive(true),
+                new Student().setId(PERSON_ID_50002).setFirstName("Penelope").setLastName("Pitstop").setGroup(group).setActive(true)));
+
+        Lecturer lecturer = author().setComment("Nobel Prize in Physics");
+        lecturer.setCourses(Arrays.asList(
+                new Course().setId(COURSE_ID_51).setName(COURSE_NAME_51).setAuthor(lecturer).setActive(true),
+                new Course().setId(COURSE_ID_52).setName(COURSE_NAME_52).setAuthor(lecturer).setActive(false)));
+
+        Course course = new Course().setId(COURSE_ID_51).setName(COURSE_NAME_51).setDescription("math course").setAuthor(author)
+                .setLessonsPerWeek(3).setActive(true).setGroups(Arrays.asList(group,
+                        new Group().setId(GROUP_ID_502).setName(GROUP_NAME_502).setCapacity(25).setActive(false)));
+
+        return Stream.of(
+                Arguments.of("course", courseMapper, course),
+                Arguments.of("course without author and groups", courseMapper,
+                        new Course().setName(COURSE_NAME_51).setAuthor(null).setGroups(new ArrayList<>())),
+                Arguments.of("course group", courseGroupMapper, group),
+                Arguments.of("course group without id", courseGroupMapper, new Group().setName(GROUP_NAME_501)),
+                Arguments.of("lecturer", lecturerMapper, lecturer),
+                Arguments.of("lecturer without id and courses", lecturerMapper, new Lecturer().setFirstName("Reinhard").setCourses(new ArrayList<>())),
+                Arguments.of("lecturer course", lecturerCourseMapper, course),
+                Arguments.of("lecturer course without author", lecturerCourseMapper, new Course().setId(COURSE_ID_52).setAuthor(null)),
+                Arguments.of("lesson", lessonMapper, new Lesson().setId(LESSON_ID_1000001).setCourse(course).setLecturer(author)
+                        .setTimeSlot(timeSlot()).setDate(LESSON_DATE).setStartTime(START_TIME).setEndTime(END_TIME)
+                        .setNumberOfAttendees(NUMBER_OF_ATTENDEES)),
+                Arguments.of("lesson without id, course, lecturer and time slot", lessonMapper, new Lesson().setCourse(null)
+                        .setLecturer(null).setTimeSlot(null).setDate(LESSON_DATE).setStartTime(START_TIME).setEndTime(END_TIME)),
+                Arguments.of("time slot", timeSlotMapper, timeSlot()),
+                Arguments.of("time slot without id", timeSlotMapper, timeSlot().setId(null)),
+                Arguments.of("group", groupMapper, group),
+                Arguments.of("group without id, courses and students", groupMapper,
+                        new Group().setName(GROUP_NAME_502).setCourses(new ArrayList<>()).setStudents(new ArrayList<>())),
+                Arguments.of("group of course without author", groupMapper, new Group().setId(GROUP_ID_502)
+                        .setCourses(Collections.singletonList(new Course().setId(COURSE_ID_52).setAuthor(null)))),
+                Arguments.of("student", studentMapper, group.getStudents().get(0)),
+                Arguments.of("student without id and group", studentMapper, new Student().setFirstName("Peter").setGroup(null)),
+                Arguments.of("student of group without courses", studentMapper, new Student().setId(PERSON_ID_50002)
+                        .setGroup(new Group().setId(GROUP_ID_502).setCourses(new ArrayList<>()))));
+    }
+
+    static Stream<Arguments> dtos() {
+        GroupCourseDTO groupCourseDTO = new GroupCourseDTO().setId(COURSE_ID_51).setName(COURSE_NAME_51);
+        groupCourseDTO.setAuthorId(PERSON_ID_50005);
+        groupCourseDTO.setAuthorFullName(AUTHOR_FULL_NAME);
+        GroupCourseDTO authorlessGroupCourseDTO = new GroupCourseDTO().setId(COURSE_ID_52).setName(COURSE_NAME_52);
+
+        return Stream.of(
+                Arguments.of("course", courseMapper, withId(new CourseDTO()
+                        .setName(COURSE_NAME_51)
+                        .setDescription("math course")
+                        .setAuthorId(PERSON_ID_50005)
+                        .setAuthorFullName(AUTHOR_FULL_NAME)
+                        .setLessonsPerWeek(3)
+                        .setNumberOfAssignedGroups(2)
+                        .setActive(true)
+                        .setGroups(Arrays.asList(
+                                new CourseGroupDTO().setId(GROUP_ID_501).setName(GROUP_NAME_501),
+                                new CourseGroupDTO().setId(GROUP_ID_502).setName(GROUP_NAME_502))), COURSE_ID_51), new String[0]),
+                Arguments.of("course without id, author and groups", courseMapper,
+                        new CourseDTO().setName(COURSE_NAME_51).setGroups(new ArrayList<>()), new String[0]),
+                Arguments.of("course group", courseGroupMapper, new CourseGroupDTO().setId(GROUP_ID_501).setName(GROUP_NAME_501), new String[0]),
+                Arguments.of("course group without id", courseGroupMapper, new CourseGroupDTO().setName(GROUP_NAME_501), new String[0]),
+                Arguments.of("lecturer", lecturerMapper, withId(new LecturerDTO()
+                        .setFirstName("Reinhard")
+                        .setLastName("Genzel")
+                        .setEmail("reinhard.genzel@university.edu")
+                        .setComment("Nobel Prize in Physics")
+                        .setActive(true)
+                        .setCourses(Arrays.asList(
+                                new LecturerCourseDTO().setId(COURSE_ID_51).setName(COURSE_NAME_51),
+                                new LecturerCourseDTO().setId(COURSE_ID_52).setName(COURSE_NAME_52))), PERSON_ID_50005), new String[0]),
+                Arguments.of("lecturer without id and courses", lecturerMapper,
+                        new LecturerDTO().setFirstName("Reinhard").setCourses(new ArrayList<>()), new String[0]),
+                Arguments.of("lecturer course", lecturerCourseMapper, new LecturerCourseDTO().setId(COURSE_ID_51).setName(COURSE_NAME_51), new String[0]),
+                Arguments.of("lecturer course without id", lecturerCourseMapper, new LecturerCourseDTO().setName(COURSE_NAME_51), new String[0]),
+                Arguments.of("lesson", lessonMapper, withId(new LessonDTO()
+                        .setCourseId(COURSE_ID_51)
+                        .setCourseName(COURSE_NAME_51)
+                        .setLecturerId(PERSON_ID_50005)
+                        .setLecturerFullName(AUTHOR_FULL_NAME)
+                        .setTimeSlotId(TIME_SLOT_ID_1)
+                        .setDate(LESSON_DATE)
+                        .setStartTime(START_TIME)
+                        .setEndTime(END_TIME)
+                        .setNumberOfAttendees(NUMBER_OF_ATTENDEES), LESSON_ID_1000001), new String[0]),
+                Arguments.of("lesson without id, course, lecturer and time slot", lessonMapper,
+                        new LessonDTO().setDate(LESSON_DATE).setStartTime(START_TIME).setEndTime(END_TIME), new String[0]),
+                Arguments.of("time slot", timeSlotMapper, withId(new TimeSlotDTO().setName(TIME_SLOT_NAME_1)
+                        .setStartTime(START_TIME).setEndTime(END_TIME), TIME_SLOT_ID_1), new String[0]),
+                Arguments.of("time slot without id", timeSlotMapper, new TimeSlotDTO().setName(TIME_SLOT_NAME_1), new String[0]),
+                Arguments.of("group", groupMapper, withId(new GroupDTO()
+                        .setName(GROUP_NAME_501)
+                        .setCapacity(30)
+                        .setActive(true)
+                        .setNumberOfAssignedCourses(2)
+                        .setNumberOfStudents(2)
+                        .setCourses(Arrays.asList(groupCourseDTO, authorlessGroupCourseDTO))
+                        .setStudents(Arrays.asList(
+                                new GroupStudentDTO().setId(PERSON_ID_50001).setFullName("Peter Pitstop"),
+                                new GroupStudentDTO().setId(PERSON_ID_50002).setFullName("Penelope Pitstop"))), GROUP_ID_501),
+                        new String[]{"students.group"}),
+                Arguments.of("group without id, courses and students", groupMapper,
+                        new GroupDTO().setName(GROUP_NAME_502).setCourses(new ArrayList<>()).setStudents(new ArrayList<>()), new String[0]),
+                Arguments.of("student", studentMapper, withId(new StudentDTO()
+                        .setFirstName("Peter")
+                        .setLastName("Pitstop")
+                        .setEmail("peter.pitstop@university.edu")
+                        .setComment("racer")
+                        .setGroupId(GROUP_ID_501)
+                        .setGroupName(GROUP_NAME_501)
+                        .setCourses(Collections.singletonList(new StudentCourseDTO().setId(COURSE_ID_51).setName(COURSE_NAME_51)))
+                        .setActive(true), PERSON_ID_50001), new String[0]),
+                Arguments.of("student without id and group", studentMapper,
+                        new StudentDTO().setFirstName("Peter").setCourses(new ArrayList<>()), new String[0]));
+    }
+
+    private static Lecturer author() {
+        return new Lecturer().setId(PERSON_ID_50005).setFirstName("Reinhard").setLastName("Genzel")
+                .setEmail("reinhard.genzel@university.edu").setActive(true);
+    }
+
+    private static TimeSlot timeSlot() {
+        return new TimeSlot().setId(TIME_SLOT_ID_1).setName(TIME_SLOT_NAME_1).setStartTime(START_TIME).setEndTime(END_TIME);
+    }
+
+    private static <I extends Number, D extends AbstractEntityDTO<I>> D withId(D dto, I id) {
+        dto.setId(id);
+        return dto;
+    }
+}
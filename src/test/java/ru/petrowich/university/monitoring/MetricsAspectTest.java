@@ -0,0 +1,131 @@
+package ru.petrowich.university.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.modelmapper.ModelMapper;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import ru.petrowich.university.dto.lessons.TimeSlotDTO;
+import ru.petrowich.university.mapper.Mapper;
+import ru.petrowich.university.mapper.lesson.TimeSlotMapper;
+import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.repository.TimeSlotRepository;
+import ru.petrowich.university.service.TimeSlotService;
+import ru.petrowich.university.service.impl.TimeSlotServiceImpl;
+
+import javax.validation.Validator;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.openMocks;
+
+class MetricsAspectTest {
+    private static final Integer TIME_SLOT_ID = 1;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MetricsAspect metricsAspect = new MetricsAspect(meterRegistry);
+
+    private AutoCloseable autoCloseable;
+
+    @Mock
+    private TimeSlotRepository mockTimeSlotRepository;
+
+    @Mock
+    private Validator mockValidator;
+
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        autoCloseable = openMocks(this);
+    }
+
+    @AfterEach
+    void releaseMocks() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testServiceCallShouldBeTimedByEntityAndMethod() {
+        when(mockTimeSlotRepository.findById(TIME_SLOT_ID)).thenReturn(Optional.empty());
+        TimeSlotService timeSlotService = advise(new TimeSlotServiceImpl(mockValidator, mockTimeSlotRepository, mockApplicationEventPublisher));
+
+        timeSlotService.getById(TIME_SLOT_ID);
+        assertThrows(IllegalArgumentException.class, () -> timeSlotService.getById(null));
+
+        assertEquals(1, meterRegistry.get(MetricsAspect.SERVICE_METRIC)
+                .tag("class", "TimeSlotServiceImpl")
+                .tag("entity", "TimeSlot")
+                .tag("method", "getById")
+                .tag("exception", "none")
+                .timer().count(), "expected successful call should be timed");
+        assertEquals(1, meterRegistry.get(MetricsAspect.SERVICE_METRIC)
+                .tag("method", "getById")
+                .tag("exception", "IllegalArgumentException")
+                .timer().count(), "expected failed call should be timed with its exception");
+    }
+
+    @Test
+    void testServiceMethodShouldBeCurrentDuringServiceCall() {
+        List<String> serviceMethods = new ArrayList<>();
+        when(mockTimeSlotRepository.findById(TIME_SLOT_ID)).thenAnswer(invocation -> {
+            serviceMethods.add(ServiceInvocation.current());
+            return Optional.empty();
+        });
+        TimeSlotService timeSlotService = advise(new TimeSlotServiceImpl(mockValidator, mockTimeSlotRepository, mockApplicationEventPublisher));
+
+        timeSlotService.getById(TIME_SLOT_ID);
+
+        assertEquals(Collections.singletonList("TimeSlotServiceImpl.getById"), serviceMethods, "expected service method should be current");
+        assertNull(ServiceInvocation.current(), "expected service method should be cleared after the call");
+    }
+
+    @Test
+    void testRepositoryCallShouldBeTimedByRepositoryInterface() {
+        TimeSlotRepository timeSlotRepository = (TimeSlotRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{TimeSlotRepository.class}, (proxy, method, args) -> Collections.emptyList());
+        TimeSlotRepository advisedTimeSlotRepository = advise(timeSlotRepository);
+
+        List<TimeSlot> actual = advisedTimeSlotRepository.findAll();
+
+        assertEquals(0, actual.size(), "expected result of repository should be returned");
+        assertEquals(1, meterRegistry.get(MetricsAspect.REPOSITORY_METRIC)
+                .tag("class", "TimeSlotRepository")
+                .tag("entity", "TimeSlot")
+                .tag("method", "findAll")
+                .timer().count(), "expected repository call should be timed");
+    }
+
+    @Test
+    void testMapperCallShouldBeTimedByEntity() {
+        TimeSlotMapper timeSlotMapper = new TimeSlotMapper(new ModelMapper());
+        timeSlotMapper.setDirectMapping(true);
+        Mapper<TimeSlot, TimeSlotDTO> mapper = advise(timeSlotMapper);
+
+        mapper.toDto(new TimeSlot().setId(TIME_SLOT_ID));
+
+        assertEquals(1, meterRegistry.get(MetricsAspect.MAPPER_METRIC)
+                .tag("class", "TimeSlotMapper")
+                .tag("entity", "TimeSlot")
+                .tag("method", "toDto")
+                .timer().count(), "expected mapper call should be timed");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T advise(Object target) {
+        AspectJProxyFactory aspectJProxyFactory = new AspectJProxyFactory(target);
+        aspectJProxyFactory.addAspect(metricsAspect);
+        return (T) aspectJProxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,47 @@
+package ru.petrowich.university.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RingBufferTest {
+
+    @Test
+    void testGetLatestFirstShouldReturnAddedElementsInReverseOrder() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(3);
+        ringBuffer.add(1);
+        ringBuffer.add(2);
+
+        assertEquals(Arrays.asList(2, 1), ringBuffer.getLatestFirst(), "expected latest element should be first");
+    }
+
+    @Test
+    void testAddShouldOverwriteOldestElementWhenFull() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(3);
+
+        for (int i = 1; i <= 5; i++) {
+            ringBuffer.add(i);
+        }
+
+        assertEquals(Arrays.asList(5, 4, 3), ringBuffer.getLatestFirst(), "expected oldest elements should be overwritten");
+    }
+
+    @Test
+    void testClearShouldRemoveAllElements() {
+        RingBuffer<Integer> ringBuffer = new RingBuffer<>(3);
+        ringBuffer.add(1);
+
+        ringBuffer.clear();
+
+        assertEquals(Collections.emptyList(), ringBuffer.getLatestFirst(), "expected no elements should remain");
+    }
+
+    @Test
+    void testConstructorShouldThrowIllegalArgumentExceptionWhenCapacityIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(0));
+    }
+}
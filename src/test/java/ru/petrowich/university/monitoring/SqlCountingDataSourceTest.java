@@ -0,0 +1,125 @@
+package ru.petrowich.university.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SqlCountingDataSourceTest {
+    private EmbeddedDatabase embeddedDatabase;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        embeddedDatabase = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName("sql-counting")
+                .build();
+
+        jdbcTemplate = new JdbcTemplate(new SqlCountingDataSource(embeddedDatabase));
+        jdbcTemplate.execute("CREATE TABLE t_numbers (number_value INTEGER)");
+        jdbcTemplate.batchUpdate("INSERT INTO t_numbers (number_value) VALUES (?)",
+                Arrays.asList(new Object[]{1}, new Object[]{2}, new Object[]{3}));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.stop();
+        embeddedDatabase.shutdown();
+    }
+
+    @Test
+    void testStatementsAndRowsShouldBeCountedWhileCounterIsStarted() {
+        SqlStatistics sqlStatistics = SqlStatementCounter.start();
+
+        jdbcTemplate.queryForList("SELECT number_value FROM t_numbers", Integer.class);
+        jdbcTemplate.queryForObject("SELECT number_value FROM t_numbers WHERE number_value = ?", Integer.class, 2);
+        jdbcTemplate.update("UPDATE t_numbers SET number_value = number_value + 1");
+
+        assertEquals(3, sqlStatistics.getStatementCount(), "expected executed statements should be counted");
+        assertEquals(4, sqlStatistics.getRowCount(), "expected rows read should be counted");
+    }
+
+    @Test
+    void testStatementsShouldNotBeCountedWhenCounterIsStopped() {
+        SqlStatistics sqlStatistics = SqlStatementCounter.start();
+        SqlStatementCounter.stop();
+
+        jdbcTemplate.queryForList("SELECT number_value FROM t_numbers", Integer.class);
+
+        assertEquals(0, sqlStatistics.getStatementCount(), "expected no statements should be counted");
+        assertEquals(0, sqlStatistics.getRowCount(), "expected no rows should be counted");
+    }
+
+    @Test
+    void testUnwrapShouldReturnTargetConnection() throws Exception {
+        try (Connection connection = new SqlCountingDataSource(embeddedDatabase).getConnection()) {
+            assertTrue(Proxy.isProxyClass(connection.getClass()), "expected counting connection should be returned");
+            assertFalse(Proxy.isProxyClass(connection.unwrap(Connection.class).getClass()), "expected target connection should be unwrapped");
+        }
+    }
+
+    @Test
+    void testSlowQueryShouldBeRecordedWithBindValuesRowsAndServiceMethod() {
+        SlowOperationLog slowOperationLog = new SlowOperationLog(0, -1, 10);
+        JdbcTemplate slowJdbcTemplate = new JdbcTemplate(new SqlCountingDataSource(embeddedDatabase, () -> slowOperationLog));
+        SqlStatistics sqlStatistics = SqlStatementCounter.start();
+        String previousMethod = ServiceInvocation.enter("NumberServiceImpl.getGreaterThan");
+
+        try {
+            slowJdbcTemplate.queryForList("SELECT number_value FROM t_numbers WHERE number_value > ?", Integer.class, 1);
+        } finally {
+            ServiceInvocation.exit(previousMethod);
+        }
+
+        List<SlowQuery> slowQueries = slowOperationLog.getSlowQueries();
+
+        assertEquals(1, slowQueries.size(), "expected query over the threshold should be recorded");
+        assertEquals("SELECT number_value FROM t_numbers WHERE number_value > ?", slowQueries.get(0).getSql(), "expected sql should be recorded");
+        assertEquals(Collections.singletonList(Collections.singletonList("1")), slowQueries.get(0).getBindValues(),
+                "expected bind values should be recorded");
+        assertEquals(2, slowQueries.get(0).getRowCount(), "expected rows read should be recorded");
+        assertEquals("NumberServiceImpl.getGreaterThan", slowQueries.get(0).getServiceMethod(), "expected service method should be recorded");
+        assertEquals(1, sqlStatistics.getSlowStatementCount(), "expected slow statement should be counted");
+    }
+
+    @Test
+    void testSlowBatchShouldBeRecordedWithBindValuesOfEachExecution() {
+        SlowOperationLog slowOperationLog = new SlowOperationLog(0, -1, 10);
+        JdbcTemplate slowJdbcTemplate = new JdbcTemplate(new SqlCountingDataSource(embeddedDatabase, () -> slowOperationLog));
+
+        slowJdbcTemplate.batchUpdate("INSERT INTO t_numbers (number_value) VALUES (?)",
+                Arrays.asList(new Object[]{4}, new Object[]{5}));
+
+        List<SlowQuery> slowQueries = slowOperationLog.getSlowQueries();
+
+        assertEquals(1, slowQueries.size(), "expected batch over the threshold should be recorded");
+        assertEquals(2, slowQueries.get(0).getBatchSize(), "expected batch size should be recorded");
+        assertEquals(Arrays.asList(Collections.singletonList("4"), Collections.singletonList("5")), slowQueries.get(0).getBindValues(),
+                "expected bind values of each execution should be recorded");
+        assertEquals(2, slowQueries.get(0).getRowCount(), "expected updated rows should be recorded");
+    }
+
+    @Test
+    void testFastQueryShouldNotBeRecorded() {
+        SlowOperationLog slowOperationLog = new SlowOperationLog(60000, -1, 10);
+        JdbcTemplate slowJdbcTemplate = new JdbcTemplate(new SqlCountingDataSource(embeddedDatabase, () -> slowOperationLog));
+
+        slowJdbcTemplate.queryForList("SELECT number_value FROM t_numbers", Integer.class);
+
+        assertTrue(slowOperationLog.getSlowQueries().isEmpty(), "expected query under the threshold should not be recorded");
+    }
+}
@@ -0,0 +1,83 @@
+package ru.petrowich.university.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatisticsFilterTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SqlStatisticsRegistry sqlStatisticsRegistry = new SqlStatisticsRegistry(meterRegistry);
+    private final SlowOperationLog slowOperationLog = new SlowOperationLog(-1, 0, 10);
+    private final SqlStatisticsFilter sqlStatisticsFilter = new SqlStatisticsFilter(sqlStatisticsRegistry, slowOperationLog);
+
+    @Test
+    void testDoFilterShouldWriteHeadersAndRecordStatisticsOfEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students/group");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sqlStatisticsFilter.doFilter(request, response, (filterRequest, filterResponse) -> {
+            filterRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/students/group");
+            SqlStatementCounter.onStatement(1000L);
+            SqlStatementCounter.onRow();
+            SqlStatementCounter.onStatement(1000L);
+            filterResponse.getWriter().write("group");
+            SqlStatementCounter.onStatement(1000L);
+        });
+
+        SqlStatistics sqlStatistics = (SqlStatistics) request.getAttribute(SqlStatisticsFilter.STATISTICS_ATTRIBUTE);
+        List<EndpointSqlStatistics> endpoints = sqlStatisticsRegistry.getEndpoints();
+
+        assertEquals("2", response.getHeader(SqlStatisticsFilter.HEADER_STATEMENTS), "expected statements before the body should be reported");
+        assertEquals("1", response.getHeader(SqlStatisticsFilter.HEADER_ROWS), "expected rows before the body should be reported");
+        assertEquals(3, sqlStatistics.getStatementCount(), "expected all statements of the request should be counted");
+        assertEquals("GET /students/group", request.getAttribute(SqlStatisticsFilter.ENDPOINT_ATTRIBUTE), "expected endpoint should be resolved");
+        assertEquals(1, endpoints.size(), "expected one endpoint should be recorded");
+        assertEquals(1, endpoints.get(0).getRequestCount(), "expected one request should be recorded");
+        assertEquals(3, endpoints.get(0).getMaxStatementCount(), "expected max statements should be recorded");
+        assertEquals(3.0, meterRegistry.get(SqlStatisticsRegistry.STATEMENTS_METRIC).tag("endpoint", "GET /students/group").summary().totalAmount(),
+                "expected statements should be published as metric");
+    }
+
+    @Test
+    void testDoFilterShouldWriteHeadersWhenResponseHasNoBody() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/lessons/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        sqlStatisticsFilter.doFilter(request, response, (filterRequest, filterResponse) -> SqlStatementCounter.onStatement(1000L));
+
+        assertEquals("1", response.getHeader(SqlStatisticsFilter.HEADER_STATEMENTS), "expected statements should be reported");
+        assertEquals("DELETE unmapped", request.getAttribute(SqlStatisticsFilter.ENDPOINT_ATTRIBUTE), "expected unmapped endpoint should be recorded");
+    }
+
+    @Test
+    void testDoFilterShouldRecordSlowRequestWithHandler() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/students/group");
+        request.setQueryString("id=101");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handlerMethod = new HandlerMethod(this, getClass().getDeclaredMethod("testDoFilterShouldRecordSlowRequestWithHandler"));
+
+        sqlStatisticsFilter.doFilter(request, response, (filterRequest, filterResponse) -> {
+            filterRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/students/group");
+            filterRequest.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+            SqlStatementCounter.onStatement(1000L);
+            SqlStatementCounter.onSlowStatement();
+        });
+
+        List<SlowRequest> slowRequests = slowOperationLog.getSlowRequests();
+
+        assertEquals(1, slowRequests.size(), "expected request over the threshold should be recorded");
+        assertEquals("GET /students/group", slowRequests.get(0).getEndpoint(), "expected endpoint should be recorded");
+        assertEquals("/students/group?id=101", slowRequests.get(0).getUri(), "expected uri with query should be recorded");
+        assertEquals("SqlStatisticsFilterTest.testDoFilterShouldRecordSlowRequestWithHandler", slowRequests.get(0).getHandler(),
+                "expected controller handler should be recorded");
+        assertEquals(1, slowRequests.get(0).getStatementCount(), "expected statements should be recorded");
+        assertEquals(1, slowRequests.get(0).getSlowQueryCount(), "expected slow statements should be recorded");
+    }
+}
@@ -0,0 +1,155 @@
+package ru.petrowich.university.repository;
+
+import org.hibernate.Cache;
+import org.hibernate.collection.internal.PersistentBag;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.service.cache.SecondLevelCache;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Query;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CourseGroupsRepositoryImplTest {
+    private static final Integer COURSE_ID_51 = 51;
+    private static final Integer GROUP_ID_502 = 502;
+    private static final Integer GROUP_ID_503 = 503;
+
+    private final Course course = new Course().setId(COURSE_ID_51);
+    private final Group secondGroup = new Group().setId(GROUP_ID_502);
+    private final Group thirdGroup = new Group().setId(GROUP_ID_503);
+
+    private AutoCloseable autoCloseable;
+
+    @Mock
+    private EntityManager mockEntityManager;
+
+    @Mock
+    private EntityManagerFactory mockEntityManagerFactory;
+
+    @Mock
+    private javax.persistence.Cache mockJpaCache;
+
+    @Mock
+    private Cache mockCache;
+
+    @Mock
+    private Query mockQuery;
+
+    @Mock(answer = Answers.RETURNS_SELF)
+    private NativeQuery<?> mockNativeQuery;
+
+    @InjectMocks
+    private CourseGroupsRepositoryImpl courseGroupsRepositoryImpl;
+
+    @BeforeEach
+    private void setUp() {
+        autoCloseable = MockitoAnnotations.openMocks(this);
+
+        when(mockEntityManager.createNativeQuery(anyString())).thenReturn(mockQuery);
+        when(mockQuery.unwrap(NativeQuery.class)).thenReturn(mockNativeQuery);
+        when(mockEntityManager.getEntityManagerFactory()).thenReturn(mockEntityManagerFactory);
+        when(mockEntityManagerFactory.getCache()).thenReturn(mockJpaCache);
+        when(mockJpaCache.unwrap(Cache.class)).thenReturn(mockCache);
+        when(mockEntityManager.getReference(Course.class, COURSE_ID_51)).thenReturn(course);
+        when(mockEntityManager.getReference(Group.class, GROUP_ID_502)).thenReturn(secondGroup);
+        when(mockEntityManager.getReference(Group.class, GROUP_ID_503)).thenReturn(thirdGroup);
+    }
+
+    @AfterEach
+    public void releaseMocks() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testInsertCourseGroupsShouldEvictCachedCollectionsAndDetachEntitiesWithLoadedAssignments() {
+        when(mockNativeQuery.executeUpdate()).thenReturn(2);
+
+        int actual = courseGroupsRepositoryImpl.insertCourseGroups(COURSE_ID_51, Arrays.asList(GROUP_ID_502, GROUP_ID_503));
+
+        assertEquals(2, actual);
+        verify(mockCache, times(1)).evictCollectionData(SecondLevelCache.COURSE_GROUPS_ROLE, COURSE_ID_51);
+        verify(mockCache, times(1)).evictCollectionData(SecondLevelCache.GROUP_COURSES_ROLE, GROUP_ID_502);
+        verify(mockCache, times(1)).evictCollectionData(SecondLevelCache.GROUP_COURSES_ROLE, GROUP_ID_503);
+        verify(mockEntityManager, times(1)).flush();
+        verify(mockEntityManager, times(1)).detach(course);
+        verify(mockEntityManager, times(1)).detach(secondGroup);
+        verify(mockEntityManager, times(1)).detach(thirdGroup);
+        verify(mockEntityManager, never()).refresh(any());
+    }
+
+    @Test
+    void testDeleteCourseGroupsShouldEvictCachedCollectionsAndDetachEntitiesWithLoadedAssignments() {
+        when(mockNativeQuery.executeUpdate()).thenReturn(1);
+
+        int actual = courseGroupsRepositoryImpl.deleteCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_502));
+
+        assertEquals(1, actual);
+        verify(mockCache, times(1)).evictCollectionData(SecondLevelCache.COURSE_GROUPS_ROLE, COURSE_ID_51);
+        verify(mockCache, times(1)).evictCollectionData(SecondLevelCache.GROUP_COURSES_ROLE, GROUP_ID_502);
+        verify(mockEntityManager, times(1)).detach(course);
+        verify(mockEntityManager, times(1)).detach(secondGroup);
+        verify(mockEntityManager, never()).refresh(any());
+    }
+
+    @Test
+    void testInsertCourseGroupsShouldEvictCachedCollectionsAgainAfterTransactionCompletion() {
+        when(mockNativeQuery.executeUpdate()).thenReturn(1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            courseGroupsRepositoryImpl.insertCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_502));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(mockCache, times(2)).evictCollectionData(SecondLevelCache.COURSE_GROUPS_ROLE, COURSE_ID_51);
+        verify(mockCache, times(2)).evictCollectionData(SecondLevelCache.GROUP_COURSES_ROLE, GROUP_ID_502);
+    }
+
+    @Test
+    void testInsertCourseGroupsShouldNotDetachEntitiesWithoutLoadedAssignments() {
+        course.setGroups(new PersistentBag());
+        secondGroup.setCourses(new PersistentBag());
+        when(mockNativeQuery.executeUpdate()).thenReturn(1);
+
+        int actual = courseGroupsRepositoryImpl.insertCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_502));
+
+        assertEquals(1, actual);
+        verify(mockCache, times(1)).evictCollectionData(SecondLevelCache.COURSE_GROUPS_ROLE, COURSE_ID_51);
+        verify(mockCache, times(1)).evictCollectionData(SecondLevelCache.GROUP_COURSES_ROLE, GROUP_ID_502);
+        verify(mockEntityManager, never()).flush();
+        verify(mockEntityManager, never()).detach(any());
+    }
+
+    @Test
+    void testInsertCourseGroupsShouldNotTouchCacheWhenNoGroupIdsPassed() {
+        int actual = courseGroupsRepositoryImpl.insertCourseGroups(COURSE_ID_51, Collections.emptyList());
+
+        assertEquals(0, actual);
+        verify(mockEntityManager, never()).createNativeQuery(anyString());
+        verify(mockEntityManager, never()).getEntityManagerFactory();
+    }
+}
@@ -10,13 +10,20 @@ import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.repository.CourseRepository;
+import ru.petrowich.university.repository.GroupRepository;
+import ru.petrowich.university.repository.projection.CourseGroupIds;
 
 import javax.transaction.Transactional;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -50,10 +57,15 @@ class CourseRepositoryImplTest {
     private static final String EXISTENT_COURSE_DESCRIPTION_56 = "sport";
     private static final Integer EXISTENT_GROUP_ID_501 = 501;
     private static final Integer EXISTENT_GROUP_ID_502 = 502;
+    private static final Integer EXISTENT_GROUP_ID_503 = 503;
+    private static final Integer NONEXISTENT_GROUP_ID = 999;
 
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private GroupRepository groupRepository;
+
     @Test
     @Sql(POPULATE_DB_SQL)
     void testFindByIdShouldReturnExistentCourse() {
@@ -176,4 +188,90 @@ class CourseRepositoryImplTest {
         List<Course> actual = courseRepository.findAll();
         assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
     }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindAllCourseGroupIdsShouldReturnAllCourseGroupPairs() {
+        List<String> actual = courseRepository.findAllCourseGroupIds().stream()
+                .map(courseGroupIds -> courseGroupIds.getCourseId() + ":" + courseGroupIds.getGroupId())
+                .collect(Collectors.toList());
+
+        assertThat(actual).containsExactlyInAnyOrder("51:501", "52:501", "54:501", "51:502", "53:502", "54:502", "55:502", "56:503");
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testCountAttendeesOfCoursesShouldReturnNumberOfStudentsOfCourseGroups() {
+        List<String> actual = courseRepository.countAttendeesOfCourses().stream()
+                .map(courseAttendees -> courseAttendees.getCourseId() + ":" + courseAttendees.getNumberOfAttendees())
+                .collect(Collectors.toList());
+
+        assertThat(actual).containsExactlyInAnyOrder("51:3", "52:2", "53:1", "54:3", "55:1");
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testCountAttendeesOfCoursesByIdInShouldReturnNumberOfStudentsOfPassedCoursesOnly() {
+        List<String> actual = courseRepository.countAttendeesOfCoursesByIdIn(Arrays.asList(EXISTENT_COURSE_ID_51, EXISTENT_COURSE_ID_53, EXISTENT_COURSE_ID_56)).stream()
+                .map(courseAttendees -> courseAttendees.getCourseId() + ":" + courseAttendees.getNumberOfAttendees())
+                .collect(Collectors.toList());
+
+        assertThat(actual).containsExactlyInAnyOrder("51:3", "53:1");
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testInsertCourseGroupsShouldNotReturnStaleGroupsOfLoadedCourse() {
+        Course course = courseRepository.findById(EXISTENT_COURSE_ID_51).get();
+        assertThat(course.getGroups()).hasSize(2);
+
+        courseRepository.insertCourseGroups(EXISTENT_COURSE_ID_51, Collections.singleton(EXISTENT_GROUP_ID_503));
+
+        List<Integer> actual = courseRepository.findById(EXISTENT_COURSE_ID_51).get().getGroups().stream()
+                .map(Group::getId)
+                .collect(Collectors.toList());
+        assertThat(actual).containsExactlyInAnyOrder(EXISTENT_GROUP_ID_501, EXISTENT_GROUP_ID_502, EXISTENT_GROUP_ID_503);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testDeleteCourseGroupsShouldNotReturnStaleCoursesOfLoadedGroup() {
+        Group group = groupRepository.findById(EXISTENT_GROUP_ID_502).get();
+        assertThat(group.getCourses()).hasSize(4);
+
+        courseRepository.deleteCourseGroups(EXISTENT_COURSE_ID_51, Collections.singleton(EXISTENT_GROUP_ID_502));
+
+        List<Integer> actual = groupRepository.findById(EXISTENT_GROUP_ID_502).get().getCourses().stream()
+                .map(Course::getId)
+                .collect(Collectors.toList());
+        assertThat(actual).containsExactlyInAnyOrder(EXISTENT_COURSE_ID_53, EXISTENT_COURSE_ID_54, EXISTENT_COURSE_ID_55);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testInsertCourseGroupsShouldSkipAssignedAndNonexistentGroups() {
+        int actual = courseRepository.insertCourseGroups(EXISTENT_COURSE_ID_51, Arrays.asList(EXISTENT_GROUP_ID_501, EXISTENT_GROUP_ID_503, NONEXISTENT_GROUP_ID));
+
+        assertEquals(1, actual, "only the unassigned existing group should be inserted");
+        assertThat(courseRepository.findGroupsByCourseId(EXISTENT_COURSE_ID_51)).extracting(Group::getId)
+                .containsExactly(EXISTENT_GROUP_ID_501, EXISTENT_GROUP_ID_502, EXISTENT_GROUP_ID_503);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindIdsByIdInShouldReturnExistingIdsOnly() {
+        Set<Integer> actual = courseRepository.findIdsByIdIn(Arrays.asList(EXISTENT_COURSE_ID_51, EXISTENT_COURSE_ID_56, NONEXISTENT_COURSE_ID));
+
+        assertThat(actual).containsExactlyInAnyOrder(EXISTENT_COURSE_ID_51, EXISTENT_COURSE_ID_56);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindCourseGroupIdsByCourseIdInShouldReturnCourseGroupPairsOfPassedCourses() {
+        List<String> actual = courseRepository.findCourseGroupIdsByCourseIdIn(Arrays.asList(EXISTENT_COURSE_ID_51, EXISTENT_COURSE_ID_56)).stream()
+                .map(courseGroupIds -> courseGroupIds.getCourseId() + ":" + courseGroupIds.getGroupId())
+                .collect(Collectors.toList());
+
+        assertThat(actual).containsExactlyInAnyOrder("51:501", "51:502", "56:503");
+    }
 }
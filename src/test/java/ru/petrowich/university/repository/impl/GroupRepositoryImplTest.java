@@ -4,23 +4,28 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Student;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.repository.GroupRepository;
+import ru.petrowich.university.repository.projection.GroupListItem;
 
 import javax.transaction.Transactional;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -157,4 +162,25 @@ class GroupRepositoryImplTest {
         List<Group> actual = groupRepository.findAll();
         assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
     }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindListItemsAfterShouldReturnFollowingGroupsWithNumbersOfCoursesAndStudents() {
+        List<GroupListItem> actual = groupRepository.findListItemsAfter(EXISTENT_GROUP_ID_501, PageRequest.of(0, 1));
+
+        assertEquals(1, actual.size(), "one list item should be returned");
+        assertEquals(EXISTENT_GROUP_ID_502, actual.get(0).getId());
+        assertEquals(EXISTENT_GROUP_NAME_502, actual.get(0).getName());
+        assertEquals(4, actual.get(0).getNumberOfAssignedCourses());
+        assertEquals(1, actual.get(0).getNumberOfStudents());
+        assertTrue(actual.get(0).isActive());
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindIdsByIdInShouldReturnExistingIdsOnly() {
+        Set<Integer> actual = groupRepository.findIdsByIdIn(Arrays.asList(EXISTENT_GROUP_ID_501, EXISTENT_GROUP_ID_503, NONEXISTENT_GROUP_ID));
+
+        assertThat(actual).containsExactlyInAnyOrder(EXISTENT_GROUP_ID_501, EXISTENT_GROUP_ID_503);
+    }
 }
@@ -1,8 +1,10 @@
 package ru.petrowich.university.repository.impl;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
@@ -13,13 +15,20 @@ import ru.petrowich.university.model.Lesson;
 import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.model.TimeSlot;
 import ru.petrowich.university.repository.LessonRepository;
+import ru.petrowich.university.repository.projection.LessonAttendees;
+import ru.petrowich.university.repository.projection.LessonListItem;
+import ru.petrowich.university.repository.projection.LessonSchedule;
 
 import javax.transaction.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,6 +65,9 @@ class LessonRepositoryImplTest {
     private static final Integer TIME_SLOT_ID_2 = 2;
     private static final Integer TIME_SLOT_ID_3 = 3;
     private static final Integer TIME_SLOT_ID_4 = 4;
+    private static final LocalDate JUNE_FIRST = LocalDate.of(2020, 6, 1);
+    private static final LocalDate JUNE_LAST = LocalDate.of(2020, 6, 30);
+    private static final LocalDate JULY_LAST = LocalDate.of(2020, 7, 31);
     private static final LocalDate NEW_LESSON_DATE = LocalDate.of(2019, 7, 25);
     private static final LocalTime NEW_LESSON_START_TIME = LocalTime.of(13, 20);
     private static final LocalTime NEW_LESSON_END_TIME = LocalTime.of(14, 50);
@@ -211,4 +223,150 @@ class LessonRepositoryImplTest {
         List<Lesson> actual = lessonRepository.findAll();
         assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
     }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindAllWithScheduleShouldReturnAllLessons() {
+        List<Lesson> expected = lessonRepository.findAll();
+
+        List<Lesson> actual = lessonRepository.findAllWithSchedule();
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+        actual.forEach(lesson -> assertFalse(Hibernate.isInitialized(lesson.getCourse().getGroups())));
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testCountAttendeesByLessonIdInShouldReturnNumbersOfStudentsOfCourseGroups() {
+        List<Long> lessonIds = new ArrayList<>();
+        lessonIds.add(EXISTENT_LESSON_ID_5000001);
+        lessonIds.add(EXISTENT_LESSON_ID_5000002);
+        lessonIds.add(EXISTENT_LESSON_ID_5000003);
+        lessonIds.add(EXISTENT_LESSON_ID_5000004);
+
+        Map<Long, Long> actual = lessonRepository.countAttendeesByLessonIdIn(lessonIds).stream()
+                .collect(Collectors.toMap(LessonAttendees::getLessonId, LessonAttendees::getNumberOfAttendees));
+
+        assertThat(actual)
+                .containsEntry(EXISTENT_LESSON_ID_5000001, 3L)
+                .containsEntry(EXISTENT_LESSON_ID_5000002, 2L)
+                .containsEntry(EXISTENT_LESSON_ID_5000003, 1L)
+                .doesNotContainKey(EXISTENT_LESSON_ID_5000004)
+                .hasSize(3);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindPageShouldReturnFirstLessonsOrderedByDateStartTimeAndId() {
+        List<Long> actual = lessonRepository.findPage(PageRequest.of(0, 2)).stream()
+                .map(Lesson::getId)
+                .collect(Collectors.toList());
+
+        assertThat(actual).containsExactly(EXISTENT_LESSON_ID_5000001, EXISTENT_LESSON_ID_5000002);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindPageAfterShouldReturnLessonsFollowingPassedKeys() {
+        List<Long> actual = lessonRepository.findPageAfter(EXISTENT_LESSON_DATE_5000002, EXISTENT_LESSON_START_TIME_5000002,
+                EXISTENT_LESSON_ID_5000002, PageRequest.of(0, 2)).stream()
+                .map(Lesson::getId)
+                .collect(Collectors.toList());
+
+        assertThat(actual).containsExactly(EXISTENT_LESSON_ID_5000005, EXISTENT_LESSON_ID_5000003);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindPageAfterShouldReturnEmptyListWhenKeysOfLastLessonPassed() {
+        List<Lesson> actual = lessonRepository.findPageAfter(EXISTENT_LESSON_DATE_5000004, EXISTENT_LESSON_START_TIME_5000004,
+                EXISTENT_LESSON_ID_5000004, PageRequest.of(0, 2));
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindByDateBetweenShouldReturnLessonsOfDateRangeOrderedByDateAndStartTime() {
+        List<Long> actual = lessonIds(lessonRepository.findByDateBetween(JUNE_FIRST, JUNE_LAST));
+
+        assertThat(actual).containsExactly(EXISTENT_LESSON_ID_5000001, EXISTENT_LESSON_ID_5000002,
+                EXISTENT_LESSON_ID_5000005, EXISTENT_LESSON_ID_5000003);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindByLecturerIdAndDateBetweenShouldReturnLessonsOfLecturerInDateRange() {
+        List<Long> actual = lessonIds(lessonRepository.findByLecturerIdAndDateBetween(EXISTENT_PERSON_ID_50005, JUNE_FIRST, JUNE_LAST));
+
+        assertThat(actual).containsExactly(EXISTENT_LESSON_ID_5000001, EXISTENT_LESSON_ID_5000002, EXISTENT_LESSON_ID_5000003);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindByCourseIdAndDateBetweenShouldReturnLessonsOfCourseInDateRange() {
+        List<Long> actual = lessonIds(lessonRepository.findByCourseIdAndDateBetween(EXISTENT_COURSE_ID_56, JUNE_FIRST, JULY_LAST));
+
+        assertThat(actual).containsExactly(EXISTENT_LESSON_ID_5000004);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindByGroupIdAndDateBetweenShouldReturnLessonsOfGroupCoursesInDateRange() {
+        List<Long> actual = lessonIds(lessonRepository.findByGroupIdAndDateBetween(EXISTENT_GROUP_ID_502, JUNE_FIRST, JUNE_LAST));
+
+        assertThat(actual).containsExactly(EXISTENT_LESSON_ID_5000001, EXISTENT_LESSON_ID_5000005, EXISTENT_LESSON_ID_5000003);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindByStudentIdAndDateBetweenShouldReturnLessonsOfStudentGroupCoursesInDateRange() {
+        List<Long> actual = lessonIds(lessonRepository.findByStudentIdAndDateBetween(EXISTENT_PERSON_ID_50001, JUNE_FIRST, JULY_LAST));
+
+        assertThat(actual).containsExactly(EXISTENT_LESSON_ID_5000001, EXISTENT_LESSON_ID_5000002);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindByIdInShouldReturnPassedLessonsOrderedByDateAndStartTime() {
+        List<Long> actual = lessonIds(lessonRepository.findByIdIn(Arrays.asList(EXISTENT_LESSON_ID_5000003,
+                EXISTENT_LESSON_ID_5000001, EXISTENT_LESSON_ID_5000005)));
+
+        assertThat(actual).containsExactly(EXISTENT_LESSON_ID_5000001, EXISTENT_LESSON_ID_5000005, EXISTENT_LESSON_ID_5000003);
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testFindScheduleFromShouldReturnScheduleOfLessonsFromPassedDate() {
+        List<LessonSchedule> actual = lessonRepository.findScheduleFrom(EXISTENT_LESSON_DATE_5000004);
+
+        assertThat(actual).hasSize(1);
+        LessonSchedule lessonSchedule = actual.get(0);
+        assertThat(lessonSchedule.getLessonId()).isEqualTo(EXISTENT_LESSON_ID_5000004);
+        assertThat(lessonSchedule.getLecturerId()).isEqualTo(EXISTENT_PERSON_ID_50005);
+        assertThat(lessonSchedule.getCourseId()).isEqualTo(EXISTENT_COURSE_ID_56);
+        assertThat(lessonSchedule.getDate()).isEqualTo(EXISTENT_LESSON_DATE_5000004);
+        assertThat(lessonSchedule.getStartTime()).isEqualTo(EXISTENT_LESSON_START_TIME_5000004);
+        assertThat(lessonSchedule.getEndTime()).isEqualTo(EXISTENT_LESSON_END_TIME_5000004);
+    }
+
+    private List<Long> lessonIds(List<Lesson> lessons) {
+        return lessons.stream()
+                .map(Lesson::getId)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @Sql(POPULATE_DB_SQL)
+    void testStreamListItemsShouldReturnAllLessonsOrderedByDateStartTimeAndId() {
+        List<LessonListItem> actual;
+
+        try (Stream<LessonListItem> listItems = lessonRepository.streamListItems()) {
+            actual = listItems.collect(Collectors.toList());
+        }
+
+        assertThat(actual).extracting(LessonListItem::getId).containsExactly(EXISTENT_LESSON_ID_5000001,
+                EXISTENT_LESSON_ID_5000002, EXISTENT_LESSON_ID_5000005, EXISTENT_LESSON_ID_5000003, EXISTENT_LESSON_ID_5000004);
+        assertNull(actual.get(4).getTimeSlotId());
+    }
 }
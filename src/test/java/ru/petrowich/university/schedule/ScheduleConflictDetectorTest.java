@@ -0,0 +1,466 @@
+package ru.petrowich.university.schedule;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Group;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.repository.CourseRepository;
+import ru.petrowich.university.repository.LessonRepository;
+import ru.petrowich.university.repository.TimeSlotRepository;
+import ru.petrowich.university.repository.projection.CourseGroupIds;
+import ru.petrowich.university.repository.projection.LessonSchedule;
+
+import javax.validation.ConstraintViolationException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ScheduleConflictDetectorTest {
+    private static final Long LESSON_ID_5000001 = 5000001L;
+    private static final Long LESSON_ID_5000002 = 5000002L;
+    private static final Long LESSON_ID_5000003 = 5000003L;
+    private static final Integer PERSON_ID_50005 = 50005;
+    private static final Integer PERSON_ID_50006 = 50006;
+    private static final Integer COURSE_ID_51 = 51;
+    private static final Integer COURSE_ID_52 = 52;
+    private static final Integer COURSE_ID_53 = 53;
+    private static final Integer GROUP_ID_501 = 501;
+    private static final LocalDate LESSON_DATE = LocalDate.of(2025, 12, 31);
+    private static final LocalTime FIRST_LESSON_START_TIME = LocalTime.of(8, 0);
+    private static final LocalTime FIRST_LESSON_END_TIME = LocalTime.of(9, 30);
+    private static final LocalTime SECOND_LESSON_START_TIME = LocalTime.of(9, 40);
+    private static final LocalTime SECOND_LESSON_END_TIME = LocalTime.of(11, 10);
+    private static final LocalDate NEXT_DATE = LocalDate.now().plusDays(1);
+
+    private final Lecturer firstLecturer = new Lecturer().setId(PERSON_ID_50005);
+    private final Lecturer secondLecturer = new Lecturer().setId(PERSON_ID_50006);
+    private final Group group = new Group().setId(GROUP_ID_501);
+    private final Course firstCourse = new Course().setId(COURSE_ID_51).setGroups(new ArrayList<>(Collections.singletonList(group)));
+    private final Course secondCourse = new Course().setId(COURSE_ID_52).setGroups(new ArrayList<>(Collections.singletonList(group)));
+    private final TimeSlot firstTimeSlot = new TimeSlot().setId(1).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME);
+    private final TimeSlot secondTimeSlot = new TimeSlot().setId(2).setStartTime(SECOND_LESSON_START_TIME).setEndTime(SECOND_LESSON_END_TIME);
+
+    private AutoCloseable autoCloseable;
+
+    @Mock
+    private LessonRepository mockLessonRepository;
+
+    @Mock
+    private CourseRepository mockCourseRepository;
+
+    @Mock
+    private TimeSlotRepository mockTimeSlotRepository;
+
+    @InjectMocks
+    private ScheduleConflictDetector scheduleConflictDetector;
+
+    @BeforeEach
+    private void setUp() {
+        autoCloseable = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    public void releaseMocks() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testCheckShouldThrowConstraintViolationExceptionWhenLecturerIsBusy() {
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+
+        Lesson lesson = new Lesson().setLecturer(firstLecturer).setCourse(new Course())
+                .setDate(LESSON_DATE).setStartTime(LocalTime.of(9, 0)).setEndTime(LocalTime.of(10, 30));
+
+        assertThrows(ConstraintViolationException.class, () -> scheduleConflictDetector.check(lesson), "overlapping lesson of the lecturer should be rejected");
+    }
+
+    @Test
+    void testCheckShouldThrowConstraintViolationExceptionWhenGroupIsBusy() {
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(firstCourse));
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(secondCourse));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+
+        Lesson lesson = new Lesson().setLecturer(secondLecturer).setCourse(secondCourse)
+                .setDate(LESSON_DATE).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME);
+
+        assertThrows(ConstraintViolationException.class, () -> scheduleConflictDetector.check(lesson), "overlapping lesson of the group should be rejected");
+    }
+
+    @Test
+    void testCheckShouldPassLessonStartingWhenAnotherEnds() {
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(firstCourse));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+
+        Lesson lesson = new Lesson().setLecturer(firstLecturer).setCourse(firstCourse)
+                .setDate(LESSON_DATE).setStartTime(FIRST_LESSON_END_TIME).setEndTime(SECOND_LESSON_END_TIME);
+
+        assertDoesNotThrow(() -> scheduleConflictDetector.check(lesson));
+    }
+
+    @Test
+    void testCheckShouldPassUpdatedLessonOverlappingItsPreviousTime() {
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+
+        Lesson lesson = firstLesson().setEndTime(LocalTime.of(10, 0));
+
+        assertDoesNotThrow(() -> scheduleConflictDetector.check(lesson));
+    }
+
+    @Test
+    void testCheckAllShouldThrowConstraintViolationExceptionWhenPassedLessonsOverlap() {
+        List<Lesson> lessons = new ArrayList<>();
+        lessons.add(firstLesson().setId(null));
+        lessons.add(firstLesson().setId(null).setStartTime(LocalTime.of(9, 0)).setEndTime(LocalTime.of(10, 0)));
+
+        assertThrows(ConstraintViolationException.class, () -> scheduleConflictDetector.checkAll(lessons), "overlapping lessons of the batch should be rejected");
+    }
+
+    @Test
+    void testFindConflictsShouldReportConflictOfEveryLessonWithoutIndexingRejectedOnes() {
+        List<Lesson> lessons = new ArrayList<>();
+        lessons.add(firstLesson().setId(null));
+        lessons.add(firstLesson().setId(null).setStartTime(LocalTime.of(9, 0)).setEndTime(LocalTime.of(10, 0)));
+        lessons.add(firstLesson().setId(null).setStartTime(SECOND_LESSON_START_TIME).setEndTime(SECOND_LESSON_END_TIME));
+
+        List<String> actual = scheduleConflictDetector.findConflicts(lessons);
+
+        assertEquals(3, actual.size(), "a conflict or null should be returned for every lesson");
+        assertNull(actual.get(0), "first lesson should pass");
+        assertNotNull(actual.get(1), "lesson overlapping the first one should be rejected");
+        assertNull(actual.get(2), "lesson overlapping only the rejected one should pass");
+    }
+
+    @Test
+    void testFindConflictsShouldReportConflictWithLessonAcceptedInPreviousCallOfSameBatch() {
+        ConflictBatch conflictBatch = scheduleConflictDetector.startBatch();
+
+        List<String> firstCall = scheduleConflictDetector.findConflicts(Collections.singletonList(firstLesson().setId(null)), conflictBatch);
+        List<String> secondCall = scheduleConflictDetector.findConflicts(Collections.singletonList(firstLesson().setId(null)
+                .setStartTime(LocalTime.of(9, 0)).setEndTime(LocalTime.of(10, 0))), conflictBatch);
+        List<String> anotherBatch = scheduleConflictDetector.findConflicts(Collections.singletonList(firstLesson().setId(null)));
+
+        assertNull(firstCall.get(0), "first lesson should pass");
+        assertNotNull(secondCall.get(0), "lesson overlapping the one accepted in the same batch should be rejected");
+        assertNull(anotherBatch.get(0), "lessons of another batch should not be taken into account");
+    }
+
+    @Test
+    void testCheckShouldPassLessonAfterConflictingLessonIsDeleted() {
+        Lesson firstLesson = firstLesson();
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson));
+        scheduleConflictDetector.onLessonDeleted(new LessonDeletedEvent(firstLesson));
+
+        Lesson lesson = firstLesson().setId(LESSON_ID_5000002);
+
+        assertDoesNotThrow(() -> scheduleConflictDetector.check(lesson));
+    }
+
+    @Test
+    void testCheckShouldPassLessonWhenGroupIsRemovedFromCourse() {
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(firstCourse));
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(secondCourse));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(new Course().setId(COURSE_ID_51)));
+
+        Lesson lesson = new Lesson().setLecturer(secondLecturer).setCourse(secondCourse)
+                .setDate(LESSON_DATE).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME);
+
+        assertDoesNotThrow(() -> scheduleConflictDetector.check(lesson));
+    }
+
+    @Test
+    void testCheckShouldThrowConstraintViolationExceptionWhenCourseIsAssignedToGroup() {
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+        scheduleConflictDetector.onGroupCoursesChanged(new GroupCoursesChangedEvent(new Group().setId(GROUP_ID_501)
+                .setCourses(new ArrayList<>(Collections.singletonList(firstCourse)))));
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(secondCourse));
+
+        Lesson lesson = new Lesson().setLecturer(secondLecturer).setCourse(secondCourse)
+                .setDate(LESSON_DATE).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME);
+
+        assertThrows(ConstraintViolationException.class, () -> scheduleConflictDetector.check(lesson), "overlapping lesson of the group should be rejected");
+    }
+
+    @Test
+    void testCheckShouldThrowConstraintViolationExceptionWhenEarlierLessonOverlapsThoughNearestOneDoesNot() {
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson().setCourse(new Course()).setEndTime(SECOND_LESSON_END_TIME)));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson().setId(LESSON_ID_5000002).setCourse(new Course())
+                .setStartTime(LocalTime.of(8, 30)).setEndTime(LocalTime.of(9, 0))));
+
+        Lesson lesson = new Lesson().setLecturer(firstLecturer).setCourse(new Course())
+                .setDate(LESSON_DATE).setStartTime(LocalTime.of(10, 0)).setEndTime(LocalTime.of(10, 30));
+
+        assertThrows(ConstraintViolationException.class, () -> scheduleConflictDetector.check(lesson), "lesson overlapping an earlier longer lesson should be rejected");
+    }
+
+    @Test
+    void testCheckShouldThrowConstraintViolationExceptionWhenLessonOverlapsLessonCheckedInUncommittedTransaction() {
+        Lesson lesson = firstLesson().setId(null).setStartTime(LocalTime.of(9, 0)).setEndTime(LocalTime.of(10, 0));
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            scheduleConflictDetector.check(firstLesson().setId(null));
+
+            assertThrows(ConstraintViolationException.class, () -> scheduleConflictDetector.check(lesson), "lesson overlapping a lesson being saved should be rejected");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            assertDoesNotThrow(() -> scheduleConflictDetector.check(lesson));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testCheckCourseGroupsShouldThrowConstraintViolationExceptionWhenLessonsOfCourseOverlapLessonsOfGroup() {
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(firstCourse));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(new Lesson().setId(LESSON_ID_5000002).setLecturer(secondLecturer)
+                .setCourse(new Course().setId(COURSE_ID_52)).setDate(LESSON_DATE).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME)));
+
+        List<Integer> groupIds = Collections.singletonList(GROUP_ID_501);
+
+        assertThrows(ConstraintViolationException.class, () -> scheduleConflictDetector.checkCourseGroups(COURSE_ID_52, groupIds), "assignment of busy group should be rejected");
+    }
+
+    @Test
+    void testCheckCourseGroupsShouldPassGroupWhenLessonsOfCourseDoNotOverlapLessonsOfGroup() {
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(firstCourse));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(new Lesson().setId(LESSON_ID_5000002).setLecturer(secondLecturer)
+                .setCourse(new Course().setId(COURSE_ID_52)).setDate(LESSON_DATE).setStartTime(SECOND_LESSON_START_TIME).setEndTime(SECOND_LESSON_END_TIME)));
+
+        List<Integer> groupIds = Collections.singletonList(GROUP_ID_501);
+
+        assertDoesNotThrow(() -> scheduleConflictDetector.checkCourseGroups(COURSE_ID_52, groupIds));
+    }
+
+    @Test
+    void testFindCourseGroupConflictsShouldReportConflictWithAssignmentAcceptedInSameBatch() {
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(new Lesson().setId(LESSON_ID_5000002).setLecturer(secondLecturer)
+                .setCourse(new Course().setId(COURSE_ID_52)).setDate(LESSON_DATE).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME)));
+
+        ConflictBatch conflictBatch = scheduleConflictDetector.startBatch();
+        List<Integer> groupIds = Collections.singletonList(GROUP_ID_501);
+
+        assertNull(scheduleConflictDetector.findCourseGroupConflicts(COURSE_ID_51, groupIds, conflictBatch).get(0));
+        assertNotNull(scheduleConflictDetector.findCourseGroupConflicts(COURSE_ID_52, groupIds, conflictBatch).get(0));
+    }
+
+    @Test
+    void testFindConflictsShouldRejectLessonOverlappingLessonOfConcurrentBatch() throws Exception {
+        BooleanSupplier importLesson = () -> scheduleConflictDetector.findConflicts(Collections.singletonList(firstLesson().setId(null)),
+                scheduleConflictDetector.startBatch()).get(0) == null;
+
+        List<Boolean> actual = runInConcurrentTransactions(importLesson, importLesson);
+
+        assertEquals(1, actual.stream().filter(Boolean::booleanValue).count(), "only one of overlapping lessons should pass");
+    }
+
+    @Test
+    void testCheckCourseGroupsShouldRejectAssignmentOverlappingConcurrentAssignment() throws Exception {
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(new Lesson().setId(LESSON_ID_5000002).setLecturer(firstLecturer)
+                .setCourse(new Course().setId(COURSE_ID_52)).setDate(LESSON_DATE).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME)));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(new Lesson().setId(LESSON_ID_5000003).setLecturer(secondLecturer)
+                .setCourse(new Course().setId(COURSE_ID_53)).setDate(LESSON_DATE).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME)));
+
+        List<Integer> groupIds = Collections.singletonList(GROUP_ID_501);
+
+        List<Boolean> actual = runInConcurrentTransactions(
+                () -> isAssignable(COURSE_ID_52, groupIds),
+                () -> isAssignable(COURSE_ID_53, groupIds));
+
+        assertEquals(1, actual.stream().filter(Boolean::booleanValue).count(), "only one of overlapping assignments should pass");
+    }
+
+    @Test
+    void testRebuildShouldIndexLessonsAndCourseGroupsOfRepositories() {
+        LessonSchedule lessonSchedule = mock(LessonSchedule.class);
+        when(lessonSchedule.getLessonId()).thenReturn(LESSON_ID_5000001);
+        when(lessonSchedule.getLecturerId()).thenReturn(PERSON_ID_50005);
+        when(lessonSchedule.getCourseId()).thenReturn(COURSE_ID_51);
+        when(lessonSchedule.getDate()).thenReturn(LESSON_DATE);
+        when(lessonSchedule.getStartTime()).thenReturn(FIRST_LESSON_START_TIME);
+        when(lessonSchedule.getEndTime()).thenReturn(FIRST_LESSON_END_TIME);
+
+        CourseGroupIds firstCourseGroupIds = mock(CourseGroupIds.class);
+        when(firstCourseGroupIds.getCourseId()).thenReturn(COURSE_ID_51);
+        when(firstCourseGroupIds.getGroupId()).thenReturn(GROUP_ID_501);
+
+        CourseGroupIds secondCourseGroupIds = mock(CourseGroupIds.class);
+        when(secondCourseGroupIds.getCourseId()).thenReturn(COURSE_ID_52);
+        when(secondCourseGroupIds.getGroupId()).thenReturn(GROUP_ID_501);
+
+        List<CourseGroupIds> courseGroupIds = new ArrayList<>();
+        courseGroupIds.add(firstCourseGroupIds);
+        courseGroupIds.add(secondCourseGroupIds);
+
+        when(mockLessonRepository.findScheduleFrom(any())).thenReturn(Collections.singletonList(lessonSchedule));
+        when(mockCourseRepository.findAllCourseGroupIds()).thenReturn(courseGroupIds);
+
+        scheduleConflictDetector.rebuild();
+
+        Lesson lesson = new Lesson().setLecturer(secondLecturer).setCourse(new Course().setId(COURSE_ID_52))
+                .setDate(LESSON_DATE).setStartTime(LocalTime.of(9, 0)).setEndTime(SECOND_LESSON_START_TIME);
+
+        assertThrows(ConstraintViolationException.class, () -> scheduleConflictDetector.check(lesson), "overlapping lesson of the group should be rejected");
+    }
+
+    @Test
+    void testFindFreeSlotsShouldSkipTimeSlotsOccupiedByLecturerOrGroup() {
+        when(mockTimeSlotRepository.findAll()).thenReturn(Arrays.asList(secondTimeSlot, firstTimeSlot));
+        scheduleConflictDetector.rebuild();
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(secondCourse));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(nextDateLesson(LESSON_ID_5000001, firstLecturer, new Course().setId(COURSE_ID_51),
+                FIRST_LESSON_START_TIME, FIRST_LESSON_END_TIME)));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(nextDateLesson(LESSON_ID_5000002, secondLecturer, secondCourse,
+                SECOND_LESSON_START_TIME, SECOND_LESSON_END_TIME)));
+
+        List<Lesson> actual = scheduleConflictDetector.findFreeSlots(Collections.singletonList(PERSON_ID_50005),
+                Collections.singletonList(GROUP_ID_501), NEXT_DATE, NEXT_DATE.plusDays(1), 10);
+
+        assertEquals(2, actual.size());
+        assertEquals(NEXT_DATE.plusDays(1), actual.get(0).getDate());
+        assertEquals(firstTimeSlot, actual.get(0).getTimeSlot());
+        assertEquals(secondTimeSlot, actual.get(1).getTimeSlot());
+    }
+
+    @Test
+    void testFindFreeSlotsShouldReturnTimeSlotOfDeletedLesson() {
+        when(mockTimeSlotRepository.findAll()).thenReturn(Arrays.asList(firstTimeSlot, secondTimeSlot));
+        scheduleConflictDetector.rebuild();
+
+        Lesson lesson = nextDateLesson(LESSON_ID_5000001, firstLecturer, new Course().setId(COURSE_ID_51),
+                FIRST_LESSON_START_TIME, FIRST_LESSON_END_TIME);
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(lesson));
+        scheduleConflictDetector.onLessonDeleted(new LessonDeletedEvent(lesson));
+
+        List<Lesson> actual = scheduleConflictDetector.findFreeSlots(Collections.singletonList(PERSON_ID_50005),
+                Collections.emptyList(), NEXT_DATE, NEXT_DATE, 1);
+
+        assertEquals(1, actual.size());
+        assertEquals(NEXT_DATE, actual.get(0).getDate());
+        assertEquals(FIRST_LESSON_START_TIME, actual.get(0).getStartTime());
+    }
+
+    @Test
+    void testFindFreeSlotsShouldReturnNothingWhenTimeSlotsAreNotLoaded() {
+        List<Lesson> actual = scheduleConflictDetector.findFreeSlots(Collections.singletonList(PERSON_ID_50005),
+                Collections.emptyList(), NEXT_DATE, NEXT_DATE, 1);
+
+        assertEquals(0, actual.size());
+    }
+
+    @Test
+    void testFindLessonIdsOfGroupShouldReturnLessonsOfGroupCoursesInDateRange() {
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(firstCourse));
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(secondCourse));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(new Lesson().setId(LESSON_ID_5000002).setLecturer(secondLecturer)
+                .setCourse(secondCourse).setDate(LESSON_DATE.plusDays(1)).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME)));
+
+        List<Long> actual = scheduleConflictDetector.findLessonIdsOfGroup(GROUP_ID_501, LESSON_DATE, LESSON_DATE.plusDays(1));
+
+        assertEquals(Arrays.asList(LESSON_ID_5000001, LESSON_ID_5000002), actual);
+        assertEquals(Collections.singletonList(LESSON_ID_5000001), scheduleConflictDetector.findLessonIdsOfGroup(GROUP_ID_501, LESSON_DATE, LESSON_DATE));
+    }
+
+    @Test
+    void testFindLessonIdsOfGroupShouldNotReturnLessonsOfCourseRemovedFromGroup() {
+        scheduleConflictDetector.onCourseGroupsChanged(new CourseGroupsChangedEvent(firstCourse));
+        scheduleConflictDetector.onLessonsSaved(lessonsSavedEvent(firstLesson()));
+        scheduleConflictDetector.onGroupCoursesChanged(new GroupCoursesChangedEvent(new Group().setId(GROUP_ID_501)));
+
+        List<Long> actual = scheduleConflictDetector.findLessonIdsOfGroup(GROUP_ID_501, LESSON_DATE, LESSON_DATE);
+
+        assertEquals(0, actual.size());
+    }
+
+    private boolean isAssignable(Integer courseId, List<Integer> groupIds) {
+        try {
+            scheduleConflictDetector.checkCourseGroups(courseId, groupIds);
+            return true;
+        } catch (ConstraintViolationException exception) {
+            return false;
+        }
+    }
+
+    private List<Boolean> runInConcurrentTransactions(BooleanSupplier... checks) throws Exception {
+        CyclicBarrier checked = new CyclicBarrier(checks.length);
+        ExecutorService executorService = Executors.newFixedThreadPool(checks.length);
+
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+
+            for (BooleanSupplier check : checks) {
+                futures.add(executorService.submit(() -> {
+                    TransactionSynchronizationManager.initSynchronization();
+
+                    try {
+                        boolean passed = check.getAsBoolean();
+                        checked.await(5, TimeUnit.SECONDS);
+                        return passed;
+                    } finally {
+                        TransactionSynchronizationManager.getSynchronizations()
+                                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+                        TransactionSynchronizationManager.clearSynchronization();
+                    }
+                }));
+            }
+
+            List<Boolean> results = new ArrayList<>();
+
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Lesson nextDateLesson(Long lessonId, Lecturer lecturer, Course course, LocalTime startTime, LocalTime endTime) {
+        return new Lesson().setId(lessonId).setLecturer(lecturer).setCourse(course)
+                .setDate(NEXT_DATE).setStartTime(startTime).setEndTime(endTime);
+    }
+
+    private Lesson firstLesson() {
+        return new Lesson().setId(LESSON_ID_5000001).setLecturer(firstLecturer).setCourse(firstCourse)
+                .setDate(LESSON_DATE).setStartTime(FIRST_LESSON_START_TIME).setEndTime(FIRST_LESSON_END_TIME);
+    }
+
+    private LessonsSavedEvent lessonsSavedEvent(Lesson lesson) {
+        return new LessonsSavedEvent(Collections.singletonList(lesson));
+    }
+}
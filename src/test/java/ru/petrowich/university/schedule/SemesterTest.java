@@ -0,0 +1,45 @@
+package ru.petrowich.university.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SemesterTest {
+    @Test
+    void testOfShouldReturnSemesterOfHalfYearWhenDatePassed() {
+        Semester spring = Semester.of(LocalDate.of(2021, 6, 30));
+        Semester autumn = Semester.of(LocalDate.of(2021, 7, 1));
+
+        assertEquals(2021, spring.getYear(), "expected year of the date should be returned");
+        assertEquals(1, spring.getNumber(), "expected first semester should be returned");
+        assertEquals(2, autumn.getNumber(), "expected second semester should be returned");
+        assertEquals(LocalDate.of(2021, 1, 1), spring.getStartDate(), "expected start date should be returned");
+        assertEquals(LocalDate.of(2021, 7, 1), spring.getEndDate(), "expected exclusive end date should be returned");
+        assertEquals(LocalDate.of(2022, 1, 1), autumn.getEndDate(), "expected exclusive end date should be returned");
+    }
+
+    @Test
+    void testPlusAndMinusShouldCrossYearBoundary() {
+        Semester semester = Semester.of(LocalDate.of(2021, 3, 15));
+
+        assertEquals(Semester.of(LocalDate.of(2020, 9, 1)), semester.minus(1), "expected previous semester should be returned");
+        assertEquals(Semester.of(LocalDate.of(2020, 2, 1)), semester.minus(2), "expected same semester of previous year should be returned");
+        assertEquals(Semester.of(LocalDate.of(2022, 8, 1)), semester.plus(3), "expected semester of next year should be returned");
+        assertEquals(semester.plus(1), semester.next(), "expected next semester should be returned");
+        assertTrue(semester.minus(1).compareTo(semester) < 0, "expected previous semester should be ordered before");
+    }
+
+    @Test
+    void testToStringShouldReturnPartitionSuffix() {
+        assertEquals("2021_2", Semester.of(LocalDate.of(2021, 12, 31)).toString(), "expected year and number should be returned");
+    }
+
+    @Test
+    void testOfShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> Semester.of(null));
+    }
+}
@@ -0,0 +1,172 @@
+package ru.petrowich.university.schedule;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.TimeSlot;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+
+class TimetableGeneratorTest {
+    private static final Integer PERSON_ID_50005 = 50005;
+    private static final Integer PERSON_ID_50006 = 50006;
+    private static final Integer COURSE_ID_51 = 51;
+    private static final Integer COURSE_ID_52 = 52;
+    private static final Integer COURSE_ID_53 = 53;
+    private static final Integer COURSE_ID_54 = 54;
+    private static final Integer GROUP_ID_501 = 501;
+    private static final Integer GROUP_ID_502 = 502;
+    private static final LocalDate MONDAY = LocalDate.of(2030, 1, 7);
+    private static final LocalDate FRIDAY = LocalDate.of(2030, 1, 11);
+    private static final LocalDate NEXT_SUNDAY = LocalDate.of(2030, 1, 20);
+
+    private final Lecturer firstLecturer = new Lecturer().setId(PERSON_ID_50005).setActive(true);
+    private final Lecturer secondLecturer = new Lecturer().setId(PERSON_ID_50006).setActive(true);
+
+    private final Course firstCourse = new Course().setId(COURSE_ID_51).setAuthor(firstLecturer).setActive(true);
+    private final Course secondCourse = new Course().setId(COURSE_ID_52).setAuthor(firstLecturer).setActive(true);
+    private final Course thirdCourse = new Course().setId(COURSE_ID_53).setAuthor(secondLecturer).setActive(true);
+    private final Course fourthCourse = new Course().setId(COURSE_ID_54).setAuthor(secondLecturer).setActive(true);
+
+    private final TimeSlot firstTimeSlot = new TimeSlot().setId(1).setStartTime(LocalTime.of(8, 0)).setEndTime(LocalTime.of(9, 30));
+    private final TimeSlot secondTimeSlot = new TimeSlot().setId(2).setStartTime(LocalTime.of(9, 40)).setEndTime(LocalTime.of(11, 10));
+
+    private final Map<Integer, Set<Integer>> courseGroupIds = new HashMap<>();
+
+    private AutoCloseable autoCloseable;
+
+    @Mock
+    private ScheduleConflictDetector mockScheduleConflictDetector;
+
+    @InjectMocks
+    private TimetableGenerator timetableGenerator;
+
+    @BeforeEach
+    private void setUp() {
+        autoCloseable = MockitoAnnotations.openMocks(this);
+        when(mockScheduleConflictDetector.isFree(any())).thenReturn(true);
+
+        courseGroupIds.put(COURSE_ID_51, new HashSet<>(Arrays.asList(GROUP_ID_501, GROUP_ID_502)));
+        courseGroupIds.put(COURSE_ID_52, new HashSet<>(Collections.singletonList(GROUP_ID_501)));
+        courseGroupIds.put(COURSE_ID_53, new HashSet<>(Collections.singletonList(GROUP_ID_502)));
+        courseGroupIds.put(COURSE_ID_54, new HashSet<>(Collections.singletonList(GROUP_ID_501)));
+    }
+
+    @AfterEach
+    public void releaseMocks() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testGenerateShouldPlaceLessonsPerWeekOfEveryCourseOnWorkingDays() {
+        List<Course> courses = Arrays.asList(firstCourse, secondCourse, thirdCourse, fourthCourse);
+
+        Timetable actual = timetableGenerator.generate(courses, courseGroupIds, Arrays.asList(firstTimeSlot, secondTimeSlot), MONDAY, NEXT_SUNDAY, 2);
+
+        assertTrue(actual.getUnscheduledCourses().isEmpty());
+        assertEquals(16, actual.getLessons().size());
+
+        Map<Integer, Long> lessonsPerCourse = actual.getLessons().stream()
+                .collect(Collectors.groupingBy(lesson -> lesson.getCourse().getId(), Collectors.counting()));
+        assertThat(lessonsPerCourse).containsOnlyKeys(COURSE_ID_51, COURSE_ID_52, COURSE_ID_53, COURSE_ID_54);
+        assertThat(lessonsPerCourse.values()).containsOnly(4L);
+
+        assertThat(actual.getLessons()).allMatch(lesson -> lesson.getDate().getDayOfWeek() != DayOfWeek.SATURDAY
+                && lesson.getDate().getDayOfWeek() != DayOfWeek.SUNDAY);
+        assertThat(actual.getLessons()).allMatch(lesson -> lesson.getLecturer() == lesson.getCourse().getAuthor());
+    }
+
+    @Test
+    void testGenerateShouldPlaceOwnNumberOfLessonsOfCourseWhenItIsSet() {
+        Course ownNumberCourse = new Course().setId(COURSE_ID_53).setAuthor(secondLecturer).setLessonsPerWeek(3).setActive(true);
+        List<Course> courses = Arrays.asList(firstCourse, ownNumberCourse);
+
+        Timetable actual = timetableGenerator.generate(courses, courseGroupIds, Arrays.asList(firstTimeSlot, secondTimeSlot), MONDAY, FRIDAY, 1);
+
+        Map<Integer, Long> lessonsPerCourse = actual.getLessons().stream()
+                .collect(Collectors.groupingBy(lesson -> lesson.getCourse().getId(), Collectors.counting()));
+
+        assertTrue(actual.getUnscheduledCourses().isEmpty());
+        assertEquals(1L, lessonsPerCourse.get(COURSE_ID_51));
+        assertEquals(3L, lessonsPerCourse.get(COURSE_ID_53));
+    }
+
+    @Test
+    void testGenerateShouldNotDoubleBookLecturersAndGroups() {
+        List<Course> courses = Arrays.asList(firstCourse, secondCourse, thirdCourse, fourthCourse);
+
+        Timetable actual = timetableGenerator.generate(courses, courseGroupIds, Arrays.asList(firstTimeSlot, secondTimeSlot), MONDAY, FRIDAY, 3);
+        List<Lesson> lessons = actual.getLessons();
+
+        for (int i = 0; i < lessons.size(); i++) {
+            for (int j = i + 1; j < lessons.size(); j++) {
+                Lesson first = lessons.get(i);
+                Lesson second = lessons.get(j);
+
+                if (first.getDate().equals(second.getDate()) && first.getStartTime().equals(second.getStartTime())) {
+                    Set<Integer> commonGroupIds = new HashSet<>(courseGroupIds.get(first.getCourse().getId()));
+                    commonGroupIds.retainAll(courseGroupIds.get(second.getCourse().getId()));
+
+                    assertFalse(first.getLecturer().getId().equals(second.getLecturer().getId()), "lecturer is double-booked");
+                    assertTrue(commonGroupIds.isEmpty(), "group is double-booked");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGenerateShouldReturnUnscheduledCoursesWhenTimeSlotsAreNotEnough() {
+        List<Course> courses = Arrays.asList(firstCourse, secondCourse);
+
+        Timetable actual = timetableGenerator.generate(courses, courseGroupIds, Collections.singletonList(firstTimeSlot), MONDAY, MONDAY, 1);
+
+        assertEquals(1, actual.getLessons().size());
+        assertEquals(COURSE_ID_51, actual.getLessons().get(0).getCourse().getId());
+        assertThat(actual.getUnscheduledCourses()).containsExactly(secondCourse);
+    }
+
+    @Test
+    void testGenerateShouldSkipTimeSlotsBusyWithSavedLessons() {
+        when(mockScheduleConflictDetector.isFree(argThat(lesson -> lesson != null
+                && firstTimeSlot.getStartTime().equals(lesson.getStartTime())))).thenReturn(false);
+
+        Timetable actual = timetableGenerator.generate(Collections.singletonList(thirdCourse), courseGroupIds,
+                Arrays.asList(firstTimeSlot, secondTimeSlot), MONDAY, MONDAY, 1);
+
+        assertEquals(1, actual.getLessons().size());
+        assertEquals(secondTimeSlot.getStartTime(), actual.getLessons().get(0).getStartTime());
+    }
+
+    @Test
+    void testGenerateShouldReturnEmptyTimetableWhenRangeHasNoWorkingDays() {
+        Timetable actual = timetableGenerator.generate(Collections.singletonList(firstCourse), courseGroupIds,
+                Collections.singletonList(firstTimeSlot), NEXT_SUNDAY, NEXT_SUNDAY, 1);
+
+        assertTrue(actual.getLessons().isEmpty());
+        assertTrue(actual.getUnscheduledCourses().isEmpty());
+    }
+}
@@ -0,0 +1,104 @@
+package ru.petrowich.university.service.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReferenceCacheTest {
+    private static final String VIEW_EVEN = "even";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Integer> source = new ArrayList<>(asList(5, 2, 4, 1, 3));
+
+    private ReferenceCache<Integer> referenceCache;
+
+    @BeforeEach
+    void setUp() {
+        referenceCache = new ReferenceCache<>(this::load, clock::get)
+                .addView(VIEW_EVEN, number -> number % 2 == 0, Comparator.naturalOrder());
+    }
+
+    @Test
+    void testGetAllShouldLoadOnceWithinTimeToLive() {
+        referenceCache.getAll();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(ReferenceCache.DEFAULT_TIME_TO_LIVE_SECONDS - 1));
+        List<Integer> actual = referenceCache.getAll();
+
+        assertEquals(1, loads.get(), "source should be loaded once");
+        assertEquals(source, actual, "cached list should be returned");
+    }
+
+    @Test
+    void testGetAllShouldReloadWhenTimeToLiveExpired() {
+        referenceCache.getAll();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(ReferenceCache.DEFAULT_TIME_TO_LIVE_SECONDS));
+        referenceCache.getAll();
+
+        assertEquals(2, loads.get(), "source should be reloaded after expiry");
+    }
+
+    @Test
+    void testGetAllShouldReloadAfterEvict() {
+        referenceCache.getAll();
+        source.add(6);
+        referenceCache.evict();
+        List<Integer> actual = referenceCache.getAll();
+
+        assertEquals(2, loads.get(), "source should be reloaded after eviction");
+        assertThat(actual).containsExactly(5, 2, 4, 1, 3, 6);
+    }
+
+    @Test
+    void testGetViewShouldReturnFilteredAndSortedList() {
+        List<Integer> actual = referenceCache.getView(VIEW_EVEN);
+
+        assertThat(actual).containsExactly(2, 4);
+        assertThat(referenceCache.getAll()).containsExactly(5, 2, 4, 1, 3);
+        assertEquals(1, loads.get(), "views should be built from the same load");
+    }
+
+    @Test
+    void testGetViewShouldReturnSortedListWhenViewWithoutFilterAdded() {
+        referenceCache.addView("ordered", Comparator.reverseOrder());
+
+        assertThat(referenceCache.getView("ordered")).containsExactly(5, 4, 3, 2, 1);
+    }
+
+    @Test
+    void testGetViewShouldThrowIllegalArgumentExceptionWhenUnknownViewPassed() {
+        assertThrows(IllegalArgumentException.class, () -> referenceCache.getView("odd"), "getView(\"odd\") should throw IllegalArgumentException");
+    }
+
+    @Test
+    void testGetAllShouldNotCacheListsLargerThanMaxSize() {
+        referenceCache.configure(ReferenceCache.DEFAULT_TIME_TO_LIVE_SECONDS, 4);
+
+        referenceCache.getAll();
+        List<Integer> actual = referenceCache.getAll();
+
+        assertEquals(2, loads.get(), "oversized list should not be cached");
+        assertThat(actual).containsExactly(5, 2, 4, 1, 3);
+    }
+
+    @Test
+    void testConfigureShouldThrowIllegalArgumentExceptionWhenNegativeTimeToLivePassed() {
+        assertThrows(IllegalArgumentException.class, () -> referenceCache.configure(-1, 1), "configure(-1, 1) should throw IllegalArgumentException");
+    }
+
+    private List<Integer> load() {
+        loads.incrementAndGet();
+        return source;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.petrowich.university.service.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvReaderTest {
+
+    @Test
+    void testReadRecordShouldSplitFieldsAndSkipBlankLines() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("name,capacity\r\n\r\nAA-01,20\nBB-02,"));
+
+        assertThat(csvReader.readRecord()).containsExactly("name", "capacity");
+        assertEquals(1, csvReader.getRecordLineNumber(), "header should start at line 1");
+
+        assertThat(csvReader.readRecord()).containsExactly("AA-01", "20");
+        assertEquals(3, csvReader.getRecordLineNumber(), "blank line should be skipped");
+
+        assertThat(csvReader.readRecord()).containsExactly("BB-02", "");
+        assertNull(csvReader.readRecord(), "null should be returned at the end of input");
+    }
+
+    @Test
+    void testReadRecordShouldUnquoteFieldsWithSeparatorsQuotesAndLineBreaks() throws IOException {
+        CsvReader csvReader = new CsvReader(new StringReader("\"Parisi, Giorgio\",\"said \"\"hi\"\"\",\"two\nlines\"\nnext"));
+
+        List<String> actual = csvReader.readRecord();
+
+        assertThat(actual).containsExactly("Parisi, Giorgio", "said \"hi\"", "two\nlines");
+        assertThat(csvReader.readRecord()).containsExactly("next");
+        assertEquals(3, csvReader.getRecordLineNumber(), "line break inside quotes should be counted");
+    }
+
+    @Test
+    void testReadRecordShouldThrowIllegalArgumentExceptionWhenQuotedFieldIsNotClosed() {
+        CsvReader csvReader = new CsvReader(new StringReader("\"not closed"));
+
+        assertThrows(IllegalArgumentException.class, csvReader::readRecord, "readRecord() should throw IllegalArgumentException");
+    }
+}
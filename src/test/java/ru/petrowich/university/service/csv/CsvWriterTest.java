@@ -0,0 +1,33 @@
+package ru.petrowich.university.service.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvWriterTest {
+
+    @Test
+    void testWriteRecordShouldQuoteOnlyFieldsRequiringIt() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+
+        new CsvWriter(stringWriter).writeRecord(Arrays.asList("AA-01", 20, null, "", "a,b", "say \"hi\"", true));
+
+        assertEquals("AA-01,20,,\"\",\"a,b\",\"say \"\"hi\"\"\",true\n", stringWriter.toString(), "csv record should be written");
+    }
+
+    @Test
+    void testWrittenRecordShouldBeReadBack() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new CsvWriter(stringWriter).writeRecord(Arrays.asList(" padded ", "two\r\nlines", "plain"));
+
+        CsvReader csvReader = new CsvReader(new StringReader(stringWriter.toString()));
+
+        assertThat(csvReader.readRecord()).containsExactly(" padded ", "two\r\nlines", "plain");
+    }
+}
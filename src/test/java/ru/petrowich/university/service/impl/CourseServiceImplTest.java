@@ -6,25 +6,38 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import ru.petrowich.university.repository.CourseRepository;
+import ru.petrowich.university.schedule.CourseGroupsChangedEvent;
+import ru.petrowich.university.schedule.ScheduleConflictDetector;
 import ru.petrowich.university.repository.GroupRepository;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.service.batch.BatchItemResult;
+import ru.petrowich.university.service.batch.CourseGroupAssignment;
+import ru.petrowich.university.service.cache.LecturersChangedEvent;
 
 import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
 import java.util.List;
+import java.util.Collections;
+import java.util.Arrays;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
@@ -44,6 +57,7 @@ class CourseServiceImplTest {
     private static final Integer GROUP_ID_502 = 502;
     private static final Integer GROUP_ID_503 = 503;
     private static final Integer NONEXISTENT_GROUP_ID = 666;
+    private static final String GROUP_CONFLICT = "group 503 is busy with lesson 1001";
 
     private static final Set<ConstraintViolation<Course>> violations = new HashSet<>();
 
@@ -69,6 +83,12 @@ class CourseServiceImplTest {
     @Mock
     private Validator mockValidator;
 
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+
+    @Mock
+    private ScheduleConflictDetector mockScheduleConflictDetector;
+
     @InjectMocks
     private CourseServiceImpl courseServiceImpl;
 
@@ -134,6 +154,14 @@ class CourseServiceImplTest {
         verify(mockCourseRepository, times(1)).save(firstCourse);
     }
 
+    @Test
+    void testUpdateShouldPublishCourseGroupsChangedEvent() {
+        when(mockValidator.validate(firstCourse)).thenReturn(violations);
+        courseServiceImpl.update(firstCourse);
+
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(CourseGroupsChangedEvent.class));
+    }
+
     @Test
     void testUpdateShouldThrowNullPointerExceptionWhenNullPassed() {
         when(mockValidator.validate(firstCourse)).thenReturn(violations);
@@ -180,87 +208,183 @@ class CourseServiceImplTest {
     }
 
     @Test
-    void testAssignGroupToCourseShouldInvokeRepositoryAssignGroupToCourse() {
+    void testGetActiveShouldReturnActiveCoursesOrderedByName() {
+        Course fourthCourse = new Course().setId(54).setName("chemistry").setAuthor(secondLecturer).setActive(true);
+
+        List<Course> courses = new ArrayList<>();
+        courses.add(firstCourse);
+        courses.add(secondCourse);
+        courses.add(fourthCourse);
+
+        when(mockCourseRepository.findByActiveTrue()).thenReturn(courses);
+
+        List<Course> actual = courseServiceImpl.getActive();
+
+        verify(mockCourseRepository, times(1)).findByActiveTrue();
+        verify(mockCourseRepository, times(0)).findAll();
+        assertThat(actual).containsExactly(secondCourse, fourthCourse, firstCourse);
+    }
+
+    @Test
+    void testGetActiveWithActiveAuthorShouldSkipCoursesOfInactiveOrMissingAuthor() {
+        Course fourthCourse = new Course().setId(54).setName("chemistry").setAuthor(secondLecturer).setActive(true);
+        Course fifthCourse = new Course().setId(55).setName("astronomy").setAuthor(new Lecturer()).setActive(true);
+
+        List<Course> courses = new ArrayList<>();
+        courses.add(firstCourse);
+        courses.add(secondCourse);
+        courses.add(fourthCourse);
+        courses.add(fifthCourse);
+
+        when(mockCourseRepository.findByActiveTrue()).thenReturn(courses);
+
+        List<Course> actual = courseServiceImpl.getActiveWithActiveAuthor();
+
+        verify(mockCourseRepository, times(1)).findByActiveTrue();
+        assertThat(actual).containsExactly(secondCourse, firstCourse);
+    }
+
+    @Test
+    void testGetActiveShouldReloadCoursesWhenLecturersChanged() {
+        List<Course> courses = new ArrayList<>();
+        courses.add(firstCourse);
+
+        when(mockCourseRepository.findByActiveTrue()).thenReturn(courses);
+
+        courseServiceImpl.getActive();
+        courseServiceImpl.getActiveWithActiveAuthor();
+        courseServiceImpl.onLecturersChanged(new LecturersChangedEvent());
+        courseServiceImpl.getActive();
+
+        verify(mockCourseRepository, times(2)).findByActiveTrue();
+    }
+
+    @Test
+    void testAssignGroupToCourseShouldInsertCourseGroupsOfPassedGroupOnlyWithoutLoadingCourseOrGroup() {
         List<Group> currentGroups = new ArrayList<>();
         currentGroups.add(firstGroup);
         currentGroups.add(secondGroup);
+        currentGroups.add(thirdGroup);
 
-        firstCourse.setGroups(currentGroups);
+        when(mockCourseRepository.insertCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_503))).thenReturn(1);
+        when(mockCourseRepository.findGroupsByCourseId(COURSE_ID_51)).thenReturn(currentGroups);
 
-        Optional<Group> optionalSecondGroup = Optional.of(thirdGroup);
-        when(mockGroupRepository.findById(GROUP_ID_503)).thenReturn(optionalSecondGroup);
-        Optional<Course> optionalFirstCourse = Optional.of(firstCourse);
-        when(mockCourseRepository.findById(COURSE_ID_51)).thenReturn(optionalFirstCourse);
+        List<Group> actual = courseServiceImpl.assignGroupToCourse(thirdGroup, firstCourse);
 
-        courseServiceImpl.assignGroupToCourse(thirdGroup, firstCourse);
+        verify(mockScheduleConflictDetector, times(1)).checkCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_503));
+        verify(mockCourseRepository, times(1)).insertCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_503));
+        verify(mockCourseRepository, times(0)).deleteCourseGroups(any(), any());
+        verify(mockCourseRepository, times(0)).findById(any());
+        verify(mockGroupRepository, times(0)).findById(any());
+        verify(mockCourseRepository, times(0)).save(any());
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(CourseGroupsChangedEvent.class));
 
-        verify(mockCourseRepository, times(1)).findById(COURSE_ID_51);
-        verify(mockGroupRepository, times(1)).findById(GROUP_ID_503);
-        verify(mockCourseRepository, times(1)).save(firstCourse);
+        assertEquals(currentGroups, actual, "list of group should contain thirdGroup");
+    }
 
-        List<Group> expectedGroups = new ArrayList<>();
-        expectedGroups.add(firstGroup);
-        expectedGroups.add(secondGroup);
-        expectedGroups.add(thirdGroup);
+    @Test
+    void testAssignGroupsToCoursesShouldInsertAcceptedPairsPerCourseAndRejectUnknownIds() {
+        List<CourseGroupAssignment> courseGroupAssignments = new ArrayList<>();
+        courseGroupAssignments.add(new CourseGroupAssignment(COURSE_ID_51, GROUP_ID_503));
+        courseGroupAssignments.add(new CourseGroupAssignment(COURSE_ID_51, GROUP_ID_501));
+        courseGroupAssignments.add(new CourseGroupAssignment(COURSE_ID_51, GROUP_ID_503));
+        courseGroupAssignments.add(new CourseGroupAssignment(COURSE_ID_52, NONEXISTENT_GROUP_ID));
+        courseGroupAssignments.add(new CourseGroupAssignment(null, GROUP_ID_501));
+
+        Set<Integer> expectedGroupIds = new LinkedHashSet<>();
+        expectedGroupIds.add(GROUP_ID_503);
+        expectedGroupIds.add(GROUP_ID_501);
+
+        when(mockCourseRepository.findIdsByIdIn(any())).thenReturn(new HashSet<>(Arrays.asList(COURSE_ID_51, COURSE_ID_52)));
+        when(mockGroupRepository.findIdsByIdIn(any())).thenReturn(new HashSet<>(Arrays.asList(GROUP_ID_501, GROUP_ID_503)));
+        when(mockScheduleConflictDetector.findCourseGroupConflicts(any(), any(), any())).thenReturn(Collections.singletonList(null));
+        when(mockCourseRepository.insertCourseGroups(COURSE_ID_51, expectedGroupIds)).thenReturn(1);
+
+        List<BatchItemResult<CourseGroupAssignment>> actual = courseServiceImpl.assignGroupsToCourses(courseGroupAssignments);
+
+        assertThat(actual).extracting(BatchItemResult::isAccepted).containsExactly(true, true, true, false, false);
+        verify(mockScheduleConflictDetector, times(2)).findCourseGroupConflicts(any(), any(), any());
+        verify(mockCourseRepository, times(1)).insertCourseGroups(any(), any());
+        verify(mockCourseRepository, times(1)).insertCourseGroups(COURSE_ID_51, expectedGroupIds);
+        verify(mockCourseRepository, times(1)).findCourseGroupIdsByCourseIdIn(Collections.singleton(COURSE_ID_51));
+        verify(mockCourseRepository, times(0)).saveAll(any());
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(CourseGroupsChangedEvent.class));
+    }
+
+    @Test
+    void testAssignGroupsToCoursesShouldRejectAssignmentConflictingWithLessonsOfGroup() {
+        List<CourseGroupAssignment> courseGroupAssignments = Collections.singletonList(new CourseGroupAssignment(COURSE_ID_51, GROUP_ID_503));
+
+        when(mockCourseRepository.findIdsByIdIn(any())).thenReturn(Collections.singleton(COURSE_ID_51));
+        when(mockGroupRepository.findIdsByIdIn(any())).thenReturn(Collections.singleton(GROUP_ID_503));
+        when(mockScheduleConflictDetector.findCourseGroupConflicts(any(), any(), any())).thenReturn(Collections.singletonList(GROUP_CONFLICT));
+
+        List<BatchItemResult<CourseGroupAssignment>> actual = courseServiceImpl.assignGroupsToCourses(courseGroupAssignments);
+
+        assertFalse(actual.get(0).isAccepted());
+        assertThat(actual.get(0).getErrors()).containsExactly(GROUP_CONFLICT);
+        verify(mockCourseRepository, times(0)).insertCourseGroups(any(), any());
+        verify(mockApplicationEventPublisher, times(0)).publishEvent(any(CourseGroupsChangedEvent.class));
+    }
+
+    @Test
+    void testAssignGroupToCourseShouldThrowConstraintViolationExceptionWhenGroupIsBusy() {
+        doThrow(new ConstraintViolationException(GROUP_CONFLICT, Collections.emptySet()))
+                .when(mockScheduleConflictDetector).checkCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_503));
 
-        assertEquals(expectedGroups, firstCourse.getGroups(), "list of group should contain thirdGroup");
+        assertThrows(ConstraintViolationException.class, () -> courseServiceImpl.assignGroupToCourse(thirdGroup, firstCourse));
+
+        verify(mockCourseRepository, times(0)).insertCourseGroups(any(), any());
+        verify(mockApplicationEventPublisher, times(0)).publishEvent(any(CourseGroupsChangedEvent.class));
     }
 
     @Test
-    void testAssignGroupToCourseShouldNotInvokeRepositoryAssignGroupToCourseWhenAssignedGroupPassed() {
+    void testAssignGroupToCourseShouldNotPublishEventWhenAssignedGroupPassed() {
         List<Group> currentGroups = new ArrayList<>();
         currentGroups.add(firstGroup);
         currentGroups.add(secondGroup);
 
-        firstCourse.setGroups(currentGroups);
+        when(mockCourseRepository.insertCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_502))).thenReturn(0);
+        when(mockCourseRepository.findGroupsByCourseId(COURSE_ID_51)).thenReturn(currentGroups);
 
-        Optional<Group> optionalSecondGroup = Optional.of(secondGroup);
-        when(mockGroupRepository.findById(GROUP_ID_502)).thenReturn(optionalSecondGroup);
-        Optional<Course> optionalFirstCourse = Optional.of(firstCourse);
-        when(mockCourseRepository.findById(COURSE_ID_51)).thenReturn(optionalFirstCourse);
+        List<Group> actual = courseServiceImpl.assignGroupToCourse(secondGroup, firstCourse);
 
-        courseServiceImpl.assignGroupToCourse(secondGroup, firstCourse);
-
-        verify(mockCourseRepository, times(1)).findById(COURSE_ID_51);
-        verify(mockGroupRepository, times(1)).findById(GROUP_ID_502);
-        verify(mockCourseRepository, times(0)).save(firstCourse);
+        verify(mockApplicationEventPublisher, times(0)).publishEvent(any(CourseGroupsChangedEvent.class));
 
         List<Group> expectedGroups = new ArrayList<>();
         expectedGroups.add(firstGroup);
         expectedGroups.add(secondGroup);
 
-        assertEquals(expectedGroups, firstCourse.getGroups(), "list of groups should be same");
+        assertEquals(expectedGroups, actual, "list of groups should be same");
     }
 
     @Test
-    void testRemoveGroupToCourseShouldInvokeRepositoryRemoveGroupFromCourse() {
+    void testRemoveGroupFromCourseShouldInvokeRepositoryDeleteCourseGroupsOfPassedGroupOnly() {
         List<Group> currentGroups = new ArrayList<>();
         currentGroups.add(firstGroup);
         currentGroups.add(secondGroup);
 
-        firstCourse.setGroups(currentGroups);
+        when(mockCourseRepository.findGroupsByCourseId(COURSE_ID_51)).thenReturn(currentGroups);
 
-        Optional<Course> optionalFirstCourse = Optional.of(firstCourse);
-        when(mockCourseRepository.findById(COURSE_ID_51)).thenReturn(optionalFirstCourse);
+        List<Group> actual = courseServiceImpl.removeGroupFromCourse(secondGroup, firstCourse);
 
-        courseServiceImpl.removeGroupFromCourse(secondGroup, firstCourse);
-        verify(mockCourseRepository, times(1)).findById(COURSE_ID_51);
-        verify(mockCourseRepository, times(1)).save(firstCourse);
+        verify(mockCourseRepository, times(1)).deleteCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_502));
+        verify(mockCourseRepository, times(0)).insertCourseGroups(any(), any());
+        verify(mockCourseRepository, times(0)).save(any());
 
         List<Group> expectedGroups = new ArrayList<>();
         expectedGroups.add(firstGroup);
 
-        assertEquals(expectedGroups, firstCourse.getGroups(), "list of groups should not contain secondGroup");
+        assertEquals(expectedGroups, actual, "list of groups should not contain secondGroup");
     }
 
     @Test
-    void testApplyGroupsToCourseShouldInvokeRepositoryAssignGroupsAndRemoveGroups() {
+    void testApplyGroupsToCourseShouldInsertAddedGroupsAndDeleteRemovedGroupsOnly() {
         List<Group> currentGroups = new ArrayList<>();
         currentGroups.add(firstGroup);
         currentGroups.add(secondGroup);
-        firstCourse.setGroups(currentGroups);
 
-        List<Integer> groupIds = new ArrayList<>();
+        Set<Integer> groupIds = new LinkedHashSet<>();
         groupIds.add(GROUP_ID_501);
         groupIds.add(GROUP_ID_503);
         groupIds.add(NONEXISTENT_GROUP_ID);
@@ -272,23 +396,119 @@ class CourseServiceImplTest {
         groups.add(null);
 
         List<Group> actualGroups = new ArrayList<>();
-        actualGroups.add(firstGroup);
         actualGroups.add(thirdGroup);
+        actualGroups.add(firstGroup);
 
-        Optional<Course> optionalFirstCourse = Optional.of(firstCourse);
-        when(mockCourseRepository.findById(COURSE_ID_51)).thenReturn(optionalFirstCourse);
+        when(mockCourseRepository.findById(COURSE_ID_51)).thenReturn(Optional.of(firstCourse));
+        when(mockCourseRepository.findGroupsByCourseId(COURSE_ID_51)).thenReturn(currentGroups);
         when(mockGroupRepository.findAllById(groupIds)).thenReturn(actualGroups);
 
-        courseServiceImpl.applyGroupsToCourse(groups, firstCourse);
+        List<Group> actual = courseServiceImpl.applyGroupsToCourse(groups, firstCourse);
 
-        verify(mockCourseRepository, times(1)).findById(COURSE_ID_51);
         verify(mockGroupRepository, times(1)).findAllById(groupIds);
-        verify(mockCourseRepository, times(1)).save(firstCourse);
+        verify(mockCourseRepository, times(1)).deleteCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_502));
+        verify(mockCourseRepository, times(1)).insertCourseGroups(COURSE_ID_51, Collections.singleton(GROUP_ID_503));
+        verify(mockCourseRepository, times(0)).save(any());
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(CourseGroupsChangedEvent.class));
 
         List<Group> expectedGroups = new ArrayList<>();
         expectedGroups.add(firstGroup);
         expectedGroups.add(thirdGroup);
 
-        assertEquals(expectedGroups, firstCourse.getGroups(), "list of group should contain passed existed groups only");
+        assertEquals(expectedGroups, actual, "list of group should contain passed existed groups only");
+    }
+
+    @Test
+    void testApplyGroupsToCourseShouldThrowConstraintViolationExceptionWhenAddedGroupIsBusy() {
+        List<Group> currentGroups = new ArrayList<>();
+        currentGroups.add(firstGroup);
+        currentGroups.add(secondGroup);
+
+        Set<Integer> addedGroupIds = new LinkedHashSet<>(Collections.singleton(GROUP_ID_503));
+
+        when(mockCourseRepository.findById(COURSE_ID_51)).thenReturn(Optional.of(firstCourse));
+        when(mockCourseRepository.findGroupsByCourseId(COURSE_ID_51)).thenReturn(currentGroups);
+        when(mockGroupRepository.findAllById(any())).thenReturn(new ArrayList<>(Arrays.asList(firstGroup, thirdGroup)));
+        doThrow(new ConstraintViolationException(GROUP_CONFLICT, Collections.emptySet()))
+                .when(mockScheduleConflictDetector).checkCourseGroups(COURSE_ID_51, addedGroupIds);
+
+        List<Group> groups = Arrays.asList(firstGroup, thirdGroup);
+
+        assertThrows(ConstraintViolationException.class, () -> courseServiceImpl.applyGroupsToCourse(groups, firstCourse));
+
+        verify(mockCourseRepository, times(0)).deleteCourseGroups(any(), any());
+        verify(mockCourseRepository, times(0)).insertCourseGroups(any(), any());
+        verify(mockApplicationEventPublisher, times(0)).publishEvent(any(CourseGroupsChangedEvent.class));
+    }
+
+    @Test
+    void testApplyGroupsToCourseShouldNotInvokeRepositoryWhenAssignedGroupsPassed() {
+        List<Group> currentGroups = new ArrayList<>();
+        currentGroups.add(firstGroup);
+        currentGroups.add(secondGroup);
+
+        when(mockCourseRepository.findById(COURSE_ID_51)).thenReturn(Optional.of(firstCourse));
+        when(mockCourseRepository.findGroupsByCourseId(COURSE_ID_51)).thenReturn(currentGroups);
+        when(mockGroupRepository.findAllById(any())).thenReturn(new ArrayList<>(currentGroups));
+
+        courseServiceImpl.applyGroupsToCourse(Arrays.asList(secondGroup, firstGroup), firstCourse);
+
+        verify(mockCourseRepository, times(0)).deleteCourseGroups(any(), any());
+        verify(mockCourseRepository, times(0)).insertCourseGroups(any(), any());
+        verify(mockApplicationEventPublisher, times(0)).publishEvent(any(CourseGroupsChangedEvent.class));
+    }
+
+    @Test
+    void testAddAllShouldInvokeRepositorySaveAllWithPassedCourses() {
+        List<Course> courses = new ArrayList<>();
+        courses.add(firstCourse);
+        courses.add(secondCourse);
+
+        when(mockValidator.validate(firstCourse)).thenReturn(violations);
+        when(mockValidator.validate(secondCourse)).thenReturn(violations);
+        courseServiceImpl.addAll(courses);
+
+        verify(mockValidator, times(1)).validate(firstCourse);
+        verify(mockValidator, times(1)).validate(secondCourse);
+        verify(mockCourseRepository, times(1)).saveAll(courses);
+    }
+
+    @Test
+    void testAddAllShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> courseServiceImpl.addAll(null), "addAll(null) should throw IllegalArgumentException");
+        verify(mockCourseRepository, times(0)).saveAll(null);
+    }
+
+    @Test
+    void testGetPageShouldReturnFirstCoursesWhenNullCursorPassed() {
+        List<Course> expected = new ArrayList<>();
+        expected.add(firstCourse);
+        expected.add(secondCourse);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockCourseRepository.findAllByOrderByIdAsc(pageRequest)).thenReturn(expected);
+        List<Course> actual = courseServiceImpl.getPage(null, 2);
+
+        verify(mockCourseRepository, times(1)).findAllByOrderByIdAsc(pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldReturnCoursesFollowingPassedCourse() {
+        List<Course> expected = new ArrayList<>();
+        expected.add(secondCourse);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockCourseRepository.findByIdGreaterThanOrderByIdAsc(firstCourse.getId(), pageRequest)).thenReturn(expected);
+        List<Course> actual = courseServiceImpl.getPage(firstCourse, 2);
+
+        verify(mockCourseRepository, times(1)).findByIdGreaterThanOrderByIdAsc(firstCourse.getId(), pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldThrowIllegalArgumentExceptionWhenSizeLessThanOnePassed() {
+        assertThrows(IllegalArgumentException.class, () -> courseServiceImpl.getPage(null, 0), "getPage(null, 0) should throw IllegalArgumentException");
+        verify(mockCourseRepository, times(0)).findAllByOrderByIdAsc(any());
     }
 }
@@ -6,7 +6,10 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import ru.petrowich.university.repository.GroupRepository;
+import ru.petrowich.university.schedule.GroupCoursesChangedEvent;
 import ru.petrowich.university.model.Group;
 import ru.petrowich.university.model.Student;
 
@@ -18,6 +21,7 @@ import java.util.Set;
 import java.util.HashSet;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -61,6 +65,9 @@ class GroupServiceImplTest {
     @Mock
     private Validator mockValidator;
 
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+
     @BeforeEach
     private void setUp() {
         autoCloseable = MockitoAnnotations.openMocks(this);
@@ -131,6 +138,14 @@ class GroupServiceImplTest {
         verify(mockGroupRepository, times(1)).save(firstGroup);
     }
 
+    @Test
+    void testUpdateShouldPublishGroupCoursesChangedEvent() {
+        when(mockValidator.validate(firstGroup)).thenReturn(violations);
+        groupServiceImpl.update(firstGroup);
+
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(GroupCoursesChangedEvent.class));
+    }
+
     @Test
     void testUpdateShouldThrowNullPointerExceptionWhenNullPassed() {
         when(mockValidator.validate(firstGroup)).thenReturn(violations);
@@ -184,4 +199,74 @@ class GroupServiceImplTest {
 
         assertThat(actual).usingElementComparatorIgnoringFields().isEqualTo(expected);
     }
+
+    @Test
+    void testGetActiveShouldReturnActiveGroupsFromRepositoryWithoutLoadingAllGroups() {
+        List<Group> expected = new ArrayList<>();
+        expected.add(firstGroup);
+        expected.add(secondGroup);
+
+        when(mockGroupRepository.findByActiveTrueOrderByNameAsc()).thenReturn(expected);
+
+        List<Group> actual = groupServiceImpl.getActive();
+
+        verify(mockGroupRepository, times(1)).findByActiveTrueOrderByNameAsc();
+        verify(mockGroupRepository, times(0)).findAll();
+
+        assertThat(actual).containsExactly(firstGroup, secondGroup);
+    }
+
+    @Test
+    void testAddAllShouldInvokeRepositorySaveAllWithPassedGroups() {
+        List<Group> groups = new ArrayList<>();
+        groups.add(firstGroup);
+        groups.add(secondGroup);
+
+        when(mockValidator.validate(firstGroup)).thenReturn(violations);
+        when(mockValidator.validate(secondGroup)).thenReturn(violations);
+        groupServiceImpl.addAll(groups);
+
+        verify(mockValidator, times(1)).validate(firstGroup);
+        verify(mockValidator, times(1)).validate(secondGroup);
+        verify(mockGroupRepository, times(1)).saveAll(groups);
+    }
+
+    @Test
+    void testAddAllShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> groupServiceImpl.addAll(null), "addAll(null) should throw IllegalArgumentException");
+        verify(mockGroupRepository, times(0)).saveAll(null);
+    }
+
+    @Test
+    void testGetPageShouldReturnFirstGroupsWhenNullCursorPassed() {
+        List<Group> expected = new ArrayList<>();
+        expected.add(firstGroup);
+        expected.add(secondGroup);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockGroupRepository.findAllByOrderByIdAsc(pageRequest)).thenReturn(expected);
+        List<Group> actual = groupServiceImpl.getPage(null, 2);
+
+        verify(mockGroupRepository, times(1)).findAllByOrderByIdAsc(pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldReturnGroupsFollowingPassedGroup() {
+        List<Group> expected = new ArrayList<>();
+        expected.add(secondGroup);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockGroupRepository.findByIdGreaterThanOrderByIdAsc(firstGroup.getId(), pageRequest)).thenReturn(expected);
+        List<Group> actual = groupServiceImpl.getPage(firstGroup, 2);
+
+        verify(mockGroupRepository, times(1)).findByIdGreaterThanOrderByIdAsc(firstGroup.getId(), pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldThrowIllegalArgumentExceptionWhenSizeLessThanOnePassed() {
+        assertThrows(IllegalArgumentException.class, () -> groupServiceImpl.getPage(null, 0), "getPage(null, 0) should throw IllegalArgumentException");
+        verify(mockGroupRepository, times(0)).findAllByOrderByIdAsc(any());
+    }
 }
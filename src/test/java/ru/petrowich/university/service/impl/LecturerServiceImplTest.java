@@ -6,10 +6,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import ru.petrowich.university.repository.LecturerRepository;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.service.cache.LecturersChangedEvent;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
@@ -19,6 +22,7 @@ import java.util.Set;
 import java.util.HashSet;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -73,6 +77,9 @@ class LecturerServiceImplTest {
     @Mock
     private Validator mockValidator;
 
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+
     @InjectMocks
     private LecturerServiceImpl lecturerServiceImpl;
 
@@ -183,4 +190,92 @@ class LecturerServiceImplTest {
 
         assertThat(actual).usingElementComparatorIgnoringFields().isEqualTo(expected);
     }
+
+    @Test
+    void testGetActiveShouldReturnActiveLecturersOrderedByFullName() {
+        Lecturer thirdLecturer = new Lecturer().setId(50007).setFirstName("Andrea").setLastName("Ghez").setActive(true);
+        firstLecturer.setFirstName("Reinhard").setLastName("Genzel");
+
+        List<Lecturer> lecturers = new ArrayList<>();
+        lecturers.add(firstLecturer);
+        lecturers.add(thirdLecturer);
+
+        when(mockLecturerRepository.findByActiveTrue()).thenReturn(lecturers);
+
+        List<Lecturer> actual = lecturerServiceImpl.getActive();
+
+        verify(mockLecturerRepository, times(1)).findByActiveTrue();
+        verify(mockLecturerRepository, times(0)).findAll();
+        assertThat(actual).containsExactly(thirdLecturer, firstLecturer);
+    }
+
+    @Test
+    void testUpdateShouldEvictCachedLecturersAndPublishLecturersChangedEvent() {
+        List<Lecturer> lecturers = new ArrayList<>();
+        lecturers.add(firstLecturer);
+
+        when(mockLecturerRepository.findAll()).thenReturn(lecturers);
+        when(mockValidator.validate(firstLecturer)).thenReturn(violations);
+
+        lecturerServiceImpl.getAll();
+        lecturerServiceImpl.update(firstLecturer);
+        lecturerServiceImpl.getAll();
+
+        verify(mockLecturerRepository, times(2)).findAll();
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(LecturersChangedEvent.class));
+    }
+
+    @Test
+    void testAddAllShouldInvokeRepositorySaveAllWithPassedLecturers() {
+        List<Lecturer> lecturers = new ArrayList<>();
+        lecturers.add(firstLecturer);
+        lecturers.add(secondLecturer);
+
+        when(mockValidator.validate(firstLecturer)).thenReturn(violations);
+        when(mockValidator.validate(secondLecturer)).thenReturn(violations);
+        lecturerServiceImpl.addAll(lecturers);
+
+        verify(mockValidator, times(1)).validate(firstLecturer);
+        verify(mockValidator, times(1)).validate(secondLecturer);
+        verify(mockLecturerRepository, times(1)).saveAll(lecturers);
+    }
+
+    @Test
+    void testAddAllShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> lecturerServiceImpl.addAll(null), "addAll(null) should throw IllegalArgumentException");
+        verify(mockLecturerRepository, times(0)).saveAll(null);
+    }
+
+    @Test
+    void testGetPageShouldReturnFirstLecturersWhenNullCursorPassed() {
+        List<Lecturer> expected = new ArrayList<>();
+        expected.add(firstLecturer);
+        expected.add(secondLecturer);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockLecturerRepository.findAllByOrderByIdAsc(pageRequest)).thenReturn(expected);
+        List<Lecturer> actual = lecturerServiceImpl.getPage(null, 2);
+
+        verify(mockLecturerRepository, times(1)).findAllByOrderByIdAsc(pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldReturnLecturersFollowingPassedLecturer() {
+        List<Lecturer> expected = new ArrayList<>();
+        expected.add(secondLecturer);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockLecturerRepository.findByIdGreaterThanOrderByIdAsc(firstLecturer.getId(), pageRequest)).thenReturn(expected);
+        List<Lecturer> actual = lecturerServiceImpl.getPage(firstLecturer, 2);
+
+        verify(mockLecturerRepository, times(1)).findByIdGreaterThanOrderByIdAsc(firstLecturer.getId(), pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldThrowIllegalArgumentExceptionWhenSizeLessThanOnePassed() {
+        assertThrows(IllegalArgumentException.class, () -> lecturerServiceImpl.getPage(null, 0), "getPage(null, 0) should throw IllegalArgumentException");
+        verify(mockLecturerRepository, times(0)).findAllByOrderByIdAsc(any());
+    }
 }
@@ -0,0 +1,87 @@
+package ru.petrowich.university.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import ru.petrowich.university.repository.LessonRepository;
+import ru.petrowich.university.schedule.Semester;
+import ru.petrowich.university.service.cache.BulkWriteEvent;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LessonArchiveServiceImplTest {
+    private static final Semester CURRENT_SEMESTER = Semester.of(LocalDate.of(2021, 3, 1));
+
+    private AutoCloseable autoCloseable;
+
+    @Mock
+    private LessonRepository mockLessonRepository;
+
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+
+    @InjectMocks
+    private LessonArchiveServiceImpl lessonArchiveServiceImpl;
+
+    @BeforeEach
+    void setUp() {
+        autoCloseable = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    public void releaseMocks() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    void testPreparePartitionsShouldAttachPartitionOfEverySemesterInRange() {
+        lessonArchiveServiceImpl.preparePartitions(CURRENT_SEMESTER, CURRENT_SEMESTER.next());
+
+        verify(mockLessonRepository, times(1)).attachPartition(CURRENT_SEMESTER);
+        verify(mockLessonRepository, times(1)).attachPartition(CURRENT_SEMESTER.next());
+        verify(mockLessonRepository, times(2)).attachPartition(any(Semester.class));
+    }
+
+    @Test
+    void testArchiveBeforeShouldArchiveEverySemesterFromEarliestLesson() {
+        when(mockLessonRepository.findEarliestDate()).thenReturn(CURRENT_SEMESTER.minus(3).getStartDate().plusDays(10));
+        when(mockLessonRepository.archivePartition(CURRENT_SEMESTER.minus(3))).thenReturn(5);
+        when(mockLessonRepository.archivePartition(CURRENT_SEMESTER.minus(2))).thenReturn(0);
+        when(mockLessonRepository.archivePartition(CURRENT_SEMESTER.minus(1))).thenReturn(7);
+
+        int actual = lessonArchiveServiceImpl.archiveBefore(CURRENT_SEMESTER);
+
+        verify(mockLessonRepository, times(3)).archivePartition(any(Semester.class));
+        verify(mockLessonRepository, never()).archivePartition(CURRENT_SEMESTER);
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(BulkWriteEvent.class));
+        assertEquals(12, actual, "expected number of archived lessons should be returned");
+    }
+
+    @Test
+    void testArchiveBeforeShouldDoNothingWhenNoLessonsBeforeSemester() {
+        when(mockLessonRepository.findEarliestDate()).thenReturn(CURRENT_SEMESTER.getStartDate());
+
+        int actual = lessonArchiveServiceImpl.archiveBefore(CURRENT_SEMESTER);
+
+        verify(mockLessonRepository, never()).archivePartition(any(Semester.class));
+        verify(mockApplicationEventPublisher, never()).publishEvent(any(BulkWriteEvent.class));
+        assertEquals(0, actual, "expected no lessons should be archived");
+    }
+
+    @Test
+    void testArchiveBeforeShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonArchiveServiceImpl.archiveBefore(null));
+    }
+}
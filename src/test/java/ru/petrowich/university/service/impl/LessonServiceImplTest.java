@@ -6,21 +6,39 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import ru.petrowich.university.repository.CourseRepository;
 import ru.petrowich.university.repository.LessonRepository;
+import ru.petrowich.university.repository.projection.CourseAttendees;
+import ru.petrowich.university.repository.projection.LessonAttendees;
+import ru.petrowich.university.repository.projection.LessonListItem;
+import ru.petrowich.university.model.Group;
 import ru.petrowich.university.model.Lecturer;
 import ru.petrowich.university.model.Course;
 import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.Student;
 import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.schedule.LessonDeletedEvent;
+import ru.petrowich.university.schedule.LessonsSavedEvent;
+import ru.petrowich.university.schedule.ScheduleConflictDetector;
+import ru.petrowich.university.service.batch.BatchItemResult;
 
 import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Validator;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Optional;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -29,9 +47,15 @@ import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
 
 class LessonServiceImplTest {
+    private static final Integer PERSON_ID_50001 = 50001;
     private static final Integer PERSON_ID_50005 = 50005;
+    private static final Integer GROUP_ID_501 = 501;
     private static final String PERSON_EMAIL_50005 = "reinhard.genzel@university.edu";
     private static final Integer COURSE_ID_51 = 51;
     private static final Integer COURSE_ID_52 = 52;
@@ -64,9 +88,18 @@ class LessonServiceImplTest {
     @Mock
     private LessonRepository mockLessonRepository;
 
+    @Mock
+    private CourseRepository mockCourseRepository;
+
     @Mock
     private Validator mockValidator;
 
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+
+    @Mock
+    private ScheduleConflictDetector mockScheduleConflictDetector;
+
     @InjectMocks
     private LessonServiceImpl lessonServiceImpl;
 
@@ -170,4 +203,463 @@ class LessonServiceImplTest {
         verify(mockLessonRepository, times(1)).findAll();
         assertThat(actual).usingElementComparatorIgnoringFields().isEqualTo(expected);
     }
+
+    @Test
+    void testGetAllWithNumberOfAttendeesShouldSetCountedNumbersOfAttendees() {
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+        expected.add(secondLesson);
+
+        List<Long> expectedLessonIds = new ArrayList<>();
+        expectedLessonIds.add(LESSON_ID_5000001);
+        expectedLessonIds.add(LESSON_ID_5000002);
+
+        List<LessonAttendees> lessonAttendees = new ArrayList<>();
+        lessonAttendees.add(lessonAttendees(LESSON_ID_5000001, 25L));
+
+        when(mockLessonRepository.findAllWithSchedule()).thenReturn(expected);
+        when(mockLessonRepository.countAttendeesByLessonIdIn(expectedLessonIds)).thenReturn(lessonAttendees);
+
+        List<Lesson> actual = lessonServiceImpl.getAllWithNumberOfAttendees();
+
+        verify(mockLessonRepository, times(1)).findAllWithSchedule();
+        verify(mockLessonRepository, times(1)).countAttendeesByLessonIdIn(expectedLessonIds);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get(0).getNumberOfAttendees()).isEqualTo(25);
+        assertThat(actual.get(1).getNumberOfAttendees()).isZero();
+    }
+
+    @Test
+    void testGetNumbersOfAttendeesShouldQueryRepositoryInBatches() {
+        List<Long> lessonIds = new ArrayList<>();
+        for (long lessonId = 1; lessonId <= 2500; lessonId++) {
+            lessonIds.add(lessonId);
+        }
+
+        when(mockLessonRepository.countAttendeesByLessonIdIn(lessonIds.subList(0, 1000))).thenReturn(Collections.singletonList(lessonAttendees(1L, 10L)));
+        when(mockLessonRepository.countAttendeesByLessonIdIn(lessonIds.subList(2000, 2500))).thenReturn(Collections.singletonList(lessonAttendees(2500L, 20L)));
+
+        Map<Long, Integer> actual = lessonServiceImpl.getNumbersOfAttendees(lessonIds);
+
+        verify(mockLessonRepository, times(3)).countAttendeesByLessonIdIn(any());
+        assertThat(actual).containsEntry(1L, 10).containsEntry(2500L, 20).hasSize(2);
+    }
+
+    @Test
+    void testGetNumbersOfAttendeesShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.getNumbersOfAttendees(null), "getNumbersOfAttendees(null) should throw IllegalArgumentException");
+        verify(mockLessonRepository, times(0)).countAttendeesByLessonIdIn(any());
+    }
+
+    @Test
+    void testGetNumbersOfAttendeesOfCoursesShouldCountAttendeesOfAllCoursesInOneQuery() {
+        List<CourseAttendees> courseAttendees = new ArrayList<>();
+        courseAttendees.add(courseAttendees(COURSE_ID_51, 25L));
+        courseAttendees.add(courseAttendees(COURSE_ID_52, 3L));
+
+        when(mockCourseRepository.countAttendeesOfCourses()).thenReturn(courseAttendees);
+
+        Map<Integer, Integer> actual = lessonServiceImpl.getNumbersOfAttendeesOfCourses();
+
+        verify(mockCourseRepository, times(1)).countAttendeesOfCourses();
+        assertThat(actual).containsEntry(COURSE_ID_51, 25).containsEntry(COURSE_ID_52, 3).hasSize(2);
+    }
+
+    @Test
+    void testGetNumbersOfAttendeesOfCoursesShouldCountAttendeesOfPassedCoursesOnly() {
+        List<Integer> courseIds = new ArrayList<>();
+        courseIds.add(COURSE_ID_51);
+        courseIds.add(COURSE_ID_52);
+
+        when(mockCourseRepository.countAttendeesOfCoursesByIdIn(courseIds)).thenReturn(Collections.singletonList(courseAttendees(COURSE_ID_51, 25L)));
+
+        Map<Integer, Integer> actual = lessonServiceImpl.getNumbersOfAttendeesOfCourses(courseIds);
+
+        verify(mockCourseRepository, times(1)).countAttendeesOfCoursesByIdIn(courseIds);
+        verify(mockCourseRepository, never()).countAttendeesOfCourses();
+        assertThat(actual).containsEntry(COURSE_ID_51, 25).hasSize(1);
+    }
+
+    @Test
+    void testGetNumbersOfAttendeesOfCoursesShouldNotQueryRepositoryWhenNoCourseIdsPassed() {
+        Map<Integer, Integer> actual = lessonServiceImpl.getNumbersOfAttendeesOfCourses(Collections.emptyList());
+
+        verify(mockCourseRepository, never()).countAttendeesOfCoursesByIdIn(any());
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void testGetNumbersOfAttendeesOfCoursesShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.getNumbersOfAttendeesOfCourses(null), "getNumbersOfAttendeesOfCourses(null) should throw IllegalArgumentException");
+        verify(mockCourseRepository, never()).countAttendeesOfCoursesByIdIn(any());
+    }
+
+    private LessonAttendees lessonAttendees(Long lessonId, Long numberOfAttendees) {
+        return new LessonAttendees() {
+            @Override
+            public Long getLessonId() {
+                return lessonId;
+            }
+
+            @Override
+            public Long getNumberOfAttendees() {
+                return numberOfAttendees;
+            }
+        };
+    }
+
+    private CourseAttendees courseAttendees(Integer courseId, Long numberOfAttendees) {
+        return new CourseAttendees() {
+            @Override
+            public Integer getCourseId() {
+                return courseId;
+            }
+
+            @Override
+            public Long getNumberOfAttendees() {
+                return numberOfAttendees;
+            }
+        };
+    }
+
+    @Test
+    void testGetPageShouldReturnFirstLessonsWithNumbersOfAttendeesWhenNullCursorPassed() {
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+
+        List<LessonAttendees> lessonAttendees = new ArrayList<>();
+        lessonAttendees.add(lessonAttendees(LESSON_ID_5000001, 3L));
+
+        PageRequest pageRequest = PageRequest.of(0, 1);
+
+        when(mockLessonRepository.findPage(pageRequest)).thenReturn(expected);
+        when(mockLessonRepository.countAttendeesByLessonIdIn(Collections.singletonList(LESSON_ID_5000001))).thenReturn(lessonAttendees);
+
+        List<Lesson> actual = lessonServiceImpl.getPage(null, 1);
+
+        verify(mockLessonRepository, times(1)).findPage(pageRequest);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get(0).getNumberOfAttendees()).isEqualTo(3);
+    }
+
+    @Test
+    void testGetPageShouldReturnLessonsFollowingPassedLesson() {
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(secondLesson);
+
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockLessonRepository.findPageAfter(TIME_SLOT_DATE, TIME_SLOT_START_TIME, LESSON_ID_5000001, pageRequest)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getPage(firstLesson, 2);
+
+        verify(mockLessonRepository, times(1)).findPageAfter(TIME_SLOT_DATE, TIME_SLOT_START_TIME, LESSON_ID_5000001, pageRequest);
+        verify(mockLessonRepository, times(0)).findPage(any());
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.get(0).getNumberOfAttendees()).isZero();
+    }
+
+    @Test
+    void testGetPageShouldThrowIllegalArgumentExceptionWhenSizeLessThanOnePassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.getPage(null, 0), "getPage(null, 0) should throw IllegalArgumentException");
+        verify(mockLessonRepository, times(0)).findPage(any());
+    }
+
+    @Test
+    void testGetListPageShouldReturnListItemsFollowingPassedLesson() {
+        List<LessonListItem> expected = new ArrayList<>();
+        expected.add(mock(LessonListItem.class));
+
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockLessonRepository.findListItemsAfter(TIME_SLOT_DATE, TIME_SLOT_START_TIME, LESSON_ID_5000001, pageRequest)).thenReturn(expected);
+
+        List<LessonListItem> actual = lessonServiceImpl.getListPage(firstLesson, 2);
+
+        verify(mockLessonRepository, times(1)).findListItemsAfter(TIME_SLOT_DATE, TIME_SLOT_START_TIME, LESSON_ID_5000001, pageRequest);
+        verify(mockLessonRepository, never()).findListItems(any());
+        verify(mockLessonRepository, never()).countAttendeesByLessonIdIn(any());
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetListPageShouldThrowIllegalArgumentExceptionWhenSizeLessThanOnePassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.getListPage(null, 0), "getListPage(null, 0) should throw IllegalArgumentException");
+        verify(mockLessonRepository, never()).findListItems(any());
+    }
+
+    @Test
+    void testForEachListItemShouldPassEveryStreamedListItemAndCloseStream() {
+        LessonListItem lessonListItem = mock(LessonListItem.class);
+        AtomicBoolean closed = new AtomicBoolean();
+        List<LessonListItem> actual = new ArrayList<>();
+
+        when(mockLessonRepository.streamListItems()).thenReturn(Stream.of(lessonListItem).onClose(() -> closed.set(true)));
+
+        lessonServiceImpl.forEachListItem(actual::add);
+
+        verify(mockLessonRepository, times(1)).streamListItems();
+        assertThat(actual).containsExactly(lessonListItem);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void testGetByDateRangeShouldReturnLessonsWithNumbersOfAttendees() {
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+
+        when(mockLessonRepository.findByDateBetween(TIME_SLOT_DATE, TIME_SLOT_DATE)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getByDateRange(TIME_SLOT_DATE, TIME_SLOT_DATE);
+
+        verify(mockLessonRepository, times(1)).findByDateBetween(TIME_SLOT_DATE, TIME_SLOT_DATE);
+        verify(mockLessonRepository, times(1)).countAttendeesByLessonIdIn(Collections.singletonList(LESSON_ID_5000001));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetByDateRangeShouldThrowIllegalArgumentExceptionWhenRangeStartsAfterItEnds() {
+        LocalDate nextDate = TIME_SLOT_DATE.plusDays(1);
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.getByDateRange(nextDate, TIME_SLOT_DATE), "inverted date range should throw IllegalArgumentException");
+        verify(mockLessonRepository, times(0)).findByDateBetween(any(), any());
+    }
+
+    @Test
+    void testGetByDateRangeShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.getByDateRange(null, TIME_SLOT_DATE), "null date should throw IllegalArgumentException");
+        verify(mockLessonRepository, times(0)).findByDateBetween(any(), any());
+    }
+
+    @Test
+    void testGetByLecturerAndDateRangeShouldQueryRepositoryByLecturerId() {
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+
+        when(mockLessonRepository.findByLecturerIdAndDateBetween(PERSON_ID_50005, TIME_SLOT_DATE, TIME_SLOT_DATE)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getByLecturerAndDateRange(lecturer, TIME_SLOT_DATE, TIME_SLOT_DATE);
+
+        verify(mockLessonRepository, times(1)).findByLecturerIdAndDateBetween(PERSON_ID_50005, TIME_SLOT_DATE, TIME_SLOT_DATE);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetByCourseAndDateRangeShouldQueryRepositoryByCourseId() {
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+
+        when(mockLessonRepository.findByCourseIdAndDateBetween(COURSE_ID_51, TIME_SLOT_DATE, TIME_SLOT_DATE)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getByCourseAndDateRange(firstCourse, TIME_SLOT_DATE, TIME_SLOT_DATE);
+
+        verify(mockLessonRepository, times(1)).findByCourseIdAndDateBetween(COURSE_ID_51, TIME_SLOT_DATE, TIME_SLOT_DATE);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetByGroupAndDateRangeShouldQueryRepositoryByGroupId() {
+        Group group = new Group().setId(GROUP_ID_501);
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+
+        when(mockLessonRepository.findByGroupIdAndDateBetween(GROUP_ID_501, TIME_SLOT_DATE, TIME_SLOT_DATE)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getByGroupAndDateRange(group, TIME_SLOT_DATE, TIME_SLOT_DATE);
+
+        verify(mockLessonRepository, times(1)).findByGroupIdAndDateBetween(GROUP_ID_501, TIME_SLOT_DATE, TIME_SLOT_DATE);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetByStudentAndDateRangeShouldQueryRepositoryByStudentId() {
+        Student student = new Student().setId(PERSON_ID_50001);
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+
+        when(mockLessonRepository.findByStudentIdAndDateBetween(PERSON_ID_50001, TIME_SLOT_DATE, TIME_SLOT_DATE)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getByStudentAndDateRange(student, TIME_SLOT_DATE, TIME_SLOT_DATE);
+
+        verify(mockLessonRepository, times(1)).findByStudentIdAndDateBetween(PERSON_ID_50001, TIME_SLOT_DATE, TIME_SLOT_DATE);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetByStudentAndDateRangeShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.getByStudentAndDateRange(null, TIME_SLOT_DATE, TIME_SLOT_DATE), "null student should throw IllegalArgumentException");
+        verify(mockLessonRepository, times(0)).findByStudentIdAndDateBetween(any(), any(), any());
+    }
+
+    @Test
+    void testGetTimetableOfStudentShouldFetchLessonsOfGroupIndexedInScheduleIndex() {
+        Student student = new Student().setId(PERSON_ID_50001).setGroup(new Group().setId(GROUP_ID_501));
+        List<Long> lessonIds = Collections.singletonList(LESSON_ID_5000001);
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+
+        when(mockScheduleConflictDetector.getIndexedFrom()).thenReturn(TIME_SLOT_DATE);
+        when(mockScheduleConflictDetector.findLessonIdsOfGroup(GROUP_ID_501, TIME_SLOT_DATE, TIME_SLOT_DATE)).thenReturn(lessonIds);
+        when(mockLessonRepository.findByIdIn(lessonIds)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getTimetableOfStudent(student, TIME_SLOT_DATE, TIME_SLOT_DATE);
+
+        verify(mockLessonRepository, times(1)).findByIdIn(lessonIds);
+        verify(mockLessonRepository, never()).findByGroupIdAndDateBetween(any(), any(), any());
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetTimetableOfStudentShouldQueryRepositoryWhenRangeStartsBeforeScheduleIndex() {
+        Student student = new Student().setId(PERSON_ID_50001).setGroup(new Group().setId(GROUP_ID_501));
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(firstLesson);
+
+        when(mockScheduleConflictDetector.getIndexedFrom()).thenReturn(TIME_SLOT_DATE.plusDays(1));
+        when(mockLessonRepository.findByGroupIdAndDateBetween(GROUP_ID_501, TIME_SLOT_DATE, TIME_SLOT_DATE)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getTimetableOfStudent(student, TIME_SLOT_DATE, TIME_SLOT_DATE);
+
+        verify(mockScheduleConflictDetector, never()).findLessonIdsOfGroup(any(), any(), any());
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetTimetableOfStudentShouldReturnEmptyListWhenStudentHasNoGroup() {
+        List<Lesson> actual = lessonServiceImpl.getTimetableOfStudent(new Student().setId(PERSON_ID_50001), TIME_SLOT_DATE, TIME_SLOT_DATE);
+
+        assertThat(actual).isEmpty();
+        verify(mockLessonRepository, never()).findByIdIn(any());
+    }
+
+    @Test
+    void testGetFreeSlotsShouldSearchScheduleIndexByLecturerAndGroupIds() {
+        Group group = new Group().setId(GROUP_ID_501);
+        List<Lesson> expected = new ArrayList<>();
+        expected.add(new Lesson().setTimeSlot(timeSlot).setDate(TIME_SLOT_DATE));
+
+        when(mockScheduleConflictDetector.findFreeSlots(Collections.singletonList(PERSON_ID_50005), Collections.singletonList(GROUP_ID_501),
+                TIME_SLOT_DATE, TIME_SLOT_DATE, 1)).thenReturn(expected);
+
+        List<Lesson> actual = lessonServiceImpl.getFreeSlots(Collections.singletonList(lecturer), Collections.singletonList(group),
+                TIME_SLOT_DATE, TIME_SLOT_DATE, 1);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testGetFreeSlotsShouldThrowIllegalArgumentExceptionWhenLimitIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.getFreeSlots(Collections.singletonList(lecturer),
+                Collections.emptyList(), TIME_SLOT_DATE, TIME_SLOT_DATE, 0), "zero limit should throw IllegalArgumentException");
+    }
+
+    @Test
+    void testAddShouldPublishLessonsSavedEventWhenNoScheduleConflicts() {
+        when(mockValidator.validate(firstLesson)).thenReturn(violations);
+        lessonServiceImpl.add(firstLesson);
+
+        verify(mockScheduleConflictDetector, times(1)).check(firstLesson);
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(LessonsSavedEvent.class));
+    }
+
+    @Test
+    void testAddShouldThrowConstraintViolationExceptionWhenScheduleConflictDetected() {
+        when(mockValidator.validate(firstLesson)).thenReturn(violations);
+        doThrow(new ConstraintViolationException("lecturer is busy", Collections.emptySet()))
+                .when(mockScheduleConflictDetector).check(firstLesson);
+
+        assertThrows(ConstraintViolationException.class, () -> lessonServiceImpl.add(firstLesson), "conflicting lesson should throw ConstraintViolationException");
+
+        verify(mockLessonRepository, never()).save(firstLesson);
+        verify(mockApplicationEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void testUpdateShouldThrowConstraintViolationExceptionWhenScheduleConflictDetected() {
+        when(mockValidator.validate(firstLesson)).thenReturn(violations);
+        doThrow(new ConstraintViolationException("group is busy", Collections.emptySet()))
+                .when(mockScheduleConflictDetector).check(firstLesson);
+
+        assertThrows(ConstraintViolationException.class, () -> lessonServiceImpl.update(firstLesson), "conflicting lesson should throw ConstraintViolationException");
+
+        verify(mockLessonRepository, never()).save(firstLesson);
+    }
+
+    @Test
+    void testAddAllShouldCheckScheduleConflictsOfAllPassedLessons() {
+        List<Lesson> lessons = new ArrayList<>();
+        lessons.add(firstLesson);
+        lessons.add(secondLesson);
+
+        when(mockValidator.validate(firstLesson)).thenReturn(violations);
+        when(mockValidator.validate(secondLesson)).thenReturn(violations);
+        lessonServiceImpl.addAll(lessons);
+
+        verify(mockScheduleConflictDetector, times(1)).checkAll(lessons);
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(LessonsSavedEvent.class));
+    }
+
+    @Test
+    void testDeleteShouldPublishLessonDeletedEvent() {
+        lessonServiceImpl.delete(firstLesson);
+
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(LessonDeletedEvent.class));
+    }
+
+    @Test
+    void testAddAllShouldInvokeRepositorySaveAllWithPassedLessons() {
+        List<Lesson> lessons = new ArrayList<>();
+        lessons.add(firstLesson);
+        lessons.add(secondLesson);
+
+        when(mockValidator.validate(firstLesson)).thenReturn(violations);
+        when(mockValidator.validate(secondLesson)).thenReturn(violations);
+        lessonServiceImpl.addAll(lessons);
+
+        verify(mockValidator, times(1)).validate(firstLesson);
+        verify(mockValidator, times(1)).validate(secondLesson);
+        verify(mockLessonRepository, times(1)).saveAll(lessons);
+    }
+
+    @Test
+    void testAddAllShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.addAll(null), "addAll(null) should throw IllegalArgumentException");
+        verify(mockLessonRepository, times(0)).saveAll(null);
+    }
+
+    @Test
+    void testAddBatchShouldSaveAcceptedLessonsAndRejectInvalidAndConflictingOnes() {
+        Lesson newLesson = new Lesson().setTimeSlot(timeSlot).setLecturer(lecturer).setCourse(firstCourse).setDate(TIME_SLOT_DATE).setStartTime(TIME_SLOT_START_TIME).setEndTime(TIME_SLOT_END_TIME);
+        Lesson conflictingLesson = new Lesson().setTimeSlot(timeSlot).setLecturer(lecturer).setCourse(secondCourse).setDate(TIME_SLOT_DATE).setStartTime(TIME_SLOT_START_TIME).setEndTime(TIME_SLOT_END_TIME);
+        List<Lesson> lessons = new ArrayList<>();
+        lessons.add(newLesson);
+        lessons.add(firstLesson);
+        lessons.add(conflictingLesson);
+
+        when(mockScheduleConflictDetector.findConflicts(Arrays.asList(newLesson, conflictingLesson))).thenReturn(Arrays.asList(null, "lecturer 50005 is busy"));
+
+        List<BatchItemResult<Lesson>> actual = lessonServiceImpl.addBatch(lessons);
+
+        verify(mockLessonRepository, times(1)).saveAll(Collections.singletonList(newLesson));
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(LessonsSavedEvent.class));
+        assertThat(actual).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(actual).extracting(BatchItemResult::isAccepted).containsExactly(true, false, false);
+        assertThat(actual.get(2).getErrors()).containsExactly("lecturer 50005 is busy");
+    }
+
+    @Test
+    void testAddBatchShouldNotSaveAnythingWhenAllLessonsRejected() {
+        when(mockScheduleConflictDetector.findConflicts(Collections.emptyList())).thenReturn(Collections.emptyList());
+
+        List<BatchItemResult<Lesson>> actual = lessonServiceImpl.addBatch(Collections.singletonList(firstLesson));
+
+        verify(mockLessonRepository, never()).saveAll(any());
+        verify(mockApplicationEventPublisher, never()).publishEvent(any());
+        assertThat(actual).extracting(BatchItemResult::isAccepted).containsExactly(false);
+    }
+
+    @Test
+    void testAddBatchShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> lessonServiceImpl.addBatch(null), "addBatch(null) should throw IllegalArgumentException");
+        verify(mockLessonRepository, never()).saveAll(any());
+    }
 }
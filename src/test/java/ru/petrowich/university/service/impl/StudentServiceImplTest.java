@@ -6,23 +6,33 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import ru.petrowich.university.controller.BatchRequest;
 import ru.petrowich.university.repository.GroupRepository;
 import ru.petrowich.university.repository.StudentRepository;
 import ru.petrowich.university.model.Student;
 import ru.petrowich.university.model.Group;
+import ru.petrowich.university.service.batch.BatchItemResult;
+import ru.petrowich.university.service.cache.StudentsChangedEvent;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
+import java.util.Collections;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.HashSet;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
@@ -38,6 +48,9 @@ class StudentServiceImplTest {
     private static final Integer GROUP_ID_502 = 502;
     private static final String GROUP_NAME_501 = "AA-01";
     private static final String GROUP_NAME_502 = "BB-02";
+    private static final String NEW_PERSON_EMAIL = "new.student@university.edu";
+    private static final String INVALID_PERSON_EMAIL = "invalid email";
+    private static final String ERROR_MSG_INVALID_EMAIL = "must be a well-formed email address";
 
     private static final Set<ConstraintViolation<Student>> violations = new HashSet<>();
 
@@ -59,6 +72,9 @@ class StudentServiceImplTest {
     @Mock
     private Validator mockValidator;
 
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+
     @InjectMocks
     private StudentServiceImpl studentServiceImpl;
 
@@ -108,6 +124,7 @@ class StudentServiceImplTest {
 
         verify(mockValidator, times(1)).validate(firstStudent);
         verify(mockStudentRepository, times(1)).save(firstStudent);
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(StudentsChangedEvent.class));
     }
 
     @Test
@@ -126,6 +143,7 @@ class StudentServiceImplTest {
 
         verify(mockValidator, times(1)).validate(firstStudent);
         verify(mockStudentRepository, times(1)).save(firstStudent);
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(StudentsChangedEvent.class));
     }
 
     @Test
@@ -172,4 +190,122 @@ class StudentServiceImplTest {
 
         assertThat(actual).usingElementComparatorIgnoringFields().isEqualTo(expected);
     }
+
+    @Test
+    void testAddAllShouldInvokeRepositorySaveAllWithPassedStudents() {
+        List<Student> students = new ArrayList<>();
+        students.add(firstStudent);
+        students.add(secondStudent);
+
+        when(mockValidator.validate(firstStudent)).thenReturn(violations);
+        when(mockValidator.validate(secondStudent)).thenReturn(violations);
+        studentServiceImpl.addAll(students);
+
+        verify(mockValidator, times(1)).validate(firstStudent);
+        verify(mockValidator, times(1)).validate(secondStudent);
+        verify(mockStudentRepository, times(1)).saveAll(students);
+    }
+
+    @Test
+    void testAddAllShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> studentServiceImpl.addAll(null), "addAll(null) should throw IllegalArgumentException");
+        verify(mockStudentRepository, times(0)).saveAll(null);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testAddBatchShouldSaveValidStudentsAndRejectInvalidOnes() {
+        Student newStudent = new Student().setGroup(firstGroup).setEmail(NEW_PERSON_EMAIL).setActive(true);
+        Student invalidStudent = new Student().setGroup(firstGroup).setEmail(INVALID_PERSON_EMAIL).setActive(true);
+        ConstraintViolation<Student> violation = mock(ConstraintViolation.class);
+        List<Student> students = new ArrayList<>();
+        students.add(newStudent);
+        students.add(invalidStudent);
+        students.add(null);
+
+        when(violation.getMessage()).thenReturn(ERROR_MSG_INVALID_EMAIL);
+        when(mockValidator.validate(same(invalidStudent))).thenReturn(Collections.singleton(violation));
+
+        List<BatchItemResult<Student>> actual = studentServiceImpl.addBatch(students);
+
+        verify(mockStudentRepository, times(1)).saveAll(Collections.singletonList(newStudent));
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(StudentsChangedEvent.class));
+        assertThat(actual).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 2);
+        assertThat(actual).extracting(BatchItemResult::isAccepted).containsExactly(true, false, false);
+        assertThat(actual.get(1).getErrors()).containsExactly(ERROR_MSG_INVALID_EMAIL);
+        assertThat(actual.get(2).getErrors()).containsExactly("null is passed instead item");
+    }
+
+    @Test
+    void testAddBatchShouldRejectStudentWithClientSuppliedId() {
+        List<BatchItemResult<Student>> actual = studentServiceImpl.addBatch(Collections.singletonList(firstStudent));
+
+        verify(mockStudentRepository, never()).saveAll(any());
+        verify(mockApplicationEventPublisher, never()).publishEvent(any());
+        assertThat(actual).extracting(BatchItemResult::isAccepted).containsExactly(false);
+        assertThat(actual.get(0).getErrors()).containsExactly("id is passed for a new item");
+    }
+
+    @Test
+    void testAddBatchShouldReturnEmptyResultsWhenEmptyListPassed() {
+        List<BatchItemResult<Student>> actual = studentServiceImpl.addBatch(Collections.emptyList());
+
+        verify(mockStudentRepository, never()).saveAll(any());
+        verify(mockApplicationEventPublisher, never()).publishEvent(any());
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void testAddBatchShouldSaveAllStudentsOfMaximalBatchInOneCall() {
+        List<Student> students = new ArrayList<>(BatchRequest.MAX_BATCH_SIZE);
+
+        for (int index = 0; index < BatchRequest.MAX_BATCH_SIZE; index++) {
+            students.add(new Student().setGroup(firstGroup).setEmail(index + NEW_PERSON_EMAIL).setActive(true));
+        }
+
+        List<BatchItemResult<Student>> actual = studentServiceImpl.addBatch(students);
+
+        verify(mockStudentRepository, times(1)).saveAll(students);
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(StudentsChangedEvent.class));
+        assertThat(actual).hasSize(BatchRequest.MAX_BATCH_SIZE).allMatch(BatchItemResult::isAccepted);
+    }
+
+    @Test
+    void testAddBatchShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> studentServiceImpl.addBatch(null), "addBatch(null) should throw IllegalArgumentException");
+        verify(mockStudentRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testGetPageShouldReturnFirstStudentsWhenNullCursorPassed() {
+        List<Student> expected = new ArrayList<>();
+        expected.add(firstStudent);
+        expected.add(secondStudent);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockStudentRepository.findAllByOrderByIdAsc(pageRequest)).thenReturn(expected);
+        List<Student> actual = studentServiceImpl.getPage(null, 2);
+
+        verify(mockStudentRepository, times(1)).findAllByOrderByIdAsc(pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldReturnStudentsFollowingPassedStudent() {
+        List<Student> expected = new ArrayList<>();
+        expected.add(secondStudent);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockStudentRepository.findByIdGreaterThanOrderByIdAsc(firstStudent.getId(), pageRequest)).thenReturn(expected);
+        List<Student> actual = studentServiceImpl.getPage(firstStudent, 2);
+
+        verify(mockStudentRepository, times(1)).findByIdGreaterThanOrderByIdAsc(firstStudent.getId(), pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldThrowIllegalArgumentExceptionWhenSizeLessThanOnePassed() {
+        assertThrows(IllegalArgumentException.class, () -> studentServiceImpl.getPage(null, 0), "getPage(null, 0) should throw IllegalArgumentException");
+        verify(mockStudentRepository, times(0)).findAllByOrderByIdAsc(any());
+    }
 }
@@ -6,8 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import ru.petrowich.university.repository.TimeSlotRepository;
 import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.schedule.TimeSlotsChangedEvent;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Validator;
@@ -18,6 +21,8 @@ import java.util.Set;
 import java.util.HashSet;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -44,6 +49,9 @@ class TimeSlotServiceImplTest {
     @Mock
     private Validator mockValidator;
 
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+
     @InjectMocks
     TimeSlotServiceImpl timeSlotServiceImpl;
 
@@ -90,6 +98,7 @@ class TimeSlotServiceImplTest {
 
         verify(mockValidator, times(1)).validate(timeSlot);
         verify(mockTimeSlotRepository, times(1)).save(timeSlot);
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(TimeSlotsChangedEvent.class));
     }
 
     @Test
@@ -123,6 +132,7 @@ class TimeSlotServiceImplTest {
     void testDeleteShouldInvokeRepositoryDeleteWithPassedTimeSlot() {
         timeSlotServiceImpl.delete(timeSlot);
         verify(mockTimeSlotRepository, times(1)).delete(timeSlot);
+        verify(mockApplicationEventPublisher, times(1)).publishEvent(any(TimeSlotsChangedEvent.class));
     }
 
     @Test
@@ -143,4 +153,96 @@ class TimeSlotServiceImplTest {
         verify(mockTimeSlotRepository, times(1)).findAll();
         assertEquals(expected, actual, "expected timeslot list should be returned");
     }
+
+    @Test
+    void testGetAllShouldServeRepeatedCallsFromCache() {
+        List<TimeSlot> expected = new ArrayList<>();
+        expected.add(timeSlot);
+        when(mockTimeSlotRepository.findAll()).thenReturn(expected);
+
+        timeSlotServiceImpl.getAll();
+        List<TimeSlot> actual = timeSlotServiceImpl.getAll();
+
+        verify(mockTimeSlotRepository, times(1)).findAll();
+        assertEquals(expected, actual, "expected timeslot list should be returned");
+    }
+
+    @Test
+    void testGetAllShouldReloadTimeSlotsAfterUpdate() {
+        List<TimeSlot> expected = new ArrayList<>();
+        expected.add(timeSlot);
+        when(mockTimeSlotRepository.findAll()).thenReturn(expected);
+        when(mockValidator.validate(timeSlot)).thenReturn(violations);
+
+        timeSlotServiceImpl.getAll();
+        timeSlotServiceImpl.update(timeSlot);
+        timeSlotServiceImpl.getAll();
+
+        verify(mockTimeSlotRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testGetAllByStartTimeShouldReturnTimeSlotsOrderedByStartTime() {
+        TimeSlot secondTimeSlot = new TimeSlot().setId(2).setStartTime(LocalTime.of(7, 0)).setEndTime(LocalTime.of(7, 45));
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(timeSlot);
+        timeSlots.add(secondTimeSlot);
+        when(mockTimeSlotRepository.findAll()).thenReturn(timeSlots);
+
+        List<TimeSlot> actual = timeSlotServiceImpl.getAllByStartTime();
+
+        verify(mockTimeSlotRepository, times(1)).findAll();
+        assertThat(actual).containsExactly(secondTimeSlot, timeSlot);
+    }
+
+    @Test
+    void testAddAllShouldInvokeRepositorySaveAllWithPassedTimeSlots() {
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        timeSlots.add(timeSlot);
+
+        when(mockValidator.validate(timeSlot)).thenReturn(violations);
+        timeSlotServiceImpl.addAll(timeSlots);
+
+        verify(mockValidator, times(1)).validate(timeSlot);
+        verify(mockTimeSlotRepository, times(1)).saveAll(timeSlots);
+    }
+
+    @Test
+    void testAddAllShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> timeSlotServiceImpl.addAll(null), "addAll(null) should throw IllegalArgumentException");
+        verify(mockTimeSlotRepository, times(0)).saveAll(null);
+    }
+
+    @Test
+    void testGetPageShouldReturnFirstTimeSlotsWhenNullCursorPassed() {
+        List<TimeSlot> expected = new ArrayList<>();
+        expected.add(timeSlot);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockTimeSlotRepository.findAllByOrderByIdAsc(pageRequest)).thenReturn(expected);
+        List<TimeSlot> actual = timeSlotServiceImpl.getPage(null, 2);
+
+        verify(mockTimeSlotRepository, times(1)).findAllByOrderByIdAsc(pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldReturnTimeSlotsFollowingPassedTimeSlot() {
+        TimeSlot nextTimeSlot = new TimeSlot().setId(TIME_SLOT_ID + 1);
+        List<TimeSlot> expected = new ArrayList<>();
+        expected.add(nextTimeSlot);
+        PageRequest pageRequest = PageRequest.of(0, 2);
+
+        when(mockTimeSlotRepository.findByIdGreaterThanOrderByIdAsc(timeSlot.getId(), pageRequest)).thenReturn(expected);
+        List<TimeSlot> actual = timeSlotServiceImpl.getPage(timeSlot, 2);
+
+        verify(mockTimeSlotRepository, times(1)).findByIdGreaterThanOrderByIdAsc(timeSlot.getId(), pageRequest);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+    }
+
+    @Test
+    void testGetPageShouldThrowIllegalArgumentExceptionWhenSizeLessThanOnePassed() {
+        assertThrows(IllegalArgumentException.class, () -> timeSlotServiceImpl.getPage(null, 0), "getPage(null, 0) should throw IllegalArgumentException");
+        verify(mockTimeSlotRepository, times(0)).findAllByOrderByIdAsc(any());
+    }
 }
@@ -0,0 +1,171 @@
+package ru.petrowich.university.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import ru.petrowich.university.model.Course;
+import ru.petrowich.university.model.Lecturer;
+import ru.petrowich.university.model.Lesson;
+import ru.petrowich.university.model.TimeSlot;
+import ru.petrowich.university.repository.CourseRepository;
+import ru.petrowich.university.repository.TimeSlotRepository;
+import ru.petrowich.university.repository.projection.CourseAttendees;
+import ru.petrowich.university.repository.projection.CourseGroupIds;
+import ru.petrowich.university.schedule.Timetable;
+import ru.petrowich.university.schedule.TimetableGenerator;
+import ru.petrowich.university.service.LessonService;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TimetableServiceImplTest {
+    private static final Integer PERSON_ID_50005 = 50005;
+    private static final Integer COURSE_ID_51 = 51;
+    private static final Integer GROUP_ID_501 = 501;
+    private static final Integer GROUP_ID_502 = 502;
+    private static final Long NEW_LESSON_ID = 9999999L;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2030, 1, 7);
+    private static final LocalDate LAST_DATE = LocalDate.of(2030, 1, 11);
+    private static final int LESSONS_PER_WEEK = 2;
+
+    private final Lecturer activeLecturer = new Lecturer().setId(PERSON_ID_50005).setActive(true);
+
+    private final Course activeCourse = new Course().setId(COURSE_ID_51).setAuthor(activeLecturer).setActive(true);
+
+    private final TimeSlot timeSlot = new TimeSlot().setId(1).setStartTime(LocalTime.of(8, 0)).setEndTime(LocalTime.of(9, 30));
+
+    private AutoCloseable autoCloseable;
+
+    @Mock
+    private CourseRepository mockCourseRepository;
+
+    @Mock
+    private TimeSlotRepository mockTimeSlotRepository;
+
+    @Mock
+    private LessonService mockLessonService;
+
+    @Mock
+    private TimetableGenerator mockTimetableGenerator;
+
+    @InjectMocks
+    private TimetableServiceImpl timetableServiceImpl;
+
+    @BeforeEach
+    private void setUp() {
+        autoCloseable = MockitoAnnotations.openMocks(this);
+    }
+
+    @AfterEach
+    public void releaseMocks() throws Exception {
+        autoCloseable.close();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testPreviewShouldPassActiveCoursesOfActiveLecturersToGenerator() {
+        List<Course> courses = new ArrayList<>();
+        courses.add(activeCourse);
+
+        List<CourseGroupIds> courseGroupIds = new ArrayList<>();
+        courseGroupIds.add(courseGroupIds(COURSE_ID_51, GROUP_ID_501));
+        courseGroupIds.add(courseGroupIds(COURSE_ID_51, GROUP_ID_502));
+
+        List<TimeSlot> timeSlots = Collections.singletonList(timeSlot);
+        List<CourseAttendees> courseAttendees = Collections.singletonList(courseAttendees(COURSE_ID_51, 3L));
+        Lesson lesson = new Lesson().setCourse(activeCourse).setLecturer(activeLecturer).setTimeSlot(timeSlot).setDate(FIRST_DATE);
+
+        when(mockCourseRepository.findActiveWithActiveAuthor()).thenReturn(courses);
+        when(mockCourseRepository.findAllCourseGroupIds()).thenReturn(courseGroupIds);
+        when(mockCourseRepository.countAttendeesOfCourses()).thenReturn(courseAttendees);
+        when(mockTimeSlotRepository.findAll()).thenReturn(timeSlots);
+        when(mockTimetableGenerator.generate(anyList(), anyMap(), eq(timeSlots), eq(FIRST_DATE), eq(LAST_DATE), eq(LESSONS_PER_WEEK)))
+                .thenReturn(new Timetable(Collections.singletonList(lesson), Collections.emptyList()));
+
+        Timetable actual = timetableServiceImpl.preview(FIRST_DATE, LAST_DATE, LESSONS_PER_WEEK);
+
+        ArgumentCaptor<List<Course>> coursesCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Map<Integer, Set<Integer>>> courseGroupIdsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(mockTimetableGenerator, times(1)).generate(coursesCaptor.capture(), courseGroupIdsCaptor.capture(),
+                eq(timeSlots), eq(FIRST_DATE), eq(LAST_DATE), eq(LESSONS_PER_WEEK));
+        verify(mockLessonService, never()).addAll(anyList());
+        verify(mockCourseRepository, never()).findAll();
+
+        assertThat(coursesCaptor.getValue()).containsExactly(activeCourse);
+        assertThat(courseGroupIdsCaptor.getValue().get(COURSE_ID_51)).containsExactlyInAnyOrder(GROUP_ID_501, GROUP_ID_502);
+        assertEquals(3, actual.getLessons().get(0).getNumberOfAttendees());
+    }
+
+    @Test
+    void testCommitShouldAddGeneratedLessons() {
+        Lesson lesson = new Lesson().setCourse(activeCourse).setLecturer(activeLecturer).setTimeSlot(timeSlot).setDate(FIRST_DATE);
+        Lesson savedLesson = new Lesson().setId(NEW_LESSON_ID).setCourse(activeCourse).setLecturer(activeLecturer).setTimeSlot(timeSlot).setDate(FIRST_DATE);
+        List<Lesson> lessons = Collections.singletonList(lesson);
+        List<Lesson> savedLessons = Collections.singletonList(savedLesson);
+
+        when(mockCourseRepository.findActiveWithActiveAuthor()).thenReturn(Collections.singletonList(activeCourse));
+        when(mockTimetableGenerator.generate(anyList(), anyMap(), anyList(), eq(FIRST_DATE), eq(LAST_DATE), eq(LESSONS_PER_WEEK)))
+                .thenReturn(new Timetable(lessons, Collections.emptyList()));
+        when(mockLessonService.addAll(lessons)).thenReturn(savedLessons);
+
+        Timetable actual = timetableServiceImpl.commit(FIRST_DATE, LAST_DATE, LESSONS_PER_WEEK);
+
+        verify(mockLessonService, times(1)).addAll(lessons);
+        assertEquals(savedLessons, actual.getLessons());
+        assertEquals(0, lesson.getNumberOfAttendees());
+    }
+
+    @Test
+    void testPreviewShouldThrowIllegalArgumentExceptionWhenRangeStartsAfterItEnds() {
+        assertThrows(IllegalArgumentException.class, () -> timetableServiceImpl.preview(LAST_DATE, FIRST_DATE, LESSONS_PER_WEEK));
+        verify(mockTimetableGenerator, never()).generate(anyList(), anyMap(), anyList(), any(), any(), anyInt());
+    }
+
+    @Test
+    void testPreviewShouldThrowIllegalArgumentExceptionWhenNullPassed() {
+        assertThrows(IllegalArgumentException.class, () -> timetableServiceImpl.preview(null, LAST_DATE, LESSONS_PER_WEEK));
+    }
+
+    @Test
+    void testCommitShouldThrowIllegalArgumentExceptionWhenLessonsPerWeekIsNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> timetableServiceImpl.commit(FIRST_DATE, LAST_DATE, 0));
+        verify(mockLessonService, never()).addAll(anyList());
+    }
+
+    private CourseGroupIds courseGroupIds(Integer courseId, Integer groupId) {
+        CourseGroupIds courseGroupIds = mock(CourseGroupIds.class);
+        when(courseGroupIds.getCourseId()).thenReturn(courseId);
+        when(courseGroupIds.getGroupId()).thenReturn(groupId);
+        return courseGroupIds;
+    }
+
+    private CourseAttendees courseAttendees(Integer courseId, Long numberOfAttendees) {
+        CourseAttendees courseAttendees = mock(CourseAttendees.class);
+        when(courseAttendees.getCourseId()).thenReturn(courseId);
+        when(courseAttendees.getNumberOfAttendees()).thenReturn(numberOfAttendees);
+        return courseAttendees;
+    }
+}
@@ -2,7 +2,6 @@ ALTER SEQUENCE public.seq_persons RESTART WITH 10001;
 ALTER SEQUENCE public.seq_courses RESTART WITH 10;
 ALTER SEQUENCE public.seq_groups RESTART WITH 101;
 ALTER SEQUENCE public.seq_lessons RESTART WITH 1000001;
-ALTER SEQUENCE public.seq_timeslots RESTART WITH 1;
 
 TRUNCATE TABLE public.t_groups_students;
 TRUNCATE TABLE public.t_groups_courses;
@@ -12,15 +11,16 @@ DELETE FROM public.t_persons;
 DELETE FROM public.t_groups;
 DELETE FROM public.t_timeslots;
 
-INSERT INTO public.t_timeslots (timeslot_name, timeslot_start_time, timeslot_end_time) VALUES
-  ('first lesson','08:00:00','09:30:00')
-, ('second lesson','09:40:00','11:10:00')
-, ('third lesson','11:20:00','12:50:00')
-, ('fourth lesson','13:20:00','14:50:00')
-, ('fifth lesson','15:00:00','16:30:00')
-, ('sixth lesson','16:40:00','18:10:00')
-, ('seventh lesson','18:20:00','19:50:00')
-, ('eighth lesson','20:00:00','21:30:00');
+INSERT INTO public.t_timeslots (timeslot_id, timeslot_name, timeslot_start_time, timeslot_end_time) VALUES
+  (1, 'first lesson','08:00:00','09:30:00')
+, (2, 'second lesson','09:40:00','11:10:00')
+, (3, 'third lesson','11:20:00','12:50:00')
+, (4, 'fourth lesson','13:20:00','14:50:00')
+, (5, 'fifth lesson','15:00:00','16:30:00')
+, (6, 'sixth lesson','16:40:00','18:10:00')
+, (7, 'seventh lesson','18:20:00','19:50:00')
+, (8, 'eighth lesson','20:00:00','21:30:00');
+ALTER SEQUENCE public.seq_timeslots RESTART WITH 9;
 
 INSERT INTO public.t_groups (group_id, group_name, group_capacity, group_active) VALUES
   (501, 'AA-01', 20, TRUE)